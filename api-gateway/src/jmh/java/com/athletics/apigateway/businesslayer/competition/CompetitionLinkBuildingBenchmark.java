@@ -0,0 +1,56 @@
+package com.athletics.apigateway.businesslayer.competition;
+
+import com.athletics.apigateway.presentationlayer.competition.CompetitionResponseModel;
+import com.athletics.apigateway.utils.HateoasLinkFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// a competition page is the widest link-building loop in the gateway: two links per row
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompetitionLinkBuildingBenchmark {
+
+    @Param({"1", "100"})
+    private int size;
+
+    private final CompetitionServiceImpl competitionService = new CompetitionServiceImpl(null, new HateoasLinkFactory());
+    private String teamId;
+    private String[] competitionIds;
+
+    @Setup
+    public void setUp() {
+        teamId = UUID.randomUUID().toString();
+        competitionIds = new String[size];
+        for (int i = 0; i < size; i++) {
+            competitionIds[i] = UUID.randomUUID().toString();
+        }
+    }
+
+    @Benchmark
+    public void pageLinks(Blackhole blackhole) {
+        for (String competitionId : competitionIds) {
+            CompetitionResponseModel competition = new CompetitionResponseModel();
+            competition.setTeamId(teamId);
+            competition.setCompetitionId(competitionId);
+            competitionService.addLinks(competition);
+            blackhole.consume(competition);
+        }
+    }
+}
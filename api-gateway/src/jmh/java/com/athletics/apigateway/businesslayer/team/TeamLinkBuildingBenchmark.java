@@ -0,0 +1,46 @@
+package com.athletics.apigateway.businesslayer.team;
+
+import com.athletics.apigateway.domainclientlayer.team.AthleteCategoryEnum;
+import com.athletics.apigateway.domainclientlayer.team.TeamLevelEnum;
+import com.athletics.apigateway.presentationlayer.team.AthleteResponseModel;
+import com.athletics.apigateway.presentationlayer.team.TeamResponseModel;
+import com.athletics.apigateway.utils.HateoasLinkFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// no request is bound, so links resolve against "/" and what is measured is template expansion
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TeamLinkBuildingBenchmark {
+
+    private static final String TEAM_ID = "11111111-1111-1111-1111-111111111111";
+    private static final String ATHLETE_ID = "22222222-2222-2222-2222-222222222222";
+
+    private final TeamServiceImpl teamService = new TeamServiceImpl(null, new HateoasLinkFactory());
+
+    @Benchmark
+    public TeamResponseModel teamLinks() {
+        return teamService.addTeamHateoasLinks(
+                new TeamResponseModel(TEAM_ID, "Eagles", "Coach Carter", TeamLevelEnum.COLLEGE));
+    }
+
+    @Benchmark
+    public AthleteResponseModel athleteLinks() {
+        return teamService.addAthleteHateoasLinks(TEAM_ID, new AthleteResponseModel(
+                ATHLETE_ID, "Jordan", "Lee", LocalDate.of(2001, 4, 12), AthleteCategoryEnum.SENIOR));
+    }
+}
@@ -1,16 +1,24 @@
 package com.athletics.apigateway.businesslayer.competition;
 
 
+import com.athletics.apigateway.presentationlayer.competition.CompetitionPage;
 import com.athletics.apigateway.presentationlayer.competition.CompetitionRequestModel;
 import com.athletics.apigateway.presentationlayer.competition.CompetitionResponseModel;
+import com.athletics.apigateway.presentationlayer.competition.CompetitionStatisticsResponseModel;
 
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
 import java.util.List;
 
 
 public interface CompetitionService {
     List<CompetitionResponseModel> getAllCompetitions(String teamId);
+    CompetitionPage getCompetitionPage(String teamId, Integer pageSize, String pageToken);
+    StreamingResponseBody exportCompetitions(String teamId);
     CompetitionResponseModel getCompetitionById(String teamId, String compId);
     CompetitionResponseModel createCompetition(String teamId, CompetitionRequestModel request);
     CompetitionResponseModel updateCompetition(String teamId, String compId, CompetitionRequestModel request);
     void deleteCompetition(String teamId, String compId);
+    CompetitionStatisticsResponseModel getCompetitionStatistics(String groupBy, LocalDate from, LocalDate to, String bucket);
 }
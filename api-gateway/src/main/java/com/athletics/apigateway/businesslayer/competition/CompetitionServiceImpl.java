@@ -2,27 +2,33 @@ package com.athletics.apigateway.businesslayer.competition;
 
 
 import com.athletics.apigateway.domainclientlayer.competition.CompetitionServiceClient;
-import com.athletics.apigateway.presentationlayer.competition.CompetitionController;
+import com.athletics.apigateway.presentationlayer.competition.CompetitionPage;
 import com.athletics.apigateway.presentationlayer.competition.CompetitionRequestModel;
 import com.athletics.apigateway.presentationlayer.competition.CompetitionResponseModel;
+import com.athletics.apigateway.presentationlayer.competition.CompetitionStatisticsResponseModel;
+import com.athletics.apigateway.utils.HateoasLinkFactory;
 import com.athletics.apigateway.utils.exceptions.InvalidInputException;
+import io.micrometer.observation.annotation.Observed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.*;
 import java.util.UUID;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
-
 @Slf4j
 @Service
+@Observed(name = "business.service")
 public class CompetitionServiceImpl implements CompetitionService {
 
     private static final int UUID_LEN = 36;
     private final CompetitionServiceClient client;
+    private final HateoasLinkFactory linkFactory;
 
-    public CompetitionServiceImpl(CompetitionServiceClient client) {
+    public CompetitionServiceImpl(CompetitionServiceClient client, HateoasLinkFactory linkFactory) {
         this.client = client;
+        this.linkFactory = linkFactory;
     }
 
     @Override
@@ -33,6 +39,20 @@ public class CompetitionServiceImpl implements CompetitionService {
         return list;
     }
 
+    @Override
+    public CompetitionPage getCompetitionPage(String teamId, Integer pageSize, String pageToken) {
+        validateUuid(teamId, "teamId");
+        CompetitionPage page = client.getCompetitionPage(teamId, pageSize, pageToken);
+        page.competitions().forEach(this::addLinks);
+        return page;
+    }
+
+    @Override
+    public StreamingResponseBody exportCompetitions(String teamId) {
+        validateUuid(teamId, "teamId");
+        return client.exportCompetitions(teamId);
+    }
+
     @Override
     public CompetitionResponseModel getCompetitionById(String teamId, String compId) {
         validateUuid(teamId, "teamId");
@@ -66,16 +86,17 @@ public class CompetitionServiceImpl implements CompetitionService {
         client.deleteCompetition(teamId, compId);
     }
 
-    private void addLinks(CompetitionResponseModel c) {
-        if (c == null || c.getCompetitionId() == null) return;
+    @Override
+    public CompetitionStatisticsResponseModel getCompetitionStatistics(String groupBy, LocalDate from,
+                                                                       LocalDate to, String bucket) {
+        return client.getCompetitionStatistics(groupBy, from, to, bucket);
+    }
 
-        c.add(linkTo(methodOn(CompetitionController.class)
-                .getCompetitionById(c.getTeamId(), c.getCompetitionId()))
-                .withSelfRel());
+    void addLinks(CompetitionResponseModel c) {
+        if (c == null || c.getCompetitionId() == null) return;
 
-        c.add(linkTo(methodOn(CompetitionController.class)
-                .getAllCompetitions(c.getTeamId()))
-                .withRel("competitions"));
+        c.add(linkFactory.competitionById(c.getTeamId(), c.getCompetitionId()));
+        c.add(linkFactory.allCompetitions(c.getTeamId()).withRel("competitions"));
     }
 
     private void validateUuid(String id, String name) {
@@ -0,0 +1,24 @@
+package com.athletics.apigateway.businesslayer.competition;
+
+
+import com.athletics.apigateway.presentationlayer.competition.CompetitionPage;
+import com.athletics.apigateway.presentationlayer.competition.CompetitionRequestModel;
+import com.athletics.apigateway.presentationlayer.competition.CompetitionResponseModel;
+import com.athletics.apigateway.presentationlayer.competition.CompetitionStatisticsResponseModel;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+
+public interface ReactiveCompetitionService {
+    Flux<CompetitionResponseModel> getAllCompetitions(String teamId);
+    Mono<CompetitionPage> getCompetitionPage(String teamId, Integer pageSize, String pageToken);
+    Flux<DataBuffer> exportCompetitions(String teamId);
+    Mono<CompetitionResponseModel> getCompetitionById(String teamId, String compId);
+    Mono<CompetitionResponseModel> createCompetition(String teamId, CompetitionRequestModel request);
+    Mono<CompetitionResponseModel> updateCompetition(String teamId, String compId, CompetitionRequestModel request);
+    Mono<Void> deleteCompetition(String teamId, String compId);
+    Mono<CompetitionStatisticsResponseModel> getCompetitionStatistics(String groupBy, LocalDate from, LocalDate to, String bucket);
+}
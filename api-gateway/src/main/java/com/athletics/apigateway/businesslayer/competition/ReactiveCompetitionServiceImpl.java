@@ -0,0 +1,129 @@
+package com.athletics.apigateway.businesslayer.competition;
+
+
+import com.athletics.apigateway.domainclientlayer.competition.ReactiveCompetitionServiceClient;
+import com.athletics.apigateway.presentationlayer.competition.CompetitionPage;
+import com.athletics.apigateway.presentationlayer.competition.CompetitionRequestModel;
+import com.athletics.apigateway.presentationlayer.competition.CompetitionResponseModel;
+import com.athletics.apigateway.presentationlayer.competition.CompetitionStatisticsResponseModel;
+import com.athletics.apigateway.presentationlayer.competition.ReactiveCompetitionController;
+import com.athletics.apigateway.utils.exceptions.InvalidInputException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.*;
+
+@Slf4j
+@Service
+@Profile("reactive")
+public class ReactiveCompetitionServiceImpl implements ReactiveCompetitionService {
+
+    private static final int UUID_LEN = 36;
+    private final ReactiveCompetitionServiceClient client;
+
+    public ReactiveCompetitionServiceImpl(ReactiveCompetitionServiceClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public Flux<CompetitionResponseModel> getAllCompetitions(String teamId) {
+        return Flux.defer(() -> {
+            validateUuid(teamId, "teamId");
+            return client.getAllCompetitions(teamId).concatMap(this::addLinks);
+        });
+    }
+
+    @Override
+    public Mono<CompetitionPage> getCompetitionPage(String teamId, Integer pageSize, String pageToken) {
+        return Mono.defer(() -> {
+            validateUuid(teamId, "teamId");
+            return client.getCompetitionPage(teamId, pageSize, pageToken)
+                    .flatMap(page -> Flux.fromIterable(page.competitions())
+                            .concatMap(this::addLinks)
+                            .collectList()
+                            .map(linked -> new CompetitionPage(linked, page.nextPageToken())));
+        });
+    }
+
+    @Override
+    public Flux<DataBuffer> exportCompetitions(String teamId) {
+        return Flux.defer(() -> {
+            validateUuid(teamId, "teamId");
+            return client.exportCompetitions(teamId);
+        });
+    }
+
+    @Override
+    public Mono<CompetitionResponseModel> getCompetitionById(String teamId, String compId) {
+        return Mono.defer(() -> {
+            validateUuid(teamId, "teamId");
+            validateUuid(compId, "competitionId");
+            return client.getCompetitionById(teamId, compId).flatMap(this::addLinks);
+        });
+    }
+
+    @Override
+    public Mono<CompetitionResponseModel> createCompetition(String teamId, CompetitionRequestModel request) {
+        return Mono.defer(() -> {
+            validateUuid(teamId, "teamId");
+            return client.createCompetition(teamId, request).flatMap(this::addLinks);
+        });
+    }
+
+    @Override
+    public Mono<CompetitionResponseModel> updateCompetition(String teamId, String compId, CompetitionRequestModel request) {
+        return Mono.defer(() -> {
+            validateUuid(teamId, "teamId");
+            validateUuid(compId, "competitionId");
+            return client.updateCompetition(teamId, compId, request).flatMap(this::addLinks);
+        });
+    }
+
+    @Override
+    public Mono<Void> deleteCompetition(String teamId, String compId) {
+        return Mono.defer(() -> {
+            validateUuid(teamId, "teamId");
+            validateUuid(compId, "competitionId");
+            return client.deleteCompetition(teamId, compId);
+        });
+    }
+
+    @Override
+    public Mono<CompetitionStatisticsResponseModel> getCompetitionStatistics(String groupBy, LocalDate from,
+                                                                             LocalDate to, String bucket) {
+        return client.getCompetitionStatistics(groupBy, from, to, bucket);
+    }
+
+    private Mono<CompetitionResponseModel> addLinks(CompetitionResponseModel c) {
+        if (c.getCompetitionId() == null) return Mono.just(c);
+
+        return Mono.zip(
+                        linkTo(methodOn(ReactiveCompetitionController.class)
+                                .getCompetitionById(c.getTeamId(), c.getCompetitionId()))
+                                .withSelfRel().toMono(),
+                        linkTo(methodOn(ReactiveCompetitionController.class)
+                                .getAllCompetitions(c.getTeamId(), null, null))
+                                .withRel("competitions").toMono())
+                .map(links -> {
+                    c.add(links.getT1());
+                    c.add(links.getT2());
+                    return c;
+                });
+    }
+
+    private void validateUuid(String id, String name) {
+        try {
+            if (id.length() != UUID_LEN) throw new IllegalArgumentException();
+            UUID.fromString(id);
+        } catch (Exception ex) {
+            throw new InvalidInputException("Invalid " + name + ": " + id);
+        }
+    }
+}
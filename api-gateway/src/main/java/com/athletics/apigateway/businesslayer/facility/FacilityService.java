@@ -10,6 +10,7 @@ import java.util.List;
 public interface FacilityService {
     List<FacilityResponseModel> getAllFacilities();
     FacilityResponseModel getFacilityById(String facilityId);
+    List<FacilityResponseModel> getFacilitiesByIds(List<String> facilityIds);
     FacilityResponseModel createFacility(FacilityRequestModel facilityRequestModel);
     FacilityResponseModel updateFacility(String facilityId, FacilityRequestModel facilityRequestModel);
     void deleteFacility(String facilityId);
@@ -1,26 +1,26 @@
 package com.athletics.apigateway.businesslayer.facility;
 
 import com.athletics.apigateway.domainclientlayer.facility.FacilityServiceClient;
-import com.athletics.apigateway.presentationlayer.facility.FacilityController;
 import com.athletics.apigateway.presentationlayer.facility.FacilityRequestModel;
 import com.athletics.apigateway.presentationlayer.facility.FacilityResponseModel;
+import com.athletics.apigateway.utils.HateoasLinkFactory;
+import io.micrometer.observation.annotation.Observed;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.hateoas.Link;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Slf4j
 @Service
+@Observed(name = "business.service")
 public class FacilityServiceImpl implements FacilityService {
 
     private final FacilityServiceClient facilityServiceClient;
+    private final HateoasLinkFactory linkFactory;
 
-    public FacilityServiceImpl(FacilityServiceClient facilityServiceClient) {
+    public FacilityServiceImpl(FacilityServiceClient facilityServiceClient, HateoasLinkFactory linkFactory) {
         this.facilityServiceClient = facilityServiceClient;
+        this.linkFactory = linkFactory;
     }
 
     @Override
@@ -41,6 +41,16 @@ public class FacilityServiceImpl implements FacilityService {
         return addHateoasLinks(facility);
     }
 
+    @Override
+    public List<FacilityResponseModel> getFacilitiesByIds(List<String> facilityIds) {
+        log.debug("Business Layer: getFacilitiesByIds() called for {} ids", facilityIds.size());
+        List<FacilityResponseModel> found = facilityServiceClient.getFacilitiesByIds(facilityIds);
+        for (FacilityResponseModel facility : found) {
+            addHateoasLinks(facility);
+        }
+        return found;
+    }
+
     @Override
     public FacilityResponseModel createFacility(FacilityRequestModel facilityRequestModel) {
         log.debug("1. Received request in API-Gateway FacilityServiceImpl: createFacility()");
@@ -63,16 +73,8 @@ public class FacilityServiceImpl implements FacilityService {
 
 
     private FacilityResponseModel addHateoasLinks(FacilityResponseModel facility) {
-        Link selfLink = linkTo(methodOn(FacilityController.class)
-                .getFacilityById(facility.getFacilityId()))
-                .withSelfRel();
-        facility.add(selfLink);
-
-        Link allFacilitiesLink = linkTo(methodOn(FacilityController.class)
-                .getAllFacilities())
-                .withRel("all-facilities");
-        facility.add(allFacilitiesLink);
-
+        facility.add(linkFactory.facilityById(facility.getFacilityId()));
+        facility.add(linkFactory.allFacilities().withRel("all-facilities"));
         return facility;
     }
 }
@@ -0,0 +1,14 @@
+package com.athletics.apigateway.businesslayer.facility;
+
+import com.athletics.apigateway.presentationlayer.facility.FacilityRequestModel;
+import com.athletics.apigateway.presentationlayer.facility.FacilityResponseModel;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveFacilityService {
+    Flux<FacilityResponseModel> getAllFacilities();
+    Mono<FacilityResponseModel> getFacilityById(String facilityId);
+    Mono<FacilityResponseModel> createFacility(FacilityRequestModel facilityRequestModel);
+    Mono<FacilityResponseModel> updateFacility(String facilityId, FacilityRequestModel facilityRequestModel);
+    Mono<Void> deleteFacility(String facilityId);
+}
@@ -0,0 +1,75 @@
+package com.athletics.apigateway.businesslayer.facility;
+
+import com.athletics.apigateway.domainclientlayer.facility.ReactiveFacilityServiceClient;
+import com.athletics.apigateway.presentationlayer.facility.ReactiveFacilityController;
+import com.athletics.apigateway.presentationlayer.facility.FacilityRequestModel;
+import com.athletics.apigateway.presentationlayer.facility.FacilityResponseModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.methodOn;
+
+@Slf4j
+@Service
+@Profile("reactive")
+public class ReactiveFacilityServiceImpl implements ReactiveFacilityService {
+
+    private final ReactiveFacilityServiceClient facilityServiceClient;
+
+    public ReactiveFacilityServiceImpl(ReactiveFacilityServiceClient facilityServiceClient) {
+        this.facilityServiceClient = facilityServiceClient;
+    }
+
+    @Override
+    public Flux<FacilityResponseModel> getAllFacilities() {
+        log.debug("1. Received request in API-Gateway ReactiveFacilityServiceImpl: getAllFacilities()");
+        return facilityServiceClient.getAllFacilities()
+                .concatMap(this::addHateoasLinks);
+    }
+
+    @Override
+    public Mono<FacilityResponseModel> getFacilityById(String facilityId) {
+        log.debug("1. Received request in API-Gateway ReactiveFacilityServiceImpl: getFacilityById({})", facilityId);
+        return facilityServiceClient.getFacilityById(facilityId)
+                .flatMap(this::addHateoasLinks);
+    }
+
+    @Override
+    public Mono<FacilityResponseModel> createFacility(FacilityRequestModel facilityRequestModel) {
+        log.debug("1. Received request in API-Gateway ReactiveFacilityServiceImpl: createFacility()");
+        return facilityServiceClient.createFacility(facilityRequestModel)
+                .flatMap(this::addHateoasLinks);
+    }
+
+    @Override
+    public Mono<FacilityResponseModel> updateFacility(String facilityId, FacilityRequestModel facilityRequestModel) {
+        log.debug("1. Received request in API-Gateway ReactiveFacilityServiceImpl: updateFacility({})", facilityId);
+        return facilityServiceClient.updateFacility(facilityId, facilityRequestModel)
+                .flatMap(this::addHateoasLinks);
+    }
+
+    @Override
+    public Mono<Void> deleteFacility(String facilityId) {
+        log.debug("1. Received request in API-Gateway ReactiveFacilityServiceImpl: deleteFacility({})", facilityId);
+        return facilityServiceClient.deleteFacility(facilityId);
+    }
+
+    private Mono<FacilityResponseModel> addHateoasLinks(FacilityResponseModel facility) {
+        return Mono.zip(
+                        linkTo(methodOn(ReactiveFacilityController.class)
+                                .getFacilityById(facility.getFacilityId()))
+                                .withSelfRel().toMono(),
+                        linkTo(methodOn(ReactiveFacilityController.class)
+                                .getAllFacilities())
+                                .withRel("all-facilities").toMono())
+                .map(links -> {
+                    facility.add(links.getT1());
+                    facility.add(links.getT2());
+                    return facility;
+                });
+    }
+}
@@ -0,0 +1,14 @@
+package com.athletics.apigateway.businesslayer.sponsor;
+
+import com.athletics.apigateway.presentationlayer.sponsor.SponsorRequestModel;
+import com.athletics.apigateway.presentationlayer.sponsor.SponsorResponseModel;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveSponsorService {
+    Flux<SponsorResponseModel> getAllSponsors();
+    Mono<SponsorResponseModel> getSponsorById(String sponsorId);
+    Mono<SponsorResponseModel> createSponsor(SponsorRequestModel sponsorRequestModel);
+    Mono<SponsorResponseModel> updateSponsor(String sponsorId, SponsorRequestModel sponsorRequestModel);
+    Mono<Void> deleteSponsor(String sponsorId);
+}
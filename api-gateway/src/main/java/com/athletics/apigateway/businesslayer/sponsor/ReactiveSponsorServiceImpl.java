@@ -0,0 +1,75 @@
+package com.athletics.apigateway.businesslayer.sponsor;
+
+import com.athletics.apigateway.domainclientlayer.sponsor.ReactiveSponsorServiceClient;
+import com.athletics.apigateway.presentationlayer.sponsor.ReactiveSponsorController;
+import com.athletics.apigateway.presentationlayer.sponsor.SponsorRequestModel;
+import com.athletics.apigateway.presentationlayer.sponsor.SponsorResponseModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.methodOn;
+
+@Slf4j
+@Service
+@Profile("reactive")
+public class ReactiveSponsorServiceImpl implements ReactiveSponsorService {
+
+    private final ReactiveSponsorServiceClient sponsorServiceClient;
+
+    public ReactiveSponsorServiceImpl(ReactiveSponsorServiceClient sponsorServiceClient) {
+        this.sponsorServiceClient = sponsorServiceClient;
+    }
+
+    @Override
+    public Flux<SponsorResponseModel> getAllSponsors() {
+        log.debug("Business Layer: getAllSponsors() called");
+        return sponsorServiceClient.getAllSponsors()
+                .concatMap(this::addHateoasLinks);
+    }
+
+    @Override
+    public Mono<SponsorResponseModel> getSponsorById(String sponsorId) {
+        log.debug("Business Layer: getSponsorById({}) called", sponsorId);
+        return sponsorServiceClient.getSponsorById(sponsorId)
+                .flatMap(this::addHateoasLinks);
+    }
+
+    @Override
+    public Mono<SponsorResponseModel> createSponsor(SponsorRequestModel sponsorRequestModel) {
+        log.debug("Business Layer: createSponsor() called");
+        return sponsorServiceClient.createSponsor(sponsorRequestModel)
+                .flatMap(this::addHateoasLinks);
+    }
+
+    @Override
+    public Mono<SponsorResponseModel> updateSponsor(String sponsorId, SponsorRequestModel sponsorRequestModel) {
+        log.debug("Business Layer: updateSponsor({}) called", sponsorId);
+        return sponsorServiceClient.updateSponsor(sponsorId, sponsorRequestModel)
+                .flatMap(this::addHateoasLinks);
+    }
+
+    @Override
+    public Mono<Void> deleteSponsor(String sponsorId) {
+        log.debug("Business Layer: deleteSponsor({}) called", sponsorId);
+        return sponsorServiceClient.deleteSponsor(sponsorId);
+    }
+
+    private Mono<SponsorResponseModel> addHateoasLinks(SponsorResponseModel sponsor) {
+        return Mono.zip(
+                        linkTo(methodOn(ReactiveSponsorController.class)
+                                .getSponsorById(sponsor.getSponsorId()))
+                                .withSelfRel().toMono(),
+                        linkTo(methodOn(ReactiveSponsorController.class)
+                                .getAllSponsors())
+                                .withRel("allSponsors").toMono())
+                .map(links -> {
+                    sponsor.add(links.getT1());
+                    sponsor.add(links.getT2());
+                    return sponsor;
+                });
+    }
+}
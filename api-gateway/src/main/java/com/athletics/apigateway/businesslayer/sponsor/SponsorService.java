@@ -10,6 +10,7 @@ import java.util.List;
 public interface SponsorService {
     List<SponsorResponseModel> getAllSponsors();
     SponsorResponseModel getSponsorById(String sponsorId);
+    List<SponsorResponseModel> getSponsorsByIds(List<String> sponsorIds);
     SponsorResponseModel createSponsor(SponsorRequestModel sponsorRequestModel);
     SponsorResponseModel updateSponsor(String sponsorId, SponsorRequestModel sponsorRequestModel);
     void deleteSponsor(String sponsorId);
@@ -3,24 +3,24 @@ package com.athletics.apigateway.businesslayer.sponsor;
 import com.athletics.apigateway.domainclientlayer.sponsor.SponsorServiceClient;
 import com.athletics.apigateway.presentationlayer.sponsor.SponsorRequestModel;
 import com.athletics.apigateway.presentationlayer.sponsor.SponsorResponseModel;
-import com.athletics.apigateway.presentationlayer.sponsor.SponsorController;
+import com.athletics.apigateway.utils.HateoasLinkFactory;
+import io.micrometer.observation.annotation.Observed;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.hateoas.Link;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Slf4j
 @Service
+@Observed(name = "business.service")
 public class SponsorServiceImpl implements SponsorService {
 
     private final SponsorServiceClient sponsorServiceClient;
+    private final HateoasLinkFactory linkFactory;
 
-    public SponsorServiceImpl(SponsorServiceClient sponsorServiceClient) {
+    public SponsorServiceImpl(SponsorServiceClient sponsorServiceClient, HateoasLinkFactory linkFactory) {
         this.sponsorServiceClient = sponsorServiceClient;
+        this.linkFactory = linkFactory;
     }
 
     @Override
@@ -40,6 +40,16 @@ public class SponsorServiceImpl implements SponsorService {
         return addHateoasLinks(sponsor);
     }
 
+    @Override
+    public List<SponsorResponseModel> getSponsorsByIds(List<String> sponsorIds) {
+        log.debug("Business Layer: getSponsorsByIds() called for {} ids", sponsorIds.size());
+        List<SponsorResponseModel> found = sponsorServiceClient.getSponsorsByIds(sponsorIds);
+        for (SponsorResponseModel sponsor : found) {
+            addHateoasLinks(sponsor);
+        }
+        return found;
+    }
+
     @Override
     public SponsorResponseModel createSponsor(SponsorRequestModel sponsorRequestModel) {
         log.debug("Business Layer: createSponsor() called");
@@ -61,16 +71,8 @@ public class SponsorServiceImpl implements SponsorService {
     }
 
     private SponsorResponseModel addHateoasLinks(SponsorResponseModel sponsor) {
-        Link selfLink = linkTo(methodOn(SponsorController.class)
-                .getSponsorById(sponsor.getSponsorId()))
-                .withSelfRel();
-        sponsor.add(selfLink);
-
-        Link allSponsorsLink = linkTo(methodOn(SponsorController.class)
-                .getAllSponsors())
-                .withRel("allSponsors");
-        sponsor.add(allSponsorsLink);
-
+        sponsor.add(linkFactory.sponsorById(sponsor.getSponsorId()));
+        sponsor.add(linkFactory.allSponsors().withRel("allSponsors"));
         return sponsor;
     }
 }
@@ -0,0 +1,22 @@
+package com.athletics.apigateway.businesslayer.team;
+
+import com.athletics.apigateway.presentationlayer.team.AthleteRequestModel;
+import com.athletics.apigateway.presentationlayer.team.AthleteResponseModel;
+import com.athletics.apigateway.presentationlayer.team.TeamRequestModel;
+import com.athletics.apigateway.presentationlayer.team.TeamResponseModel;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTeamService {
+    Flux<TeamResponseModel> getAllTeams();
+    Mono<TeamResponseModel> getTeamById(String teamId);
+    Mono<TeamResponseModel> createTeam(TeamRequestModel teamRequestModel);
+    Mono<TeamResponseModel> updateTeam(String teamId, TeamRequestModel teamRequestModel);
+    Mono<Void> deleteTeam(String teamId);
+
+    Flux<AthleteResponseModel> getAllAthletes(String teamId);
+    Mono<AthleteResponseModel> getAthleteById(String teamId, String athleteId);
+    Mono<AthleteResponseModel> createAthlete(String teamId, AthleteRequestModel athleteRequestModel);
+    Mono<AthleteResponseModel> updateAthlete(String teamId, String athleteId, AthleteRequestModel athleteRequestModel);
+    Mono<Void> deleteAthlete(String teamId, String athleteId);
+}
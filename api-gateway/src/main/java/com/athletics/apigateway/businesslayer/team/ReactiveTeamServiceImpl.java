@@ -0,0 +1,130 @@
+package com.athletics.apigateway.businesslayer.team;
+
+import com.athletics.apigateway.domainclientlayer.team.ReactiveTeamServiceClient;
+import com.athletics.apigateway.presentationlayer.team.AthleteRequestModel;
+import com.athletics.apigateway.presentationlayer.team.AthleteResponseModel;
+import com.athletics.apigateway.presentationlayer.team.ReactiveAthleteController;
+import com.athletics.apigateway.presentationlayer.team.ReactiveTeamController;
+import com.athletics.apigateway.presentationlayer.team.TeamRequestModel;
+import com.athletics.apigateway.presentationlayer.team.TeamResponseModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.methodOn;
+
+@Slf4j
+@Service
+@Profile("reactive")
+public class ReactiveTeamServiceImpl implements ReactiveTeamService {
+
+    private final ReactiveTeamServiceClient teamServiceClient;
+
+    public ReactiveTeamServiceImpl(ReactiveTeamServiceClient teamServiceClient) {
+        this.teamServiceClient = teamServiceClient;
+    }
+
+
+    @Override
+    public Flux<TeamResponseModel> getAllTeams() {
+        log.debug("Business Layer: getAllTeams() called");
+        return teamServiceClient.getAllTeams()
+                .concatMap(this::addTeamHateoasLinks);
+    }
+
+    @Override
+    public Mono<TeamResponseModel> getTeamById(String teamId) {
+        log.debug("Business Layer: getTeamById({}) called", teamId);
+        return teamServiceClient.getTeamById(teamId)
+                .flatMap(this::addTeamHateoasLinks);
+    }
+
+    @Override
+    public Mono<TeamResponseModel> createTeam(TeamRequestModel teamRequestModel) {
+        log.debug("Business Layer: createTeam() called");
+        return teamServiceClient.createTeam(teamRequestModel)
+                .flatMap(this::addTeamHateoasLinks);
+    }
+
+    @Override
+    public Mono<TeamResponseModel> updateTeam(String teamId, TeamRequestModel teamRequestModel) {
+        log.debug("Business Layer: updateTeam({}) called", teamId);
+        return teamServiceClient.updateTeam(teamId, teamRequestModel)
+                .flatMap(this::addTeamHateoasLinks);
+    }
+
+    @Override
+    public Mono<Void> deleteTeam(String teamId) {
+        log.debug("Business Layer: deleteTeam({}) called", teamId);
+        return teamServiceClient.deleteTeam(teamId);
+    }
+
+
+    @Override
+    public Flux<AthleteResponseModel> getAllAthletes(String teamId) {
+        log.debug("Business Layer: getAllAthletes({}) called", teamId);
+        return teamServiceClient.getAllAthletesForTeam(teamId)
+                .concatMap(athlete -> addAthleteHateoasLinks(teamId, athlete));
+    }
+
+    @Override
+    public Mono<AthleteResponseModel> getAthleteById(String teamId, String athleteId) {
+        log.debug("Business Layer: getAthleteById({}, {}) called", teamId, athleteId);
+        return teamServiceClient.getAthleteById(teamId, athleteId)
+                .flatMap(athlete -> addAthleteHateoasLinks(teamId, athlete));
+    }
+
+    @Override
+    public Mono<AthleteResponseModel> createAthlete(String teamId, AthleteRequestModel athleteRequestModel) {
+        log.debug("Business Layer: createAthlete({}, ...) called", teamId);
+        return teamServiceClient.createAthleteForTeam(teamId, athleteRequestModel)
+                .flatMap(athlete -> addAthleteHateoasLinks(teamId, athlete));
+    }
+
+    @Override
+    public Mono<AthleteResponseModel> updateAthlete(String teamId, String athleteId, AthleteRequestModel athleteRequestModel) {
+        log.debug("Business Layer: updateAthlete({}, {}) called", teamId, athleteId);
+        return teamServiceClient.updateAthleteForTeam(teamId, athleteId, athleteRequestModel)
+                .flatMap(athlete -> addAthleteHateoasLinks(teamId, athlete));
+    }
+
+    @Override
+    public Mono<Void> deleteAthlete(String teamId, String athleteId) {
+        log.debug("Business Layer: deleteAthlete({}, {}) called", teamId, athleteId);
+        return teamServiceClient.deleteAthleteForTeam(teamId, athleteId);
+    }
+
+
+    private Mono<TeamResponseModel> addTeamHateoasLinks(TeamResponseModel team) {
+        return Mono.zip(
+                        linkTo(methodOn(ReactiveTeamController.class)
+                                .getTeamById(team.getTeamId()))
+                                .withSelfRel().toMono(),
+                        linkTo(methodOn(ReactiveTeamController.class)
+                                .getAllTeams())
+                                .withRel("allTeams").toMono())
+                .map(links -> {
+                    team.add(links.getT1());
+                    team.add(links.getT2());
+                    return team;
+                });
+    }
+
+    private Mono<AthleteResponseModel> addAthleteHateoasLinks(String teamId, AthleteResponseModel athlete) {
+        return Mono.zip(
+                        linkTo(methodOn(ReactiveAthleteController.class)
+                                .getAthleteById(teamId, athlete.getAthleteId()))
+                                .withSelfRel().toMono(),
+                        linkTo(methodOn(ReactiveAthleteController.class)
+                                .getAllAthletes(teamId))
+                                .withRel("allAthletes").toMono())
+                .map(links -> {
+                    athlete.add(links.getT1());
+                    athlete.add(links.getT2());
+                    return athlete;
+                });
+    }
+}
@@ -11,6 +11,7 @@ public interface TeamService {
     // Team endpoints
     List<TeamResponseModel> getAllTeams();
     TeamResponseModel getTeamById(String teamId);
+    List<TeamResponseModel> getTeamsByIds(List<String> teamIds);
     TeamResponseModel createTeam(TeamRequestModel teamRequestModel);
     TeamResponseModel updateTeam(String teamId, TeamRequestModel teamRequestModel);
     TeamResponseModel deleteTeam(String teamId);
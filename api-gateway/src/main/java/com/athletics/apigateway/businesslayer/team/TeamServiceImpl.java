@@ -5,25 +5,24 @@ import com.athletics.apigateway.presentationlayer.team.AthleteRequestModel;
 import com.athletics.apigateway.presentationlayer.team.AthleteResponseModel;
 import com.athletics.apigateway.presentationlayer.team.TeamRequestModel;
 import com.athletics.apigateway.presentationlayer.team.TeamResponseModel;
-import com.athletics.apigateway.presentationlayer.team.AthleteController;
-import com.athletics.apigateway.presentationlayer.team.TeamController;
+import com.athletics.apigateway.utils.HateoasLinkFactory;
+import io.micrometer.observation.annotation.Observed;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.hateoas.Link;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Slf4j
 @Service
+@Observed(name = "business.service")
 public class TeamServiceImpl implements TeamService {
 
     private final TeamServiceClient teamServiceClient;
+    private final HateoasLinkFactory linkFactory;
 
-    public TeamServiceImpl(TeamServiceClient teamServiceClient) {
+    public TeamServiceImpl(TeamServiceClient teamServiceClient, HateoasLinkFactory linkFactory) {
         this.teamServiceClient = teamServiceClient;
+        this.linkFactory = linkFactory;
     }
 
 
@@ -44,6 +43,16 @@ public class TeamServiceImpl implements TeamService {
         return addTeamHateoasLinks(team);
     }
 
+    @Override
+    public List<TeamResponseModel> getTeamsByIds(List<String> teamIds) {
+        log.debug("Business Layer: getTeamsByIds() called for {} ids", teamIds.size());
+        List<TeamResponseModel> found = teamServiceClient.getTeamsByIds(teamIds);
+        for (TeamResponseModel team : found) {
+            addTeamHateoasLinks(team);
+        }
+        return found;
+    }
+
     @Override
     public TeamResponseModel createTeam(TeamRequestModel teamRequestModel) {
         log.debug("Business Layer: createTeam() called");
@@ -103,31 +112,15 @@ public class TeamServiceImpl implements TeamService {
     }
 
 
-    private TeamResponseModel addTeamHateoasLinks(TeamResponseModel team) {
-        Link selfLink = linkTo(methodOn(TeamController.class)
-                .getTeamById(team.getTeamId()))
-                .withSelfRel();
-        team.add(selfLink);
-
-        Link allTeamsLink = linkTo(methodOn(TeamController.class)
-                .getAllTeams())
-                .withRel("allTeams");
-        team.add(allTeamsLink);
-
+    TeamResponseModel addTeamHateoasLinks(TeamResponseModel team) {
+        team.add(linkFactory.teamById(team.getTeamId()));
+        team.add(linkFactory.allTeams().withRel("allTeams"));
         return team;
     }
 
-    private AthleteResponseModel addAthleteHateoasLinks(String teamId, AthleteResponseModel athlete) {
-        Link selfLink = linkTo(methodOn(AthleteController.class)
-                .getAthleteById(teamId, athlete.getAthleteId()))
-                .withSelfRel();
-        athlete.add(selfLink);
-
-        Link allAthletesLink = linkTo(methodOn(AthleteController.class)
-                .getAllAthletes(teamId))
-                .withRel("allAthletes");
-        athlete.add(allAthletesLink);
-
+    AthleteResponseModel addAthleteHateoasLinks(String teamId, AthleteResponseModel athlete) {
+        athlete.add(linkFactory.athleteById(teamId, athlete.getAthleteId()));
+        athlete.add(linkFactory.allAthletes(teamId).withRel("allAthletes"));
         return athlete;
     }
 }
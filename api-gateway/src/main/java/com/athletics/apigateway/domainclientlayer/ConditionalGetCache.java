@@ -0,0 +1,161 @@
+package com.athletics.apigateway.domainclientlayer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// remembers the last ETag and body per downstream URL, revalidates with If-None-Match and replays the body on 304
+@Slf4j
+@Component
+public class ConditionalGetCache {
+
+    private final boolean enabled;
+    private final int maxBodyBytes;
+    private final Map<String, CachedRepresentation> representations;
+
+    public ConditionalGetCache(@Value("${app.conditional-get.enabled:true}") boolean enabled,
+                               @Value("${app.conditional-get.max-entries:1000}") int maxEntries,
+                               @Value("${app.conditional-get.max-body-bytes:262144}") int maxBodyBytes) {
+        this.enabled = enabled;
+        this.maxBodyBytes = maxBodyBytes;
+        this.representations = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedRepresentation> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public ClientHttpRequestInterceptor interceptor() {
+        return (request, body, execution) -> {
+            if (!enabled || request.getMethod() != HttpMethod.GET) {
+                return execution.execute(request, body);
+            }
+            String url = request.getURI().toString();
+            CachedRepresentation cached = representations.get(url);
+            boolean revalidating = cached != null && !request.getHeaders().containsKey(HttpHeaders.IF_NONE_MATCH);
+            if (revalidating) {
+                request.getHeaders().setIfNoneMatch(cached.etag());
+            }
+
+            ClientHttpResponse response = execution.execute(request, body);
+            if (revalidating && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                response.close();
+                log.debug("Conditional GET: {} not modified, replaying {} cached bytes", url, cached.body().length);
+                return new CachedClientHttpResponse(cached);
+            }
+
+            String etag = response.getHeaders().getETag();
+            if (!response.getStatusCode().is2xxSuccessful() || etag == null) {
+                representations.remove(url);
+                return response;
+            }
+            byte[] bytes;
+            try (response; InputStream in = response.getBody()) {
+                bytes = in.readAllBytes();
+            }
+            CachedRepresentation fresh = new CachedRepresentation(
+                    etag, response.getStatusCode(), HttpHeaders.readOnlyHttpHeaders(response.getHeaders()), bytes);
+            store(url, fresh);
+            return new CachedClientHttpResponse(fresh);
+        };
+    }
+
+    public ExchangeFilterFunction exchangeFilter() {
+        return (request, next) -> {
+            if (!enabled || request.method() != HttpMethod.GET) {
+                return next.exchange(request);
+            }
+            String url = request.url().toString();
+            CachedRepresentation cached = representations.get(url);
+            boolean revalidating = cached != null && !request.headers().containsKey(HttpHeaders.IF_NONE_MATCH);
+            ClientRequest outgoing = revalidating
+                    ? ClientRequest.from(request).headers(headers -> headers.setIfNoneMatch(cached.etag())).build()
+                    : request;
+
+            return next.exchange(outgoing).flatMap(response -> {
+                if (revalidating && response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                    log.debug("Conditional GET: {} not modified, replaying {} cached bytes", url, cached.body().length);
+                    return response.releaseBody().thenReturn(response.mutate()
+                            .statusCode(cached.status())
+                            .headers(headers -> {
+                                headers.clear();
+                                headers.addAll(cached.headers());
+                            })
+                            .body(Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(cached.body()))))
+                            .build());
+                }
+
+                String etag = response.headers().asHttpHeaders().getETag();
+                if (!response.statusCode().is2xxSuccessful() || etag == null) {
+                    representations.remove(url);
+                    return Mono.just(response);
+                }
+                return response.bodyToMono(byte[].class)
+                        .defaultIfEmpty(new byte[0])
+                        .map(bytes -> {
+                            store(url, new CachedRepresentation(etag, response.statusCode(),
+                                    HttpHeaders.readOnlyHttpHeaders(response.headers().asHttpHeaders()), bytes));
+                            return response.mutate()
+                                    .body(Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(bytes))))
+                                    .build();
+                        });
+            });
+        };
+    }
+
+    private void store(String url, CachedRepresentation representation) {
+        if (representation.body().length > maxBodyBytes) {
+            representations.remove(url);
+        } else {
+            representations.put(url, representation);
+        }
+    }
+
+    private record CachedRepresentation(String etag, HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    private record CachedClientHttpResponse(CachedRepresentation representation) implements ClientHttpResponse {
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return representation.status();
+        }
+
+        @Override
+        public String getStatusText() {
+            return representation.status() instanceof HttpStatus status ? status.getReasonPhrase() : "";
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return representation.headers();
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(representation.body());
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.athletics.apigateway.domainclientlayer;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.http.client.observation.ClientRequestObservationConvention;
+import org.springframework.http.client.observation.DefaultClientRequestObservationConvention;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// tags downstream client metrics with the service they hit and keeps ids out of the uri tag
+public class DownstreamClientTags {
+
+    private static final String SERVICE = "service";
+    private static final Pattern ID_SEGMENT = Pattern.compile("/[0-9A-Za-z-]{36}(?=/|$)");
+
+    private final Map<String, String> servicesByAuthority;
+
+    public DownstreamClientTags(Map<String, String> servicesByAuthority) {
+        this.servicesByAuthority = Map.copyOf(servicesByAuthority);
+    }
+
+    public KeyValue service(URI uri) {
+        if (uri == null) {
+            return KeyValue.of(SERVICE, "none");
+        }
+        return KeyValue.of(SERVICE, servicesByAuthority.getOrDefault(uri.getHost() + ":" + uri.getPort(), "none"));
+    }
+
+    // the clients concatenate ids and query strings into their urls, so every id, page token or date filter would
+    // otherwise become its own time series
+    public KeyValue uri(KeyValue uri) {
+        String value = uri.getValue();
+        int query = value.indexOf('?');
+        if (query >= 0) {
+            value = value.substring(0, query);
+        }
+        return KeyValue.of(uri.getKey(), ID_SEGMENT.matcher(value).replaceAll("/{id}"));
+    }
+
+    public ClientRequestObservationConvention restTemplateConvention() {
+        return new DefaultClientRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ClientRequestObservationContext context) {
+                URI target = context.getCarrier() != null ? context.getCarrier().getURI() : null;
+                return super.getLowCardinalityKeyValues(context).and(service(target));
+            }
+
+            @Override
+            protected KeyValue uri(ClientRequestObservationContext context) {
+                return DownstreamClientTags.this.uri(super.uri(context));
+            }
+        };
+    }
+
+    public org.springframework.web.reactive.function.client.ClientRequestObservationConvention webClientConvention() {
+        return new org.springframework.web.reactive.function.client.DefaultClientRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(
+                    org.springframework.web.reactive.function.client.ClientRequestObservationContext context) {
+                URI target = context.getRequest() != null ? context.getRequest().url() : null;
+                return super.getLowCardinalityKeyValues(context).and(service(target));
+            }
+
+            @Override
+            protected KeyValue uri(org.springframework.web.reactive.function.client.ClientRequestObservationContext context) {
+                return DownstreamClientTags.this.uri(super.uri(context));
+            }
+        };
+    }
+}
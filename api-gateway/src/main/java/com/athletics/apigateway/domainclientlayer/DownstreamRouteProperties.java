@@ -0,0 +1,17 @@
+package com.athletics.apigateway.domainclientlayer;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+@Data
+public class DownstreamRouteProperties {
+    private String host;
+    private int port;
+    private int maxConnections = 20;
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(10);
+    private Duration responseTimeout = Duration.ofSeconds(10);
+    private Duration poolAcquireTimeout = Duration.ofSeconds(2);
+    private Duration keepAlive = Duration.ofSeconds(30);
+}
@@ -0,0 +1,160 @@
+package com.athletics.apigateway.domainclientlayer;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.RouteInfo;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Configuration
+public class HttpClientConfig {
+
+    private static final List<String> DOWNSTREAM_SERVICES =
+            List.of("team-service", "sponsor-service", "facility-service", "competition-service");
+
+    @Bean
+    public Map<HttpRoute, DownstreamRouteProperties> downstreamRoutes(Environment environment) {
+        Binder binder = Binder.get(environment);
+        Map<HttpRoute, DownstreamRouteProperties> routes = new LinkedHashMap<>();
+        for (String service : DOWNSTREAM_SERVICES) {
+            binder.bind("app." + service, DownstreamRouteProperties.class).ifBound(props -> {
+                HttpRoute route = new HttpRoute(new HttpHost("http", props.getHost(), props.getPort()));
+                routes.put(route, props);
+                log.debug("HTTP route {} configured for {}: {}", route, service, props);
+            });
+        }
+        return routes;
+    }
+
+    @Bean
+    public DownstreamClientTags downstreamClientTags(Environment environment) {
+        Binder binder = Binder.get(environment);
+        Map<String, String> servicesByAuthority = new LinkedHashMap<>();
+        for (String service : DOWNSTREAM_SERVICES) {
+            binder.bind("app." + service, DownstreamRouteProperties.class).ifBound(props ->
+                    servicesByAuthority.put(props.getHost() + ":" + props.getPort(), service));
+        }
+        return new DownstreamClientTags(servicesByAuthority);
+    }
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager downstreamConnectionManager(
+            Map<HttpRoute, DownstreamRouteProperties> downstreamRoutes) {
+        DownstreamRouteProperties defaults = new DownstreamRouteProperties();
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setConnectionConfigResolver(route ->
+                        connectionConfig(downstreamRoutes.getOrDefault(route, defaults)))
+                .build();
+
+        int maxTotal = 0;
+        for (Map.Entry<HttpRoute, DownstreamRouteProperties> entry : downstreamRoutes.entrySet()) {
+            connectionManager.setMaxPerRoute(entry.getKey(), entry.getValue().getMaxConnections());
+            maxTotal += entry.getValue().getMaxConnections();
+        }
+        connectionManager.setDefaultMaxPerRoute(defaults.getMaxConnections());
+        connectionManager.setMaxTotal(Math.max(maxTotal, defaults.getMaxConnections()));
+        return connectionManager;
+    }
+
+    @Bean
+    public MeterBinder downstreamConnectionPoolMetrics(PoolingHttpClientConnectionManager downstreamConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(downstreamConnectionManager, "downstream");
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient downstreamHttpClient(
+            PoolingHttpClientConnectionManager downstreamConnectionManager,
+            Map<HttpRoute, DownstreamRouteProperties> downstreamRoutes,
+            @Value("${app.http-client.idle-eviction:30s}") Duration idleEviction) {
+        return HttpClients.custom()
+                .setConnectionManager(downstreamConnectionManager)
+                .setKeepAliveStrategy(keepAliveStrategy(downstreamRoutes))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEviction))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient downstreamHttpClient,
+                                     Map<HttpRoute, DownstreamRouteProperties> downstreamRoutes,
+                                     ConditionalGetCache conditionalGetCache,
+                                     ObservationRegistry observationRegistry,
+                                     DownstreamClientTags downstreamClientTags) {
+        DownstreamRouteProperties defaults = new DownstreamRouteProperties();
+        Map<String, RequestConfig> requestConfigs = new LinkedHashMap<>();
+        downstreamRoutes.forEach((route, props) ->
+                requestConfigs.put(route.getTargetHost().toHostString(), requestConfig(props)));
+        RequestConfig defaultRequestConfig = requestConfig(defaults);
+
+        HttpComponentsClientHttpRequestFactory requestFactory =
+                new HttpComponentsClientHttpRequestFactory(downstreamHttpClient);
+        requestFactory.setHttpContextFactory((method, uri) -> {
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(requestConfigs.getOrDefault(
+                    uri.getHost() + ":" + uri.getPort(), defaultRequestConfig));
+            return context;
+        });
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.getInterceptors().add(conditionalGetCache.interceptor());
+        restTemplate.setObservationRegistry(observationRegistry);
+        restTemplate.setObservationConvention(downstreamClientTags.restTemplateConvention());
+        return restTemplate;
+    }
+
+    private static ConnectionConfig connectionConfig(DownstreamRouteProperties props) {
+        return ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(props.getConnectTimeout()))
+                .setSocketTimeout(Timeout.of(props.getReadTimeout()))
+                .build();
+    }
+
+    private static RequestConfig requestConfig(DownstreamRouteProperties props) {
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(props.getPoolAcquireTimeout()))
+                .setResponseTimeout(Timeout.of(props.getResponseTimeout()))
+                .build();
+    }
+
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(
+            Map<HttpRoute, DownstreamRouteProperties> downstreamRoutes) {
+        TimeValue defaultKeepAlive = TimeValue.of(new DownstreamRouteProperties().getKeepAlive());
+        return (response, context) -> {
+            RouteInfo route = HttpClientContext.castOrCreate(context).getHttpRoute();
+            DownstreamRouteProperties props = route != null ? downstreamRoutes.get(route) : null;
+            TimeValue configured = props != null ? TimeValue.of(props.getKeepAlive()) : defaultKeepAlive;
+            if (!response.containsHeader(HttpHeaders.KEEP_ALIVE)) {
+                return configured;
+            }
+            // honour a shorter Keep-Alive timeout advertised by the backend
+            TimeValue advertised = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return advertised.compareTo(configured) < 0 ? advertised : configured;
+        };
+    }
+}
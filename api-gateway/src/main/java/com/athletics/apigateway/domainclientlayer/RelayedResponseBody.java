@@ -0,0 +1,42 @@
+package com.athletics.apigateway.domainclientlayer;
+
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// copies an already opened downstream response to the client as it arrives; close() hands the pooled connection
+// back even when the body is never written
+public class RelayedResponseBody implements StreamingResponseBody, Closeable {
+
+    private final ClientHttpResponse response;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    public RelayedResponseBody(ClientHttpResponse response) {
+        this.response = response;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        try (this) {
+            InputStream in = response.getBody();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                out.flush();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            response.close();
+        }
+    }
+}
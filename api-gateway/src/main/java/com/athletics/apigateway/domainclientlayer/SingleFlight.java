@@ -0,0 +1,148 @@
+package com.athletics.apigateway.domainclientlayer;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// lets concurrent identical downstream reads share one in-flight call; callers get the raw result and decode their own copy
+@Slf4j
+@Component
+public class SingleFlight {
+
+    public static final String CALLER_CONTEXT_KEY = SingleFlight.class.getName() + ".caller";
+
+    public enum KeyScope {
+        // requests for the same URL share a call regardless of who sent them
+        URL,
+        // requests also have to carry the same Authorization header to share a call
+        CALLER
+    }
+
+    private final boolean enabled;
+    private final KeyScope keyScope;
+    private final Map<FlightKey, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, FlightStats> stats = new ConcurrentHashMap<>();
+
+    public SingleFlight(@Value("${app.single-flight.enabled:true}") boolean enabled,
+                        @Value("${app.single-flight.key-scope:url}") KeyScope keyScope) {
+        this.enabled = enabled;
+        this.keyScope = keyScope;
+    }
+
+    public <T> T execute(String name, String url, Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        FlightKey key = new FlightKey(name, scopeOf(servletCaller()), url);
+        CompletableFuture<T> flight = new CompletableFuture<>();
+        @SuppressWarnings("unchecked")
+        CompletableFuture<T> existing = (CompletableFuture<T>) inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            statsFor(name).collapsed.increment();
+            log.debug("Single-flight: joined in-flight {} {}", name, url);
+            return join(existing);
+        }
+
+        statsFor(name).downstreamCalls.increment();
+        try {
+            T result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (Throwable ex) {
+            // errors too, or callers already joined on the flight would wait forever
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public <T> Mono<T> executeMono(String name, String url, Supplier<Mono<T>> call) {
+        if (!enabled) {
+            return Mono.defer(call);
+        }
+        return Mono.deferContextual(context -> {
+            FlightKey key = new FlightKey(name, scopeOf(context.getOrDefault(CALLER_CONTEXT_KEY, null)), url);
+            CompletableFuture<T> flight = new CompletableFuture<>();
+            @SuppressWarnings("unchecked")
+            CompletableFuture<T> existing = (CompletableFuture<T>) inFlight.putIfAbsent(key, flight);
+            if (existing != null) {
+                statsFor(name).collapsed.increment();
+                log.debug("Single-flight: joined in-flight {} {}", name, url);
+                return Mono.fromFuture(existing, true);
+            }
+
+            statsFor(name).downstreamCalls.increment();
+            flight.whenComplete((result, error) -> inFlight.remove(key, flight));
+            // the shared call is not tied to the first subscriber, so its cancellation cannot fail the others
+            call.get().contextWrite(context).subscribe(
+                    flight::complete,
+                    flight::completeExceptionally,
+                    () -> flight.complete(null));
+            return Mono.fromFuture(flight, true);
+        });
+    }
+
+    public Map<String, FlightStatsSnapshot> getStats() {
+        Map<String, FlightStatsSnapshot> snapshot = new TreeMap<>();
+        stats.forEach((name, flightStats) -> snapshot.put(name, new FlightStatsSnapshot(
+                flightStats.downstreamCalls.sum(),
+                flightStats.collapsed.sum(),
+                inFlight.keySet().stream().filter(key -> key.name().equals(name)).count())));
+        return snapshot;
+    }
+
+    private FlightStats statsFor(String name) {
+        return stats.computeIfAbsent(name, n -> new FlightStats());
+    }
+
+    private String scopeOf(String caller) {
+        return keyScope == KeyScope.CALLER && caller != null ? caller : "";
+    }
+
+    private static String servletCaller() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            return request.getHeader(HttpHeaders.AUTHORIZATION);
+        }
+        return null;
+    }
+
+    private static <T> T join(CompletableFuture<T> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private record FlightKey(String name, String caller, String url) {
+    }
+
+    private static final class FlightStats {
+        private final LongAdder downstreamCalls = new LongAdder();
+        private final LongAdder collapsed = new LongAdder();
+    }
+
+    public record FlightStatsSnapshot(long downstreamCalls, long collapsedRequests, long inFlight) {
+    }
+}
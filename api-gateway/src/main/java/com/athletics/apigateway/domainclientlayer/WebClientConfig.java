@@ -0,0 +1,79 @@
+package com.athletics.apigateway.domainclientlayer;
+
+import io.netty.channel.ChannelOption;
+import org.apache.hc.client5.http.HttpRoute;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.WebFilter;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@Profile("reactive")
+public class WebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider downstreamConnectionProvider(
+            Map<HttpRoute, DownstreamRouteProperties> downstreamRoutes) {
+        DownstreamRouteProperties defaults = new DownstreamRouteProperties();
+        ConnectionProvider.Builder builder = ConnectionProvider.builder("downstream")
+                .maxConnections(defaults.getMaxConnections())
+                .pendingAcquireTimeout(defaults.getPoolAcquireTimeout())
+                .maxIdleTime(defaults.getKeepAlive())
+                .metrics(true);
+        downstreamRoutes.forEach((route, props) -> builder.forRemoteHost(
+                InetSocketAddress.createUnresolved(props.getHost(), props.getPort()),
+                spec -> spec.maxConnections(props.getMaxConnections())
+                        .pendingAcquireTimeout(props.getPoolAcquireTimeout())
+                        .maxIdleTime(props.getKeepAlive())));
+        return builder.build();
+    }
+
+    @Bean
+    public WebClient webClient(WebClient.Builder webClientBuilder,
+                               ConnectionProvider downstreamConnectionProvider,
+                               Map<HttpRoute, DownstreamRouteProperties> downstreamRoutes,
+                               ConditionalGetCache conditionalGetCache,
+                               DownstreamClientTags downstreamClientTags) {
+        DownstreamRouteProperties defaults = new DownstreamRouteProperties();
+        Map<String, Duration> responseTimeouts = new HashMap<>();
+        downstreamRoutes.forEach((route, props) ->
+                responseTimeouts.put(route.getTargetHost().toHostString(), props.getResponseTimeout()));
+
+        HttpClient httpClient = HttpClient.create(downstreamConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) defaults.getConnectTimeout().toMillis())
+                .doOnRequest((request, connection) -> {
+                    URI uri = URI.create(request.resourceUrl());
+                    request.responseTimeout(responseTimeouts.getOrDefault(
+                            uri.getHost() + ":" + uri.getPort(), defaults.getResponseTimeout()));
+                });
+        return webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(conditionalGetCache.exchangeFilter())
+                .observationConvention(downstreamClientTags.webClientConvention())
+                .build();
+    }
+
+    // hands the inbound Authorization header to the clients so SingleFlight can scope its keys per caller
+    @Bean
+    public WebFilter singleFlightCallerFilter() {
+        return (exchange, chain) -> {
+            String caller = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+            if (caller == null) {
+                return chain.filter(exchange);
+            }
+            return chain.filter(exchange)
+                    .contextWrite(context -> context.put(SingleFlight.CALLER_CONTEXT_KEY, caller));
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.athletics.apigateway.domainclientlayer;
+
+import com.athletics.apigateway.utils.APIHttpErrorInfo;
+import com.athletics.apigateway.utils.exceptions.InvalidInputException;
+import com.athletics.apigateway.utils.exceptions.NotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
+
+@Slf4j
+@Component
+@Profile("reactive")
+public class WebClientErrorMapper {
+
+    private final ObjectMapper mapper;
+
+    public WebClientErrorMapper(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    public Mono<? extends Throwable> handleClientError(ClientResponse response) {
+        HttpStatusCode statusCode = response.statusCode();
+        return response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .<Throwable>map(body -> {
+                    if (statusCode == NOT_FOUND) {
+                        return new NotFoundException(getErrorMessage(body));
+                    }
+                    if (statusCode == UNPROCESSABLE_ENTITY) {
+                        return new InvalidInputException(getErrorMessage(body));
+                    }
+                    log.warn("Got an unexpected HTTP error: {}, will rethrow it", statusCode);
+                    log.warn("Error body: {}", body);
+                    return WebClientResponseException.create(statusCode.value(), statusCode.toString(),
+                            response.headers().asHttpHeaders(),
+                            body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+                });
+    }
+
+    private String getErrorMessage(String body) {
+        try {
+            return mapper.readValue(body, APIHttpErrorInfo.class).getMessage();
+        } catch (IOException ioex) {
+            return ioex.getMessage();
+        }
+    }
+}
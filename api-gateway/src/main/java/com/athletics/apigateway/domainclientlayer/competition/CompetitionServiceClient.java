@@ -1,17 +1,27 @@
 package com.athletics.apigateway.domainclientlayer.competition;
 
+import com.athletics.apigateway.domainclientlayer.RelayedResponseBody;
+import com.athletics.apigateway.domainclientlayer.SingleFlight;
+import com.athletics.apigateway.presentationlayer.competition.CompetitionPage;
 import com.athletics.apigateway.presentationlayer.competition.CompetitionRequestModel;
 import com.athletics.apigateway.presentationlayer.competition.CompetitionResponseModel;
+import com.athletics.apigateway.presentationlayer.competition.CompetitionStatisticsResponseModel;
 import com.athletics.apigateway.utils.APIHttpErrorInfo;
 import com.athletics.apigateway.utils.exceptions.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
+import java.time.LocalDate;
 import java.util.*;
 
 import static org.springframework.http.HttpStatus.*;
@@ -21,37 +31,92 @@ import static org.springframework.http.HttpStatus.*;
 public class CompetitionServiceClient {
 
     private final RestTemplate restTemplate;
+    private final RestClient restClient;
     private final ObjectMapper mapper;
+    private final SingleFlight singleFlight;
     private final String COMPETITION_BASE_URL;
+    private final String COMPETITION_STATISTICS_URL;
 
     public CompetitionServiceClient(RestTemplate restTemplate,
                                     ObjectMapper mapper,
+                                    SingleFlight singleFlight,
                                     @Value("${app.competition-service.host}") String host,
                                     @Value("${app.competition-service.port}") String port) {
         this.restTemplate = restTemplate;
+        this.restClient   = RestClient.create(restTemplate);
         this.mapper       = mapper;
+        this.singleFlight = singleFlight;
         this.COMPETITION_BASE_URL =
                 "http://" + host + ":" + port + "/api/v1/teams";
+        this.COMPETITION_STATISTICS_URL =
+                "http://" + host + ":" + port + "/api/v1/competition-statistics";
     }
 
     public List<CompetitionResponseModel> getAllCompetitions(String teamId) {
         log.debug("API-Gateway: Fetching all competitions for team={}", teamId);
         try {
             String url = COMPETITION_BASE_URL + "/" + teamId + "/competitions";
-            ResponseEntity<CompetitionResponseModel[]> resp =
-                    restTemplate.getForEntity(url, CompetitionResponseModel[].class);
-            CompetitionResponseModel[] arr = resp.getBody();
+            byte[] body = singleFlight.execute("competition.getAllCompetitions", url,
+                    () -> restTemplate.getForObject(url, byte[].class));
+            CompetitionResponseModel[] arr = decode(body, CompetitionResponseModel[].class);
             return arr != null ? Arrays.asList(arr) : List.of();
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
     }
 
+    public CompetitionPage getCompetitionPage(String teamId, Integer pageSize, String pageToken) {
+        log.debug("API-Gateway: Fetching competition page for team={} pageSize={}", teamId, pageSize);
+        try {
+            String url = UriComponentsBuilder
+                    .fromUriString(COMPETITION_BASE_URL + "/" + teamId + "/competitions")
+                    .queryParamIfPresent("pageSize", Optional.ofNullable(pageSize))
+                    .queryParamIfPresent("pageToken", Optional.ofNullable(pageToken))
+                    .encode()
+                    .toUriString();
+            ResponseEntity<byte[]> resp = singleFlight.execute("competition.getCompetitionPage", url,
+                    () -> restTemplate.getForEntity(url, byte[].class));
+            CompetitionResponseModel[] arr = decode(resp.getBody(), CompetitionResponseModel[].class);
+            return new CompetitionPage(
+                    arr != null ? Arrays.asList(arr) : List.of(),
+                    resp.getHeaders().getFirst(CompetitionPage.NEXT_PAGE_TOKEN_HEADER));
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
+    public StreamingResponseBody exportCompetitions(String teamId) {
+        log.debug("API-Gateway: Exporting competitions for team={}", teamId);
+        String url = COMPETITION_BASE_URL + "/" + teamId + "/competitions/export";
+        // status is checked up front so errors map normally; the body is relayed later without buffering
+        ClientHttpResponse response = restClient.get()
+                .uri(url)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange((request, resp) -> {
+                    HttpStatusCode status = resp.getStatusCode();
+                    if (status.isError()) {
+                        String statusText = resp.getStatusText();
+                        byte[] body = resp.getBody().readAllBytes();
+                        resp.close();
+                        if (status.is4xxClientError()) {
+                            throw handleHttpClientException(HttpClientErrorException.create(
+                                    status, statusText, resp.getHeaders(), body, null));
+                        }
+                        throw HttpServerErrorException.create(status, statusText, resp.getHeaders(), body, null);
+                    }
+                    return resp;
+                }, false);
+
+        return new RelayedResponseBody(response);
+    }
+
     public CompetitionResponseModel getCompetitionById(String teamId, String compId) {
         log.debug("API-Gateway: Fetching competition {} for team {}", compId, teamId);
         try {
             String url = COMPETITION_BASE_URL + "/" + teamId + "/competitions/" + compId;
-            return restTemplate.getForObject(url, CompetitionResponseModel.class);
+            byte[] body = singleFlight.execute("competition.getCompetitionById", url,
+                    () -> restTemplate.getForObject(url, byte[].class));
+            return decode(body, CompetitionResponseModel.class);
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -75,7 +140,8 @@ public class CompetitionServiceClient {
         try {
             String url = COMPETITION_BASE_URL + "/" + teamId + "/competitions/" + compId;
             restTemplate.put(url, request);
-            return getCompetitionById(teamId, compId);
+            // read back outside single-flight so the caller never joins a read that started before its write
+            return restTemplate.getForObject(url, CompetitionResponseModel.class);
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -91,6 +157,38 @@ public class CompetitionServiceClient {
         }
     }
 
+    public CompetitionStatisticsResponseModel getCompetitionStatistics(String groupBy, LocalDate from,
+                                                                       LocalDate to, String bucket) {
+        log.debug("API-Gateway: Fetching competition statistics groupBy={} from={} to={}", groupBy, from, to);
+        try {
+            String url = UriComponentsBuilder
+                    .fromUriString(COMPETITION_STATISTICS_URL)
+                    .queryParamIfPresent("groupBy", Optional.ofNullable(groupBy))
+                    .queryParamIfPresent("from", Optional.ofNullable(from))
+                    .queryParamIfPresent("to", Optional.ofNullable(to))
+                    .queryParamIfPresent("bucket", Optional.ofNullable(bucket))
+                    .encode()
+                    .toUriString();
+            byte[] body = singleFlight.execute("competition.getCompetitionStatistics", url,
+                    () -> restTemplate.getForObject(url, byte[].class));
+            return decode(body, CompetitionStatisticsResponseModel.class);
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
+    // shared single-flight responses are decoded per caller so each one gets objects it can add links to
+    private <T> T decode(byte[] body, Class<T> type) {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try {
+            return mapper.readValue(body, type);
+        } catch (IOException ex) {
+            throw new RestClientException("Could not decode competition-service response", ex);
+        }
+    }
+
     private String extractMessage(HttpClientErrorException ex) {
         try {
             APIHttpErrorInfo info = mapper.readValue(ex.getResponseBodyAsString(), APIHttpErrorInfo.class);
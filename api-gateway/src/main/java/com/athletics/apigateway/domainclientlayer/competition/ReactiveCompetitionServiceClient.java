@@ -0,0 +1,177 @@
+package com.athletics.apigateway.domainclientlayer.competition;
+
+import com.athletics.apigateway.domainclientlayer.SingleFlight;
+import com.athletics.apigateway.domainclientlayer.WebClientErrorMapper;
+import com.athletics.apigateway.presentationlayer.competition.CompetitionPage;
+import com.athletics.apigateway.presentationlayer.competition.CompetitionRequestModel;
+import com.athletics.apigateway.presentationlayer.competition.CompetitionResponseModel;
+import com.athletics.apigateway.presentationlayer.competition.CompetitionStatisticsResponseModel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@Profile("reactive")
+public class ReactiveCompetitionServiceClient {
+
+    private final WebClient webClient;
+    private final WebClientErrorMapper errorMapper;
+    private final ObjectMapper mapper;
+    private final SingleFlight singleFlight;
+    private final String COMPETITION_BASE_URL;
+    private final String COMPETITION_STATISTICS_URL;
+
+    public ReactiveCompetitionServiceClient(WebClient webClient,
+                                            WebClientErrorMapper errorMapper,
+                                            ObjectMapper mapper,
+                                            SingleFlight singleFlight,
+                                            @Value("${app.competition-service.host}") String host,
+                                            @Value("${app.competition-service.port}") String port) {
+        this.webClient    = webClient;
+        this.errorMapper  = errorMapper;
+        this.mapper       = mapper;
+        this.singleFlight = singleFlight;
+        this.COMPETITION_BASE_URL =
+                "http://" + host + ":" + port + "/api/v1/teams";
+        this.COMPETITION_STATISTICS_URL =
+                "http://" + host + ":" + port + "/api/v1/competition-statistics";
+    }
+
+    public Flux<CompetitionResponseModel> getAllCompetitions(String teamId) {
+        log.debug("API-Gateway: Fetching all competitions for team={}", teamId);
+        String url = COMPETITION_BASE_URL + "/" + teamId + "/competitions";
+        return singleFlight.executeMono("competition.getAllCompetitions", url, () -> webClient.get()
+                        .uri(url)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                        .bodyToMono(byte[].class))
+                .flatMapMany(body -> decode(body, CompetitionResponseModel[].class))
+                .flatMapIterable(List::of);
+    }
+
+    public Mono<CompetitionPage> getCompetitionPage(String teamId, Integer pageSize, String pageToken) {
+        log.debug("API-Gateway: Fetching competition page for team={} pageSize={}", teamId, pageSize);
+        String url = UriComponentsBuilder
+                .fromUriString(COMPETITION_BASE_URL + "/" + teamId + "/competitions")
+                .queryParamIfPresent("pageSize", Optional.ofNullable(pageSize))
+                .queryParamIfPresent("pageToken", Optional.ofNullable(pageToken))
+                .encode()
+                .toUriString();
+        return singleFlight.executeMono("competition.getCompetitionPage", url, () -> webClient.get()
+                        .uri(url)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                        .toEntity(byte[].class))
+                .flatMap(resp -> decode(resp.getBody(), CompetitionResponseModel[].class)
+                        .map(List::of)
+                        .defaultIfEmpty(List.of())
+                        .map(competitions -> new CompetitionPage(competitions,
+                                resp.getHeaders().getFirst(CompetitionPage.NEXT_PAGE_TOKEN_HEADER))));
+    }
+
+    public Flux<DataBuffer> exportCompetitions(String teamId) {
+        log.debug("API-Gateway: Exporting competitions for team={}", teamId);
+        return webClient.get()
+                .uri(COMPETITION_BASE_URL + "/" + teamId + "/competitions/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .bodyToFlux(DataBuffer.class);
+    }
+
+    public Mono<CompetitionResponseModel> getCompetitionById(String teamId, String compId) {
+        log.debug("API-Gateway: Fetching competition {} for team {}", compId, teamId);
+        String url = COMPETITION_BASE_URL + "/" + teamId + "/competitions/" + compId;
+        return singleFlight.executeMono("competition.getCompetitionById", url, () -> webClient.get()
+                        .uri(url)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                        .bodyToMono(byte[].class))
+                .flatMap(body -> decode(body, CompetitionResponseModel.class));
+    }
+
+    public Mono<CompetitionResponseModel> createCompetition(String teamId,
+                                                            CompetitionRequestModel request) {
+        log.debug("API-Gateway: Creating competition for team {}", teamId);
+        return webClient.post()
+                .uri(COMPETITION_BASE_URL + "/" + teamId + "/competitions")
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .bodyToMono(CompetitionResponseModel.class);
+    }
+
+    public Mono<CompetitionResponseModel> updateCompetition(String teamId,
+                                                            String compId,
+                                                            CompetitionRequestModel request) {
+        log.debug("API-Gateway: Updating competition {} for team {}", compId, teamId);
+        return webClient.put()
+                .uri(COMPETITION_BASE_URL + "/" + teamId + "/competitions/" + compId)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .toBodilessEntity()
+                // read back outside single-flight so the caller never joins a read that started before its write
+                .then(webClient.get()
+                        .uri(COMPETITION_BASE_URL + "/" + teamId + "/competitions/" + compId)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                        .bodyToMono(CompetitionResponseModel.class));
+    }
+
+    public Mono<Void> deleteCompetition(String teamId, String compId) {
+        log.debug("API-Gateway: Deleting competition {} for team {}", compId, teamId);
+        return webClient.delete()
+                .uri(COMPETITION_BASE_URL + "/" + teamId + "/competitions/" + compId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .toBodilessEntity()
+                .then();
+    }
+
+    public Mono<CompetitionStatisticsResponseModel> getCompetitionStatistics(String groupBy, LocalDate from,
+                                                                             LocalDate to, String bucket) {
+        log.debug("API-Gateway: Fetching competition statistics groupBy={} from={} to={}", groupBy, from, to);
+        String url = UriComponentsBuilder
+                .fromUriString(COMPETITION_STATISTICS_URL)
+                .queryParamIfPresent("groupBy", Optional.ofNullable(groupBy))
+                .queryParamIfPresent("from", Optional.ofNullable(from))
+                .queryParamIfPresent("to", Optional.ofNullable(to))
+                .queryParamIfPresent("bucket", Optional.ofNullable(bucket))
+                .encode()
+                .toUriString();
+        return singleFlight.executeMono("competition.getCompetitionStatistics", url, () -> webClient.get()
+                        .uri(url)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                        .bodyToMono(byte[].class))
+                .flatMap(body -> decode(body, CompetitionStatisticsResponseModel.class));
+    }
+
+    // shared single-flight responses are decoded per subscriber so each one gets objects it can add links to
+    private <T> Mono<T> decode(byte[] body, Class<T> type) {
+        if (body == null || body.length == 0) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> mapper.readValue(body, type))
+                .onErrorMap(IOException.class, ex ->
+                        new DecodingException("Could not decode competition-service response", ex));
+    }
+}
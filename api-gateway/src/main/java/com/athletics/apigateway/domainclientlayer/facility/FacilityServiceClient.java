@@ -17,6 +17,7 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -59,6 +60,19 @@ public class FacilityServiceClient {
         }
     }
 
+    public List<FacilityResponseModel> getFacilitiesByIds(List<String> facilityIds) {
+        log.debug("Request received in API-Gateway Facility Service Client: getFacilitiesByIds");
+        try {
+            String url = FACILITY_SERVICE_BASE_URL + "/batch-get";
+            FacilityResponseModel[] found =
+                    restTemplate.postForObject(url, facilityIds, FacilityResponseModel[].class);
+            return found != null ? new ArrayList<>(Arrays.asList(found)) : new ArrayList<>();
+        } catch (HttpClientErrorException ex) {
+            log.debug("Error Response Received in getFacilitiesByIds");
+            throw handleHttpClientException(ex);
+        }
+    }
+
     public FacilityResponseModel getFacilityById(String facilityId) {
         log.debug("2. Request received in API-Gateway FacilityServiceClient: getFacilityById({})", facilityId);
         try {
@@ -0,0 +1,80 @@
+package com.athletics.apigateway.domainclientlayer.facility;
+
+import com.athletics.apigateway.domainclientlayer.WebClientErrorMapper;
+import com.athletics.apigateway.presentationlayer.facility.FacilityRequestModel;
+import com.athletics.apigateway.presentationlayer.facility.FacilityResponseModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@Profile("reactive")
+public class ReactiveFacilityServiceClient {
+
+    private final WebClient webClient;
+    private final WebClientErrorMapper errorMapper;
+    private final String FACILITY_SERVICE_BASE_URL;
+
+    public ReactiveFacilityServiceClient(WebClient webClient, WebClientErrorMapper errorMapper,
+                                        @Value("${app.facility-service.host}") String facilityServiceHost,
+                                        @Value("${app.facility-service.port}") String facilityServicePort) {
+        this.webClient = webClient;
+        this.errorMapper = errorMapper;
+        this.FACILITY_SERVICE_BASE_URL = "http://" + facilityServiceHost + ":" + facilityServicePort + "/api/v1/facilities";
+    }
+
+    public Flux<FacilityResponseModel> getAllFacilities() {
+        log.debug("2. Request received in API-Gateway Reactive Facility Service Client: getAllFacilities");
+        return webClient.get()
+                .uri(FACILITY_SERVICE_BASE_URL)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .bodyToFlux(FacilityResponseModel.class);
+    }
+
+    public Mono<FacilityResponseModel> getFacilityById(String facilityId) {
+        log.debug("2. Request received in API-Gateway Reactive Facility Service Client: getFacilityById");
+        return webClient.get()
+                .uri(FACILITY_SERVICE_BASE_URL + "/" + facilityId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .bodyToMono(FacilityResponseModel.class);
+    }
+
+    public Mono<FacilityResponseModel> createFacility(FacilityRequestModel facilityRequest) {
+        log.debug("2. Request received in API-Gateway Reactive Facility Service Client: createFacility");
+        return webClient.post()
+                .uri(FACILITY_SERVICE_BASE_URL)
+                .bodyValue(facilityRequest)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .bodyToMono(FacilityResponseModel.class);
+    }
+
+    public Mono<FacilityResponseModel> updateFacility(String facilityId, FacilityRequestModel facilityRequest) {
+        log.debug("2. Request received in API-Gateway Reactive Facility Service Client: updateFacility");
+        return webClient.put()
+                .uri(FACILITY_SERVICE_BASE_URL + "/" + facilityId)
+                .bodyValue(facilityRequest)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .toBodilessEntity()
+                .then(getFacilityById(facilityId));
+    }
+
+    public Mono<Void> deleteFacility(String facilityId) {
+        log.debug("2. Request received in API-Gateway Reactive Facility Service Client: deleteFacility");
+        return webClient.delete()
+                .uri(FACILITY_SERVICE_BASE_URL + "/" + facilityId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .toBodilessEntity()
+                .then();
+    }
+}
@@ -0,0 +1,80 @@
+package com.athletics.apigateway.domainclientlayer.sponsor;
+
+import com.athletics.apigateway.domainclientlayer.WebClientErrorMapper;
+import com.athletics.apigateway.presentationlayer.sponsor.SponsorRequestModel;
+import com.athletics.apigateway.presentationlayer.sponsor.SponsorResponseModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@Profile("reactive")
+public class ReactiveSponsorServiceClient {
+
+    private final WebClient webClient;
+    private final WebClientErrorMapper errorMapper;
+    private final String SPONSOR_SERVICE_BASE_URL;
+
+    public ReactiveSponsorServiceClient(WebClient webClient, WebClientErrorMapper errorMapper,
+                                        @Value("${app.sponsor-service.host}") String sponsorServiceHost,
+                                        @Value("${app.sponsor-service.port}") String sponsorServicePort) {
+        this.webClient = webClient;
+        this.errorMapper = errorMapper;
+        this.SPONSOR_SERVICE_BASE_URL = "http://" + sponsorServiceHost + ":" + sponsorServicePort + "/api/v1/sponsors";
+    }
+
+    public Flux<SponsorResponseModel> getAllSponsors() {
+        log.debug("2. Request received in API-Gateway Reactive Sponsor Service Client: getAllSponsors");
+        return webClient.get()
+                .uri(SPONSOR_SERVICE_BASE_URL)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .bodyToFlux(SponsorResponseModel.class);
+    }
+
+    public Mono<SponsorResponseModel> getSponsorById(String sponsorId) {
+        log.debug("2. Request received in API-Gateway Reactive Sponsor Service Client: getSponsorById");
+        return webClient.get()
+                .uri(SPONSOR_SERVICE_BASE_URL + "/" + sponsorId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .bodyToMono(SponsorResponseModel.class);
+    }
+
+    public Mono<SponsorResponseModel> createSponsor(SponsorRequestModel sponsorRequest) {
+        log.debug("2. Request received in API-Gateway Reactive Sponsor Service Client: createSponsor");
+        return webClient.post()
+                .uri(SPONSOR_SERVICE_BASE_URL)
+                .bodyValue(sponsorRequest)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .bodyToMono(SponsorResponseModel.class);
+    }
+
+    public Mono<SponsorResponseModel> updateSponsor(String sponsorId, SponsorRequestModel sponsorRequest) {
+        log.debug("2. Request received in API-Gateway Reactive Sponsor Service Client: updateSponsor");
+        return webClient.put()
+                .uri(SPONSOR_SERVICE_BASE_URL + "/" + sponsorId)
+                .bodyValue(sponsorRequest)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .toBodilessEntity()
+                .then(getSponsorById(sponsorId));
+    }
+
+    public Mono<Void> deleteSponsor(String sponsorId) {
+        log.debug("2. Request received in API-Gateway Reactive Sponsor Service Client: deleteSponsor");
+        return webClient.delete()
+                .uri(SPONSOR_SERVICE_BASE_URL + "/" + sponsorId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .toBodilessEntity()
+                .then();
+    }
+}
@@ -53,6 +53,19 @@ public class SponsorServiceClient {
         }
     }
 
+    public List<SponsorResponseModel> getSponsorsByIds(List<String> sponsorIds) {
+        log.debug("Request received in API-Gateway Sponsor Service Client: getSponsorsByIds");
+        try {
+            String url = SPONSOR_SERVICE_BASE_URL + "/batch-get";
+            SponsorResponseModel[] found =
+                    restTemplate.postForObject(url, sponsorIds, SponsorResponseModel[].class);
+            return found != null ? new ArrayList<>(Arrays.asList(found)) : new ArrayList<>();
+        } catch (HttpClientErrorException ex) {
+            log.debug("Error Response Received in getSponsorsByIds");
+            throw handleHttpClientException(ex);
+        }
+    }
+
     public SponsorResponseModel getSponsorById(String sponsorId) {
         log.debug("2. Request received in API-Gateway Sponsor Service Client: getSponsorById");
         try {
@@ -0,0 +1,168 @@
+package com.athletics.apigateway.domainclientlayer.team;
+
+import com.athletics.apigateway.domainclientlayer.SingleFlight;
+import com.athletics.apigateway.domainclientlayer.WebClientErrorMapper;
+import com.athletics.apigateway.presentationlayer.team.AthleteRequestModel;
+import com.athletics.apigateway.presentationlayer.team.AthleteResponseModel;
+import com.athletics.apigateway.presentationlayer.team.TeamRequestModel;
+import com.athletics.apigateway.presentationlayer.team.TeamResponseModel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.List;
+
+@Slf4j
+@Component
+@Profile("reactive")
+public class ReactiveTeamServiceClient {
+
+    private final WebClient webClient;
+    private final WebClientErrorMapper errorMapper;
+    private final ObjectMapper mapper;
+    private final SingleFlight singleFlight;
+    private final String teamServiceHostAndPort;
+    private final String TEAM_SERVICE_BASE_URL;
+
+    public ReactiveTeamServiceClient(WebClient webClient, WebClientErrorMapper errorMapper,
+                                     ObjectMapper mapper, SingleFlight singleFlight,
+                                     @Value("${app.team-service.host}") String teamServiceHost,
+                                     @Value("${app.team-service.port}") String teamServicePort) {
+        this.webClient = webClient;
+        this.errorMapper = errorMapper;
+        this.mapper = mapper;
+        this.singleFlight = singleFlight;
+        this.teamServiceHostAndPort = teamServiceHost + ":" + teamServicePort;
+        this.TEAM_SERVICE_BASE_URL = "http://" + teamServiceHostAndPort + "/api/v1/teams";
+    }
+
+    public Flux<TeamResponseModel> getAllTeams() {
+        log.debug("Request received in API-Gateway Reactive Team Service Client: getAllTeams");
+        return webClient.get()
+                .uri(TEAM_SERVICE_BASE_URL)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .bodyToFlux(TeamResponseModel.class);
+    }
+
+    public Mono<TeamResponseModel> getTeamById(String teamId) {
+        log.debug("Request received in API-Gateway Reactive Team Service Client: getTeamById");
+        String url = TEAM_SERVICE_BASE_URL + "/" + teamId;
+        return singleFlight.executeMono("team.getTeamById", url, () -> webClient.get()
+                        .uri(url)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                        .bodyToMono(byte[].class))
+                .flatMap(body -> decode(body, TeamResponseModel.class));
+    }
+
+    public Mono<TeamResponseModel> createTeam(TeamRequestModel team) {
+        log.debug("Request received in API-Gateway Reactive Team Service Client: createTeam");
+        return webClient.post()
+                .uri(TEAM_SERVICE_BASE_URL)
+                .bodyValue(team)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .bodyToMono(TeamResponseModel.class);
+    }
+
+    public Mono<TeamResponseModel> updateTeam(String teamId, TeamRequestModel team) {
+        log.debug("Request received in API-Gateway Reactive Team Service Client: updateTeam");
+        return webClient.put()
+                .uri(TEAM_SERVICE_BASE_URL + "/" + teamId)
+                .bodyValue(team)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .toBodilessEntity()
+                // read back outside single-flight so the caller never joins a read that started before its write
+                .then(webClient.get()
+                        .uri(TEAM_SERVICE_BASE_URL + "/" + teamId)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                        .bodyToMono(TeamResponseModel.class));
+    }
+
+    public Mono<Void> deleteTeam(String teamId) {
+        log.debug("Request received in API-Gateway Reactive Team Service Client: deleteTeam");
+        return webClient.delete()
+                .uri(TEAM_SERVICE_BASE_URL + "/" + teamId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .toBodilessEntity()
+                .then();
+    }
+
+    public Flux<AthleteResponseModel> getAllAthletesForTeam(String teamId) {
+        log.debug("Request received in API-Gateway Reactive Team Service Client: getAllAthletesForTeam");
+        String url = athletesUrl(teamId);
+        return singleFlight.executeMono("team.getAllAthletesForTeam", url, () -> webClient.get()
+                        .uri(url)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                        .bodyToMono(byte[].class))
+                .flatMapMany(body -> decode(body, AthleteResponseModel[].class))
+                .flatMapIterable(List::of);
+    }
+
+    public Mono<AthleteResponseModel> getAthleteById(String teamId, String athleteId) {
+        log.debug("Request received in API-Gateway Reactive Team Service Client: getAthleteById");
+        return webClient.get()
+                .uri(athletesUrl(teamId) + "/" + athleteId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .bodyToMono(AthleteResponseModel.class);
+    }
+
+    public Mono<AthleteResponseModel> createAthleteForTeam(String teamId, AthleteRequestModel athlete) {
+        log.debug("Request received in API-Gateway Reactive Team Service Client: createAthleteForTeam");
+        return webClient.post()
+                .uri(athletesUrl(teamId))
+                .bodyValue(athlete)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .bodyToMono(AthleteResponseModel.class);
+    }
+
+    public Mono<AthleteResponseModel> updateAthleteForTeam(String teamId, String athleteId, AthleteRequestModel athlete) {
+        log.debug("Request received in API-Gateway Reactive Team Service Client: updateAthleteForTeam");
+        return webClient.put()
+                .uri(athletesUrl(teamId) + "/" + athleteId)
+                .bodyValue(athlete)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .toBodilessEntity()
+                .then(getAthleteById(teamId, athleteId));
+    }
+
+    public Mono<Void> deleteAthleteForTeam(String teamId, String athleteId) {
+        log.debug("Request received in API-Gateway Reactive Team Service Client: deleteAthleteForTeam");
+        return webClient.delete()
+                .uri(athletesUrl(teamId) + "/" + athleteId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, errorMapper::handleClientError)
+                .toBodilessEntity()
+                .then();
+    }
+
+    // shared single-flight responses are decoded per subscriber so each one gets objects it can add links to
+    private <T> Mono<T> decode(byte[] body, Class<T> type) {
+        if (body == null || body.length == 0) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> mapper.readValue(body, type))
+                .onErrorMap(IOException.class, ex ->
+                        new DecodingException("Could not decode team-service response", ex));
+    }
+
+    private String athletesUrl(String teamId) {
+        return "http://" + teamServiceHostAndPort + "/api/v1/" + teamId + "/athletes";
+    }
+}
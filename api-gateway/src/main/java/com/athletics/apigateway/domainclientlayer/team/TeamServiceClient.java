@@ -1,5 +1,6 @@
 package com.athletics.apigateway.domainclientlayer.team;
 
+import com.athletics.apigateway.domainclientlayer.SingleFlight;
 import com.athletics.apigateway.presentationlayer.team.TeamRequestModel;
 import com.athletics.apigateway.presentationlayer.team.TeamResponseModel;
 import com.athletics.apigateway.presentationlayer.team.AthleteRequestModel;
@@ -13,9 +14,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -28,14 +31,16 @@ public class TeamServiceClient {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
+    private final SingleFlight singleFlight;
     private final String teamServiceHostAndPort;
     private final String TEAM_SERVICE_BASE_URL;
 
-    public TeamServiceClient(RestTemplate restTemplate, ObjectMapper mapper,
+    public TeamServiceClient(RestTemplate restTemplate, ObjectMapper mapper, SingleFlight singleFlight,
                              @Value("${app.team-service.host}") String teamServiceHost,
                              @Value("${app.team-service.port}") String teamServicePort) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
+        this.singleFlight = singleFlight;
         this.teamServiceHostAndPort = teamServiceHost + ":" + teamServicePort;
         // Build the base URL for team endpoints.
         this.TEAM_SERVICE_BASE_URL = "http://" + teamServiceHostAndPort + "/api/v1/teams";
@@ -57,13 +62,27 @@ public class TeamServiceClient {
         }
     }
 
+    public List<TeamResponseModel> getTeamsByIds(List<String> teamIds) {
+        log.debug("Request received in API-Gateway Team Service Client: getTeamsByIds");
+        try {
+            String url = TEAM_SERVICE_BASE_URL + "/batch-get";
+            TeamResponseModel[] found =
+                    restTemplate.postForObject(url, teamIds, TeamResponseModel[].class);
+            return found != null ? new ArrayList<>(Arrays.asList(found)) : new ArrayList<>();
+        } catch (HttpClientErrorException ex) {
+            log.debug("Error Response Received in getTeamsByIds");
+            throw handleHttpClientException(ex);
+        }
+    }
+
     public TeamResponseModel getTeamById(String teamId) {
         log.debug("Request received in API-Gateway Team Service Client: getTeamById");
         try {
             String url = TEAM_SERVICE_BASE_URL + "/" + teamId;
             log.debug("Teams-Service URL is: " + url);
-            TeamResponseModel teamResponseModel =
-                    restTemplate.getForObject(url, TeamResponseModel.class);
+            byte[] body = singleFlight.execute("team.getTeamById", url,
+                    () -> restTemplate.getForObject(url, byte[].class));
+            TeamResponseModel teamResponseModel = decode(body, TeamResponseModel.class);
             log.debug("Successfully retrieved team with id: " + teamResponseModel.getTeamId());
             return teamResponseModel;
         } catch (HttpClientErrorException ex) {
@@ -94,7 +113,8 @@ public class TeamServiceClient {
             log.debug("Teams-Service URL for update is: " + url);
             restTemplate.put(url, team);
             log.debug("Successfully updated team with id: " + teamId);
-            return getTeamById(teamId);
+            // read back outside single-flight so the caller never joins a read that started before its write
+            return restTemplate.getForObject(url, TeamResponseModel.class);
         } catch (HttpClientErrorException ex) {
             log.debug("Error Response Received in updateTeam");
             throw handleHttpClientException(ex);
@@ -120,9 +140,9 @@ public class TeamServiceClient {
         try {
             String url = "http://" + teamServiceHostAndPort + "/api/v1/" + teamId + "/athletes";
             log.debug("Athletes-Service URL is: " + url);
-            ResponseEntity<AthleteResponseModel[]> responseEntity =
-                    restTemplate.getForEntity(url, AthleteResponseModel[].class);
-            AthleteResponseModel[] athletes = responseEntity.getBody();
+            byte[] body = singleFlight.execute("team.getAllAthletesForTeam", url,
+                    () -> restTemplate.getForObject(url, byte[].class));
+            AthleteResponseModel[] athletes = decode(body, AthleteResponseModel[].class);
             log.debug("Successfully retrieved athletes for team: " + teamId);
             return Arrays.asList(athletes);
         } catch (HttpClientErrorException ex) {
@@ -187,6 +207,18 @@ public class TeamServiceClient {
         }
     }
 
+    // shared single-flight responses are decoded per caller so each one gets objects it can add links to
+    private <T> T decode(byte[] body, Class<T> type) {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try {
+            return mapper.readValue(body, type);
+        } catch (IOException ex) {
+            throw new RestClientException("Could not decode team-service response", ex);
+        }
+    }
+
     private String getErrorMessage(HttpClientErrorException ex) {
         try {
             return mapper.readValue(ex.getResponseBodyAsString(), APIHttpErrorInfo.class).getMessage();
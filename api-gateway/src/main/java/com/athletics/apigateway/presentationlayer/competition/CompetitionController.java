@@ -2,12 +2,22 @@ package com.athletics.apigateway.presentationlayer.competition;
 
 import com.athletics.apigateway.businesslayer.competition.CompetitionService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 @RestController
+@Profile("!reactive")
 @Slf4j
 @RequestMapping("/api/v1/teams/{teamId}/competitions")
 public class CompetitionController {
@@ -20,9 +30,41 @@ public class CompetitionController {
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<List<CompetitionResponseModel>> getAllCompetitions(
-            @PathVariable String teamId) {
+            @PathVariable String teamId,
+            @RequestParam(required = false) Integer pageSize,
+            @RequestParam(required = false) String pageToken) {
+
+        if (pageSize == null && pageToken == null) {
+            return ResponseEntity.ok(service.getAllCompetitions(teamId));
+        }
+        CompetitionPage page = service.getCompetitionPage(teamId, pageSize, pageToken);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextPageToken() != null) {
+            response.header(CompetitionPage.NEXT_PAGE_TOKEN_HEADER, page.nextPageToken());
+        }
+        return response.body(page.competitions());
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportCompetitions(
+            @PathVariable String teamId,
+            WebRequest request) {
 
-        return ResponseEntity.ok(service.getAllCompetitions(teamId));
+        StreamingResponseBody body = service.exportCompetitions(teamId);
+        if (body instanceof Closeable relay) {
+            // runs after completion, timeout, error or client disconnect, including when the body never ran
+            WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(relay,
+                    new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task)
+                                throws IOException {
+                            relay.close();
+                        }
+                    });
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping(value = "/{competitionId}", produces = MediaType.APPLICATION_JSON_VALUE)
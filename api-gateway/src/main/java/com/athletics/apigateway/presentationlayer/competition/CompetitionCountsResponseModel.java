@@ -0,0 +1,22 @@
+package com.athletics.apigateway.presentationlayer.competition;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompetitionCountsResponseModel {
+    private String period;
+    private long total;
+    private Map<String, Long> byStatus;
+    private Map<String, Long> byResult;
+    private double winRatio;
+    private double lossRatio;
+    private double drawRatio;
+}
@@ -0,0 +1,8 @@
+package com.athletics.apigateway.presentationlayer.competition;
+
+import java.util.List;
+
+public record CompetitionPage(List<CompetitionResponseModel> competitions, String nextPageToken) {
+
+    public static final String NEXT_PAGE_TOKEN_HEADER = "X-Next-Page-Token";
+}
@@ -0,0 +1,35 @@
+package com.athletics.apigateway.presentationlayer.competition;
+
+import com.athletics.apigateway.businesslayer.competition.CompetitionService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/competition-statistics")
+public class CompetitionStatisticsController {
+
+    private final CompetitionService service;
+
+    public CompetitionStatisticsController(CompetitionService service) {
+        this.service = service;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CompetitionStatisticsResponseModel> getCompetitionStatistics(
+            @RequestParam(required = false) String groupBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String bucket) {
+
+        return ResponseEntity.ok(service.getCompetitionStatistics(groupBy, from, to, bucket));
+    }
+}
@@ -0,0 +1,19 @@
+package com.athletics.apigateway.presentationlayer.competition;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompetitionStatisticsGroupResponseModel {
+    private String key;
+    private String name;
+    private CompetitionCountsResponseModel totals;
+    private List<CompetitionCountsResponseModel> periods;
+}
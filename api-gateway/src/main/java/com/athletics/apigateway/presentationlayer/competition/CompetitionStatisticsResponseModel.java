@@ -0,0 +1,22 @@
+package com.athletics.apigateway.presentationlayer.competition;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompetitionStatisticsResponseModel {
+    private String groupBy;
+    private LocalDate from;
+    private LocalDate to;
+    private String bucket;
+    private CompetitionCountsResponseModel overall;
+    private List<CompetitionStatisticsGroupResponseModel> groups;
+}
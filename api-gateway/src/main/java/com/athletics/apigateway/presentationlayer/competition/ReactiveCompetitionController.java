@@ -0,0 +1,91 @@
+package com.athletics.apigateway.presentationlayer.competition;
+
+import com.athletics.apigateway.businesslayer.competition.ReactiveCompetitionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.*;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Slf4j
+@Profile("reactive")
+@RequestMapping("/api/v1/teams/{teamId}/competitions")
+public class ReactiveCompetitionController {
+
+    private final ReactiveCompetitionService service;
+
+    public ReactiveCompetitionController(ReactiveCompetitionService service) {
+        this.service = service;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Flux<CompetitionResponseModel>>> getAllCompetitions(
+            @PathVariable String teamId,
+            @RequestParam(required = false) Integer pageSize,
+            @RequestParam(required = false) String pageToken) {
+
+        if (pageSize == null && pageToken == null) {
+            return Mono.just(ResponseEntity.ok(service.getAllCompetitions(teamId)));
+        }
+        return service.getCompetitionPage(teamId, pageSize, pageToken)
+                .map(page -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                    if (page.nextPageToken() != null) {
+                        response.header(CompetitionPage.NEXT_PAGE_TOKEN_HEADER, page.nextPageToken());
+                    }
+                    return response.body(Flux.fromIterable(page.competitions()));
+                });
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<DataBuffer> exportCompetitions(
+            @PathVariable String teamId) {
+
+        return service.exportCompetitions(teamId);
+    }
+
+    @GetMapping(value = "/{competitionId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CompetitionResponseModel>> getCompetitionById(
+            @PathVariable String teamId,
+            @PathVariable String competitionId) {
+
+        return service.getCompetitionById(teamId, competitionId)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping(
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CompetitionResponseModel>> createCompetition(
+            @PathVariable String teamId,
+            @RequestBody CompetitionRequestModel request) {
+
+        return service.createCompetition(teamId, request)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+    }
+
+    @PutMapping(
+            value = "/{competitionId}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CompetitionResponseModel>> updateCompetition(
+            @PathVariable String teamId,
+            @PathVariable String competitionId,
+            @RequestBody CompetitionRequestModel request) {
+
+        return service.updateCompetition(teamId, competitionId, request)
+                .map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{competitionId}")
+    public Mono<ResponseEntity<Void>> deleteCompetition(
+            @PathVariable String teamId,
+            @PathVariable String competitionId) {
+
+        return service.deleteCompetition(teamId, competitionId)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+}
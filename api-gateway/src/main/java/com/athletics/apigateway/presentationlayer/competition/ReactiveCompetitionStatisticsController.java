@@ -0,0 +1,36 @@
+package com.athletics.apigateway.presentationlayer.competition;
+
+import com.athletics.apigateway.businesslayer.competition.ReactiveCompetitionService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/competition-statistics")
+public class ReactiveCompetitionStatisticsController {
+
+    private final ReactiveCompetitionService service;
+
+    public ReactiveCompetitionStatisticsController(ReactiveCompetitionService service) {
+        this.service = service;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CompetitionStatisticsResponseModel>> getCompetitionStatistics(
+            @RequestParam(required = false) String groupBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String bucket) {
+
+        return service.getCompetitionStatistics(groupBy, from, to, bucket).map(ResponseEntity::ok);
+    }
+}
@@ -2,6 +2,7 @@ package com.athletics.apigateway.presentationlayer.facility;
 
 import com.athletics.apigateway.businesslayer.facility.FacilityService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,6 +13,7 @@ import java.util.List;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 
 @RestController
+@Profile("!reactive")
 @Slf4j
 @RequestMapping("api/v1/facilities")
 public class FacilityController {
@@ -41,6 +43,12 @@ public class FacilityController {
         return ResponseEntity.ok(facility);
     }
 
+    @PostMapping(value = "/batch-get", consumes = "application/json", produces = "application/json")
+    public ResponseEntity<List<FacilityResponseModel>> getFacilitiesByIds(@RequestBody List<String> facilityIds) {
+        log.debug("Presentation Layer: getFacilitiesByIds() called");
+        return ResponseEntity.ok(facilityService.getFacilitiesByIds(facilityIds));
+    }
+
     @PostMapping(consumes = "application/json", produces = "application/json")
     public ResponseEntity<FacilityResponseModel> createFacility(@RequestBody FacilityRequestModel facilityRequestModel) {
         log.debug("Presentation Layer: createFacility() called");
@@ -0,0 +1,58 @@
+package com.athletics.apigateway.presentationlayer.facility;
+
+import com.athletics.apigateway.businesslayer.facility.ReactiveFacilityService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RestController
+@Profile("reactive")
+@RequestMapping("api/v1/facilities")
+public class ReactiveFacilityController {
+
+    private final ReactiveFacilityService facilityService;
+
+    public ReactiveFacilityController(ReactiveFacilityService facilityService) {
+        this.facilityService = facilityService;
+    }
+
+    @GetMapping
+    public Flux<FacilityResponseModel> getAllFacilities() {
+        log.debug("Presentation Layer: getAllFacilities() called");
+        return facilityService.getAllFacilities();
+    }
+
+    @GetMapping("/{facilityId}")
+    public Mono<ResponseEntity<FacilityResponseModel>> getFacilityById(@PathVariable String facilityId) {
+        log.debug("Presentation Layer: getFacilityById({}) called", facilityId);
+        return facilityService.getFacilityById(facilityId)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<FacilityResponseModel>> createFacility(@RequestBody FacilityRequestModel facilityRequestModel) {
+        log.debug("Presentation Layer: createFacility() called");
+        return facilityService.createFacility(facilityRequestModel)
+                .map(newFacility -> ResponseEntity.status(HttpStatus.CREATED).body(newFacility));
+    }
+
+    @PutMapping("/{facilityId}")
+    public Mono<ResponseEntity<FacilityResponseModel>> updateFacility(@PathVariable String facilityId,
+                                                                    @RequestBody FacilityRequestModel facilityRequestModel) {
+        log.debug("Presentation Layer: updateFacility({}) called", facilityId);
+        return facilityService.updateFacility(facilityId, facilityRequestModel)
+                .map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{facilityId}")
+    public Mono<ResponseEntity<Void>> deleteFacility(@PathVariable String facilityId) {
+        log.debug("Presentation Layer: deleteFacility({}) called", facilityId);
+        return facilityService.deleteFacility(facilityId)
+                .then(Mono.just(ResponseEntity.status(HttpStatus.NO_CONTENT).build()));
+    }
+}
@@ -0,0 +1,25 @@
+package com.athletics.apigateway.presentationlayer.gateway;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+@Configuration
+public class EtagFilterConfig {
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> etagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new ShallowEtagHeaderFilter() {
+                    @Override
+                    protected boolean shouldNotFilter(HttpServletRequest request) {
+                        // the competition export is relayed as a stream and would have to be buffered whole to be hashed
+                        return request.getRequestURI().endsWith("/export");
+                    }
+                });
+        registration.addUrlPatterns("/api/v1/*");
+        return registration;
+    }
+}
@@ -0,0 +1,52 @@
+package com.athletics.apigateway.presentationlayer.gateway;
+
+import com.athletics.apigateway.domainclientlayer.DownstreamRouteProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@Slf4j
+@RequestMapping("api/v1/gateway/http-pool")
+public class HttpPoolController {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final Map<HttpRoute, DownstreamRouteProperties> downstreamRoutes;
+
+    public HttpPoolController(PoolingHttpClientConnectionManager connectionManager,
+                              Map<HttpRoute, DownstreamRouteProperties> downstreamRoutes) {
+        this.connectionManager = connectionManager;
+        this.downstreamRoutes = downstreamRoutes;
+    }
+
+    @GetMapping(produces = "application/json")
+    public ResponseEntity<List<HttpPoolStatsResponseModel>> getPoolStats() {
+        log.debug("Presentation Layer: getPoolStats() called");
+        List<HttpPoolStatsResponseModel> stats = new ArrayList<>();
+        stats.add(toResponseModel("total", connectionManager.getTotalStats()));
+        for (HttpRoute route : downstreamRoutes.keySet()) {
+            stats.add(toResponseModel(route.getTargetHost().toHostString(), connectionManager.getStats(route)));
+        }
+        return ResponseEntity.ok(stats);
+    }
+
+    private HttpPoolStatsResponseModel toResponseModel(String route, PoolStats poolStats) {
+        double utilisation = poolStats.getMax() == 0 ? 0 : (double) poolStats.getLeased() / poolStats.getMax();
+        return new HttpPoolStatsResponseModel(
+                route,
+                poolStats.getLeased(),
+                poolStats.getPending(),
+                poolStats.getAvailable(),
+                poolStats.getMax(),
+                utilisation);
+    }
+}
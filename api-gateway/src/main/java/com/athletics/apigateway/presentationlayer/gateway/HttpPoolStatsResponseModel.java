@@ -0,0 +1,17 @@
+package com.athletics.apigateway.presentationlayer.gateway;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class HttpPoolStatsResponseModel {
+    private String route;
+    private int leased;
+    private int pending;
+    private int available;
+    private int max;
+    private double utilisation;
+}
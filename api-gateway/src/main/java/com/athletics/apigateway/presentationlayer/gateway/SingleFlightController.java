@@ -0,0 +1,35 @@
+package com.athletics.apigateway.presentationlayer.gateway;
+
+import com.athletics.apigateway.domainclientlayer.SingleFlight;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@Slf4j
+@RequestMapping("api/v1/gateway/single-flight")
+public class SingleFlightController {
+
+    private final SingleFlight singleFlight;
+
+    public SingleFlightController(SingleFlight singleFlight) {
+        this.singleFlight = singleFlight;
+    }
+
+    @GetMapping(produces = "application/json")
+    public ResponseEntity<List<SingleFlightStatsResponseModel>> getSingleFlightStats() {
+        log.debug("Presentation Layer: getSingleFlightStats() called");
+        List<SingleFlightStatsResponseModel> stats = singleFlight.getStats().entrySet().stream()
+                .map(entry -> new SingleFlightStatsResponseModel(
+                        entry.getKey(),
+                        entry.getValue().downstreamCalls(),
+                        entry.getValue().collapsedRequests(),
+                        entry.getValue().inFlight()))
+                .toList();
+        return ResponseEntity.ok(stats);
+    }
+}
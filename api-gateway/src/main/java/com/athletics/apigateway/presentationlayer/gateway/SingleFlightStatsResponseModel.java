@@ -0,0 +1,15 @@
+package com.athletics.apigateway.presentationlayer.gateway;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SingleFlightStatsResponseModel {
+    private String call;
+    private long downstreamCalls;
+    private long collapsedRequests;
+    private long inFlight;
+}
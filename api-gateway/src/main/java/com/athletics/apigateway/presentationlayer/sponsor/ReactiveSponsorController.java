@@ -0,0 +1,58 @@
+package com.athletics.apigateway.presentationlayer.sponsor;
+
+import com.athletics.apigateway.businesslayer.sponsor.ReactiveSponsorService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RestController
+@Profile("reactive")
+@RequestMapping("api/v1/sponsors")
+public class ReactiveSponsorController {
+
+    private final ReactiveSponsorService sponsorService;
+
+    public ReactiveSponsorController(ReactiveSponsorService sponsorService) {
+        this.sponsorService = sponsorService;
+    }
+
+    @GetMapping
+    public Flux<SponsorResponseModel> getAllSponsors() {
+        log.debug("Presentation Layer: getAllSponsors() called");
+        return sponsorService.getAllSponsors();
+    }
+
+    @GetMapping("/{sponsorId}")
+    public Mono<ResponseEntity<SponsorResponseModel>> getSponsorById(@PathVariable String sponsorId) {
+        log.debug("Presentation Layer: getSponsorById({}) called", sponsorId);
+        return sponsorService.getSponsorById(sponsorId)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<SponsorResponseModel>> createSponsor(@RequestBody SponsorRequestModel sponsorRequestModel) {
+        log.debug("Presentation Layer: createSponsor() called");
+        return sponsorService.createSponsor(sponsorRequestModel)
+                .map(newSponsor -> ResponseEntity.status(HttpStatus.CREATED).body(newSponsor));
+    }
+
+    @PutMapping("/{sponsorId}")
+    public Mono<ResponseEntity<SponsorResponseModel>> updateSponsor(@PathVariable String sponsorId,
+                                                                    @RequestBody SponsorRequestModel sponsorRequestModel) {
+        log.debug("Presentation Layer: updateSponsor({}) called", sponsorId);
+        return sponsorService.updateSponsor(sponsorId, sponsorRequestModel)
+                .map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{sponsorId}")
+    public Mono<ResponseEntity<Void>> deleteSponsor(@PathVariable String sponsorId) {
+        log.debug("Presentation Layer: deleteSponsor({}) called", sponsorId);
+        return sponsorService.deleteSponsor(sponsorId)
+                .then(Mono.just(ResponseEntity.status(HttpStatus.NO_CONTENT).build()));
+    }
+}
@@ -2,6 +2,7 @@ package com.athletics.apigateway.presentationlayer.sponsor;
 
 import com.athletics.apigateway.businesslayer.sponsor.SponsorService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -10,6 +11,7 @@ import java.util.List;
 
 @Slf4j
 @RestController
+@Profile("!reactive")
 @RequestMapping("api/v1/sponsors")
 public class SponsorController {
 
@@ -33,6 +35,12 @@ public class SponsorController {
         return ResponseEntity.status(HttpStatus.OK).body(sponsor);
     }
 
+    @PostMapping("/batch-get")
+    public ResponseEntity<List<SponsorResponseModel>> getSponsorsByIds(@RequestBody List<String> sponsorIds) {
+        log.debug("Presentation Layer: getSponsorsByIds() called");
+        return ResponseEntity.ok(sponsorService.getSponsorsByIds(sponsorIds));
+    }
+
     @PostMapping
     public ResponseEntity<SponsorResponseModel> createSponsor(@RequestBody SponsorRequestModel sponsorRequestModel) {
         log.debug("Presentation Layer: createSponsor() called");
@@ -3,6 +3,7 @@ package com.athletics.apigateway.presentationlayer.team;
 
 import com.athletics.apigateway.businesslayer.team.TeamService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +15,7 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 
 @Slf4j
 @RestController
+@Profile("!reactive")
 @RequestMapping("api/v1/teams/{teamId}/athletes")
 public class AthleteController {
 
@@ -0,0 +1,63 @@
+package com.athletics.apigateway.presentationlayer.team;
+
+
+import com.athletics.apigateway.businesslayer.team.ReactiveTeamService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RestController
+@Profile("reactive")
+@RequestMapping("api/v1/teams/{teamId}/athletes")
+public class ReactiveAthleteController {
+
+    private final ReactiveTeamService teamService;
+
+    public ReactiveAthleteController(ReactiveTeamService teamService) {
+        this.teamService = teamService;
+    }
+
+    @GetMapping
+    public Flux<AthleteResponseModel> getAllAthletes(@PathVariable String teamId) {
+        log.debug("Presentation Layer: getAllAthletes() called for team {}", teamId);
+        return teamService.getAllAthletes(teamId);
+    }
+
+    @GetMapping("/{athleteId}")
+    public Mono<ResponseEntity<AthleteResponseModel>> getAthleteById(@PathVariable String teamId,
+                                                                     @PathVariable String athleteId) {
+        log.debug("Presentation Layer: getAthleteById({}, {}) called", teamId, athleteId);
+        return teamService.getAthleteById(teamId, athleteId)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<AthleteResponseModel>> createAthlete(@PathVariable String teamId,
+                                                                    @RequestBody AthleteRequestModel athleteRequestModel) {
+        log.debug("Presentation Layer: createAthlete() called for team {}", teamId);
+        return teamService.createAthlete(teamId, athleteRequestModel)
+                .map(newAthlete -> ResponseEntity.status(HttpStatus.CREATED).body(newAthlete));
+    }
+
+    @PutMapping("/{athleteId}")
+    public Mono<ResponseEntity<AthleteResponseModel>> updateAthlete(@PathVariable String teamId,
+                                                                    @PathVariable String athleteId,
+                                                                    @RequestBody AthleteRequestModel athleteRequestModel) {
+        log.debug("Presentation Layer: updateAthlete({}, {}) called", teamId, athleteId);
+        return teamService.updateAthlete(teamId, athleteId, athleteRequestModel)
+                .map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{athleteId}")
+    public Mono<ResponseEntity<Void>> deleteAthlete(@PathVariable String teamId,
+                                                    @PathVariable String athleteId) {
+        log.debug("Presentation Layer: deleteAthlete({}, {}) called", teamId, athleteId);
+        return teamService.deleteAthlete(teamId, athleteId)
+                .then(Mono.just(ResponseEntity.status(HttpStatus.NO_CONTENT).build()));
+    }
+}
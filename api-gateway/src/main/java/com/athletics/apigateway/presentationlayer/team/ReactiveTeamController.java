@@ -0,0 +1,59 @@
+package com.athletics.apigateway.presentationlayer.team;
+
+
+import com.athletics.apigateway.businesslayer.team.ReactiveTeamService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Slf4j
+@Profile("reactive")
+@RequestMapping("api/v1/teams")
+public class ReactiveTeamController {
+
+    private final ReactiveTeamService teamService;
+
+    public ReactiveTeamController(ReactiveTeamService teamService) {
+        this.teamService = teamService;
+    }
+
+    @GetMapping
+    public Flux<TeamResponseModel> getAllTeams() {
+        log.debug("Presentation Layer: getAllTeams() called");
+        return teamService.getAllTeams();
+    }
+
+    @GetMapping("/{teamId}")
+    public Mono<ResponseEntity<TeamResponseModel>> getTeamById(@PathVariable String teamId) {
+        log.debug("Presentation Layer: getTeamById({}) called", teamId);
+        return teamService.getTeamById(teamId)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<TeamResponseModel>> createTeam(@RequestBody TeamRequestModel teamRequestModel) {
+        log.debug("Presentation Layer: createTeam() called");
+        return teamService.createTeam(teamRequestModel)
+                .map(newTeam -> ResponseEntity.status(HttpStatus.CREATED).body(newTeam));
+    }
+
+    @PutMapping("/{teamId}")
+    public Mono<ResponseEntity<TeamResponseModel>> updateTeam(@PathVariable String teamId,
+                                                              @RequestBody TeamRequestModel teamRequestModel) {
+        log.debug("Presentation Layer: updateTeam({}) called", teamId);
+        return teamService.updateTeam(teamId, teamRequestModel)
+                .map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{teamId}")
+    public Mono<ResponseEntity<Void>> deleteTeam(@PathVariable String teamId) {
+        log.debug("Presentation Layer: deleteTeam({}) called", teamId);
+        return teamService.deleteTeam(teamId)
+                .then(Mono.just(ResponseEntity.status(HttpStatus.NO_CONTENT).build()));
+    }
+}
@@ -3,6 +3,7 @@ package com.athletics.apigateway.presentationlayer.team;
 
 import com.athletics.apigateway.businesslayer.team.TeamService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +12,7 @@ import java.util.List;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 
 @RestController
+@Profile("!reactive")
 @Slf4j
 @RequestMapping("api/v1/teams")
 public class TeamController {
@@ -37,6 +39,12 @@ public class TeamController {
         return ResponseEntity.ok(team);
     }
 
+    @PostMapping("/batch-get")
+    public ResponseEntity<List<TeamResponseModel>> getTeamsByIds(@RequestBody List<String> teamIds) {
+        log.debug("Presentation Layer: getTeamsByIds() called");
+        return ResponseEntity.ok(teamService.getTeamsByIds(teamIds));
+    }
+
     @PostMapping
     public ResponseEntity<TeamResponseModel> createTeam(@RequestBody TeamRequestModel teamRequestModel) {
         log.debug("Presentation Layer: createTeam() called");
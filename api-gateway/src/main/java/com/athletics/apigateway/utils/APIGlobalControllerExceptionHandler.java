@@ -7,16 +7,28 @@ import com.athletics.apigateway.utils.exceptions.DuplicateVinException;
 import com.athletics.apigateway.utils.exceptions.InvalidInputException;
 import com.athletics.apigateway.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.context.request.WebRequest;
 
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+
+import static org.springframework.http.HttpStatus.BAD_GATEWAY;
+import static org.springframework.http.HttpStatus.GATEWAY_TIMEOUT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
 @RestControllerAdvice
+@Profile("!reactive")
 @Slf4j
 public class APIGlobalControllerExceptionHandler {
 
@@ -38,6 +50,26 @@ public class APIGlobalControllerExceptionHandler {
         return createHttpErrorInfo(UNPROCESSABLE_ENTITY, request, ex);
     }
 
+    @ExceptionHandler(ResourceAccessException.class)
+    public ResponseEntity<APIHttpErrorInfo> handleResourceAccessException(WebRequest request, Exception ex) {
+        HttpStatus httpStatus = downstreamFailureStatus(ex);
+        return ResponseEntity.status(httpStatus).body(createHttpErrorInfo(httpStatus, request, ex));
+    }
+
+    // only a downstream that took too long to answer, or a pool that took too long to lend a connection, is a
+    // timeout; an unreachable downstream is unavailable and a broken exchange (reset, bad response) a bad gateway
+    private static HttpStatus downstreamFailureStatus(Throwable ex) {
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectTimeoutException || cause instanceof ConnectException) {
+                return SERVICE_UNAVAILABLE;
+            }
+            if (cause instanceof SocketTimeoutException || cause instanceof ConnectionRequestTimeoutException) {
+                return GATEWAY_TIMEOUT;
+            }
+        }
+        return BAD_GATEWAY;
+    }
+
 
 
     private APIHttpErrorInfo createHttpErrorInfo(HttpStatus httpStatus, WebRequest request, Exception ex) {
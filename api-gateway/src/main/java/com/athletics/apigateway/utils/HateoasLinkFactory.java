@@ -0,0 +1,147 @@
+package com.athletics.apigateway.utils;
+
+import com.athletics.apigateway.presentationlayer.competition.CompetitionController;
+import com.athletics.apigateway.presentationlayer.facility.FacilityController;
+import com.athletics.apigateway.presentationlayer.sponsor.SponsorController;
+import com.athletics.apigateway.presentationlayer.team.AthleteController;
+import com.athletics.apigateway.presentationlayer.team.TeamController;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+// resolves each controller link template once through linkTo(methodOn(...)) and then expands it per element with plain
+// string building; hrefs match WebMvcLinkBuilder's: same request base, strict path-segment encoding, and a null value
+// leaves its {variable} in place
+@Component
+public class HateoasLinkFactory {
+
+    private static final String BASE_URI_ATTRIBUTE = HateoasLinkFactory.class.getName() + ".baseUri";
+
+    private final LinkTemplate teamById;
+    private final LinkTemplate allTeams;
+    private final LinkTemplate athleteById;
+    private final LinkTemplate allAthletes;
+    private final LinkTemplate competitionById;
+    private final LinkTemplate allCompetitions;
+    private final LinkTemplate sponsorById;
+    private final LinkTemplate allSponsors;
+    private final LinkTemplate facilityById;
+    private final LinkTemplate allFacilities;
+
+    public HateoasLinkFactory() {
+        teamById        = LinkTemplate.of(linkTo(methodOn(TeamController.class).getTeamById(null)));
+        allTeams        = LinkTemplate.of(linkTo(methodOn(TeamController.class).getAllTeams()));
+        athleteById     = LinkTemplate.of(linkTo(methodOn(AthleteController.class).getAthleteById(null, null)));
+        allAthletes     = LinkTemplate.of(linkTo(methodOn(AthleteController.class).getAllAthletes(null)));
+        competitionById = LinkTemplate.of(linkTo(methodOn(CompetitionController.class).getCompetitionById(null, null)));
+        allCompetitions = LinkTemplate.of(linkTo(methodOn(CompetitionController.class).getAllCompetitions(null, null, null)));
+        sponsorById     = LinkTemplate.of(linkTo(methodOn(SponsorController.class).getSponsorById(null)));
+        allSponsors     = LinkTemplate.of(linkTo(methodOn(SponsorController.class).getAllSponsors()));
+        facilityById    = LinkTemplate.of(linkTo(methodOn(FacilityController.class).getFacilityById(null)));
+        allFacilities   = LinkTemplate.of(linkTo(methodOn(FacilityController.class).getAllFacilities()));
+    }
+
+    public Link teamById(String teamId) {
+        return teamById.expand(teamId);
+    }
+
+    public Link allTeams() {
+        return allTeams.expand();
+    }
+
+    public Link athleteById(String teamId, String athleteId) {
+        return athleteById.expand(teamId, athleteId);
+    }
+
+    public Link allAthletes(String teamId) {
+        return allAthletes.expand(teamId);
+    }
+
+    public Link competitionById(String teamId, String competitionId) {
+        return competitionById.expand(teamId, competitionId);
+    }
+
+    public Link allCompetitions(String teamId) {
+        return allCompetitions.expand(teamId);
+    }
+
+    public Link sponsorById(String sponsorId) {
+        return sponsorById.expand(sponsorId);
+    }
+
+    public Link allSponsors() {
+        return allSponsors.expand();
+    }
+
+    public Link facilityById(String facilityId) {
+        return facilityById.expand(facilityId);
+    }
+
+    public Link allFacilities() {
+        return allFacilities.expand();
+    }
+
+    // scheme, host, port and context path of the current request, looked up once per request like WebMvcLinkBuilder does
+    private static String baseUri() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return "";
+        }
+        if (attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof String baseUri) {
+            return baseUri;
+        }
+        String baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().build().toUriString();
+        attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+        return baseUri;
+    }
+
+    private record LinkTemplate(String[] literals, String[] variables) {
+
+        // path variables only; a trailing {?...} for optional request params stays literal, as linkTo renders it
+        private static final Pattern PATH_VARIABLE = Pattern.compile("\\{([^?}][^}]*)}");
+
+        static LinkTemplate of(WebMvcLinkBuilder builder) {
+            String template = builder.withSelfRel().getHref();
+            if (!template.startsWith("/")) {
+                throw new IllegalStateException("Link templates must be resolved outside a request, got " + template);
+            }
+            List<String> literals = new ArrayList<>();
+            List<String> variables = new ArrayList<>();
+            Matcher matcher = PATH_VARIABLE.matcher(template);
+            int from = 0;
+            while (matcher.find()) {
+                literals.add(template.substring(from, matcher.start()));
+                variables.add(matcher.group(1));
+                from = matcher.end();
+            }
+            literals.add(template.substring(from));
+            return new LinkTemplate(literals.toArray(String[]::new), variables.toArray(String[]::new));
+        }
+
+        Link expand(String... values) {
+            StringBuilder href = new StringBuilder(128).append(baseUri());
+            for (int i = 0; i < variables.length; i++) {
+                href.append(literals[i]);
+                if (values[i] == null) {
+                    href.append('{').append(variables[i]).append('}');
+                } else {
+                    href.append(UriUtils.encode(values[i], StandardCharsets.UTF_8));
+                }
+            }
+            return Link.of(href.append(literals[variables.length]).toString());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.athletics.apigateway.domainclientlayer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RelayedResponseBodyTest {
+
+    private static final String NDJSON = "{\"competitionId\":\"c1\"}\n{\"competitionId\":\"c2\"}\n";
+
+    @Test
+    void whenBodyIsWritten_thenItIsCopiedAndTheResponseClosed() throws IOException {
+        ClientHttpResponse response = response();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        new RelayedResponseBody(response).writeTo(out);
+
+        assertEquals(NDJSON, out.toString(StandardCharsets.UTF_8));
+        verify(response).close();
+    }
+
+    @Test
+    void whenBodyIsNeverWritten_thenCloseReleasesTheResponse() throws IOException {
+        ClientHttpResponse response = response();
+
+        new RelayedResponseBody(response).close();
+
+        verify(response).close();
+        verify(response, never()).getBody();
+    }
+
+    @Test
+    void whenClientDisconnectsMidStream_thenTheResponseIsClosedOnce() throws IOException {
+        ClientHttpResponse response = response();
+        RelayedResponseBody body = new RelayedResponseBody(response);
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(IOException.class, () -> body.writeTo(broken));
+        body.close();
+
+        verify(response, times(1)).close();
+    }
+
+    private static ClientHttpResponse response() throws IOException {
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getBody()).thenReturn(new ByteArrayInputStream(NDJSON.getBytes(StandardCharsets.UTF_8)));
+        return response;
+    }
+}
@@ -0,0 +1,81 @@
+package com.athletics.apigateway.domainclientlayer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final String CALL = "team.getTeam";
+    private static final String URL  = "http://localhost:7001/api/v1/teams/11111111-1111-1111-1111-111111111111";
+
+    private final SingleFlight singleFlight = new SingleFlight(true, SingleFlight.KeyScope.URL);
+
+    @Test
+    void whenSharedCallSucceeds_thenJoinedCallersGetTheSameResult() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = callers.submit(() -> singleFlight.execute(CALL, URL, () -> {
+                awaitCollapsed(1);
+                return "team";
+            }));
+            awaitInFlight();
+            Future<String> follower = callers.submit(() -> singleFlight.execute(CALL, URL, () -> "second call"));
+
+            assertEquals("team", leader.get(10, TimeUnit.SECONDS));
+            assertEquals("team", follower.get(10, TimeUnit.SECONDS));
+            assertEquals(1, singleFlight.getStats().get(CALL).downstreamCalls());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void whenSharedCallThrowsAnError_thenJoinedCallersFailInsteadOfWaiting() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = callers.submit(() -> singleFlight.execute(CALL, URL, () -> {
+                awaitCollapsed(1);
+                throw new StackOverflowError("decoding");
+            }));
+            awaitInFlight();
+            Future<String> follower = callers.submit(() -> singleFlight.execute(CALL, URL, () -> "second call"));
+
+            ExecutionException leaderFailure = assertThrows(ExecutionException.class,
+                    () -> leader.get(10, TimeUnit.SECONDS));
+            ExecutionException followerFailure = assertThrows(ExecutionException.class,
+                    () -> follower.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(StackOverflowError.class, leaderFailure.getCause());
+            assertInstanceOf(StackOverflowError.class, followerFailure.getCause());
+            assertEquals(0, singleFlight.getStats().get(CALL).inFlight());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while ((singleFlight.getStats().get(CALL) == null || singleFlight.getStats().get(CALL).inFlight() == 0)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void awaitCollapsed(long expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (singleFlight.getStats().get(CALL).collapsedRequests() < expected && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import static org.springframework.test.web.client.ExpectedCount.once;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
 
+import com.athletics.apigateway.domainclientlayer.competition.CompetitionServiceClient;
 import com.athletics.apigateway.domainclientlayer.competition.CompetitionStatusEnum;
 import com.athletics.apigateway.domainclientlayer.competition.CompetitionResultEnum;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,11 +23,15 @@ import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestTemplate;
 
 import java.net.URI;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
@@ -41,10 +46,15 @@ class CompetitionControllerIntegrationTest {
     @Autowired
     private ObjectMapper mapper;
 
+    @Autowired
+    private CompetitionServiceClient competitionServiceClient;
+
     private MockRestServiceServer mockServer;
 
     private static final String BASE_URI                 = "/api/v1/teams";
     private static final String SERVICE_BASE_URI         = "http://localhost:7004/api/v1/teams";
+    private static final String STATISTICS_URI           = "/api/v1/competition-statistics";
+    private static final String SERVICE_STATISTICS_URI   = "http://localhost:7004/api/v1/competition-statistics";
     private static final String VALID_TEAM_ID            = "11111111-1111-1111-1111-111111111111";
     private static final String VALID_COMPETITION_ID     = "aaaaaaa1-1aaa-1aaa-1aaa-aaaaaaaaaaa1";
     private static final String NOT_FOUND_COMPETITION_ID = "aaaaaaa1-1aaa-1aaa-1aaa-aaaaaaaaaaa3";
@@ -64,6 +74,8 @@ class CompetitionControllerIntegrationTest {
         }
 
         mockServer = MockRestServiceServer.createServer(restTemplate);
+        // the export relay's RestClient copied the request factory before the mock server replaced it
+        ReflectionTestUtils.setField(competitionServiceClient, "restClient", RestClient.create(restTemplate));
     }
 
     // --- GET ALL ---
@@ -100,6 +112,77 @@ class CompetitionControllerIntegrationTest {
         mockServer.verify();
     }
 
+    @Test
+    void whenGetCompetitionPage_thenPassTokenThroughBothWays() throws Exception {
+        CompetitionResponseModel resp = CompetitionResponseModel.builder()
+                .competitionId(VALID_COMPETITION_ID)
+                .competitionName("Spring Invitational")
+                .competitionDate(LocalDate.of(2025, 6, 1))
+                .teamId(VALID_TEAM_ID)
+                .build();
+
+        mockServer.expect(once(),
+                        requestTo(new URI(SERVICE_BASE_URI + "/" + VALID_TEAM_ID
+                                + "/competitions?pageSize=1&pageToken=abc")))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(
+                        mapper.writeValueAsString(new CompetitionResponseModel[] { resp }),
+                        MediaType.APPLICATION_JSON)
+                        .header("X-Next-Page-Token", "def"));
+
+        webClient.get()
+                .uri(BASE_URI + "/" + VALID_TEAM_ID + "/competitions?pageSize=1&pageToken=abc")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Page-Token", "def")
+                .expectBodyList(CompetitionResponseModel.class)
+                .hasSize(1);
+
+        mockServer.verify();
+    }
+
+    @Test
+    void whenExportCompetitions_thenRelayNdjsonBody() throws Exception {
+        String ndjson = "{\"competitionId\":\"" + VALID_COMPETITION_ID + "\"}\n"
+                + "{\"competitionId\":\"" + NOT_FOUND_COMPETITION_ID + "\"}\n";
+
+        mockServer.expect(once(),
+                        requestTo(new URI(SERVICE_BASE_URI + "/" + VALID_TEAM_ID + "/competitions/export")))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(ndjson, MediaType.APPLICATION_NDJSON));
+
+        webClient.get()
+                .uri(BASE_URI + "/" + VALID_TEAM_ID + "/competitions/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .isEqualTo(ndjson);
+
+        mockServer.verify();
+    }
+
+    @Test
+    void whenExportCompetitionsForUnknownTeam_thenReturnNotFound() throws Exception {
+        mockServer.expect(once(),
+                        requestTo(new URI(SERVICE_BASE_URI + "/" + VALID_TEAM_ID + "/competitions/export")))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"message\":\"Unknown teamId: " + VALID_TEAM_ID + "\"}"));
+
+        webClient.get()
+                .uri(BASE_URI + "/" + VALID_TEAM_ID + "/competitions/export")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Unknown teamId: " + VALID_TEAM_ID);
+
+        mockServer.verify();
+    }
+
     @Test
     void whenGetAllCompetitionsWithInvalidTeamId_thenReturnUnprocessableEntity() {
         webClient.get()
@@ -357,4 +440,63 @@ class CompetitionControllerIntegrationTest {
 
         mockServer.verify();
     }
+
+    // --- STATISTICS ---
+    @Test
+    void whenGetCompetitionStatistics_thenForwardFiltersAndReturnCounts() throws Exception {
+        CompetitionCountsResponseModel totals = CompetitionCountsResponseModel.builder()
+                .total(4)
+                .byStatus(Map.of("COMPLETED", 4L))
+                .byResult(Map.of("WIN", 3L, "LOSS", 1L, "DRAW", 0L))
+                .winRatio(0.75)
+                .lossRatio(0.25)
+                .build();
+        CompetitionCountsResponseModel june = CompetitionCountsResponseModel.builder()
+                .period("2025-06")
+                .total(4)
+                .build();
+        CompetitionStatisticsResponseModel resp = CompetitionStatisticsResponseModel.builder()
+                .groupBy("SPONSOR")
+                .from(LocalDate.of(2025, 6, 1))
+                .to(LocalDate.of(2025, 6, 30))
+                .bucket("MONTH")
+                .overall(totals)
+                .groups(List.of(new CompetitionStatisticsGroupResponseModel("s1", "Nike", totals, List.of(june))))
+                .build();
+
+        mockServer.expect(once(),
+                        requestTo(new URI(SERVICE_STATISTICS_URI
+                                + "?groupBy=sponsor&from=2025-06-01&to=2025-06-30&bucket=month")))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(mapper.writeValueAsString(resp), MediaType.APPLICATION_JSON));
+
+        webClient.get()
+                .uri(STATISTICS_URI + "?groupBy=sponsor&from=2025-06-01&to=2025-06-30&bucket=month")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CompetitionStatisticsResponseModel.class)
+                .isEqualTo(resp);
+
+        mockServer.verify();
+    }
+
+    @Test
+    void whenGetCompetitionStatisticsRejectedByService_thenReturnUnprocessableEntity() throws Exception {
+        mockServer.expect(once(), requestTo(new URI(SERVICE_STATISTICS_URI + "?groupBy=coach")))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"message\":\"groupBy must be one of [TEAM, FACILITY, SPONSOR]: coach\"}"));
+
+        webClient.get()
+                .uri(STATISTICS_URI + "?groupBy=coach")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("groupBy must be one of [TEAM, FACILITY, SPONSOR]: coach");
+
+        mockServer.verify();
+    }
 }
@@ -39,7 +39,7 @@ class CompetitionControllerUnitTest {
                 .thenReturn(Collections.emptyList());
 
         ResponseEntity<List<CompetitionResponseModel>> resp =
-                competitionController.getAllCompetitions(VALID_TEAM_ID);
+                competitionController.getAllCompetitions(VALID_TEAM_ID, null, null);
 
         assertEquals(HttpStatus.OK, resp.getStatusCode());
         assertNotNull(resp.getBody());
@@ -54,7 +54,7 @@ class CompetitionControllerUnitTest {
 
         InvalidInputException ex = assertThrows(
                 InvalidInputException.class,
-                () -> competitionController.getAllCompetitions(INVALID_TEAM_ID)
+                () -> competitionController.getAllCompetitions(INVALID_TEAM_ID, null, null)
         );
         assertEquals("Invalid teamId: " + INVALID_TEAM_ID, ex.getMessage());
         verify(competitionService).getAllCompetitions(INVALID_TEAM_ID);
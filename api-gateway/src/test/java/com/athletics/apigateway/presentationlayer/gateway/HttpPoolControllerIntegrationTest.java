@@ -0,0 +1,43 @@
+package com.athletics.apigateway.presentationlayer.gateway;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "app.team-service.max-connections=7")
+class HttpPoolControllerIntegrationTest {
+
+    @Autowired WebTestClient webClient;
+
+    private static final String BASE_URI = "/api/v1/gateway/http-pool";
+
+    @Test
+    void whenGetPoolStats_thenReturnTotalAndPerRouteLimits() {
+        webClient.get()
+                .uri(BASE_URI)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(HttpPoolStatsResponseModel.class)
+                .value(stats -> {
+                    assertEquals(5, stats.size());
+                    assertEquals("total", stats.get(0).getRoute());
+                    assertEquals(67, stats.get(0).getMax());
+
+                    HttpPoolStatsResponseModel team = stats.stream()
+                            .filter(s -> s.getRoute().equals("localhost:7001"))
+                            .findFirst()
+                            .orElseThrow();
+                    assertEquals(7, team.getMax());
+                    assertEquals(0, team.getLeased());
+                });
+    }
+}
@@ -0,0 +1,69 @@
+package com.athletics.apigateway.presentationlayer.gateway;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.client.RestTemplate;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@AutoConfigureObservability
+class MetricsEndpointIntegrationTest {
+
+    @Autowired WebTestClient webClient;
+    @Autowired RestTemplate restTemplate;
+
+    private static final String VALID_TEAM_ID = "11111111-1111-1111-1111-111111111111";
+
+    @Test
+    void whenScrapingPrometheus_thenServerClientAndPoolMetricsAreExposed() {
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(once(), requestTo("http://localhost:7001/api/v1/teams/" + VALID_TEAM_ID))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("{\"teamId\":\"" + VALID_TEAM_ID + "\",\"teamName\":\"Eagles\"}",
+                        MediaType.APPLICATION_JSON));
+
+        webClient.get().uri("/api/v1/teams/" + VALID_TEAM_ID)
+                .exchange()
+                .expectStatus().isOk();
+        mockServer.verify();
+
+        // server timers stop after the response is flushed, so the second scrape is the one guaranteed to see the first
+        scrape();
+        String scrape = scrape();
+
+        assertNotNull(scrape);
+        String clientSeries = scrape.lines()
+                .filter(line -> line.startsWith("http_client_requests_seconds_count{"))
+                .filter(line -> line.contains("service=\"team-service\""))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no team-service client timer in scrape"));
+        assertTrue(clientSeries.contains("uri=\"/api/v1/teams/{id}\""), clientSeries);
+        assertTrue(scrape.contains("http_server_requests_seconds_bucket{"));
+        assertTrue(scrape.contains("uri=\"/actuator/prometheus\""));
+        assertTrue(scrape.contains("le=\"+Inf\""));
+        assertTrue(scrape.contains("httpcomponents_httpclient_pool_total_max{"));
+        assertTrue(scrape.contains("jvm_gc_"));
+        assertTrue(scrape.contains("application=\"api-gateway\""));
+    }
+
+    private String scrape() {
+        return webClient.get().uri("/actuator/prometheus")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+    }
+}
@@ -0,0 +1,107 @@
+package com.athletics.apigateway.presentationlayer.gateway;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import com.athletics.apigateway.domainclientlayer.SingleFlight;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class SingleFlightControllerIntegrationTest {
+
+    @Autowired WebTestClient webClient;
+    @Autowired RestTemplate restTemplate;
+    @Autowired SingleFlight singleFlight;
+
+    private static final String BASE_URI         = "/api/v1/gateway/single-flight";
+    private static final String VALID_TEAM_ID    = "11111111-1111-1111-1111-111111111111";
+    private static final String COMPETITION_ID   = "aaaaaaa1-1aaa-1aaa-1aaa-aaaaaaaaaaa1";
+    private static final String SERVICE_URI      = "http://localhost:7004/api/v1/teams/" + VALID_TEAM_ID + "/competitions";
+    private static final String CALL             = "competition.getAllCompetitions";
+    private static final int CALLERS             = 6;
+
+    @Test
+    void whenConcurrentIdenticalReads_thenOneDownstreamCallIsShared() throws Exception {
+        SingleFlight.FlightStatsSnapshot before = statsFor(CALL);
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(once(), requestTo(SERVICE_URI))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(request -> {
+                    // hold the shared call open until every other caller has joined it
+                    awaitCollapsed(before.collapsedRequests() + CALLERS - 1);
+                    return withSuccess("[{\"competitionId\":\"" + COMPETITION_ID + "\",\"teamId\":\""
+                            + VALID_TEAM_ID + "\"}]", MediaType.APPLICATION_JSON).createResponse(request);
+                });
+
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<?>> responses = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                responses.add(callers.submit(() -> webClient.get()
+                        .uri("/api/v1/teams/" + VALID_TEAM_ID + "/competitions")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .exchange()
+                        .expectStatus().isOk()
+                        .expectBody()
+                        .jsonPath("$[0].competitionId").isEqualTo(COMPETITION_ID)
+                        .jsonPath("$[0].links.length()").isEqualTo(2)));
+            }
+            for (Future<?> response : responses) {
+                response.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        mockServer.verify();
+
+        webClient.get()
+                .uri(BASE_URI)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(SingleFlightStatsResponseModel.class)
+                .value(stats -> {
+                    SingleFlightStatsResponseModel competitions = stats.stream()
+                            .filter(s -> s.getCall().equals(CALL))
+                            .findFirst()
+                            .orElseThrow();
+                    assertEquals(before.downstreamCalls() + 1, competitions.getDownstreamCalls());
+                    assertEquals(before.collapsedRequests() + CALLERS - 1, competitions.getCollapsedRequests());
+                    assertEquals(0, competitions.getInFlight());
+                });
+    }
+
+    private SingleFlight.FlightStatsSnapshot statsFor(String call) {
+        return singleFlight.getStats().getOrDefault(call, new SingleFlight.FlightStatsSnapshot(0, 0, 0));
+    }
+
+    private void awaitCollapsed(long expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (statsFor(CALL).collapsedRequests() < expected && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.athletics.apigateway.presentationlayer.gateway;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.client.RestTemplate;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.tracing.file.enabled=false")
+@ActiveProfiles("test")
+@AutoConfigureObservability
+class TracePropagationIntegrationTest {
+
+    @Autowired WebTestClient webClient;
+    @Autowired RestTemplate restTemplate;
+    @Autowired SdkTracerProvider tracerProvider;
+    @Autowired InMemorySpanExporter spanExporter;
+
+    private static final String VALID_TEAM_ID = "22222222-2222-2222-2222-222222222222";
+    private static final String INCOMING_TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @Test
+    void whenCallerSendsTraceparent_thenGatewayContinuesTraceIntoDownstreamCall() throws InterruptedException {
+        AtomicReference<String> forwarded = new AtomicReference<>();
+        MockRestServiceServer mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(once(), requestTo("http://localhost:7001/api/v1/teams/" + VALID_TEAM_ID))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(request -> forwarded.set(request.getHeaders().getFirst("traceparent")))
+                .andRespond(withSuccess("{\"teamId\":\"" + VALID_TEAM_ID + "\",\"teamName\":\"Eagles\"}",
+                        MediaType.APPLICATION_JSON));
+
+        webClient.get().uri("/api/v1/teams/" + VALID_TEAM_ID)
+                .header("traceparent", "00-" + INCOMING_TRACE_ID + "-00f067aa0ba902b7-01")
+                .exchange()
+                .expectStatus().isOk();
+        mockServer.verify();
+
+        assertNotNull(forwarded.get());
+        assertTrue(forwarded.get().matches("00-" + INCOMING_TRACE_ID + "-[0-9a-f]{16}-01"), forwarded.get());
+
+        List<SpanData> spans = finishedSpans(INCOMING_TRACE_ID);
+
+        SpanData server = spans.stream().filter(span -> span.getKind() == SpanKind.SERVER).findFirst()
+                .orElseThrow(() -> new AssertionError("no server span in " + spans));
+        SpanData service = spans.stream().filter(span -> span.getName().equals("team-service-impl#get-team-by-id"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no service span in " + spans));
+        SpanData client = spans.stream().filter(span -> span.getKind() == SpanKind.CLIENT).findFirst()
+                .orElseThrow(() -> new AssertionError("no client span in " + spans));
+
+        assertEquals("00f067aa0ba902b7", server.getParentSpanId());
+        assertEquals(server.getSpanId(), service.getParentSpanId());
+        assertEquals(service.getSpanId(), client.getParentSpanId());
+        assertTrue(forwarded.get().contains(client.getSpanId()));
+    }
+
+    // the server span ends after the response is written, so it can trail the client by a moment
+    private List<SpanData> finishedSpans(String traceId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+            List<SpanData> spans = spanExporter.getFinishedSpanItems().stream()
+                    .filter(span -> span.getTraceId().equals(traceId))
+                    .toList();
+            if (spans.stream().anyMatch(span -> span.getKind() == SpanKind.SERVER)
+                    || System.currentTimeMillis() > deadline) {
+                return spans;
+            }
+            Thread.sleep(50);
+        }
+    }
+}
@@ -76,6 +76,28 @@ class SponsorControllerIntegrationTest {
         mockServer.verify();
     }
 
+    @Test
+    void whenBatchGet_thenForwardIdsAndReturnSponsorsWithLinks() throws Exception {
+        SponsorResponseModel s = new SponsorResponseModel(VALID_ID, "Nike", SponsorLevelEnum.PLATINUM, 200000.0);
+        mockServer.expect(once(), requestTo(SERVICE_BASE_URI + "/batch-get"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(content().json("[\"" + VALID_ID + "\",\"" + NOT_FOUND_ID + "\"]"))
+                .andRespond(withSuccess(mapper.writeValueAsString(new SponsorResponseModel[] { s }),
+                        MediaType.APPLICATION_JSON));
+
+        webClient.post().uri(BASE_URI + "/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new String[] { VALID_ID, NOT_FOUND_ID })
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].sponsorId").isEqualTo(VALID_ID)
+                .jsonPath("$[0].links[0].rel").isEqualTo("self");
+
+        mockServer.verify();
+    }
+
     @Test
     void whenGetByIdInvalid_thenReturnUnprocessableEntity() throws Exception {
         mockServer.expect(once(),
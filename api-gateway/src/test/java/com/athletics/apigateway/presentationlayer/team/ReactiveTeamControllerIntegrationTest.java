@@ -0,0 +1,134 @@
+package com.athletics.apigateway.presentationlayer.team;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles({"test", "reactive"})
+class ReactiveTeamControllerIntegrationTest {
+
+    private static final String BASE_URI          = "/api/v1/teams";
+    private static final String VALID_TEAM_ID     = "11111111-1111-1111-1111-111111111111";
+    private static final String NOT_FOUND_TEAM_ID = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa";
+    private static final String SLOW_TEAM_ID      = "22222222-2222-2222-2222-222222222222";
+    private static final AtomicInteger slowTeamHits = new AtomicInteger();
+
+    private static final String TEAM_JSON =
+            "{\"teamId\":\"" + VALID_TEAM_ID + "\",\"teamName\":\"Montreal Eagles\","
+                    + "\"coachName\":\"John Smith\",\"teamLevel\":\"COLLEGE\"}";
+
+    private static final DisposableServer teamService = HttpServer.create()
+            .port(0)
+            .route(routes -> routes
+                    .get("/api/v1/teams", (req, res) -> res
+                            .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                            .sendString(Mono.just("[" + TEAM_JSON + "]")))
+                    .get("/api/v1/teams/" + VALID_TEAM_ID, (req, res) -> res
+                            .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                            .sendString(Mono.just(TEAM_JSON)))
+                    .get("/api/v1/teams/" + SLOW_TEAM_ID, (req, res) -> {
+                        slowTeamHits.incrementAndGet();
+                        return res.header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                                .sendString(Mono.delay(Duration.ofSeconds(1))
+                                        .thenReturn(TEAM_JSON.replace(VALID_TEAM_ID, SLOW_TEAM_ID)));
+                    })
+                    .get("/api/v1/teams/" + NOT_FOUND_TEAM_ID, (req, res) -> res
+                            .status(404)
+                            .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                            .sendString(Mono.just("{\"httpStatus\":\"NOT_FOUND\",\"path\":\"\","
+                                    + "\"message\":\"Unknown teamId: " + NOT_FOUND_TEAM_ID + "\"}"))))
+            .bindNow();
+
+    @DynamicPropertySource
+    static void teamServiceProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.team-service.port", teamService::port);
+    }
+
+    @AfterAll
+    static void stopTeamService() {
+        teamService.disposeNow();
+    }
+
+    @Autowired
+    WebTestClient webClient;
+
+    @LocalServerPort
+    int port;
+
+    @Test
+    void whenGetAllTeams_thenProxyNonBlockingWithLinks() {
+        webClient.get()
+                .uri(BASE_URI)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].teamId").isEqualTo(VALID_TEAM_ID)
+                .jsonPath("$[0].teamName").isEqualTo("Montreal Eagles")
+                .jsonPath("$[0]._links.self.href").value(href ->
+                        assertTrue(href.toString().endsWith(BASE_URI + "/" + VALID_TEAM_ID)));
+    }
+
+    @Test
+    void whenGetTeamById_thenReturnTeam() {
+        webClient.get()
+                .uri(BASE_URI + "/" + VALID_TEAM_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.teamId").isEqualTo(VALID_TEAM_ID)
+                .jsonPath("$.coachName").isEqualTo("John Smith");
+    }
+
+    @Test
+    void whenGetTeamByIdNotFound_thenReturnNotFound() {
+        webClient.get()
+                .uri(BASE_URI + "/" + NOT_FOUND_TEAM_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Unknown teamId: " + NOT_FOUND_TEAM_ID);
+    }
+
+    @Test
+    void whenConcurrentGetTeamById_thenOneDownstreamCallIsShared() {
+        int before = slowTeamHits.get();
+        WebClient gateway = WebClient.create("http://localhost:" + port);
+
+        List<String> bodies = Flux.range(0, 5)
+                .flatMap(i -> gateway.get()
+                        .uri(BASE_URI + "/" + SLOW_TEAM_ID)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .retrieve()
+                        .bodyToMono(String.class))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertEquals(5, bodies.size());
+        bodies.forEach(body -> assertTrue(body.contains(SLOW_TEAM_ID)));
+        assertEquals(before + 1, slowTeamHits.get());
+    }
+}
@@ -74,6 +74,45 @@ class TeamControllerIntegrationTest {
         mockServer.verify();
     }
 
+    @Test
+    void whenBackendAnswersNotModified_thenReplayCachedTeamAndHonourIfNoneMatch() throws Exception {
+        TeamResponseModel t = new TeamResponseModel(VALID_ID, "Eagles", "Coach A", TeamLevelEnum.COLLEGE);
+        mockServer.expect(once(), requestTo(SERVICE_BASE_URI + "/" + VALID_ID))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(mapper.writeValueAsString(t), MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.ETAG, "\"team-v1\""));
+        mockServer.expect(once(), requestTo(SERVICE_BASE_URI + "/" + VALID_ID))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"team-v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED).header(HttpHeaders.ETAG, "\"team-v1\""));
+        mockServer.expect(once(), requestTo(SERVICE_BASE_URI + "/" + VALID_ID))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"team-v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED).header(HttpHeaders.ETAG, "\"team-v1\""));
+
+        String etag = webClient.get().uri(BASE_URI + "/" + VALID_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .returnResult(TeamResponseModel.class)
+                .getResponseHeaders().getETag();
+
+        webClient.get().uri(BASE_URI + "/" + VALID_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+                .expectBody(TeamResponseModel.class)
+                .value(resp -> assertEquals("Eagles", resp.getTeamName()));
+
+        webClient.get().uri(BASE_URI + "/" + VALID_ID)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        mockServer.verify();
+    }
+
     @Test
     void whenGetByIdInvalid_thenReturnUnprocessableEntity() throws Exception {
         mockServer.expect(once(), requestTo(SERVICE_BASE_URI + "/" + INVALID_ID))
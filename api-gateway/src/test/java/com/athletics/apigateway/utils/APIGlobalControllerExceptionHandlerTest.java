@@ -0,0 +1,55 @@
+package com.athletics.apigateway.utils;
+
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.client5.http.HttpHostConnectException;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.apache.hc.core5.http.NoHttpResponseException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class APIGlobalControllerExceptionHandlerTest {
+
+    private final APIGlobalControllerExceptionHandler handler = new APIGlobalControllerExceptionHandler();
+
+    @Test
+    void whenDownstreamReadTimesOut_thenReturnGatewayTimeout() {
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, statusFor(new SocketTimeoutException("Read timed out")));
+    }
+
+    @Test
+    void whenPoolLeaseTimesOut_thenReturnGatewayTimeout() {
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT,
+                statusFor(new ConnectionRequestTimeoutException("Timeout deadline: 2000 MILLISECONDS")));
+    }
+
+    @Test
+    void whenDownstreamRefusesOrCannotBeReached_thenReturnServiceUnavailable() {
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, statusFor(new HttpHostConnectException("Connection refused")));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, statusFor(new ConnectTimeoutException("Connect timed out")));
+    }
+
+    @Test
+    void whenExchangeBreaks_thenReturnBadGateway() {
+        assertEquals(HttpStatus.BAD_GATEWAY, statusFor(new SocketException("Connection reset")));
+        assertEquals(HttpStatus.BAD_GATEWAY, statusFor(new NoHttpResponseException("localhost:7004 failed to respond")));
+    }
+
+    private HttpStatus statusFor(IOException cause) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/teams");
+        ResponseEntity<APIHttpErrorInfo> response = handler.handleResourceAccessException(
+                new ServletWebRequest(request), new ResourceAccessException("I/O error on GET request", cause));
+
+        assertEquals(response.getStatusCode(), response.getBody().getHttpStatus());
+        return response.getBody().getHttpStatus();
+    }
+}
@@ -0,0 +1,106 @@
+package com.athletics.apigateway.utils;
+
+import com.athletics.apigateway.presentationlayer.competition.CompetitionController;
+import com.athletics.apigateway.presentationlayer.facility.FacilityController;
+import com.athletics.apigateway.presentationlayer.sponsor.SponsorController;
+import com.athletics.apigateway.presentationlayer.team.AthleteController;
+import com.athletics.apigateway.presentationlayer.team.TeamController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+class HateoasLinkFactoryTest {
+
+    private static final List<String> IDS = Arrays.asList(
+            UUID.randomUUID().toString(), "a b", "a/b", "ä", "a+b", "a:b@c", "a~b._c", null);
+
+    private final HateoasLinkFactory linkFactory = new HateoasLinkFactory();
+
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void whenNoRequestIsBound_thenLinksMatchWebMvcLinkBuilder() {
+        assertAllLinksMatch();
+        assertEquals("/api/v1/teams", linkFactory.allTeams().getHref());
+    }
+
+    @Test
+    public void whenRequestIsBound_thenLinksUseItsHostAndPort() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/teams");
+        request.setServerName("gateway.local");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        assertAllLinksMatch();
+        assertEquals("http://gateway.local:8080/api/v1/teams", linkFactory.allTeams().getHref());
+    }
+
+    @Test
+    public void whenRequestHasContextPath_thenLinksIncludeIt() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/ctx/api/v1/teams");
+        request.setContextPath("/ctx");
+        request.setServerPort(80);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // linkTo drops the separator after a mocked context path ("/ctxapi"), so only the factory's own href is checked
+        assertEquals("http://localhost/ctx/api/v1/teams", linkFactory.allTeams().getHref());
+        assertEquals("http://localhost/ctx/api/v1/teams/t%201", linkFactory.teamById("t 1").getHref());
+    }
+
+    @Test
+    public void whenAllCompetitionsLinkIsBuilt_thenItStaysTemplated() {
+        String teamId = UUID.randomUUID().toString();
+
+        assertEquals("/api/v1/teams/" + teamId + "/competitions{?pageSize,pageToken}",
+                linkFactory.allCompetitions(teamId).getHref());
+        assertTrue(linkFactory.allCompetitions(teamId).isTemplated());
+    }
+
+    // Link.equals also compares affordances, which linkTo adds and HAL never renders
+    private static void assertSameLink(Link expected, Link actual) {
+        assertSameLink(expected, actual, expected.getHref());
+    }
+
+    private static void assertSameLink(Link expected, Link actual, String message) {
+        assertEquals(expected.getHref(), actual.getHref(), message);
+        assertEquals(expected.getRel(), actual.getRel(), message);
+        assertEquals(expected.isTemplated(), actual.isTemplated(), message);
+    }
+
+    private void assertAllLinksMatch() {
+        assertSameLink(linkTo(methodOn(TeamController.class).getAllTeams()).withSelfRel(), linkFactory.allTeams());
+        assertSameLink(linkTo(methodOn(SponsorController.class).getAllSponsors()).withSelfRel(), linkFactory.allSponsors());
+        assertSameLink(linkTo(methodOn(FacilityController.class).getAllFacilities()).withSelfRel(), linkFactory.allFacilities());
+
+        for (String id : IDS) {
+            assertSameLink(linkTo(methodOn(TeamController.class).getTeamById(id)).withSelfRel(),
+                    linkFactory.teamById(id), "team " + id);
+            assertSameLink(linkTo(methodOn(AthleteController.class).getAthleteById(id, id)).withSelfRel(),
+                    linkFactory.athleteById(id, id), "athlete " + id);
+            assertSameLink(linkTo(methodOn(AthleteController.class).getAllAthletes(id)).withSelfRel(),
+                    linkFactory.allAthletes(id), "athletes " + id);
+            assertSameLink(linkTo(methodOn(CompetitionController.class).getCompetitionById(id, id)).withSelfRel(),
+                    linkFactory.competitionById(id, id), "competition " + id);
+            assertSameLink(linkTo(methodOn(CompetitionController.class).getAllCompetitions(id, null, null)).withSelfRel(),
+                    linkFactory.allCompetitions(id), "competitions " + id);
+            assertSameLink(linkTo(methodOn(SponsorController.class).getSponsorById(id)).withSelfRel(),
+                    linkFactory.sponsorById(id), "sponsor " + id);
+            assertSameLink(linkTo(methodOn(FacilityController.class).getFacilityById(id)).withSelfRel(),
+                    linkFactory.facilityById(id), "facility " + id);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.athletics.competition.domainclientLayer.sponsor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// parses from bytes, the way the client reads the response body stream
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SponsorServiceClientParsingBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    private SponsorServiceClient client;
+    private byte[] sponsorJson;
+    private byte[] batchJson;
+
+    @Setup
+    public void setUp() {
+        client = new SponsorServiceClient(null, new ObjectMapper(), null, "localhost", "7002");
+        sponsorJson = sponsorJson(UUID.randomUUID().toString()).getBytes(StandardCharsets.UTF_8);
+
+        StringJoiner batch = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(sponsorJson(UUID.randomUUID().toString()));
+        }
+        batchJson = batch.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public SponsorModel parseOne() throws IOException {
+        return client.ACLSponsorModelFromJson(new ByteArrayInputStream(sponsorJson));
+    }
+
+    @Benchmark
+    public List<SponsorModel> parseBatch() throws IOException {
+        return client.ACLSponsorModelListFromJson(new ByteArrayInputStream(batchJson));
+    }
+
+    // same shape as sponsor-service's SponsorResponseModel
+    private static String sponsorJson(String sponsorId) {
+        return "{\"sponsorId\":\"" + sponsorId + "\",\"sponsorName\":\"Acme\",\"sponsorLevel\":\"GOLD\","
+                + "\"sponsorAmount\":25000.0,\"version\":3}";
+    }
+}
@@ -0,0 +1,65 @@
+package com.athletics.competition.domainclientLayer.team;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// parses from bytes, the way the client reads the response body stream
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TeamServiceClientParsingBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    private TeamServiceClient client;
+    private byte[] teamJson;
+    private byte[] batchJson;
+
+    @Setup
+    public void setUp() {
+        client = new TeamServiceClient(null, new ObjectMapper(), null, "localhost", "7001");
+        teamJson = teamJson(UUID.randomUUID().toString()).getBytes(StandardCharsets.UTF_8);
+
+        StringJoiner batch = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(teamJson(UUID.randomUUID().toString()));
+        }
+        batchJson = batch.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public TeamModel parseOne() throws IOException {
+        return client.ACLTeamModelFromJson(new ByteArrayInputStream(teamJson));
+    }
+
+    @Benchmark
+    public List<TeamModel> parseBatch() throws IOException {
+        return client.ACLTeamModelListFromJson(new ByteArrayInputStream(batchJson));
+    }
+
+    // same shape as team-service's TeamResponseModel
+    private static String teamJson(String teamId) {
+        return "{\"teamId\":\"" + teamId + "\",\"teamName\":\"Eagles\",\"coachName\":\"Coach Carter\","
+                + "\"teamLevel\":\"COLLEGE\",\"version\":3}";
+    }
+}
@@ -0,0 +1,90 @@
+package com.athletics.competition.mappinglayer;
+
+import com.athletics.competition.dataaccesslayer.Competition;
+import com.athletics.competition.dataaccesslayer.CompetitionIdentifier;
+import com.athletics.competition.dataaccesslayer.CompetitionResultEnum;
+import com.athletics.competition.dataaccesslayer.CompetitionStatusEnum;
+import com.athletics.competition.domainclientLayer.facility.FacilityModel;
+import com.athletics.competition.domainclientLayer.sponsor.SponsorModel;
+import com.athletics.competition.domainclientLayer.team.TeamModel;
+import com.athletics.competition.presentationlayer.CompetitionResponseModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompetitionResponseMapperBenchmark {
+
+    @Param({"1", "100"})
+    private int size;
+
+    private final CompetitionResponseMapper mapper = new CompetitionResponseMapperImpl();
+    private Competition competition;
+    private List<Competition> competitions;
+
+    @Setup
+    public void setUp() {
+        TeamModel team = TeamModel.builder()
+                .teamId(UUID.randomUUID().toString())
+                .teamName("Eagles")
+                .coachName("Coach Carter")
+                .teamLevel("COLLEGE")
+                .build();
+        SponsorModel sponsor = SponsorModel.builder()
+                .sponsorId(UUID.randomUUID().toString())
+                .sponsorName("Acme")
+                .sponsorLevel("GOLD")
+                .sponsorAmount(25_000.0)
+                .build();
+        FacilityModel facility = FacilityModel.builder()
+                .facilityId(UUID.randomUUID().toString())
+                .facilityName("North Arena")
+                .capacity(12_000)
+                .location("Montreal")
+                .build();
+
+        competitions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            competitions.add(Competition.builder()
+                    .competitionIdentifier(new CompetitionIdentifier())
+                    .competitionName("Regional Final " + i)
+                    .competitionDate(LocalDate.of(2025, 6, 1).plusDays(i))
+                    .competitionStatus(CompetitionStatusEnum.COMPLETED)
+                    .competitionResult(CompetitionResultEnum.WIN)
+                    .team(team)
+                    .sponsor(sponsor)
+                    .facility(facility)
+                    .build());
+        }
+        competition = competitions.get(0);
+    }
+
+    @Benchmark
+    public CompetitionResponseModel mapOne() {
+        return mapper.competitionEntityToCompetitionResponseModel(competition);
+    }
+
+    @Benchmark
+    public List<CompetitionResponseModel> mapList() {
+        return mapper.competitionEntityListToCompetitionResponseModelList(competitions);
+    }
+}
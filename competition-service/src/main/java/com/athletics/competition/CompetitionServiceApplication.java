@@ -1,26 +1,119 @@
 package com.athletics.competition;
 
+import com.athletics.competition.domainclientLayer.DownstreamClientTags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.hc.client5.http.classic.HttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.data.mongodb.observability.ContextProviderFactory;
+import org.springframework.data.mongodb.observability.MongoObservationCommandListener;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
 @SpringBootApplication
+@EnableScheduling
 public class CompetitionServiceApplication {
 
+	@Bean(destroyMethod = "close")
+	public PoolingHttpClientConnectionManager domainClientConnectionManager(
+			@Value("${app.http-client.max-connections-per-route:20}") int maxPerRoute,
+			@Value("${app.http-client.max-connections:60}") int maxTotal) {
+		return PoolingHttpClientConnectionManagerBuilder.create()
+				.setMaxConnPerRoute(maxPerRoute)
+				.setMaxConnTotal(maxTotal)
+				.build();
+	}
+
+	@Bean
+	public MeterBinder domainClientConnectionPoolMetrics(PoolingHttpClientConnectionManager domainClientConnectionManager) {
+		return new PoolingHttpClientConnectionManagerMetricsBinder(domainClientConnectionManager, "domain-client");
+	}
+
+	@Bean
+	public DownstreamClientTags downstreamClientTags(
+			@Value("${app.team-service.host}") String teamHost, @Value("${app.team-service.port}") String teamPort,
+			@Value("${app.sponsor-service.host}") String sponsorHost, @Value("${app.sponsor-service.port}") String sponsorPort,
+			@Value("${app.facility-service.host}") String facilityHost, @Value("${app.facility-service.port}") String facilityPort) {
+		Map<String, String> servicesByAuthority = new LinkedHashMap<>();
+		servicesByAuthority.put(teamHost + ":" + teamPort, "team-service");
+		servicesByAuthority.put(sponsorHost + ":" + sponsorPort, "sponsor-service");
+		servicesByAuthority.put(facilityHost + ":" + facilityPort, "facility-service");
+		return new DownstreamClientTags(servicesByAuthority);
+	}
+
 	@Bean
-	public RestTemplate restTemplate() {
+	public RestTemplate restTemplate(PoolingHttpClientConnectionManager domainClientConnectionManager,
+									 ObjectProvider<ObservationRegistry> observationRegistry,
+									 DownstreamClientTags downstreamClientTags) {
 		RestTemplate restTemplate = new RestTemplate();
-		HttpClient httpClient = HttpClientBuilder.create().build();
+		HttpClient httpClient = HttpClientBuilder.create()
+				.setConnectionManager(domainClientConnectionManager)
+				.build();
 		HttpComponentsClientHttpRequestFactory requestFactory =
 				new HttpComponentsClientHttpRequestFactory(httpClient);
 		restTemplate.setRequestFactory(requestFactory);
+		restTemplate.setObservationRegistry(observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+		restTemplate.setObservationConvention(downstreamClientTags.restTemplateConvention());
 		return restTemplate;
 	}
 
+	@Bean
+	public MongoClientSettingsBuilderCustomizer mongoObservationCustomizer(
+			ObjectProvider<ObservationRegistry> observationRegistry) {
+		// one child span per Mongo command under whichever repository call issued it;
+		// test slices such as @DataMongoTest have no registry, so they fall back to a no-op one
+		ObservationRegistry registry = observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP);
+		return builder -> builder
+				.contextProvider(ContextProviderFactory.create(registry))
+				.addCommandListener(new MongoObservationCommandListener(registry));
+	}
+
+	@Bean
+	@ConditionalOnThreading(Threading.PLATFORM)
+	public ThreadPoolTaskExecutor domainClientExecutor(
+			@Value("${app.domain-client.pool-size:16}") int poolSize,
+			@Value("${app.domain-client.queue-capacity:256}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("domain-client-");
+		// when saturated, run the lookup on the request thread instead of failing it
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		// lookups keep the request's trace so their client spans stay children of the service span
+		executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+		return executor;
+	}
+
+	@Bean("domainClientExecutor")
+	@ConditionalOnThreading(Threading.VIRTUAL)
+	public SimpleAsyncTaskExecutor virtualDomainClientExecutor() {
+		// one virtual thread per lookup; the HTTP connection pool bounds downstream concurrency
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("domain-client-");
+		executor.setVirtualThreads(true);
+		executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+		return executor;
+	}
+
 	public static void main(String[] args) {
 		SpringApplication.run(CompetitionServiceApplication.class, args);
 	}
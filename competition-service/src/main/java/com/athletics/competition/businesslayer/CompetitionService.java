@@ -1,13 +1,17 @@
 package com.athletics.competition.businesslayer;
 
 
+import com.athletics.competition.presentationlayer.CompetitionPage;
 import com.athletics.competition.presentationlayer.CompetitionRequestModel;
 import com.athletics.competition.presentationlayer.CompetitionResponseModel;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface CompetitionService {
     List<CompetitionResponseModel> getAllCompetitions(String teamId);
+    CompetitionPage getCompetitionPage(String teamId, int pageSize, String pageToken);
+    Stream<CompetitionResponseModel> streamCompetitions(String teamId);
     CompetitionResponseModel getCompetitionById(String teamId, String competitionId);
     CompetitionResponseModel createCompetition(String teamId, CompetitionRequestModel requestModel);
     CompetitionResponseModel updateCompetition(String teamId, String competitionId, CompetitionRequestModel requestModel);
@@ -4,6 +4,7 @@ import com.athletics.competition.dataaccesslayer.Competition;
 import com.athletics.competition.dataaccesslayer.CompetitionIdentifier;
 import com.athletics.competition.dataaccesslayer.CompetitionRepository;
 import com.athletics.competition.dataaccesslayer.CompetitionStatusEnum;
+import com.athletics.competition.dataaccesslayer.SponsorLevelOutboxEntry;
 import com.athletics.competition.domainclientLayer.facility.FacilityModel;
 import com.athletics.competition.domainclientLayer.facility.FacilityServiceClient;
 import com.athletics.competition.domainclientLayer.sponsor.SponsorLevelEnum;
@@ -13,41 +14,68 @@ import com.athletics.competition.domainclientLayer.team.TeamModel;
 import com.athletics.competition.domainclientLayer.team.TeamServiceClient;
 import com.athletics.competition.mappinglayer.CompetitionRequestMapper;
 import com.athletics.competition.mappinglayer.CompetitionResponseMapper;
+import com.athletics.competition.presentationlayer.CompetitionPage;
 import com.athletics.competition.presentationlayer.CompetitionRequestModel;
 import com.athletics.competition.presentationlayer.CompetitionResponseModel;
+import com.athletics.competition.utils.CompetitionPageToken;
 import com.athletics.competition.utils.exceptions.CompetitionDateTooFarException;
 import com.athletics.competition.utils.exceptions.InvalidInputException;
 import com.athletics.competition.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.annotation.Observed;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
+@Observed(name = "business.service")
 public class CompetitionServiceImpl implements CompetitionService {
 
+    private static final Sort PAGE_ORDER = Sort.by(Sort.Direction.ASC, "competitionDate", "id");
+
     private final CompetitionRepository competitionRepository;
     private final TeamServiceClient teamServiceClient;
     private final SponsorServiceClient sponsorServiceClient;
     private final FacilityServiceClient facilityServiceClient;
     private final CompetitionRequestMapper competitionRequestMapper;
     private final CompetitionResponseMapper competitionResponseMapper;
+    private final AsyncTaskExecutor domainClientExecutor;
+    private final TeamStandingsService teamStandingsService;
+    private final Counter standingsUpdateFailures;
 
     public CompetitionServiceImpl(CompetitionRepository competitionRepository,
                                   TeamServiceClient teamServiceClient,
                                   SponsorServiceClient sponsorServiceClient,
                                   FacilityServiceClient facilityServiceClient,
                                   CompetitionRequestMapper competitionRequestMapper,
-                                  CompetitionResponseMapper competitionResponseMapper) {
+                                  CompetitionResponseMapper competitionResponseMapper,
+                                  AsyncTaskExecutor domainClientExecutor,
+                                  TeamStandingsService teamStandingsService,
+                                  MeterRegistry meterRegistry) {
         this.competitionRepository     = competitionRepository;
         this.teamServiceClient         = teamServiceClient;
         this.sponsorServiceClient      = sponsorServiceClient;
         this.facilityServiceClient     = facilityServiceClient;
         this.competitionRequestMapper  = competitionRequestMapper;
         this.competitionResponseMapper = competitionResponseMapper;
+        this.domainClientExecutor      = domainClientExecutor;
+        this.teamStandingsService      = teamStandingsService;
+        this.standingsUpdateFailures   = Counter.builder("standings.update.failures")
+                .description("Competition changes that could not be applied to the team standings")
+                .register(meterRegistry);
     }
 
     @Override
@@ -63,6 +91,46 @@ public class CompetitionServiceImpl implements CompetitionService {
         return results;
     }
 
+    @Override
+    public CompetitionPage getCompetitionPage(String teamId, int pageSize, String pageToken) {
+        CompetitionPageToken after = pageToken == null ? null : CompetitionPageToken.decode(pageToken);
+        teamServiceClient.getTeamByTeamId(teamId);
+
+        // one extra row tells us whether another page exists without a count query
+        Limit limit = Limit.of(pageSize + 1);
+        List<Competition> rows;
+        if (after == null) {
+            rows = competitionRepository.findByTeam_TeamId(teamId, PAGE_ORDER, limit);
+        } else if (after.competitionDate() == null) {
+            rows = competitionRepository.findByTeam_TeamIdAfterUndated(teamId, after.id(), PAGE_ORDER, limit);
+        } else {
+            rows = competitionRepository.findByTeam_TeamIdAfter(
+                    teamId, after.competitionDate(), after.id(), PAGE_ORDER, limit);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Competition> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<CompetitionResponseModel> results = new ArrayList<>(page.size());
+        for (Competition comp : page) {
+            results.add(
+                    competitionResponseMapper.competitionEntityToCompetitionResponseModel(comp)
+            );
+        }
+        String nextPageToken = hasMore
+                ? CompetitionPageToken.after(page.get(page.size() - 1)).encode()
+                : null;
+        return new CompetitionPage(results, nextPageToken);
+    }
+
+    @Override
+    public Stream<CompetitionResponseModel> streamCompetitions(String teamId) {
+        teamServiceClient.getTeamByTeamId(teamId);
+
+        return competitionRepository.streamByTeam_TeamId(teamId, PAGE_ORDER)
+                .map(competitionResponseMapper::competitionEntityToCompetitionResponseModel);
+    }
+
     @Override
     public CompetitionResponseModel getCompetitionById(String teamId, String competitionId) {
         teamServiceClient.getTeamByTeamId(teamId);
@@ -86,16 +154,18 @@ public class CompetitionServiceImpl implements CompetitionService {
             );
         }
 
-        TeamModel team = teamServiceClient.getTeamByTeamId(teamId);
+        CompetitionReferences refs = fetchReferences(teamId, requestModel);
+
+        TeamModel team = refs.team();
         if (team == null) {
             throw new InvalidInputException("unknown team id " + teamId);
         }
 
-        SponsorModel sponsor = sponsorServiceClient.getSponsorBySponsorId(requestModel.getSponsorId());
+        SponsorModel sponsor = refs.sponsor();
         if (sponsor == null) {
             throw new InvalidInputException("unknown sponsor id " + requestModel.getSponsorId());
         }
-        FacilityModel facility = facilityServiceClient.getFacilityByFacilityId(requestModel.getFacilityId());
+        FacilityModel facility = refs.facility();
         if (facility == null) {
             throw new InvalidInputException("unknown facility id " + requestModel.getFacilityId());
         }
@@ -105,16 +175,12 @@ public class CompetitionServiceImpl implements CompetitionService {
                 new CompetitionIdentifier(),
                 team, sponsor, facility
         );
-        Competition saved = competitionRepository.save(comp);
-
-        if (saved.getCompetitionStatus() == CompetitionStatusEnum.COMPLETED) {
-            SponsorModel bumped = sponsorServiceClient.patchSponsorLevelBySponsorId(
-                    saved.getSponsor().getSponsorId(),
-                    SponsorLevelEnum.PLATINUM.toString()
-            );
-            saved.setSponsor(bumped);
-            saved = competitionRepository.save(saved);
+        if (comp.getCompetitionStatus() == CompetitionStatusEnum.COMPLETED) {
+            comp.setSponsorOutbox(List.of(
+                    SponsorLevelOutboxEntry.pending(sponsor.getSponsorId(), SponsorLevelEnum.PLATINUM.toString())));
         }
+        Competition saved = competitionRepository.save(comp);
+        updateStandings(null, saved);
 
         return competitionResponseMapper.competitionEntityToCompetitionResponseModel(saved);
     }
@@ -129,22 +195,26 @@ public class CompetitionServiceImpl implements CompetitionService {
                     "The competition date must be within one year of today."
             );
         }
-        TeamModel team = teamServiceClient.getTeamByTeamId(teamId);
+        // the remote lookups run on the executor while the local read happens on this thread
+        CompletableFuture<CompetitionReferences> pending = fetchReferencesAsync(teamId, requestModel);
+        Competition existing = competitionRepository
+                .findByTeam_TeamIdAndCompetitionIdentifier_CompetitionId(teamId, competitionId);
+        CompetitionReferences refs = await(pending);
+
+        TeamModel team = refs.team();
         if (team == null) {
             throw new InvalidInputException("unknown team id " + teamId);
         }
 
-        Competition existing = competitionRepository
-                .findByTeam_TeamIdAndCompetitionIdentifier_CompetitionId(teamId, competitionId);
         if (existing == null) {
             throw new NotFoundException("Competition " + competitionId + " not found for team " + teamId);
         }
 
-        SponsorModel sponsor = sponsorServiceClient.getSponsorBySponsorId(requestModel.getSponsorId());
+        SponsorModel sponsor = refs.sponsor();
         if (sponsor == null) {
             throw new InvalidInputException("unknown sponsor id " + requestModel.getSponsorId());
         }
-        FacilityModel facility = facilityServiceClient.getFacilityByFacilityId(requestModel.getFacilityId());
+        FacilityModel facility = refs.facility();
         if (facility == null) {
             throw new InvalidInputException("unknown facility id " + requestModel.getFacilityId());
         }
@@ -154,18 +224,15 @@ public class CompetitionServiceImpl implements CompetitionService {
                 existing.getCompetitionIdentifier(),
                 team, sponsor, facility
         );
-        updated.setId(existing.getId());
-
-        Competition saved = competitionRepository.save(updated);
+        SponsorLevelOutboxEntry queued = updated.getCompetitionStatus() == CompetitionStatusEnum.COMPLETED
+                ? SponsorLevelOutboxEntry.pending(sponsor.getSponsorId(), SponsorLevelEnum.PLATINUM.toString())
+                : null;
 
-        if (saved.getCompetitionStatus() == CompetitionStatusEnum.COMPLETED) {
-            SponsorModel bumped = sponsorServiceClient.patchSponsorLevelBySponsorId(
-                    saved.getSponsor().getSponsorId(),
-                    SponsorLevelEnum.PLATINUM.toString()
-            );
-            saved.setSponsor(bumped);
-            saved = competitionRepository.save(saved);
+        Competition saved = competitionRepository.applyChanges(existing, updated, queued);
+        if (saved == null) {
+            throw new NotFoundException("Competition " + competitionId + " not found for team " + teamId);
         }
+        updateStandings(existing, saved);
 
         return competitionResponseMapper.competitionEntityToCompetitionResponseModel(saved);
     }
@@ -186,18 +253,80 @@ public class CompetitionServiceImpl implements CompetitionService {
                     "Competition " + competitionId + " does not belong to team " + teamId);
         }
 
-        comp.setCompetitionStatus(CompetitionStatusEnum.CANCELLED);
-        competitionRepository.save(comp);
+        Competition cancelled = comp.toBuilder().competitionStatus(CompetitionStatusEnum.CANCELLED).build();
+        SponsorLevelOutboxEntry queued = comp.getSponsor().getSponsorLevel().equals(SponsorLevelEnum.NONE.toString())
+                ? null
+                : SponsorLevelOutboxEntry.pending(comp.getSponsor().getSponsorId(), SponsorLevelEnum.NONE.toString());
+        Competition saved = competitionRepository.applyChanges(comp, cancelled, queued);
+        if (saved == null) {
+            throw new NotFoundException(
+                    "Competition " + competitionId + " not found for team " + teamId);
+        }
+        updateStandings(comp, saved);
+    }
 
-        if (!comp.getSponsor().getSponsorLevel().equals(SponsorLevelEnum.NONE.toString())) {
-            SponsorModel updatedSponsor = sponsorServiceClient.patchSponsorLevelBySponsorId(
-                    comp.getSponsor().getSponsorId(),
-                    SponsorLevelEnum.NONE.toString()
-            );
+    // the competition is already saved, so a failed standings update is counted and left for a rebuild to repair
+    private void updateStandings(Competition previous, Competition current) {
+        try {
+            teamStandingsService.competitionChanged(previous, current);
+        } catch (RuntimeException ex) {
+            standingsUpdateFailures.increment();
+            log.error("Standings not updated for competition {}, rebuild them to repair: {}",
+                    current.getCompetitionIdentifier().getCompetitionId(), ex.getMessage(), ex);
+        }
+    }
+
+    private CompetitionReferences fetchReferences(String teamId, CompetitionRequestModel requestModel) {
+        return await(fetchReferencesAsync(teamId, requestModel));
+    }
+
+    private CompetitionReferences await(CompletableFuture<CompetitionReferences> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private CompletableFuture<CompetitionReferences> fetchReferencesAsync(String teamId,
+                                                                          CompetitionRequestModel requestModel) {
+        CompletableFuture<TeamModel> team = new CompletableFuture<>();
+        CompletableFuture<SponsorModel> sponsor = new CompletableFuture<>();
+        CompletableFuture<FacilityModel> facility = new CompletableFuture<>();
+        List<Future<?>> tasks = List.of(
+                lookup(team, () -> teamServiceClient.getTeamByTeamId(teamId)),
+                lookup(sponsor, () -> sponsorServiceClient.getSponsorBySponsorId(requestModel.getSponsorId())),
+                lookup(facility, () -> facilityServiceClient.getFacilityByFacilityId(requestModel.getFacilityId())));
+
+        CompletableFuture<CompetitionReferences> refs = team
+                .thenCombine(sponsor, (t, s) -> new CompetitionReferences(t, s, null))
+                .thenCombine(facility, (ts, f) -> new CompetitionReferences(ts.team(), ts.sponsor(), f));
 
-            comp.setSponsor(updatedSponsor);
-            competitionRepository.save(comp);
+        // fail fast: the first lookup error completes the result; lookups still queued never start and running
+        // ones are interrupted, which releases a thread still waiting for a pooled connection
+        for (CompletableFuture<?> lookup : List.of(team, sponsor, facility)) {
+            lookup.whenComplete((ignored, ex) -> {
+                if (ex != null && refs.completeExceptionally(ex)) {
+                    tasks.forEach(task -> task.cancel(true));
+                }
+            });
         }
+        return refs;
     }
 
+    private <T> Future<?> lookup(CompletableFuture<T> result, Supplier<T> call) {
+        return domainClientExecutor.submit(() -> {
+            try {
+                result.complete(call.get());
+            } catch (Throwable ex) {
+                result.completeExceptionally(ex);
+            }
+        });
+    }
+
+    private record CompetitionReferences(TeamModel team, SponsorModel sponsor, FacilityModel facility) {
+    }
 }
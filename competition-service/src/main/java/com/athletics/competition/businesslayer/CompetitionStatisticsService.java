@@ -0,0 +1,14 @@
+package com.athletics.competition.businesslayer;
+
+import com.athletics.competition.dataaccesslayer.CompetitionStatisticsBucket;
+import com.athletics.competition.dataaccesslayer.CompetitionStatisticsDimension;
+import com.athletics.competition.presentationlayer.CompetitionStatisticsResponseModel;
+
+import java.time.LocalDate;
+
+public interface CompetitionStatisticsService {
+    CompetitionStatisticsResponseModel getStatistics(CompetitionStatisticsDimension groupBy,
+                                                     LocalDate from,
+                                                     LocalDate to,
+                                                     CompetitionStatisticsBucket bucket);
+}
@@ -0,0 +1,106 @@
+package com.athletics.competition.businesslayer;
+
+import com.athletics.competition.dataaccesslayer.CompetitionCounts;
+import com.athletics.competition.dataaccesslayer.CompetitionRepository;
+import com.athletics.competition.dataaccesslayer.CompetitionResultEnum;
+import com.athletics.competition.dataaccesslayer.CompetitionStatistics;
+import com.athletics.competition.dataaccesslayer.CompetitionStatisticsBucket;
+import com.athletics.competition.dataaccesslayer.CompetitionStatisticsDimension;
+import com.athletics.competition.dataaccesslayer.CompetitionStatusEnum;
+import com.athletics.competition.presentationlayer.CompetitionCountsResponseModel;
+import com.athletics.competition.presentationlayer.CompetitionStatisticsGroupResponseModel;
+import com.athletics.competition.presentationlayer.CompetitionStatisticsResponseModel;
+import com.athletics.competition.utils.exceptions.InvalidInputException;
+import io.micrometer.observation.annotation.Observed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Slf4j
+@Observed(name = "business.service")
+public class CompetitionStatisticsServiceImpl implements CompetitionStatisticsService {
+
+    private final CompetitionRepository competitionRepository;
+
+    public CompetitionStatisticsServiceImpl(CompetitionRepository competitionRepository) {
+        this.competitionRepository = competitionRepository;
+    }
+
+    @Override
+    public CompetitionStatisticsResponseModel getStatistics(CompetitionStatisticsDimension groupBy,
+                                                            LocalDate from,
+                                                            LocalDate to,
+                                                            CompetitionStatisticsBucket bucket) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidInputException("from " + from + " must not be after to " + to);
+        }
+        CompetitionStatistics statistics = competitionRepository.aggregateStatistics(groupBy, from, to, bucket);
+
+        // the periods facet is sorted by key, so each group's periods come out in date order
+        Map<String, List<CompetitionCountsResponseModel>> periodsByKey = new HashMap<>();
+        for (CompetitionCounts period : statistics.periods()) {
+            periodsByKey.computeIfAbsent(period.key(), key -> new ArrayList<>()).add(toResponseModel(period));
+        }
+
+        long total = 0;
+        Map<CompetitionStatusEnum, Long> byStatus = new EnumMap<>(CompetitionStatusEnum.class);
+        Map<CompetitionResultEnum, Long> byResult = new EnumMap<>(CompetitionResultEnum.class);
+        List<CompetitionStatisticsGroupResponseModel> groups = new ArrayList<>(statistics.groups().size());
+        for (CompetitionCounts group : statistics.groups()) {
+            total += group.total();
+            group.byStatus().forEach((status, count) -> byStatus.merge(status, count, Long::sum));
+            group.byResult().forEach((result, count) -> byResult.merge(result, count, Long::sum));
+
+            groups.add(CompetitionStatisticsGroupResponseModel.builder()
+                    .key(group.key())
+                    .name(group.name())
+                    .totals(toResponseModel(group))
+                    .periods(periodsByKey.getOrDefault(group.key(), List.of()))
+                    .build());
+        }
+        CompetitionCounts overall = new CompetitionCounts(null, null, null, total, byStatus, byResult);
+
+        log.debug("Competition statistics by {} from {} to {}: {} groups", groupBy, from, to, groups.size());
+        return CompetitionStatisticsResponseModel.builder()
+                .groupBy(groupBy)
+                .from(from)
+                .to(to)
+                .bucket(bucket)
+                .overall(toResponseModel(overall))
+                .groups(groups)
+                .build();
+    }
+
+    private CompetitionCountsResponseModel toResponseModel(CompetitionCounts counts) {
+        Map<CompetitionStatusEnum, Long> byStatus = new EnumMap<>(CompetitionStatusEnum.class);
+        for (CompetitionStatusEnum status : CompetitionStatusEnum.values()) {
+            byStatus.put(status, counts.byStatus().getOrDefault(status, 0L));
+        }
+        Map<CompetitionResultEnum, Long> byResult = new EnumMap<>(CompetitionResultEnum.class);
+        for (CompetitionResultEnum result : CompetitionResultEnum.values()) {
+            byResult.put(result, counts.byResult().getOrDefault(result, 0L));
+        }
+        long decided = byResult.values().stream().mapToLong(Long::longValue).sum();
+
+        return CompetitionCountsResponseModel.builder()
+                .period(counts.period())
+                .total(counts.total())
+                .byStatus(byStatus)
+                .byResult(byResult)
+                .winRatio(ratio(byResult.get(CompetitionResultEnum.WIN), decided))
+                .lossRatio(ratio(byResult.get(CompetitionResultEnum.LOSS), decided))
+                .drawRatio(ratio(byResult.get(CompetitionResultEnum.DRAW), decided))
+                .build();
+    }
+
+    private static double ratio(long count, long decided) {
+        return decided == 0 ? 0.0 : (double) count / decided;
+    }
+}
@@ -0,0 +1,168 @@
+package com.athletics.competition.businesslayer;
+
+import com.athletics.competition.dataaccesslayer.Competition;
+import com.athletics.competition.dataaccesslayer.SponsorLevelOutboxEntry;
+import com.athletics.competition.domainclientLayer.sponsor.SponsorModel;
+import com.athletics.competition.domainclientLayer.sponsor.SponsorServiceClient;
+import com.athletics.competition.utils.exceptions.InvalidInputException;
+import com.athletics.competition.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// delivers the sponsor-level changes queued on competitions and refreshes the embedded sponsor snapshots
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.sponsor-outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class SponsorLevelOutboxDispatcher {
+
+    private static final String OUTBOX = "sponsorOutbox";
+    static final String DEAD_LETTERS = "sponsor_outbox_dead_letters";
+
+    private final MongoTemplate mongoTemplate;
+    private final SponsorServiceClient sponsorServiceClient;
+    private final int batchSize;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+
+    public SponsorLevelOutboxDispatcher(MongoTemplate mongoTemplate,
+                                        SponsorServiceClient sponsorServiceClient,
+                                        @Value("${app.sponsor-outbox.batch-size:50}") int batchSize,
+                                        @Value("${app.sponsor-outbox.initial-backoff:1s}") Duration initialBackoff,
+                                        @Value("${app.sponsor-outbox.max-backoff:5m}") Duration maxBackoff,
+                                        @Value("${app.sponsor-outbox.max-attempts:10}") int maxAttempts,
+                                        MeterRegistry meterRegistry) {
+        this.mongoTemplate        = mongoTemplate;
+        this.sponsorServiceClient = sponsorServiceClient;
+        this.batchSize            = batchSize;
+        this.initialBackoff       = initialBackoff;
+        this.maxBackoff           = maxBackoff;
+        this.maxAttempts          = maxAttempts;
+        Gauge.builder("sponsor.outbox.dead.letters", mongoTemplate, template -> template.estimatedCount(DEAD_LETTERS))
+                .description("Sponsor-level changes that were rejected or gave up, kept in " + DEAD_LETTERS)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.sponsor-outbox.poll-interval:2s}")
+    public void dispatch() {
+        Instant now = Instant.now();
+        Query due = new Query(Criteria.where(OUTBOX + ".nextAttemptAt").lte(now))
+                .with(Sort.by(Sort.Direction.ASC, OUTBOX + ".createdAt"))
+                .limit(batchSize);
+        due.fields().include(OUTBOX);
+        List<Competition> pending = mongoTemplate.find(due, Competition.class);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // only the newest change per sponsor matters, older ones are superseded by it
+        Map<String, SponsorLevelOutboxEntry> latest = new LinkedHashMap<>();
+        for (Competition competition : pending) {
+            for (SponsorLevelOutboxEntry entry : competition.getSponsorOutbox()) {
+                if (entry.getNextAttemptAt() == null || entry.getNextAttemptAt().isAfter(now)) {
+                    continue;
+                }
+                latest.merge(entry.getSponsorId(), entry,
+                        (a, b) -> b.getCreatedAt().isAfter(a.getCreatedAt()) ? b : a);
+            }
+        }
+        log.debug("Dispatching {} sponsor-level changes for {} sponsors", pending.size(), latest.size());
+
+        latest.values().forEach(entry -> deliver(entry, now));
+    }
+
+    private void deliver(SponsorLevelOutboxEntry entry, Instant now) {
+        SponsorModel patched;
+        try {
+            patched = sponsorServiceClient.patchSponsorLevelBySponsorId(
+                    entry.getSponsorId(), entry.getSponsorLevel());
+        } catch (NotFoundException | InvalidInputException ex) {
+            // the sponsor service rejected the change, retrying will not help
+            log.warn("Sponsor-level change {} for sponsor {} rejected: {}",
+                    entry.getEventId(), entry.getSponsorId(), ex.getMessage());
+            deadLetter(entry, entry.getAttempts() + 1, ex);
+            return;
+        } catch (RuntimeException ex) {
+            int attempt = entry.getAttempts() + 1;
+            if (attempt >= maxAttempts) {
+                log.error("Sponsor-level change {} for sponsor {} gave up after {} attempts: {}",
+                        entry.getEventId(), entry.getSponsorId(), attempt, ex.getMessage());
+                deadLetter(entry, attempt, ex);
+                return;
+            }
+            Instant next = now.plus(backoff(attempt));
+            log.warn("Sponsor-level change {} for sponsor {} failed (attempt {}), retrying at {}: {}",
+                    entry.getEventId(), entry.getSponsorId(), attempt, next, ex.getMessage());
+            reschedule(entry, next, ex);
+            return;
+        }
+
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where("sponsor.sponsorId").is(entry.getSponsorId())),
+                new Update().set("sponsor", patched),
+                Competition.class);
+        removeSuperseded(entry);
+    }
+
+    // a change that will never be delivered leaves the competitions and is kept on its own for inspection
+    private void deadLetter(SponsorLevelOutboxEntry entry, int attempts, RuntimeException ex) {
+        SponsorLevelOutboxEntry dead = SponsorLevelOutboxEntry.builder()
+                .eventId(entry.getEventId())
+                .sponsorId(entry.getSponsorId())
+                .sponsorLevel(entry.getSponsorLevel())
+                .createdAt(entry.getCreatedAt())
+                .attempts(attempts)
+                .lastError(ex.getMessage())
+                .build();
+        mongoTemplate.insert(dead, DEAD_LETTERS);
+        removeSuperseded(entry);
+    }
+
+    private void removeSuperseded(SponsorLevelOutboxEntry entry) {
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where(OUTBOX).elemMatch(superseded("", entry))),
+                new Update().pull(OUTBOX, new Document("sponsorId", entry.getSponsorId())
+                        .append("createdAt", new Document("$lte", entry.getCreatedAt()))),
+                Competition.class);
+    }
+
+    private void reschedule(SponsorLevelOutboxEntry entry, Instant nextAttemptAt, RuntimeException ex) {
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where(OUTBOX).elemMatch(superseded("", entry))),
+                new Update()
+                        .inc(OUTBOX + ".$[e].attempts", 1)
+                        .set(OUTBOX + ".$[e].nextAttemptAt", nextAttemptAt)
+                        .set(OUTBOX + ".$[e].lastError", ex.getMessage())
+                        .filterArray(superseded("e.", entry)),
+                Competition.class);
+    }
+
+    // entries queued after this one carry a newer level and must stay in the outbox,
+    // as must the entries of other sponsors queued on the same competition
+    private static Criteria superseded(String prefix, SponsorLevelOutboxEntry entry) {
+        return Criteria.where(prefix + "sponsorId").is(entry.getSponsorId())
+                .and(prefix + "createdAt").lte(entry.getCreatedAt());
+    }
+
+    Duration backoff(int attempt) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
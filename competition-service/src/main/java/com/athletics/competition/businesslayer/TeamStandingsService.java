@@ -0,0 +1,18 @@
+package com.athletics.competition.businesslayer;
+
+import com.athletics.competition.dataaccesslayer.Competition;
+import com.athletics.competition.domainclientLayer.team.TeamLevelEnum;
+import com.athletics.competition.presentationlayer.TeamStandingResponseModel;
+
+import java.util.List;
+
+public interface TeamStandingsService {
+
+    void competitionChanged(Competition previous, Competition current);
+
+    List<TeamStandingResponseModel> getLeaderboard(int season, TeamLevelEnum teamLevel, int limit);
+
+    List<TeamStandingResponseModel> getTeamStandings(String teamId);
+
+    int rebuildStandings();
+}
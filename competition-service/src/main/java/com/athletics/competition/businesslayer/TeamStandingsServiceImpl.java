@@ -0,0 +1,217 @@
+package com.athletics.competition.businesslayer;
+
+import com.athletics.competition.dataaccesslayer.Competition;
+import com.athletics.competition.dataaccesslayer.CompetitionRepository;
+import com.athletics.competition.dataaccesslayer.CompetitionResultEnum;
+import com.athletics.competition.dataaccesslayer.CompetitionStatusEnum;
+import com.athletics.competition.dataaccesslayer.TeamStanding;
+import com.athletics.competition.dataaccesslayer.TeamStandingRepository;
+import com.athletics.competition.domainclientLayer.team.TeamLevelEnum;
+import com.athletics.competition.presentationlayer.TeamStandingResponseModel;
+import com.athletics.competition.utils.exceptions.InvalidInputException;
+import io.micrometer.observation.annotation.Observed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Service
+@Slf4j
+@Observed(name = "business.service")
+public class TeamStandingsServiceImpl implements TeamStandingsService {
+
+    static final int MAX_LEADERBOARD_SIZE = 100;
+
+    private static final Sort LEADERBOARD_ORDER = Sort.by(Sort.Direction.DESC, "points", "wins")
+            .and(Sort.by(Sort.Direction.ASC, "teamId"));
+    private static final Sort SEASON_ORDER = Sort.by(Sort.Direction.DESC, "season");
+    private static final Sort OLDEST_FIRST = Sort.by(Sort.Direction.ASC, "competitionDate", "id");
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "competitionDate", "id");
+
+    private final TeamStandingRepository teamStandingRepository;
+    private final CompetitionRepository competitionRepository;
+
+    public TeamStandingsServiceImpl(TeamStandingRepository teamStandingRepository,
+                                    CompetitionRepository competitionRepository) {
+        this.teamStandingRepository = teamStandingRepository;
+        this.competitionRepository  = competitionRepository;
+    }
+
+    @Override
+    public void competitionChanged(Competition previous, Competition current) {
+        // a team, season or result change moves the result from one set of counters to the other
+        Map<String, TeamStanding> deltas = new LinkedHashMap<>();
+        if (counts(previous)) {
+            addDelta(deltas, previous, -1);
+        }
+        if (counts(current)) {
+            addDelta(deltas, current, 1);
+        }
+
+        for (TeamStanding delta : deltas.values()) {
+            teamStandingRepository.incrementCounts(delta);
+            refreshLatest(delta.getId(), delta.getTeamId(), delta.getSeason());
+        }
+    }
+
+    @Override
+    public List<TeamStandingResponseModel> getLeaderboard(int season, TeamLevelEnum teamLevel, int limit) {
+        if (limit < 1 || limit > MAX_LEADERBOARD_SIZE) {
+            throw new InvalidInputException("limit must be between 1 and " + MAX_LEADERBOARD_SIZE + ": " + limit);
+        }
+        Limit top = Limit.of(limit);
+        List<TeamStanding> standings = teamLevel == null
+                ? teamStandingRepository.findBySeason(season, LEADERBOARD_ORDER, top)
+                : teamStandingRepository.findBySeasonAndTeamLevel(season, teamLevel, LEADERBOARD_ORDER, top);
+
+        List<TeamStandingResponseModel> leaderboard = new ArrayList<>(standings.size());
+        for (TeamStanding standing : standings) {
+            leaderboard.add(toResponseModel(standing, leaderboard.size() + 1));
+        }
+        return leaderboard;
+    }
+
+    @Override
+    public List<TeamStandingResponseModel> getTeamStandings(String teamId) {
+        return teamStandingRepository.findByTeamId(teamId, SEASON_ORDER).stream()
+                .map(standing -> toResponseModel(standing, null))
+                .toList();
+    }
+
+    // every standing is replaced in place and only then are the ones without results dropped, so the leaderboard
+    // never goes empty; competitions written while the rebuild runs may be missed, a second rebuild picks them up
+    @Override
+    public int rebuildStandings() {
+        Map<String, TeamStanding> standings = new HashMap<>();
+        try (Stream<Competition> completed =
+                     competitionRepository.streamByCompetitionStatus(CompetitionStatusEnum.COMPLETED, OLDEST_FIRST)) {
+            completed.filter(TeamStandingsServiceImpl::counts).forEach(competition -> {
+                TeamStanding standing = standings.computeIfAbsent(standingId(competition),
+                        id -> newStanding(id, competition));
+                standing.setTeamName(competition.getTeam().getTeamName());
+                standing.setTeamLevel(teamLevel(competition.getTeam().getTeamLevel()));
+                count(standing, competition.getCompetitionResult(), 1);
+                standing.setStreak(extendStreak(standing.getStreak(), competition.getCompetitionResult()));
+                standing.setLastCompetitionDate(competition.getCompetitionDate());
+            });
+        }
+
+        teamStandingRepository.saveAll(standings.values());
+        teamStandingRepository.deleteByIdNotIn(standings.keySet());
+        log.info("Rebuilt {} team standings", standings.size());
+        return standings.size();
+    }
+
+    private void addDelta(Map<String, TeamStanding> deltas, Competition competition, int sign) {
+        TeamStanding delta = deltas.computeIfAbsent(standingId(competition), id -> TeamStanding.builder()
+                .id(id)
+                .teamId(competition.getTeam().getTeamId())
+                .season(competition.getCompetitionDate().getYear())
+                .build());
+        if (sign > 0) {
+            delta.setTeamName(competition.getTeam().getTeamName());
+            delta.setTeamLevel(teamLevel(competition.getTeam().getTeamLevel()));
+        }
+        count(delta, competition.getCompetitionResult(), sign);
+    }
+
+    // the streak and last date depend on order, so they are re-read from the season's latest results
+    private void refreshLatest(String standingId, String teamId, int season) {
+        try (Stream<Competition> latestFirst = competitionRepository.streamSeasonResults(teamId,
+                CompetitionStatusEnum.COMPLETED, LocalDate.of(season, 1, 1), LocalDate.of(season, 12, 31),
+                LATEST_FIRST)) {
+            Iterator<Competition> results = latestFirst.iterator();
+            if (!results.hasNext()) {
+                return;
+            }
+            Competition last = results.next();
+            int run = 1;
+            while (results.hasNext() && results.next().getCompetitionResult() == last.getCompetitionResult()) {
+                run++;
+            }
+            teamStandingRepository.updateLatest(standingId,
+                    streak(last.getCompetitionResult(), run), last.getCompetitionDate());
+        }
+    }
+
+    private static void count(TeamStanding standing, CompetitionResultEnum result, int sign) {
+        standing.setPlayed(standing.getPlayed() + sign);
+        switch (result) {
+            case WIN -> standing.setWins(standing.getWins() + sign);
+            case LOSS -> standing.setLosses(standing.getLosses() + sign);
+            case DRAW -> standing.setDraws(standing.getDraws() + sign);
+        }
+        standing.setPoints(3 * standing.getWins() + standing.getDraws());
+    }
+
+    static String extendStreak(String streak, CompetitionResultEnum result) {
+        if (streak != null && streak.charAt(0) == result.name().charAt(0)) {
+            return streak(result, Integer.parseInt(streak.substring(1)) + 1);
+        }
+        return streak(result, 1);
+    }
+
+    private static String streak(CompetitionResultEnum result, int run) {
+        return result.name().charAt(0) + String.valueOf(run);
+    }
+
+    private static boolean counts(Competition competition) {
+        return competition != null
+                && competition.getCompetitionStatus() == CompetitionStatusEnum.COMPLETED
+                && competition.getCompetitionResult() != null
+                && competition.getCompetitionDate() != null
+                && competition.getTeam() != null
+                && competition.getTeam().getTeamId() != null;
+    }
+
+    private static String standingId(Competition competition) {
+        return TeamStanding.idOf(competition.getTeam().getTeamId(), competition.getCompetitionDate().getYear());
+    }
+
+    private static TeamStanding newStanding(String id, Competition competition) {
+        return TeamStanding.builder()
+                .id(id)
+                .teamId(competition.getTeam().getTeamId())
+                .teamName(competition.getTeam().getTeamName())
+                .teamLevel(teamLevel(competition.getTeam().getTeamLevel()))
+                .season(competition.getCompetitionDate().getYear())
+                .build();
+    }
+
+    private static TeamLevelEnum teamLevel(String teamLevel) {
+        if (teamLevel == null) {
+            return null;
+        }
+        try {
+            return TeamLevelEnum.valueOf(teamLevel);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static TeamStandingResponseModel toResponseModel(TeamStanding standing, Integer rank) {
+        return TeamStandingResponseModel.builder()
+                .rank(rank)
+                .teamId(standing.getTeamId())
+                .teamName(standing.getTeamName())
+                .teamLevel(standing.getTeamLevel())
+                .season(standing.getSeason())
+                .played(standing.getPlayed())
+                .wins(standing.getWins())
+                .losses(standing.getLosses())
+                .draws(standing.getDraws())
+                .points(standing.getPoints())
+                .streak(standing.getStreak())
+                .lastCompetitionDate(standing.getLastCompetitionDate())
+                .build();
+    }
+}
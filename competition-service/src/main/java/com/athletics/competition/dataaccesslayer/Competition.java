@@ -7,13 +7,25 @@ import com.athletics.competition.domainclientLayer.sponsor.SponsorModel;
 import com.athletics.competition.domainclientLayer.team.TeamModel;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @Document(collection = "competitions")
+@CompoundIndexes({
+        @CompoundIndex(name = "team_date_idx", def = "{'team.teamId': 1, 'competitionDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "competition_id_idx", def = "{'competitionIdentifier.competitionId': 1}", unique = true),
+        @CompoundIndex(name = "sponsor_id_idx", def = "{'sponsor.sponsorId': 1}"),
+        @CompoundIndex(name = "facility_id_idx", def = "{'facility.facilityId': 1}"),
+        @CompoundIndex(name = "sponsor_outbox_due_idx", def = "{'sponsorOutbox.nextAttemptAt': 1}", sparse = true),
+        @CompoundIndex(name = "sponsor_outbox_sponsor_idx", def = "{'sponsorOutbox.sponsorId': 1}", sparse = true)
+})
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Competition {
@@ -24,6 +36,7 @@ public class Competition {
     private CompetitionIdentifier competitionIdentifier;
 
     private String competitionName;
+    @Indexed(name = "competition_date_idx")
     private LocalDate competitionDate;
     private CompetitionStatusEnum competitionStatus;
 
@@ -32,4 +45,7 @@ public class Competition {
     private TeamModel team;
     private SponsorModel sponsor;
     private FacilityModel facility;
+
+    // one pending change per sponsor, so switching sponsors never drops the previous one
+    private List<SponsorLevelOutboxEntry> sponsorOutbox;
 }
@@ -0,0 +1,8 @@
+package com.athletics.competition.dataaccesslayer;
+
+public interface CompetitionChanges {
+
+    // sets the fields of changed that differ from current and queues the given outbox entry (if any) in place of
+    // the same sponsor's older pending one; returns the stored competition afterwards, or null when it is gone
+    Competition applyChanges(Competition current, Competition changed, SponsorLevelOutboxEntry queued);
+}
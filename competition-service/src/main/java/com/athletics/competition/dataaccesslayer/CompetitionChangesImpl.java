@@ -0,0 +1,62 @@
+package com.athletics.competition.dataaccesslayer;
+
+import com.athletics.competition.domainclientLayer.sponsor.SponsorModel;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Objects;
+
+// the outbox dispatcher pulls delivered entries and refreshes sponsor snapshots behind the service's back, so
+// writes from the service touch only what the request changed instead of replacing the whole document
+public class CompetitionChangesImpl implements CompetitionChanges {
+
+    private static final String OUTBOX = "sponsorOutbox";
+
+    private final MongoTemplate mongoTemplate;
+
+    public CompetitionChangesImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Competition applyChanges(Competition current, Competition changed, SponsorLevelOutboxEntry queued) {
+        Update update = new Update();
+        setIfChanged(update, "competitionName", current.getCompetitionName(), changed.getCompetitionName());
+        setIfChanged(update, "competitionDate", current.getCompetitionDate(), changed.getCompetitionDate());
+        setIfChanged(update, "competitionStatus", current.getCompetitionStatus(), changed.getCompetitionStatus());
+        setIfChanged(update, "competitionResult", current.getCompetitionResult(), changed.getCompetitionResult());
+        setIfChanged(update, "team", current.getTeam(), changed.getTeam());
+        setIfChanged(update, "facility", current.getFacility(), changed.getFacility());
+        // the stored snapshot may be fresher than a cached lookup, so it is only replaced along with the sponsor
+        if (!Objects.equals(sponsorId(current.getSponsor()), sponsorId(changed.getSponsor()))) {
+            update.set("sponsor", changed.getSponsor());
+        }
+
+        Query byId = new Query(Criteria.where("_id").is(current.getId()));
+        if (queued != null) {
+            // $pull and $push cannot touch the same array in one update; the older entry goes first
+            mongoTemplate.updateFirst(byId, new Update().pull(OUTBOX, new Document("sponsorId", queued.getSponsorId())
+                    .append("createdAt", new Document("$lt", queued.getCreatedAt()))), Competition.class);
+            update.push(OUTBOX, queued);
+        }
+        if (update.getUpdateObject().isEmpty()) {
+            return mongoTemplate.findOne(byId, Competition.class);
+        }
+        return mongoTemplate.findAndModify(byId, update, FindAndModifyOptions.options().returnNew(true),
+                Competition.class);
+    }
+
+    private static void setIfChanged(Update update, String field, Object current, Object changed) {
+        if (!Objects.equals(current, changed)) {
+            update.set(field, changed);
+        }
+    }
+
+    private static String sponsorId(SponsorModel sponsor) {
+        return sponsor != null ? sponsor.getSponsorId() : null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.athletics.competition.dataaccesslayer;
+
+import java.util.Map;
+
+// one row of a statistics aggregation; period is null for the per-group totals and for undated competitions
+public record CompetitionCounts(String key,
+                                String name,
+                                String period,
+                                long total,
+                                Map<CompetitionStatusEnum, Long> byStatus,
+                                Map<CompetitionResultEnum, Long> byResult) {
+}
@@ -1,14 +1,37 @@
 package com.athletics.competition.dataaccesslayer;
 
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface CompetitionRepository extends MongoRepository<Competition, String> {
+public interface CompetitionRepository extends MongoRepository<Competition, String>, CompetitionStatisticsRepository,
+        CompetitionChanges {
 
 
     List<Competition> findAllByTeam_TeamId(String teamId);
 
+    List<Competition> findByTeam_TeamId(String teamId, Sort sort, Limit limit);
+
+    @Query("{ 'team.teamId': ?0, $or: [ { 'competitionDate': { $gt: ?1 } }, { 'competitionDate': ?1, '_id': { $gt: ?2 } } ] }")
+    List<Competition> findByTeam_TeamIdAfter(String teamId, LocalDate competitionDate, String id, Sort sort, Limit limit);
+
+    @Query("{ 'team.teamId': ?0, $or: [ { 'competitionDate': { $ne: null } }, { 'competitionDate': null, '_id': { $gt: ?1 } } ] }")
+    List<Competition> findByTeam_TeamIdAfterUndated(String teamId, String id, Sort sort, Limit limit);
+
+    Stream<Competition> streamByTeam_TeamId(String teamId, Sort sort);
+
+    Stream<Competition> streamByCompetitionStatus(CompetitionStatusEnum competitionStatus, Sort sort);
+
+    @Query(value = "{ 'team.teamId': ?0, 'competitionStatus': ?1, 'competitionDate': { $gte: ?2, $lte: ?3 }, "
+            + "'competitionResult': { $ne: null } }", fields = "{ 'competitionDate': 1, 'competitionResult': 1 }")
+    Stream<Competition> streamSeasonResults(String teamId, CompetitionStatusEnum competitionStatus,
+                                            LocalDate from, LocalDate to, Sort sort);
+
     Competition findByTeam_TeamIdAndCompetitionIdentifier_CompetitionId(String teamId, String competitionId);
 }
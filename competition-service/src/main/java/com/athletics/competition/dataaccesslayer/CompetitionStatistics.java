@@ -0,0 +1,6 @@
+package com.athletics.competition.dataaccesslayer;
+
+import java.util.List;
+
+public record CompetitionStatistics(List<CompetitionCounts> groups, List<CompetitionCounts> periods) {
+}
@@ -0,0 +1,16 @@
+package com.athletics.competition.dataaccesslayer;
+
+public enum CompetitionStatisticsBucket {
+    MONTH("%Y-%m"),
+    YEAR("%Y");
+
+    private final String dateFormat;
+
+    CompetitionStatisticsBucket(String dateFormat) {
+        this.dateFormat = dateFormat;
+    }
+
+    public String getDateFormat() {
+        return dateFormat;
+    }
+}
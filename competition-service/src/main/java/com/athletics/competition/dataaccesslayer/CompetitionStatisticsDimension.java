@@ -0,0 +1,23 @@
+package com.athletics.competition.dataaccesslayer;
+
+public enum CompetitionStatisticsDimension {
+    TEAM("team.teamId", "team.teamName"),
+    FACILITY("facility.facilityId", "facility.facilityName"),
+    SPONSOR("sponsor.sponsorId", "sponsor.sponsorName");
+
+    private final String keyField;
+    private final String nameField;
+
+    CompetitionStatisticsDimension(String keyField, String nameField) {
+        this.keyField = keyField;
+        this.nameField = nameField;
+    }
+
+    public String getKeyField() {
+        return keyField;
+    }
+
+    public String getNameField() {
+        return nameField;
+    }
+}
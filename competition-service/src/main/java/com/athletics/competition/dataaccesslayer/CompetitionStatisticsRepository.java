@@ -0,0 +1,11 @@
+package com.athletics.competition.dataaccesslayer;
+
+import java.time.LocalDate;
+
+public interface CompetitionStatisticsRepository {
+
+    CompetitionStatistics aggregateStatistics(CompetitionStatisticsDimension dimension,
+                                              LocalDate from,
+                                              LocalDate to,
+                                              CompetitionStatisticsBucket bucket);
+}
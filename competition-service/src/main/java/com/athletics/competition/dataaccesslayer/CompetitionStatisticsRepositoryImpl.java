@@ -0,0 +1,134 @@
+package com.athletics.competition.dataaccesslayer;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.aggregation.FacetOperation;
+import org.springframework.data.mongodb.core.aggregation.GroupOperation;
+import org.springframework.data.mongodb.core.aggregation.ProjectionOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// a single round trip: the date range is matched on competition_date_idx, then one $facet computes the per-group
+// totals and, when a bucket is requested, the per-period counts over the same matched documents
+public class CompetitionStatisticsRepositoryImpl implements CompetitionStatisticsRepository {
+
+    private static final String STATUS_PREFIX = "status_";
+    private static final String RESULT_PREFIX = "result_";
+
+    private final MongoTemplate mongoTemplate;
+
+    public CompetitionStatisticsRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public CompetitionStatistics aggregateStatistics(CompetitionStatisticsDimension dimension,
+                                                     LocalDate from,
+                                                     LocalDate to,
+                                                     CompetitionStatisticsBucket bucket) {
+        List<AggregationOperation> pipeline = new ArrayList<>();
+        if (from != null || to != null) {
+            Criteria dateRange = Criteria.where("competitionDate");
+            if (from != null) {
+                dateRange = dateRange.gte(from);
+            }
+            if (to != null) {
+                dateRange = dateRange.lte(to);
+            }
+            pipeline.add(Aggregation.match(dateRange));
+        }
+
+        ProjectionOperation project = Aggregation.project()
+                .and(dimension.getKeyField()).as("key")
+                .and(dimension.getNameField()).as("name")
+                .and("competitionStatus").as("status")
+                .and("competitionResult").as("result");
+        if (bucket != null) {
+            // LocalDate is stored as midnight in the JVM zone, so the bucket is cut in that zone too
+            project = project.and(DateOperators.DateToString.dateOf("competitionDate")
+                            .toString(bucket.getDateFormat())
+                            .withTimezone(DateOperators.Timezone.valueOf(ZoneId.systemDefault().getId())))
+                    .as("period");
+        }
+        pipeline.add(project);
+
+        FacetOperation facet = Aggregation.facet(
+                        counts(Aggregation.group("key")),
+                        Aggregation.sort(Sort.by(Sort.Direction.DESC, "total").and(Sort.by("_id"))))
+                .as("groups");
+        if (bucket != null) {
+            facet = facet.and(
+                            counts(Aggregation.group("key", "period")),
+                            Aggregation.sort(Sort.by("_id.key", "_id.period")))
+                    .as("periods");
+        }
+        pipeline.add(facet);
+
+        Document facets = mongoTemplate
+                .aggregate(Aggregation.newAggregation(Competition.class, pipeline), Document.class)
+                .getUniqueMappedResult();
+        if (facets == null) {
+            return new CompetitionStatistics(List.of(), List.of());
+        }
+        return new CompetitionStatistics(rows(facets, "groups"), rows(facets, "periods"));
+    }
+
+    private static GroupOperation counts(GroupOperation group) {
+        group = group.first("name").as("name").count().as("total");
+        for (CompetitionStatusEnum status : CompetitionStatusEnum.values()) {
+            group = group.sum(countWhen("status", status.name())).as(STATUS_PREFIX + status.name());
+        }
+        for (CompetitionResultEnum result : CompetitionResultEnum.values()) {
+            group = group.sum(countWhen("result", result.name())).as(RESULT_PREFIX + result.name());
+        }
+        return group;
+    }
+
+    private static ConditionalOperators.Cond countWhen(String field, String value) {
+        return ConditionalOperators.when(ComparisonOperators.valueOf(field).equalToValue(value))
+                .then(1)
+                .otherwise(0);
+    }
+
+    private static List<CompetitionCounts> rows(Document facets, String facet) {
+        List<CompetitionCounts> rows = new ArrayList<>();
+        for (Document row : facets.getList(facet, Document.class, List.of())) {
+            String key;
+            String period = null;
+            if (row.get("_id") instanceof Document id) {
+                key = id.getString("key");
+                period = id.getString("period");
+            } else {
+                key = row.getString("_id");
+            }
+
+            Map<CompetitionStatusEnum, Long> byStatus = new EnumMap<>(CompetitionStatusEnum.class);
+            for (CompetitionStatusEnum status : CompetitionStatusEnum.values()) {
+                byStatus.put(status, count(row, STATUS_PREFIX + status.name()));
+            }
+            Map<CompetitionResultEnum, Long> byResult = new EnumMap<>(CompetitionResultEnum.class);
+            for (CompetitionResultEnum result : CompetitionResultEnum.values()) {
+                byResult.put(result, count(row, RESULT_PREFIX + result.name()));
+            }
+            rows.add(new CompetitionCounts(key, row.getString("name"), period,
+                    count(row, "total"), byStatus, byResult));
+        }
+        return rows;
+    }
+
+    private static long count(Document row, String field) {
+        return row.get(field) instanceof Number number ? number.longValue() : 0L;
+    }
+}
@@ -0,0 +1,37 @@
+package com.athletics.competition.dataaccesslayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// pending sponsor-level change, stored inside the competition document so it is written in the same save
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SponsorLevelOutboxEntry {
+
+    private String eventId;
+    private String sponsorId;
+    private String sponsorLevel;
+    private Instant createdAt;
+    private int attempts;
+    private Instant nextAttemptAt;
+    private String lastError;
+
+    public static SponsorLevelOutboxEntry pending(String sponsorId, String sponsorLevel) {
+        Instant now = Instant.now();
+        return SponsorLevelOutboxEntry.builder()
+                .eventId(UUID.randomUUID().toString())
+                .sponsorId(sponsorId)
+                .sponsorLevel(sponsorLevel)
+                .createdAt(now)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.athletics.competition.dataaccesslayer;
+
+import com.athletics.competition.domainclientLayer.team.TeamLevelEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+
+// one document per team and season, kept in step with the completed competitions so a leaderboard is a single
+// index walk; the counters are only ever changed by $inc, the streak is re-read from the season's competitions
+@Document(collection = "team_standings")
+@CompoundIndexes({
+        @CompoundIndex(name = "season_rank_idx", def = "{'season': 1, 'points': -1, 'wins': -1, 'teamId': 1}"),
+        @CompoundIndex(name = "season_level_rank_idx",
+                def = "{'season': 1, 'teamLevel': 1, 'points': -1, 'wins': -1, 'teamId': 1}"),
+        @CompoundIndex(name = "team_season_idx", def = "{'teamId': 1, 'season': -1}")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamStanding {
+
+    @Id
+    private String id;
+
+    private String teamId;
+    private String teamName;
+    private TeamLevelEnum teamLevel;
+    private int season;
+
+    private int played;
+    private int wins;
+    private int losses;
+    private int draws;
+    private int points;
+    private String streak;
+    private LocalDate lastCompetitionDate;
+
+    public static String idOf(String teamId, int season) {
+        return teamId + ":" + season;
+    }
+}
@@ -0,0 +1,11 @@
+package com.athletics.competition.dataaccesslayer;
+
+import java.time.LocalDate;
+
+public interface TeamStandingCounters {
+
+    // adds the played/wins/losses/draws/points of delta to the stored standing, creating it when a result is added
+    void incrementCounts(TeamStanding delta);
+
+    void updateLatest(String standingId, String streak, LocalDate lastCompetitionDate);
+}
@@ -0,0 +1,56 @@
+package com.athletics.competition.dataaccesslayer;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDate;
+
+// each change is one atomic update of one standing, so concurrent competition updates add up instead of
+// overwriting each other
+public class TeamStandingCountersImpl implements TeamStandingCounters {
+
+    private final MongoTemplate mongoTemplate;
+
+    public TeamStandingCountersImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void incrementCounts(TeamStanding delta) {
+        Update update = new Update()
+                .inc("played", delta.getPlayed())
+                .inc("wins", delta.getWins())
+                .inc("losses", delta.getLosses())
+                .inc("draws", delta.getDraws())
+                .inc("points", delta.getPoints());
+        if (delta.getTeamName() != null) {
+            update.set("teamName", delta.getTeamName());
+        }
+        if (delta.getTeamLevel() != null) {
+            update.set("teamLevel", delta.getTeamLevel());
+        }
+
+        Query standing = byId(delta.getId());
+        if (delta.getPlayed() <= 0) {
+            // only a new result creates a standing, and a standing with nothing played left is not listed
+            mongoTemplate.updateFirst(standing, update, TeamStanding.class);
+            mongoTemplate.remove(byId(delta.getId()).addCriteria(Criteria.where("played").lte(0)), TeamStanding.class);
+        } else {
+            update.setOnInsert("teamId", delta.getTeamId()).setOnInsert("season", delta.getSeason());
+            mongoTemplate.upsert(standing, update, TeamStanding.class);
+        }
+    }
+
+    @Override
+    public void updateLatest(String standingId, String streak, LocalDate lastCompetitionDate) {
+        mongoTemplate.updateFirst(byId(standingId),
+                new Update().set("streak", streak).set("lastCompetitionDate", lastCompetitionDate),
+                TeamStanding.class);
+    }
+
+    private static Query byId(String standingId) {
+        return new Query(Criteria.where("_id").is(standingId));
+    }
+}
@@ -0,0 +1,24 @@
+package com.athletics.competition.dataaccesslayer;
+
+import com.athletics.competition.domainclientLayer.team.TeamLevelEnum;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TeamStandingRepository extends MongoRepository<TeamStanding, String>, TeamStandingCounters {
+
+    @Query("{ 'season': ?0 }")
+    List<TeamStanding> findBySeason(int season, Sort sort, Limit limit);
+
+    @Query("{ 'season': ?0, 'teamLevel': ?1 }")
+    List<TeamStanding> findBySeasonAndTeamLevel(int season, TeamLevelEnum teamLevel, Sort sort, Limit limit);
+
+    @Query("{ 'teamId': ?0 }")
+    List<TeamStanding> findByTeamId(String teamId, Sort sort);
+
+    void deleteByIdNotIn(Collection<String> ids);
+}
@@ -0,0 +1,133 @@
+package com.athletics.competition.domainclientLayer;
+
+import com.athletics.competition.utils.exceptions.NotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+public class ReferenceDataCache<T> {
+
+    private final String name;
+    private final Cache<String, Entry<T>> cache;
+
+    public ReferenceDataCache(String name, long maxSize, Duration ttl, Duration negativeTtl) {
+        this(name, maxSize, ttl, negativeTtl, Ticker.systemTicker());
+    }
+
+    ReferenceDataCache(String name, long maxSize, Duration ttl, Duration negativeTtl, Ticker ticker) {
+        this.name  = name;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new EntryExpiry<T>(ttl.toNanos(), negativeTtl.toNanos()))
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    public T get(String id, Function<String, T> loader) {
+        Entry<T> entry = cache.get(id, key -> {
+            try {
+                T value = loader.apply(key);
+                return value != null ? Entry.found(value) : null;
+            } catch (NotFoundException ex) {
+                return Entry.notFound(ex.getMessage());
+            }
+        });
+        if (entry == null) {
+            return null;
+        }
+        if (entry.value() == null) {
+            throw new NotFoundException(entry.notFoundMessage());
+        }
+        return entry.value();
+    }
+
+    // misses are loaded in one call; ids the loader does not return are cached as not found
+    public Map<String, T> getAll(Collection<String> ids, Function<Set<String>, Map<String, T>> loader) {
+        Map<String, Entry<T>> entries = cache.getAll(ids, missing -> {
+            Map<String, T> loaded = loader.apply(Set.copyOf(missing));
+            Map<String, Entry<T>> result = new HashMap<>();
+            for (String id : missing) {
+                T value = loaded.get(id);
+                result.put(id, value != null
+                        ? Entry.found(value)
+                        : Entry.notFound("No " + name + " found with ID: " + id));
+            }
+            return result;
+        });
+
+        Map<String, T> found = new LinkedHashMap<>();
+        entries.forEach((id, entry) -> {
+            if (entry.value() != null) {
+                found.put(id, entry.value());
+            }
+        });
+        return found;
+    }
+
+    public void put(String id, T value) {
+        if (value != null) {
+            cache.put(id, Entry.found(value));
+        }
+    }
+
+    public void invalidate(String id) {
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private record Entry<T>(T value, String notFoundMessage) {
+
+        static <T> Entry<T> found(T value) {
+            return new Entry<>(value, null);
+        }
+
+        static <T> Entry<T> notFound(String message) {
+            return new Entry<>(null, message);
+        }
+    }
+
+    private record EntryExpiry<T>(long ttlNanos, long negativeTtlNanos) implements Expiry<String, Entry<T>> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry<T> entry, long currentTime) {
+            return entry.value() != null ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry<T> entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry<T> entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
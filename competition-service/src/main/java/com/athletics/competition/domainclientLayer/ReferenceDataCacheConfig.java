@@ -0,0 +1,38 @@
+package com.athletics.competition.domainclientLayer;
+
+import com.athletics.competition.domainclientLayer.facility.FacilityModel;
+import com.athletics.competition.domainclientLayer.sponsor.SponsorModel;
+import com.athletics.competition.domainclientLayer.team.TeamModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ReferenceDataCacheConfig {
+
+    @Bean
+    public ReferenceDataCache<TeamModel> teamCache(
+            @Value("${app.reference-cache.team.max-size:1000}") long maxSize,
+            @Value("${app.reference-cache.team.ttl:10m}") Duration ttl,
+            @Value("${app.reference-cache.team.negative-ttl:30s}") Duration negativeTtl) {
+        return new ReferenceDataCache<>("team", maxSize, ttl, negativeTtl);
+    }
+
+    @Bean
+    public ReferenceDataCache<SponsorModel> sponsorCache(
+            @Value("${app.reference-cache.sponsor.max-size:1000}") long maxSize,
+            @Value("${app.reference-cache.sponsor.ttl:1m}") Duration ttl,
+            @Value("${app.reference-cache.sponsor.negative-ttl:30s}") Duration negativeTtl) {
+        return new ReferenceDataCache<>("sponsor", maxSize, ttl, negativeTtl);
+    }
+
+    @Bean
+    public ReferenceDataCache<FacilityModel> facilityCache(
+            @Value("${app.reference-cache.facility.max-size:1000}") long maxSize,
+            @Value("${app.reference-cache.facility.ttl:10m}") Duration ttl,
+            @Value("${app.reference-cache.facility.negative-ttl:30s}") Duration negativeTtl) {
+        return new ReferenceDataCache<>("facility", maxSize, ttl, negativeTtl);
+    }
+}
@@ -1,5 +1,6 @@
 package com.athletics.competition.domainclientLayer.facility;
 
+import com.athletics.competition.domainclientLayer.ReferenceDataCache;
 import com.athletics.competition.utils.CompetitionHttpErrorInfo;
 import com.athletics.competition.utils.exceptions.InvalidInputException;
 import com.athletics.competition.utils.exceptions.NotFoundException;
@@ -14,7 +15,11 @@ import org.springframework.web.client.RestTemplate;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
@@ -25,14 +30,18 @@ public class FacilityServiceClient {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
+    private final ReferenceDataCache<FacilityModel> facilityCache;
+    private static final int BATCH_SIZE = 100;
     private final String FACILITY_SERVICE_BASE_URL;
 
     public FacilityServiceClient(RestTemplate restTemplate,
                                  ObjectMapper mapper,
+                                 ReferenceDataCache<FacilityModel> facilityCache,
                                  @Value("${app.facility-service.host}") String host,
                                  @Value("${app.facility-service.port}") String port) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
+        this.facilityCache = facilityCache;
         this.FACILITY_SERVICE_BASE_URL = "http://" + host + ":" + port + "/api/v1/facilities";
     }
 
@@ -52,7 +61,37 @@ public class FacilityServiceClient {
         }
     }
 
+    public List<FacilityModel> getFacilitiesByFacilityIds(Collection<String> facilityIds) {
+        return new ArrayList<>(facilityCache.getAll(facilityIds, this::fetchFacilitiesByFacilityIds).values());
+    }
+
+    private Map<String, FacilityModel> fetchFacilitiesByFacilityIds(Set<String> facilityIds) {
+        log.debug("Request received in Facility Service Client: getFacilitiesByFacilityIds for {} ids", facilityIds.size());
+        String url = FACILITY_SERVICE_BASE_URL + "/batch-get";
+        List<String> ids = List.copyOf(facilityIds);
+        Map<String, FacilityModel> found = new HashMap<>();
+        try {
+            for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                List<String> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+                FacilityModel[] page = restTemplate.postForObject(url, chunk, FacilityModel[].class);
+                if (page != null) {
+                    for (FacilityModel model : page) {
+                        found.put(model.getFacilityId(), model);
+                    }
+                }
+            }
+        } catch (HttpClientErrorException ex) {
+            log.debug("Error Response Received in getFacilitiesByFacilityIds: {}", ex.getStatusCode());
+            throw handleHttpClientException(ex);
+        }
+        return found;
+    }
+
     public FacilityModel getFacilityByFacilityId(String facilityId) {
+        return facilityCache.get(facilityId, this::fetchFacilityByFacilityId);
+    }
+
+    private FacilityModel fetchFacilityByFacilityId(String facilityId) {
         log.debug("2. Request received in API-Gateway Facility Service Client: getFacilityByFacilityId");
         try {
             String url = FACILITY_SERVICE_BASE_URL + "/" + facilityId;
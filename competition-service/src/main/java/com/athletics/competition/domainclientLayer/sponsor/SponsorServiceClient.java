@@ -1,22 +1,30 @@
 package com.athletics.competition.domainclientLayer.sponsor;
 
+import com.athletics.competition.domainclientLayer.ReferenceDataCache;
 import com.athletics.competition.utils.CompetitionHttpErrorInfo;
 import com.athletics.competition.utils.exceptions.InvalidInputException;
 import com.athletics.competition.utils.exceptions.NotFoundException;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
@@ -27,14 +35,18 @@ public class SponsorServiceClient {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
+    private final ReferenceDataCache<SponsorModel> sponsorCache;
+    private static final int BATCH_SIZE = 100;
     private final String SPONSOR_BASE_URL;
 
     public SponsorServiceClient(RestTemplate restTemplate,
                                 ObjectMapper mapper,
+                                ReferenceDataCache<SponsorModel> sponsorCache,
                                 @Value("${app.sponsor-service.host}") String host,
                                 @Value("${app.sponsor-service.port}") String port) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
+        this.sponsorCache = sponsorCache;
         this.SPONSOR_BASE_URL = "http://" + host + ":" + port + "/api/v1/sponsors";
     }
 
@@ -54,19 +66,48 @@ public class SponsorServiceClient {
         }
     }
 
+    public List<SponsorModel> getSponsorsBySponsorIds(Collection<String> sponsorIds) {
+        return new ArrayList<>(sponsorCache.getAll(sponsorIds, this::fetchSponsorsBySponsorIds).values());
+    }
+
+    private Map<String, SponsorModel> fetchSponsorsBySponsorIds(Set<String> sponsorIds) {
+        log.debug("Request received in Sponsor Service Client: getSponsorsBySponsorIds for {} ids", sponsorIds.size());
+        String url = SPONSOR_BASE_URL + "/batch-get";
+        List<String> ids = List.copyOf(sponsorIds);
+        Map<String, SponsorModel> found = new HashMap<>();
+        try {
+            for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                List<String> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+                List<SponsorModel> models = restTemplate.execute(url, HttpMethod.POST,
+                        restTemplate.httpEntityCallback(chunk),
+                        response -> ACLSponsorModelListFromJson(response.getBody()));
+                for (SponsorModel model : models) {
+                    found.put(model.getSponsorId(), model);
+                }
+            }
+        } catch (HttpClientErrorException ex) {
+            log.error("Error Response Received in getSponsorsBySponsorIds: {}", ex.getStatusCode());
+            throw handleHttpClientException(ex);
+        }
+        return found;
+    }
+
     public SponsorModel getSponsorBySponsorId(String sponsorId) {
+        return sponsorCache.get(sponsorId, this::fetchSponsorBySponsorId);
+    }
+
+    private SponsorModel fetchSponsorBySponsorId(String sponsorId) {
         log.debug("Request received in API-Gateway Sponsor Service Client: getSponsorBySponsorId");
         try {
             String url = SPONSOR_BASE_URL + "/" + sponsorId;
             log.debug("Sponsor-Service URL is: {}", url);
-            String response = restTemplate.getForObject(url, String.class);
+            SponsorModel sponsor = restTemplate.execute(url, HttpMethod.GET, null,
+                    response -> ACLSponsorModelFromJson(response.getBody()));
             log.debug("Successfully retrieved sponsor JSON for id: {}", sponsorId);
-            return ACLSponsorModelFromJson(response);
+            return sponsor;
         } catch (HttpClientErrorException ex) {
             log.error("Error Response Received in getSponsorBySponsorId: {}", ex.getStatusCode());
             throw handleHttpClientException(ex);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
         }
     }
 
@@ -75,33 +116,61 @@ public class SponsorServiceClient {
         try {
             String url = SPONSOR_BASE_URL + "/" + sponsorId + "/level";
             log.debug("Sponsor-Service URL is: {}", url);
-            String response = restTemplate.patchForObject(url, newLevel, String.class);
+            SponsorModel patched = restTemplate.execute(url, HttpMethod.PATCH,
+                    restTemplate.httpEntityCallback(newLevel),
+                    response -> ACLSponsorModelFromJson(response.getBody()));
             log.debug("Successfully patched sponsor level for id: {}", sponsorId);
-            return ACLSponsorModelFromJson(response);
+            sponsorCache.put(sponsorId, patched);
+            return patched;
         } catch (HttpClientErrorException ex) {
             log.error("Error Response Received in patchSponsorLevel: {}", ex.getStatusCode());
+            sponsorCache.invalidate(sponsorId);
             throw handleHttpClientException(ex);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
         }
     }
 
 
-    private SponsorModel ACLSponsorModelFromJson(String response) throws JsonProcessingException {
-        final JsonNode node         = mapper.readTree(response);
-        final String sponsorId      = node.get("sponsorId").asText();
-        final String sponsorName    = node.get("sponsorName").asText();
-        final double sponsorAmount  = node.get("sponsorAmount").asDouble();
-        final String sponsorLevel   = node.get("sponsorLevel").asText();
+    // the ACL reads the response body token by token: no intermediate String or JsonNode tree, unknown fields skipped
+    SponsorModel ACLSponsorModelFromJson(InputStream body) throws IOException {
+        try (JsonParser parser = mapper.createParser(body)) {
+            expectToken(parser, JsonToken.START_OBJECT);
+            return ACLSponsorModelFromJson(parser);
+        }
+    }
 
-        SponsorModel sponsorModel = SponsorModel.builder()
-                .sponsorId(   sponsorId)
-                .sponsorName( sponsorName)
-                .sponsorAmount(sponsorAmount)
-                .sponsorLevel(String.valueOf(SponsorLevelEnum.valueOf(sponsorLevel.toUpperCase())))
-                .build();
+    List<SponsorModel> ACLSponsorModelListFromJson(InputStream body) throws IOException {
+        try (JsonParser parser = mapper.createParser(body)) {
+            expectToken(parser, JsonToken.START_ARRAY);
+            List<SponsorModel> models = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                models.add(ACLSponsorModelFromJson(parser));
+            }
+            return models;
+        }
+    }
 
-        return sponsorModel;
+    private SponsorModel ACLSponsorModelFromJson(JsonParser parser) throws IOException {
+        SponsorModel.SponsorModelBuilder sponsorModel = SponsorModel.builder();
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case "sponsorId"     -> sponsorModel.sponsorId(parser.getValueAsString());
+                case "sponsorName"   -> sponsorModel.sponsorName(parser.getValueAsString());
+                case "sponsorAmount" -> sponsorModel.sponsorAmount(parser.getValueAsDouble());
+                case "sponsorLevel"  -> sponsorModel.sponsorLevel(
+                        String.valueOf(SponsorLevelEnum.valueOf(parser.getText().toUpperCase())));
+                default              -> parser.skipChildren();
+            }
+        }
+        return sponsorModel.build();
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken expected) throws IOException {
+        if (parser.nextToken() != expected) {
+            throw MismatchedInputException.from(parser, SponsorModel.class,
+                    "Expected " + expected + " in sponsor-service response but got " + parser.currentToken());
+        }
     }
 
 
@@ -1,22 +1,30 @@
 package com.athletics.competition.domainclientLayer.team;
 
+import com.athletics.competition.domainclientLayer.ReferenceDataCache;
 import com.athletics.competition.utils.CompetitionHttpErrorInfo;
 import com.athletics.competition.utils.exceptions.InvalidInputException;
 import com.athletics.competition.utils.exceptions.NotFoundException;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
@@ -27,14 +35,18 @@ public class TeamServiceClient {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
+    private final ReferenceDataCache<TeamModel> teamCache;
+    private static final int BATCH_SIZE = 100;
     private final String TEAM_SERVICE_BASE_URL;
 
     public TeamServiceClient(RestTemplate restTemplate,
                              ObjectMapper mapper,
+                             ReferenceDataCache<TeamModel> teamCache,
                              @Value("${app.team-service.host}") String host,
                              @Value("${app.team-service.port}") String port) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
+        this.teamCache = teamCache;
         this.TEAM_SERVICE_BASE_URL = "http://" + host + ":" + port + "/api/v1/teams";
     }
 
@@ -54,37 +66,92 @@ public class TeamServiceClient {
         }
     }
 
+    public List<TeamModel> getTeamsByTeamIds(Collection<String> teamIds) {
+        return new ArrayList<>(teamCache.getAll(teamIds, this::fetchTeamsByTeamIds).values());
+    }
+
+    private Map<String, TeamModel> fetchTeamsByTeamIds(Set<String> teamIds) {
+        log.debug("Request received in Team Service Client: getTeamsByTeamIds for {} ids", teamIds.size());
+        String url = TEAM_SERVICE_BASE_URL + "/batch-get";
+        List<String> ids = List.copyOf(teamIds);
+        Map<String, TeamModel> found = new HashMap<>();
+        try {
+            for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                List<String> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+                List<TeamModel> models = restTemplate.execute(url, HttpMethod.POST,
+                        restTemplate.httpEntityCallback(chunk),
+                        response -> ACLTeamModelListFromJson(response.getBody()));
+                for (TeamModel model : models) {
+                    found.put(model.getTeamId(), model);
+                }
+            }
+        } catch (HttpClientErrorException ex) {
+            log.error("Error Response Received in getTeamsByTeamIds: {}", ex.getStatusCode());
+            throw handleHttpClientException(ex);
+        }
+        return found;
+    }
+
     public TeamModel getTeamByTeamId(String teamId) {
+        return teamCache.get(teamId, this::fetchTeamByTeamId);
+    }
+
+    private TeamModel fetchTeamByTeamId(String teamId) {
         log.debug("Request received in API-Gateway Team Service Client: getTeamByTeamId");
         try {
             String url = TEAM_SERVICE_BASE_URL + "/" + teamId;
             log.debug("Team-Service URL is: {}", url);
-            String response = restTemplate.getForObject(url, String.class);
+            TeamModel team = restTemplate.execute(url, HttpMethod.GET, null,
+                    response -> ACLTeamModelFromJson(response.getBody()));
             log.debug("Successfully retrieved team JSON for id: {}", teamId);
-            return ACLTeamModelFromJson(response);
+            return team;
         } catch (HttpClientErrorException ex) {
             log.error("Error Response Received in getTeamByTeamId: {}", ex.getStatusCode());
             throw handleHttpClientException(ex);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
         }
     }
 
-    private TeamModel ACLTeamModelFromJson(String response) throws JsonProcessingException {
-        final JsonNode node        = mapper.readTree(response);
-        final String teamId        = node.get("teamId").asText();
-        final String teamName      = node.get("teamName").asText();
-        final String coachName     = node.get("coachName").asText();
-        final String level         = node.get("teamLevel").asText();
-
-        TeamModel teamModel = TeamModel.builder()
-                .teamId(teamId)
-                .teamName(teamName)
-                .coachName(coachName)
-                .teamLevel(String.valueOf(TeamLevelEnum.valueOf(level.toUpperCase())))
-                .build();
-
-        return teamModel;
+    // the ACL reads the response body token by token: no intermediate String or JsonNode tree, unknown fields skipped
+    TeamModel ACLTeamModelFromJson(InputStream body) throws IOException {
+        try (JsonParser parser = mapper.createParser(body)) {
+            expectToken(parser, JsonToken.START_OBJECT);
+            return ACLTeamModelFromJson(parser);
+        }
+    }
+
+    List<TeamModel> ACLTeamModelListFromJson(InputStream body) throws IOException {
+        try (JsonParser parser = mapper.createParser(body)) {
+            expectToken(parser, JsonToken.START_ARRAY);
+            List<TeamModel> models = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                models.add(ACLTeamModelFromJson(parser));
+            }
+            return models;
+        }
+    }
+
+    private TeamModel ACLTeamModelFromJson(JsonParser parser) throws IOException {
+        TeamModel.TeamModelBuilder teamModel = TeamModel.builder();
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case "teamId"    -> teamModel.teamId(parser.getValueAsString());
+                case "teamName"  -> teamModel.teamName(parser.getValueAsString());
+                case "coachName" -> teamModel.coachName(parser.getValueAsString());
+                case "teamLevel" -> teamModel.teamLevel(
+                        String.valueOf(TeamLevelEnum.valueOf(parser.getText().toUpperCase())));
+                default          -> parser.skipChildren();
+            }
+        }
+        return teamModel.build();
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken expected) throws IOException {
+        if (parser.nextToken() != expected) {
+            throw MismatchedInputException.from(parser, TeamModel.class,
+                    "Expected " + expected + " in team-service response but got " + parser.currentToken());
+        }
     }
 
     private RuntimeException handleHttpClientException(HttpClientErrorException ex) {
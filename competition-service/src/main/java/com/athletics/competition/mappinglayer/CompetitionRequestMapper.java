@@ -17,7 +17,8 @@ public interface CompetitionRequestMapper {
             @Mapping(source = "competitionRequestModel.competitionName",   target = "competitionName"),
             @Mapping(source = "competitionRequestModel.competitionDate",   target = "competitionDate"),
             @Mapping(source = "competitionRequestModel.competitionStatus", target = "competitionStatus"),
-            @Mapping(source = "competitionRequestModel.competitionResult", target = "competitionResult")
+            @Mapping(source = "competitionRequestModel.competitionResult", target = "competitionResult"),
+            @Mapping(target = "sponsorOutbox", ignore = true)
     })
     Competition requestModelToEntity(
             CompetitionRequestModel   competitionRequestModel,
@@ -3,32 +3,103 @@ package com.athletics.competition.presentationlayer;
 
 import com.athletics.competition.businesslayer.CompetitionService;
 import com.athletics.competition.utils.exceptions.InvalidInputException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/v1/teams/{teamId}/competitions")
 public class CompetitionController {
 
     private final CompetitionService competitionService;
+    private final ObjectMapper objectMapper;
     private static final int UUID_LENGTH = 36;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String NEXT_PAGE_TOKEN_HEADER = "X-Next-Page-Token";
+    private static final int EXPORT_FLUSH_EVERY = 100;
 
-    public CompetitionController(CompetitionService competitionService) {
+    public CompetitionController(CompetitionService competitionService, ObjectMapper objectMapper) {
         this.competitionService = competitionService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
     public ResponseEntity<List<CompetitionResponseModel>> getAllCompetitions(
-            @PathVariable String teamId) {
+            @PathVariable String teamId,
+            @RequestParam(required = false) Integer pageSize,
+            @RequestParam(required = false) String pageToken) {
+
+        if (teamId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid teamId provided: " + teamId);
+        }
+        if (pageSize == null && pageToken == null) {
+            List<CompetitionResponseModel> list = competitionService.getAllCompetitions(teamId);
+            return ResponseEntity.ok(list);
+        }
+
+        int size = pageSize != null ? pageSize : DEFAULT_PAGE_SIZE;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("pageSize must be between 1 and " + MAX_PAGE_SIZE + ": " + size);
+        }
+        CompetitionPage page = competitionService.getCompetitionPage(teamId, size, pageToken);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextPageToken() != null) {
+            response.header(NEXT_PAGE_TOKEN_HEADER, page.nextPageToken());
+        }
+        return response.body(page.competitions());
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportCompetitions(
+            @PathVariable String teamId,
+            WebRequest request) {
 
         if (teamId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid teamId provided: " + teamId);
         }
-        List<CompetitionResponseModel> list = competitionService.getAllCompetitions(teamId);
-        return ResponseEntity.ok(list);
+        Stream<CompetitionResponseModel> competitions = competitionService.streamCompetitions(teamId);
+        // runs after completion, timeout, error or client disconnect, including when the body never ran
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(competitions,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                        competitions.close();
+                    }
+                });
+
+        StreamingResponseBody body = out -> {
+            ObjectWriter writer = objectMapper.writerFor(CompetitionResponseModel.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            try (competitions;
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                         .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                int written = 0;
+                for (CompetitionResponseModel competition : (Iterable<CompetitionResponseModel>) competitions::iterator) {
+                    writer.writeValue(generator, competition);
+                    generator.writeRaw('\n');
+                    // first line goes out right away, the rest in batches
+                    if (written++ % EXPORT_FLUSH_EVERY == 0) {
+                        generator.flush();
+                    }
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @GetMapping("/{competitionId}")
@@ -0,0 +1,25 @@
+package com.athletics.competition.presentationlayer;
+
+import com.athletics.competition.dataaccesslayer.CompetitionResultEnum;
+import com.athletics.competition.dataaccesslayer.CompetitionStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompetitionCountsResponseModel {
+    private String period;
+    private long total;
+    private Map<CompetitionStatusEnum, Long> byStatus;
+    private Map<CompetitionResultEnum, Long> byResult;
+    // shares of the competitions that have a result
+    private double winRatio;
+    private double lossRatio;
+    private double drawRatio;
+}
@@ -0,0 +1,6 @@
+package com.athletics.competition.presentationlayer;
+
+import java.util.List;
+
+public record CompetitionPage(List<CompetitionResponseModel> competitions, String nextPageToken) {
+}
@@ -0,0 +1,49 @@
+package com.athletics.competition.presentationlayer;
+
+import com.athletics.competition.businesslayer.CompetitionStatisticsService;
+import com.athletics.competition.dataaccesslayer.CompetitionStatisticsBucket;
+import com.athletics.competition.dataaccesslayer.CompetitionStatisticsDimension;
+import com.athletics.competition.utils.exceptions.InvalidInputException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/v1/competition-statistics")
+public class CompetitionStatisticsController {
+
+    private final CompetitionStatisticsService statisticsService;
+
+    public CompetitionStatisticsController(CompetitionStatisticsService statisticsService) {
+        this.statisticsService = statisticsService;
+    }
+
+    @GetMapping
+    public ResponseEntity<CompetitionStatisticsResponseModel> getStatistics(
+            @RequestParam(defaultValue = "team") String groupBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String bucket) {
+
+        CompetitionStatisticsDimension dimension = parse(CompetitionStatisticsDimension.class, "groupBy", groupBy);
+        CompetitionStatisticsBucket dateBucket =
+                bucket == null ? null : parse(CompetitionStatisticsBucket.class, "bucket", bucket);
+        return ResponseEntity.ok(statisticsService.getStatistics(dimension, from, to, dateBucket));
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String name, String value) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidInputException(name + " must be one of " + Arrays.toString(type.getEnumConstants())
+                    + ": " + value);
+        }
+    }
+}
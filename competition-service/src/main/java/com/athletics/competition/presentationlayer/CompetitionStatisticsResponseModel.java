@@ -0,0 +1,24 @@
+package com.athletics.competition.presentationlayer;
+
+import com.athletics.competition.dataaccesslayer.CompetitionStatisticsBucket;
+import com.athletics.competition.dataaccesslayer.CompetitionStatisticsDimension;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompetitionStatisticsResponseModel {
+    private CompetitionStatisticsDimension groupBy;
+    private LocalDate from;
+    private LocalDate to;
+    private CompetitionStatisticsBucket bucket;
+    private CompetitionCountsResponseModel overall;
+    private List<CompetitionStatisticsGroupResponseModel> groups;
+}
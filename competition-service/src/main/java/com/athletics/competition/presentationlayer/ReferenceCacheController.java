@@ -0,0 +1,38 @@
+package com.athletics.competition.presentationlayer;
+
+import com.athletics.competition.domainclientLayer.ReferenceDataCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/reference-cache")
+public class ReferenceCacheController {
+
+    private final List<ReferenceDataCache<?>> caches;
+
+    public ReferenceCacheController(List<ReferenceDataCache<?>> caches) {
+        this.caches = caches;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<ReferenceCacheStatsResponseModel>> getCacheStats() {
+        List<ReferenceCacheStatsResponseModel> stats = caches.stream()
+                .map(cache -> {
+                    CacheStats s = cache.stats();
+                    return new ReferenceCacheStatsResponseModel(
+                            cache.getName(),
+                            cache.size(),
+                            s.hitCount(),
+                            s.missCount(),
+                            s.evictionCount(),
+                            s.hitRate());
+                })
+                .toList();
+        return ResponseEntity.ok(stats);
+    }
+}
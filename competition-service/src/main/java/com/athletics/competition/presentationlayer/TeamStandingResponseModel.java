@@ -0,0 +1,28 @@
+package com.athletics.competition.presentationlayer;
+
+import com.athletics.competition.domainclientLayer.team.TeamLevelEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamStandingResponseModel {
+    private Integer rank;
+    private String teamId;
+    private String teamName;
+    private TeamLevelEnum teamLevel;
+    private int season;
+    private int played;
+    private int wins;
+    private int losses;
+    private int draws;
+    private int points;
+    private String streak;
+    private LocalDate lastCompetitionDate;
+}
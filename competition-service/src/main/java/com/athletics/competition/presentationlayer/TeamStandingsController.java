@@ -0,0 +1,59 @@
+package com.athletics.competition.presentationlayer;
+
+import com.athletics.competition.businesslayer.TeamStandingsService;
+import com.athletics.competition.domainclientLayer.team.TeamLevelEnum;
+import com.athletics.competition.utils.exceptions.InvalidInputException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/standings")
+public class TeamStandingsController {
+
+    private final TeamStandingsService standingsService;
+
+    public TeamStandingsController(TeamStandingsService standingsService) {
+        this.standingsService = standingsService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<TeamStandingResponseModel>> getLeaderboard(
+            @RequestParam(required = false) Integer season,
+            @RequestParam(required = false) String teamLevel,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        TeamLevelEnum level = teamLevel == null ? null : parseTeamLevel(teamLevel);
+        int year = season == null ? LocalDate.now().getYear() : season;
+        return ResponseEntity.ok(standingsService.getLeaderboard(year, level, limit));
+    }
+
+    @GetMapping("/teams/{teamId}")
+    public ResponseEntity<List<TeamStandingResponseModel>> getTeamStandings(@PathVariable String teamId) {
+        return ResponseEntity.ok(standingsService.getTeamStandings(teamId));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildStandings() {
+        return ResponseEntity.ok(Map.of("standings", standingsService.rebuildStandings()));
+    }
+
+    private static TeamLevelEnum parseTeamLevel(String value) {
+        try {
+            return TeamLevelEnum.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidInputException("teamLevel must be one of " + Arrays.toString(TeamLevelEnum.values())
+                    + ": " + value);
+        }
+    }
+}
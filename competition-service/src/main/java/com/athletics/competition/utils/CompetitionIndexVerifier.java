@@ -0,0 +1,156 @@
+package com.athletics.competition.utils;
+
+import com.athletics.competition.dataaccesslayer.CompetitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// calls every CompetitionRepository query method with probe arguments once the app is up, explains the find
+// commands they actually send and warns about any that fall back to a collection scan
+@Slf4j
+public class CompetitionIndexVerifier {
+
+    static final String PROBE_ID = "00000000-0000-0000-0000-000000000000";
+    static final LocalDate PROBE_DATE = LocalDate.of(2000, 1, 1);
+    static final Sort PROBE_SORT = Sort.by(Sort.Direction.ASC, "competitionDate", "id");
+
+    private static final Set<String> EXPLAINED_FIELDS =
+            Set.of("find", "filter", "sort", "projection", "skip", "limit", "hint", "collation");
+
+    private final MongoTemplate mongoTemplate;
+    private final CompetitionRepository competitionRepository;
+    private final RepositoryQueryRecorder recorder;
+
+    public CompetitionIndexVerifier(MongoTemplate mongoTemplate,
+                                    CompetitionRepository competitionRepository,
+                                    RepositoryQueryRecorder recorder) {
+        this.mongoTemplate         = mongoTemplate;
+        this.competitionRepository = competitionRepository;
+        this.recorder              = recorder;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyIndexes() {
+        for (QueryPlan plan : explainQueryMethods()) {
+            if (plan.stages().contains("COLLSCAN")) {
+                log.warn("Index check: {} runs as a collection scan (plan {})", plan.method(), plan.stages());
+            } else {
+                log.info("Index check: {} uses {} (plan {})", plan.method(), plan.indexes(), plan.stages());
+            }
+        }
+    }
+
+    List<QueryPlan> explainQueryMethods() {
+        List<QueryPlan> plans = new ArrayList<>();
+        for (Method method : queryMethods()) {
+            try {
+                List<BsonDocument> commands = recorder.record(() -> probe(method));
+                if (commands.isEmpty()) {
+                    log.warn("Index check: {} sent no find command", method.getName());
+                }
+                for (BsonDocument command : commands) {
+                    plans.add(explain(method.getName(), command));
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Index check: could not explain {}: {}", method.getName(), ex.getMessage());
+            }
+        }
+        return plans;
+    }
+
+    // delete queries are left out so the probe can never write
+    static List<Method> queryMethods() {
+        return Arrays.stream(CompetitionRepository.class.getDeclaredMethods())
+                .filter(method -> !method.isDefault() && !method.isSynthetic()
+                        && !Modifier.isStatic(method.getModifiers()))
+                .filter(method -> !method.getName().startsWith("delete") && !method.getName().startsWith("remove"))
+                .sorted(Comparator.comparing(Method::getName).thenComparing(Method::getParameterCount))
+                .toList();
+    }
+
+    private void probe(Method method) {
+        Object[] args = Arrays.stream(method.getParameterTypes()).map(type -> probeValue(method, type)).toArray();
+        try {
+            Object result = method.invoke(competitionRepository, args);
+            if (result instanceof Stream<?> stream) {
+                stream.close();
+            }
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(ex.getCause());
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static Object probeValue(Method method, Class<?> type) {
+        if (type == String.class) {
+            return PROBE_ID;
+        }
+        if (type == LocalDate.class) {
+            return PROBE_DATE;
+        }
+        if (type == Sort.class) {
+            return PROBE_SORT;
+        }
+        if (type == Limit.class) {
+            return Limit.of(1);
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        throw new IllegalStateException("no probe value for a " + type.getSimpleName() + " parameter of "
+                + method.getName());
+    }
+
+    private QueryPlan explain(String method, BsonDocument command) {
+        BsonDocument find = new BsonDocument();
+        command.forEach((field, value) -> {
+            if (EXPLAINED_FIELDS.contains(field)) {
+                find.append(field, value);
+            }
+        });
+        Document winningPlan = mongoTemplate.getDb()
+                .runCommand(new BsonDocument("explain", find).append("verbosity", new BsonString("queryPlanner")))
+                .get("queryPlanner", Document.class)
+                .get("winningPlan", Document.class);
+
+        List<String> stages = new ArrayList<>();
+        List<String> indexes = new ArrayList<>();
+        collectPlan(winningPlan, stages, indexes);
+        return new QueryPlan(method, stages, indexes);
+    }
+
+    private void collectPlan(Object node, List<String> stages, List<String> indexes) {
+        if (node instanceof Document plan) {
+            if (plan.get("stage") instanceof String stage) {
+                stages.add(stage);
+            }
+            if (plan.get("indexName") instanceof String index) {
+                indexes.add(index);
+            }
+            plan.values().forEach(child -> collectPlan(child, stages, indexes));
+        } else if (node instanceof List<?> children) {
+            children.forEach(child -> collectPlan(child, stages, indexes));
+        }
+    }
+
+    record QueryPlan(String method, List<String> stages, List<String> indexes) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.athletics.competition.utils;
+
+import com.athletics.competition.dataaccesslayer.CompetitionRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+@Configuration
+@ConditionalOnProperty(name = "app.index-verifier.enabled", havingValue = "true", matchIfMissing = true)
+public class CompetitionIndexVerifierConfig {
+
+    @Bean
+    public RepositoryQueryRecorder repositoryQueryRecorder() {
+        return new RepositoryQueryRecorder();
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer repositoryQueryRecorderCustomizer(RepositoryQueryRecorder recorder) {
+        return builder -> builder.addCommandListener(recorder);
+    }
+
+    @Bean
+    public CompetitionIndexVerifier competitionIndexVerifier(MongoTemplate mongoTemplate,
+                                                             CompetitionRepository competitionRepository,
+                                                             RepositoryQueryRecorder recorder) {
+        return new CompetitionIndexVerifier(mongoTemplate, competitionRepository, recorder);
+    }
+}
@@ -0,0 +1,41 @@
+package com.athletics.competition.utils;
+
+import com.athletics.competition.dataaccesslayer.Competition;
+import com.athletics.competition.utils.exceptions.InvalidInputException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// opaque keyset cursor: the (competitionDate, id) of the last competition on the previous page
+public record CompetitionPageToken(LocalDate competitionDate, String id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static CompetitionPageToken after(Competition last) {
+        return new CompetitionPageToken(last.getCompetitionDate(), last.getId());
+    }
+
+    public static CompetitionPageToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int split = raw.indexOf(SEPARATOR);
+            if (split < 0 || split == raw.length() - 1) {
+                throw new IllegalArgumentException();
+            }
+            String date = raw.substring(0, split);
+            return new CompetitionPageToken(
+                    date.isEmpty() ? null : LocalDate.parse(date),
+                    raw.substring(split + 1));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidInputException("Invalid page token: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = (competitionDate == null ? "" : competitionDate.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,5 +1,6 @@
 package com.athletics.competition.utils;
 
+import com.athletics.competition.businesslayer.TeamStandingsService;
 import com.athletics.competition.dataaccesslayer.*;
 import com.athletics.competition.domainclientLayer.facility.FacilityModel;
 import com.athletics.competition.domainclientLayer.sponsor.SponsorModel;
@@ -16,6 +17,9 @@ public class DatabaseLoaderService implements CommandLineRunner {
     @Autowired
     private CompetitionRepository competitionRepository;
 
+    @Autowired
+    private TeamStandingsService teamStandingsService;
+
     @Override
     public void run(String... args) {
         var team1 = TeamModel.builder()
@@ -225,5 +229,6 @@ public class DatabaseLoaderService implements CommandLineRunner {
                 .build();
         competitionRepository.save(comp3e);
 
+        teamStandingsService.rebuildStandings();
     }
 }
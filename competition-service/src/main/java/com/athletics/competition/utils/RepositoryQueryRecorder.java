@@ -0,0 +1,40 @@
+package com.athletics.competition.utils;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.BsonDocument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// collects the find commands sent on the calling thread while a recording is open; every other thread is ignored
+public class RepositoryQueryRecorder implements CommandListener {
+
+    private final ThreadLocal<List<BsonDocument>> recording = new ThreadLocal<>();
+
+    public List<BsonDocument> record(Runnable call) {
+        List<BsonDocument> commands = new ArrayList<>();
+        recording.set(commands);
+        try {
+            call.run();
+        } finally {
+            recording.remove();
+        }
+        return commands;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if ("find".equals(event.getCommandName())) {
+            recorded(event.getCommand());
+        }
+    }
+
+    void recorded(BsonDocument command) {
+        List<BsonDocument> commands = recording.get();
+        if (commands != null) {
+            // the event's document is only valid during the callback
+            commands.add(command.clone());
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.athletics.competition.dataaccesslayer.CompetitionIdentifier;
 import com.athletics.competition.dataaccesslayer.CompetitionRepository;
 import com.athletics.competition.dataaccesslayer.CompetitionResultEnum;
 import com.athletics.competition.dataaccesslayer.CompetitionStatusEnum;
+import com.athletics.competition.dataaccesslayer.SponsorLevelOutboxEntry;
 import com.athletics.competition.domainclientLayer.facility.FacilityModel;
 import com.athletics.competition.domainclientLayer.facility.FacilityServiceClient;
 import com.athletics.competition.domainclientLayer.sponsor.SponsorModel;
@@ -13,11 +14,14 @@ import com.athletics.competition.domainclientLayer.team.TeamModel;
 import com.athletics.competition.domainclientLayer.team.TeamServiceClient;
 import com.athletics.competition.mappinglayer.CompetitionRequestMapper;
 import com.athletics.competition.mappinglayer.CompetitionResponseMapper;
+import com.athletics.competition.presentationlayer.CompetitionPage;
 import com.athletics.competition.presentationlayer.CompetitionRequestModel;
 import com.athletics.competition.presentationlayer.CompetitionResponseModel;
+import com.athletics.competition.utils.CompetitionPageToken;
 import com.athletics.competition.utils.exceptions.CompetitionDateTooFarException;
 import com.athletics.competition.utils.exceptions.InvalidInputException;
 import com.athletics.competition.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -29,21 +33,35 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest
-@TestPropertySource(properties = "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration")
+@TestPropertySource(properties = {
+        "spring.autoconfigure.exclude="
+                + "org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration,"
+                + "org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration,"
+                + "org.springframework.boot.autoconfigure.data.mongo.MongoRepositoriesAutoConfiguration,"
+                + "de.flapdoodle.embed.mongo.spring.autoconfigure.EmbeddedMongoAutoConfiguration",
+        "app.index-verifier.enabled=false"
+})
 @ActiveProfiles("test")
 class CompetitionServiceUnitTest {
 
     @Autowired
     private CompetitionService competitionService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @MockitoBean
     private TeamServiceClient teamServiceClient;
 
@@ -56,6 +74,9 @@ class CompetitionServiceUnitTest {
     @MockitoBean
     private CompetitionRepository competitionRepository;
 
+    @MockitoBean
+    private TeamStandingsService teamStandingsService;
+
     @MockitoSpyBean
     private CompetitionRequestMapper competitionRequestMapper;
 
@@ -158,6 +179,75 @@ class CompetitionServiceUnitTest {
     }
 
 
+    @Test
+    void whenGetCompetitionPageHasMore_thenReturnPageSizeAndNextToken() {
+        List<Competition> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            rows.add(Competition.builder()
+                    .id("id-" + i)
+                    .competitionIdentifier(new CompetitionIdentifier())
+                    .competitionName("C" + i)
+                    .competitionDate(LocalDate.of(2025, 1, 1 + i))
+                    .team(team).sponsor(sponsor).facility(facility)
+                    .build());
+        }
+        when(teamServiceClient.getTeamByTeamId(TEAM_ID)).thenReturn(team);
+        when(competitionRepository.findByTeam_TeamId(eq(TEAM_ID), any(), any())).thenReturn(rows);
+
+        CompetitionPage page = competitionService.getCompetitionPage(TEAM_ID, 2, null);
+
+        assertEquals(2, page.competitions().size());
+        CompetitionPageToken next = CompetitionPageToken.decode(page.nextPageToken());
+        assertEquals(LocalDate.of(2025, 1, 2), next.competitionDate());
+        assertEquals("id-1", next.id());
+        verify(competitionRepository).findByTeam_TeamId(eq(TEAM_ID), any(),
+                argThat(limit -> limit.max() == 3));
+    }
+
+    @Test
+    void whenGetCompetitionPageWithToken_thenQueryAfterCursorAndStopOnLastPage() {
+        String token = new CompetitionPageToken(LocalDate.of(2025, 1, 2), "id-1").encode();
+        Competition last = Competition.builder()
+                .id("id-2")
+                .competitionIdentifier(new CompetitionIdentifier())
+                .competitionDate(LocalDate.of(2025, 1, 3))
+                .team(team).sponsor(sponsor).facility(facility)
+                .build();
+        when(teamServiceClient.getTeamByTeamId(TEAM_ID)).thenReturn(team);
+        when(competitionRepository.findByTeam_TeamIdAfter(
+                eq(TEAM_ID), eq(LocalDate.of(2025, 1, 2)), eq("id-1"), any(), any()))
+                .thenReturn(List.of(last));
+
+        CompetitionPage page = competitionService.getCompetitionPage(TEAM_ID, 2, token);
+
+        assertEquals(1, page.competitions().size());
+        assertNull(page.nextPageToken());
+    }
+
+    @Test
+    void whenStreamCompetitions_thenMapEachRowFromTheCursor() {
+        Competition comp = Competition.builder()
+                .competitionIdentifier(new CompetitionIdentifier())
+                .competitionName("A")
+                .team(team).sponsor(sponsor).facility(facility)
+                .build();
+        when(teamServiceClient.getTeamByTeamId(TEAM_ID)).thenReturn(team);
+        when(competitionRepository.streamByTeam_TeamId(eq(TEAM_ID), any())).thenReturn(Stream.of(comp));
+
+        try (Stream<CompetitionResponseModel> exported = competitionService.streamCompetitions(TEAM_ID)) {
+            List<CompetitionResponseModel> all = exported.toList();
+            assertEquals(1, all.size());
+            assertEquals(comp.getCompetitionIdentifier().getCompetitionId(), all.get(0).getCompetitionId());
+        }
+    }
+
+    @Test
+    void whenGetCompetitionPageWithMalformedToken_thenThrowInvalidInput() {
+        assertThrows(InvalidInputException.class,
+                () -> competitionService.getCompetitionPage(TEAM_ID, 2, "not-a-token"));
+        verifyNoInteractions(competitionRepository);
+    }
+
     @Test
     void whenGetCompetitionByIdExists_thenReturnMapped() {
         CompetitionIdentifier cid = new CompetitionIdentifier();
@@ -296,7 +386,65 @@ class CompetitionServiceUnitTest {
     }
 
     @Test
-    void whenCreateCompetition_statusCompleted_triggersSponsorPatch() {
+    void whenCreateCompetition_lookupsRunConcurrently() {
+        CountDownLatch allStarted = new CountDownLatch(3);
+        when(teamServiceClient.getTeamByTeamId(TEAM_ID))
+                .thenAnswer(inv -> awaitOthers(allStarted, team));
+        when(sponsorServiceClient.getSponsorBySponsorId(SPONSOR_ID))
+                .thenAnswer(inv -> awaitOthers(allStarted, sponsor));
+        when(facilityServiceClient.getFacilityByFacilityId(FACILITY_ID))
+                .thenAnswer(inv -> awaitOthers(allStarted, facility));
+        when(competitionRepository.save(any(Competition.class)))
+                .thenAnswer(inv -> inv.getArgument(0));
+
+        CompetitionResponseModel result = competitionService.createCompetition(TEAM_ID, validRequest);
+
+        assertEquals(TEAM_ID, result.getTeamId());
+        assertEquals(0, allStarted.getCount());
+    }
+
+    @Test
+    void whenCreateCompetition_sponsorLookupFails_thenPropagateNotFound() {
+        when(teamServiceClient.getTeamByTeamId(TEAM_ID)).thenReturn(team);
+        when(sponsorServiceClient.getSponsorBySponsorId(SPONSOR_ID))
+                .thenThrow(new NotFoundException("sponsor not found"));
+        when(facilityServiceClient.getFacilityByFacilityId(FACILITY_ID)).thenReturn(facility);
+
+        assertThrows(NotFoundException.class,
+                () -> competitionService.createCompetition(TEAM_ID, validRequest));
+        verify(competitionRepository, never()).save(any());
+    }
+
+    @Test
+    void whenCreateCompetition_lookupFails_thenSlowLookupIsInterrupted() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(teamServiceClient.getTeamByTeamId(TEAM_ID)).thenAnswer(inv -> {
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+            }
+            return team;
+        });
+        when(sponsorServiceClient.getSponsorBySponsorId(SPONSOR_ID))
+                .thenThrow(new NotFoundException("sponsor not found"));
+        when(facilityServiceClient.getFacilityByFacilityId(FACILITY_ID)).thenReturn(facility);
+
+        assertThrows(NotFoundException.class,
+                () -> competitionService.createCompetition(TEAM_ID, validRequest));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    private static <T> T awaitOthers(CountDownLatch latch, T value) throws InterruptedException {
+        latch.countDown();
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("lookups were not issued concurrently");
+        }
+        return value;
+    }
+
+    @Test
+    void whenCreateCompetition_statusCompleted_queuesSponsorLevelChange() {
         validRequest.setCompetitionStatus(CompetitionStatusEnum.COMPLETED);
 
         when(teamServiceClient.getTeamByTeamId(TEAM_ID)).thenReturn(team);
@@ -325,23 +473,16 @@ class CompetitionServiceUnitTest {
         when(competitionRepository.save(any(Competition.class)))
                 .thenAnswer(inv -> inv.getArgument(0));
 
-        when(sponsorServiceClient.patchSponsorLevelBySponsorId(
-                eq(SPONSOR_ID), anyString()))
-                .thenReturn(
-                        SponsorModel.builder()
-                                .sponsorId(SPONSOR_ID)
-                                .sponsorName("Nike")
-                                .sponsorLevel("PLATINUM")
-                                .sponsorAmount(0.0)
-                                .build()
-                );
-
         CompetitionResponseModel dto = competitionService.createCompetition(TEAM_ID, validRequest);
 
         assertNotNull(dto);
-        verify(sponsorServiceClient, times(1))
-                .patchSponsorLevelBySponsorId(eq(SPONSOR_ID), anyString());
-        verify(competitionRepository, times(2)).save(any(Competition.class));
+        ArgumentCaptor<Competition> saved = ArgumentCaptor.forClass(Competition.class);
+        verify(competitionRepository, times(1)).save(saved.capture());
+        assertEquals(1, saved.getValue().getSponsorOutbox().size());
+        SponsorLevelOutboxEntry outbox = saved.getValue().getSponsorOutbox().get(0);
+        assertEquals(SPONSOR_ID, outbox.getSponsorId());
+        assertEquals("PLATINUM", outbox.getSponsorLevel());
+        verify(sponsorServiceClient, never()).patchSponsorLevelBySponsorId(anyString(), anyString());
     }
 
 
@@ -389,8 +530,8 @@ class CompetitionServiceUnitTest {
                         eq(facility)
                 );
 
-        when(competitionRepository.save(any(Competition.class)))
-                .thenAnswer(inv -> inv.getArgument(0));
+        when(competitionRepository.applyChanges(eq(existing), any(Competition.class), any()))
+                .thenAnswer(inv -> inv.getArgument(1));
 
         CompetitionResponseModel result =
                 competitionService.updateCompetition(TEAM_ID, existingId.getCompetitionId(), validRequest);
@@ -400,7 +541,33 @@ class CompetitionServiceUnitTest {
         verify(competitionRequestMapper).requestModelToEntity(
                 eq(validRequest), eq(existingId), eq(team), eq(sponsor), eq(facility)
         );
-        verify(competitionRepository).save(any(Competition.class));
+        verify(competitionRepository).applyChanges(eq(existing), any(Competition.class), isNull());
+        verify(competitionRepository, never()).save(any(Competition.class));
+    }
+
+    @Test
+    void whenUpdateCompetitionIsDeletedMeanwhile_thenThrowNotFound() {
+        CompetitionIdentifier cid = new CompetitionIdentifier();
+        Competition existing = Competition.builder()
+                .competitionIdentifier(cid)
+                .team(team)
+                .sponsor(sponsor)
+                .facility(facility)
+                .build();
+
+        when(teamServiceClient.getTeamByTeamId(TEAM_ID)).thenReturn(team);
+        when(competitionRepository
+                .findByTeam_TeamIdAndCompetitionIdentifier_CompetitionId(TEAM_ID, cid.getCompetitionId()))
+                .thenReturn(existing);
+        when(sponsorServiceClient.getSponsorBySponsorId(SPONSOR_ID)).thenReturn(sponsor);
+        when(facilityServiceClient.getFacilityByFacilityId(FACILITY_ID)).thenReturn(facility);
+        when(competitionRequestMapper.requestModelToEntity(eq(validRequest), eq(cid), eq(team), eq(sponsor), eq(facility)))
+                .thenReturn(existing.toBuilder().competitionName("Renamed").build());
+        when(competitionRepository.applyChanges(eq(existing), any(Competition.class), any())).thenReturn(null);
+
+        assertThrows(NotFoundException.class,
+                () -> competitionService.updateCompetition(TEAM_ID, cid.getCompetitionId(), validRequest));
+        verifyNoInteractions(teamStandingsService);
     }
 
     @Test
@@ -480,7 +647,7 @@ class CompetitionServiceUnitTest {
     }
 
     @Test
-    void whenUpdateCompetition_statusCompleted_triggersSponsorPatch() {
+    void whenUpdateCompetition_statusCompleted_queuesSponsorLevelChange() {
         CompetitionIdentifier cid = new CompetitionIdentifier();
         Competition existing = Competition.builder()
                 .competitionIdentifier(cid)
@@ -512,22 +679,21 @@ class CompetitionServiceUnitTest {
         ).when(competitionRequestMapper)
                 .requestModelToEntity(eq(validRequest), eq(cid), eq(team), eq(sponsor), eq(facility));
 
-        when(competitionRepository.save(any(Competition.class)))
-                .thenAnswer(inv -> inv.getArgument(0));
-
-        when(sponsorServiceClient.patchSponsorLevelBySponsorId(eq(SPONSOR_ID), anyString()))
-                .thenReturn(sponsor);
+        Competition stored = existing.toBuilder().competitionStatus(CompetitionStatusEnum.COMPLETED).build();
+        when(competitionRepository.applyChanges(eq(existing), any(Competition.class), any())).thenReturn(stored);
 
         competitionService.updateCompetition(TEAM_ID, cid.getCompetitionId(), validRequest);
 
-        verify(sponsorServiceClient, times(1))
-                .patchSponsorLevelBySponsorId(eq(SPONSOR_ID), anyString());
-        verify(competitionRepository, times(2)).save(any(Competition.class));
+        ArgumentCaptor<SponsorLevelOutboxEntry> queued = ArgumentCaptor.forClass(SponsorLevelOutboxEntry.class);
+        verify(competitionRepository, times(1)).applyChanges(eq(existing), any(Competition.class), queued.capture());
+        assertEquals(SPONSOR_ID, queued.getValue().getSponsorId());
+        assertEquals("PLATINUM", queued.getValue().getSponsorLevel());
+        verify(sponsorServiceClient, never()).patchSponsorLevelBySponsorId(anyString(), anyString());
+        verify(teamStandingsService).competitionChanged(existing, stored);
     }
 
-
     @Test
-    void whenDeleteCompetition_happyPath_thenSoftDeleteAndPatchSponsor() {
+    void whenDeleteCompetition_happyPath_thenSoftDeleteAndQueueSponsorReset() {
         CompetitionIdentifier cid = new CompetitionIdentifier();
         Competition comp = Competition.builder()
                 .competitionIdentifier(cid)
@@ -542,23 +708,51 @@ class CompetitionServiceUnitTest {
                 .findByTeam_TeamIdAndCompetitionIdentifier_CompetitionId(TEAM_ID, cid.getCompetitionId()))
                 .thenReturn(comp);
 
-        when(sponsorServiceClient.patchSponsorLevelBySponsorId(eq(SPONSOR_ID), eq("NONE")))
-                .thenReturn(
-                        SponsorModel.builder()
-                                .sponsorId(SPONSOR_ID)
-                                .sponsorName("Nike")
-                                .sponsorLevel("NONE")
-                                .sponsorAmount(0.0)
-                                .build()
-                );
-        when(competitionRepository.save(any(Competition.class)))
-                .thenAnswer(i -> i.getArgument(0));
+        when(competitionRepository.applyChanges(eq(comp), any(Competition.class), any()))
+                .thenAnswer(i -> i.getArgument(1));
+
+        competitionService.deleteCompetition(TEAM_ID, cid.getCompetitionId());
+
+        ArgumentCaptor<Competition> changed = ArgumentCaptor.forClass(Competition.class);
+        ArgumentCaptor<SponsorLevelOutboxEntry> queued = ArgumentCaptor.forClass(SponsorLevelOutboxEntry.class);
+        verify(competitionRepository, times(1)).applyChanges(eq(comp), changed.capture(), queued.capture());
+        assertEquals(CompetitionStatusEnum.CANCELLED, changed.getValue().getCompetitionStatus());
+        assertEquals("NONE", queued.getValue().getSponsorLevel());
+        verify(competitionRepository, never()).save(any(Competition.class));
+        verify(sponsorServiceClient, never()).patchSponsorLevelBySponsorId(anyString(), anyString());
+    }
+
+    @Test
+    void whenDeleteCompetition_thenStandingsSeeThePreviousStatus() {
+        CompetitionIdentifier cid = new CompetitionIdentifier();
+        Competition comp = Competition.builder()
+                .competitionIdentifier(cid)
+                .competitionDate(LocalDate.of(2025, 6, 1))
+                .team(team)
+                .sponsor(sponsor)
+                .facility(facility)
+                .competitionStatus(CompetitionStatusEnum.COMPLETED)
+                .competitionResult(CompetitionResultEnum.WIN)
+                .build();
+
+        when(competitionRepository
+                .findByTeam_TeamIdAndCompetitionIdentifier_CompetitionId(TEAM_ID, cid.getCompetitionId()))
+                .thenReturn(comp);
+        when(competitionRepository.applyChanges(eq(comp), any(Competition.class), any()))
+                .thenAnswer(i -> i.getArgument(1));
+        doThrow(new IllegalStateException("standings unavailable"))
+                .when(teamStandingsService).competitionChanged(any(), any());
+        double failuresBefore = meterRegistry.counter("standings.update.failures").count();
 
         competitionService.deleteCompetition(TEAM_ID, cid.getCompetitionId());
 
-        verify(competitionRepository, times(2)).save(any(Competition.class));
-        verify(sponsorServiceClient, times(1))
-                .patchSponsorLevelBySponsorId(eq(SPONSOR_ID), eq("NONE"));
+        assertEquals(failuresBefore + 1, meterRegistry.counter("standings.update.failures").count());
+
+        ArgumentCaptor<Competition> previous = ArgumentCaptor.forClass(Competition.class);
+        ArgumentCaptor<Competition> current = ArgumentCaptor.forClass(Competition.class);
+        verify(teamStandingsService).competitionChanged(previous.capture(), current.capture());
+        assertEquals(CompetitionStatusEnum.COMPLETED, previous.getValue().getCompetitionStatus());
+        assertEquals(CompetitionStatusEnum.CANCELLED, current.getValue().getCompetitionStatus());
     }
 
     @Test
@@ -0,0 +1,123 @@
+package com.athletics.competition.businesslayer;
+
+import com.athletics.competition.dataaccesslayer.CompetitionCounts;
+import com.athletics.competition.dataaccesslayer.CompetitionRepository;
+import com.athletics.competition.dataaccesslayer.CompetitionResultEnum;
+import com.athletics.competition.dataaccesslayer.CompetitionStatistics;
+import com.athletics.competition.dataaccesslayer.CompetitionStatisticsBucket;
+import com.athletics.competition.dataaccesslayer.CompetitionStatisticsDimension;
+import com.athletics.competition.dataaccesslayer.CompetitionStatusEnum;
+import com.athletics.competition.presentationlayer.CompetitionCountsResponseModel;
+import com.athletics.competition.presentationlayer.CompetitionStatisticsGroupResponseModel;
+import com.athletics.competition.presentationlayer.CompetitionStatisticsResponseModel;
+import com.athletics.competition.utils.exceptions.InvalidInputException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CompetitionStatisticsServiceUnitTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 12, 31);
+
+    private CompetitionRepository competitionRepository;
+    private CompetitionStatisticsService statisticsService;
+
+    @BeforeEach
+    void setUp() {
+        competitionRepository = mock(CompetitionRepository.class);
+        statisticsService = new CompetitionStatisticsServiceImpl(competitionRepository);
+    }
+
+    @Test
+    void whenGroupsHaveResults_thenRatiosAreSharesOfDecidedCompetitions() {
+        CompetitionCounts eagles = counts("t1", "Eagles", null, 6,
+                Map.of(CompetitionStatusEnum.COMPLETED, 4L, CompetitionStatusEnum.SCHEDULED, 2L),
+                Map.of(CompetitionResultEnum.WIN, 2L, CompetitionResultEnum.LOSS, 1L, CompetitionResultEnum.DRAW, 1L));
+        CompetitionCounts hawks = counts("t2", "Hawks", null, 2,
+                Map.of(CompetitionStatusEnum.SCHEDULED, 2L), Map.of());
+        when(competitionRepository.aggregateStatistics(CompetitionStatisticsDimension.TEAM, FROM, TO, null))
+                .thenReturn(new CompetitionStatistics(List.of(eagles, hawks), List.of()));
+
+        CompetitionStatisticsResponseModel statistics =
+                statisticsService.getStatistics(CompetitionStatisticsDimension.TEAM, FROM, TO, null);
+
+        assertEquals(CompetitionStatisticsDimension.TEAM, statistics.getGroupBy());
+        assertEquals(2, statistics.getGroups().size());
+
+        CompetitionCountsResponseModel eaglesTotals = statistics.getGroups().get(0).getTotals();
+        assertEquals(6, eaglesTotals.getTotal());
+        assertEquals(0.5, eaglesTotals.getWinRatio());
+        assertEquals(0.25, eaglesTotals.getLossRatio());
+        assertEquals(0.25, eaglesTotals.getDrawRatio());
+        assertEquals(0L, eaglesTotals.getByStatus().get(CompetitionStatusEnum.CANCELLED));
+        assertTrue(statistics.getGroups().get(0).getPeriods().isEmpty());
+
+        CompetitionCountsResponseModel hawksTotals = statistics.getGroups().get(1).getTotals();
+        assertEquals(0.0, hawksTotals.getWinRatio());
+        assertEquals(0L, hawksTotals.getByResult().get(CompetitionResultEnum.WIN));
+
+        CompetitionCountsResponseModel overall = statistics.getOverall();
+        assertEquals(8, overall.getTotal());
+        assertEquals(4L, overall.getByStatus().get(CompetitionStatusEnum.SCHEDULED));
+        assertEquals(4L, overall.getByStatus().get(CompetitionStatusEnum.COMPLETED));
+        assertEquals(0.5, overall.getWinRatio());
+    }
+
+    @Test
+    void whenBucketRequested_thenPeriodsAreAttachedToTheirGroup() {
+        CompetitionCounts nike = counts("s1", "Nike", null, 3,
+                Map.of(CompetitionStatusEnum.COMPLETED, 3L), Map.of(CompetitionResultEnum.WIN, 3L));
+        CompetitionCounts june = counts("s1", "Nike", "2025-06", 2,
+                Map.of(CompetitionStatusEnum.COMPLETED, 2L), Map.of(CompetitionResultEnum.WIN, 2L));
+        CompetitionCounts july = counts("s1", "Nike", "2025-07", 1,
+                Map.of(CompetitionStatusEnum.COMPLETED, 1L), Map.of(CompetitionResultEnum.WIN, 1L));
+        when(competitionRepository.aggregateStatistics(
+                CompetitionStatisticsDimension.SPONSOR, null, null, CompetitionStatisticsBucket.MONTH))
+                .thenReturn(new CompetitionStatistics(List.of(nike), List.of(june, july)));
+
+        CompetitionStatisticsGroupResponseModel group = statisticsService.getStatistics(
+                CompetitionStatisticsDimension.SPONSOR, null, null, CompetitionStatisticsBucket.MONTH)
+                .getGroups().get(0);
+
+        assertEquals("s1", group.getKey());
+        assertEquals("Nike", group.getName());
+        assertNull(group.getTotals().getPeriod());
+        assertEquals(List.of("2025-06", "2025-07"),
+                group.getPeriods().stream().map(CompetitionCountsResponseModel::getPeriod).toList());
+        assertEquals(1.0, group.getPeriods().get(0).getWinRatio());
+    }
+
+    @Test
+    void whenNothingMatches_thenOverallIsZero() {
+        when(competitionRepository.aggregateStatistics(any(), any(), any(), any()))
+                .thenReturn(new CompetitionStatistics(List.of(), List.of()));
+
+        CompetitionStatisticsResponseModel statistics =
+                statisticsService.getStatistics(CompetitionStatisticsDimension.FACILITY, FROM, TO, null);
+
+        assertTrue(statistics.getGroups().isEmpty());
+        assertEquals(0, statistics.getOverall().getTotal());
+        assertEquals(0.0, statistics.getOverall().getDrawRatio());
+    }
+
+    @Test
+    void whenFromIsAfterTo_thenThrowInvalidInput() {
+        assertThrows(InvalidInputException.class, () ->
+                statisticsService.getStatistics(CompetitionStatisticsDimension.TEAM, TO, FROM, null));
+        verifyNoInteractions(competitionRepository);
+    }
+
+    private static CompetitionCounts counts(String key, String name, String period, long total,
+                                            Map<CompetitionStatusEnum, Long> byStatus,
+                                            Map<CompetitionResultEnum, Long> byResult) {
+        return new CompetitionCounts(key, name, period, total, byStatus, byResult);
+    }
+}
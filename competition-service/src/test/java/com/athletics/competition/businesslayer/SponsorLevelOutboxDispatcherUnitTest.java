@@ -0,0 +1,193 @@
+package com.athletics.competition.businesslayer;
+
+import com.athletics.competition.dataaccesslayer.Competition;
+import com.athletics.competition.dataaccesslayer.SponsorLevelOutboxEntry;
+import com.athletics.competition.domainclientLayer.sponsor.SponsorModel;
+import com.athletics.competition.domainclientLayer.sponsor.SponsorServiceClient;
+import com.athletics.competition.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SponsorLevelOutboxDispatcherUnitTest {
+
+    private static final String SPONSOR_ID = "e8f9a0b1-c2d3-e4f5-a6b7-c8d9e0f1a2b3";
+    private static final String OTHER_SPONSOR_ID = "f9a0b1c2-d3e4-f5a6-b7c8-d9e0f1a2b3c4";
+
+    private MongoTemplate mongoTemplate;
+    private SponsorServiceClient sponsorServiceClient;
+    private MeterRegistry meterRegistry;
+    private SponsorLevelOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        sponsorServiceClient = mock(SponsorServiceClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new SponsorLevelOutboxDispatcher(mongoTemplate, sponsorServiceClient,
+                50, Duration.ofSeconds(1), Duration.ofMinutes(5), 3, meterRegistry);
+    }
+
+    @Test
+    void whenNothingDue_thenSponsorServiceIsNotCalled() {
+        when(mongoTemplate.find(any(Query.class), eq(Competition.class))).thenReturn(List.of());
+
+        dispatcher.dispatch();
+
+        verifyNoInteractions(sponsorServiceClient);
+    }
+
+    @Test
+    void whenSeveralChangesForOneSponsor_thenOnlyTheLatestIsSent() {
+        SponsorLevelOutboxEntry older = entry("PLATINUM", Instant.now().minusSeconds(10), 0);
+        SponsorLevelOutboxEntry newer = entry("NONE", Instant.now().minusSeconds(5), 0);
+        when(mongoTemplate.find(any(Query.class), eq(Competition.class)))
+                .thenReturn(List.of(queued(older), queued(newer)));
+        SponsorModel patched = SponsorModel.builder().sponsorId(SPONSOR_ID).sponsorLevel("NONE").build();
+        when(sponsorServiceClient.patchSponsorLevelBySponsorId(SPONSOR_ID, "NONE")).thenReturn(patched);
+
+        dispatcher.dispatch();
+
+        verify(sponsorServiceClient, times(1)).patchSponsorLevelBySponsorId(anyString(), anyString());
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateMulti(any(Query.class), updates.capture(), eq(Competition.class));
+        assertEquals(patched, setOf(updates.getAllValues().get(0)).get("sponsor"));
+        assertTrue(updates.getAllValues().get(1).getUpdateObject().containsKey("$pull"));
+    }
+
+    @Test
+    void whenCompetitionQueuesChangesForTwoSponsors_thenBothAreSent() {
+        SponsorLevelOutboxEntry previous = SponsorLevelOutboxEntry.pending(OTHER_SPONSOR_ID, "NONE");
+        SponsorLevelOutboxEntry current = entry("PLATINUM", Instant.now(), 0);
+        when(mongoTemplate.find(any(Query.class), eq(Competition.class)))
+                .thenReturn(List.of(queued(previous, current)));
+        when(sponsorServiceClient.patchSponsorLevelBySponsorId(anyString(), anyString()))
+                .thenReturn(SponsorModel.builder().build());
+
+        dispatcher.dispatch();
+
+        verify(sponsorServiceClient).patchSponsorLevelBySponsorId(OTHER_SPONSOR_ID, "NONE");
+        verify(sponsorServiceClient).patchSponsorLevelBySponsorId(SPONSOR_ID, "PLATINUM");
+    }
+
+    @Test
+    void whenEntryNotYetDue_thenItIsSkipped() {
+        SponsorLevelOutboxEntry due = entry("PLATINUM", Instant.now(), 0);
+        SponsorLevelOutboxEntry later = SponsorLevelOutboxEntry.pending(OTHER_SPONSOR_ID, "NONE");
+        later.setNextAttemptAt(Instant.now().plusSeconds(60));
+        when(mongoTemplate.find(any(Query.class), eq(Competition.class)))
+                .thenReturn(List.of(queued(due, later)));
+        when(sponsorServiceClient.patchSponsorLevelBySponsorId(anyString(), anyString()))
+                .thenReturn(SponsorModel.builder().build());
+
+        dispatcher.dispatch();
+
+        verify(sponsorServiceClient).patchSponsorLevelBySponsorId(SPONSOR_ID, "PLATINUM");
+        verify(sponsorServiceClient, never()).patchSponsorLevelBySponsorId(eq(OTHER_SPONSOR_ID), anyString());
+    }
+
+    @Test
+    void whenSponsorServiceUnavailable_thenEntryIsRescheduledWithBackoff() {
+        SponsorLevelOutboxEntry pending = entry("PLATINUM", Instant.now(), 1);
+        when(mongoTemplate.find(any(Query.class), eq(Competition.class))).thenReturn(List.of(queued(pending)));
+        when(sponsorServiceClient.patchSponsorLevelBySponsorId(SPONSOR_ID, "PLATINUM"))
+                .thenThrow(new ResourceAccessException("connection refused"));
+
+        Instant before = Instant.now();
+        dispatcher.dispatch();
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateMulti(any(Query.class), update.capture(), eq(Competition.class));
+        Instant next = (Instant) setOf(update.getValue()).get("sponsorOutbox.$[e].nextAttemptAt");
+        assertFalse(next.isBefore(before.plusSeconds(2)));
+        assertEquals("connection refused", setOf(update.getValue()).get("sponsorOutbox.$[e].lastError"));
+    }
+
+    @Test
+    void whenMaxAttemptsReached_thenEntryMovesToDeadLetters() {
+        SponsorLevelOutboxEntry pending = entry("PLATINUM", Instant.now(), 2);
+        when(mongoTemplate.find(any(Query.class), eq(Competition.class))).thenReturn(List.of(queued(pending)));
+        when(sponsorServiceClient.patchSponsorLevelBySponsorId(SPONSOR_ID, "PLATINUM"))
+                .thenThrow(new ResourceAccessException("connection refused"));
+
+        dispatcher.dispatch();
+
+        SponsorLevelOutboxEntry dead = deadLetter();
+        assertEquals(pending.getEventId(), dead.getEventId());
+        assertEquals(3, dead.getAttempts());
+        assertNull(dead.getNextAttemptAt());
+        assertEquals("connection refused", dead.getLastError());
+        assertPulledFromCompetitions();
+    }
+
+    @Test
+    void whenSponsorRejectsChange_thenEntryMovesToDeadLettersImmediately() {
+        SponsorLevelOutboxEntry pending = entry("PLATINUM", Instant.now(), 0);
+        when(mongoTemplate.find(any(Query.class), eq(Competition.class))).thenReturn(List.of(queued(pending)));
+        when(sponsorServiceClient.patchSponsorLevelBySponsorId(SPONSOR_ID, "PLATINUM"))
+                .thenThrow(new NotFoundException("Sponsor not found"));
+
+        dispatcher.dispatch();
+
+        SponsorLevelOutboxEntry dead = deadLetter();
+        assertEquals(1, dead.getAttempts());
+        assertEquals("Sponsor not found", dead.getLastError());
+        assertPulledFromCompetitions();
+    }
+
+    @Test
+    void whenDeadLettersAreStored_thenGaugeReportsTheirCount() {
+        when(mongoTemplate.estimatedCount(SponsorLevelOutboxDispatcher.DEAD_LETTERS)).thenReturn(4L);
+
+        assertEquals(4.0, meterRegistry.get("sponsor.outbox.dead.letters").gauge().value());
+    }
+
+    @Test
+    void whenBackoffGrows_thenItIsCappedAtMax() {
+        assertEquals(Duration.ofSeconds(1), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(8), dispatcher.backoff(4));
+        assertEquals(Duration.ofMinutes(5), dispatcher.backoff(40));
+    }
+
+    private static SponsorLevelOutboxEntry entry(String level, Instant createdAt, int attempts) {
+        SponsorLevelOutboxEntry entry = SponsorLevelOutboxEntry.pending(SPONSOR_ID, level);
+        entry.setCreatedAt(createdAt);
+        entry.setAttempts(attempts);
+        return entry;
+    }
+
+    private static Competition queued(SponsorLevelOutboxEntry... entries) {
+        return Competition.builder().sponsorOutbox(List.of(entries)).build();
+    }
+
+    private SponsorLevelOutboxEntry deadLetter() {
+        ArgumentCaptor<SponsorLevelOutboxEntry> dead = ArgumentCaptor.forClass(SponsorLevelOutboxEntry.class);
+        verify(mongoTemplate).insert(dead.capture(), eq(SponsorLevelOutboxDispatcher.DEAD_LETTERS));
+        return dead.getValue();
+    }
+
+    private void assertPulledFromCompetitions() {
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateMulti(any(Query.class), update.capture(), eq(Competition.class));
+        assertTrue(update.getValue().getUpdateObject().containsKey("$pull"));
+    }
+
+    private static Document setOf(Update update) {
+        return update.getUpdateObject().get("$set", Document.class);
+    }
+}
@@ -0,0 +1,227 @@
+package com.athletics.competition.businesslayer;
+
+import com.athletics.competition.dataaccesslayer.Competition;
+import com.athletics.competition.dataaccesslayer.CompetitionIdentifier;
+import com.athletics.competition.dataaccesslayer.CompetitionRepository;
+import com.athletics.competition.dataaccesslayer.CompetitionResultEnum;
+import com.athletics.competition.dataaccesslayer.CompetitionStatusEnum;
+import com.athletics.competition.dataaccesslayer.TeamStanding;
+import com.athletics.competition.dataaccesslayer.TeamStandingRepository;
+import com.athletics.competition.domainclientLayer.team.TeamLevelEnum;
+import com.athletics.competition.domainclientLayer.team.TeamModel;
+import com.athletics.competition.presentationlayer.TeamStandingResponseModel;
+import com.athletics.competition.utils.exceptions.InvalidInputException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TeamStandingsServiceUnitTest {
+
+    private static final String EAGLES = "11111111-1111-1111-1111-111111111111";
+    private static final String HAWKS = "22222222-2222-2222-2222-222222222222";
+    private static final String EAGLES_2024 = TeamStanding.idOf(EAGLES, 2024);
+    private static final String EAGLES_2025 = TeamStanding.idOf(EAGLES, 2025);
+
+    private TeamStandingRepository teamStandingRepository;
+    private CompetitionRepository competitionRepository;
+    private TeamStandingsService standingsService;
+
+    @BeforeEach
+    void setUp() {
+        teamStandingRepository = mock(TeamStandingRepository.class);
+        competitionRepository = mock(CompetitionRepository.class);
+        standingsService = new TeamStandingsServiceImpl(teamStandingRepository, competitionRepository);
+    }
+
+    @Test
+    void whenCompetitionCompletes_thenItsResultIsAddedToTheStanding() {
+        Competition completed = competition(EAGLES, LocalDate.of(2025, 6, 1),
+                CompetitionStatusEnum.COMPLETED, CompetitionResultEnum.WIN);
+        givenSeasonResults(EAGLES, 2025, completed);
+
+        standingsService.competitionChanged(null, completed);
+
+        TeamStanding delta = incremented().get(0);
+        assertEquals(EAGLES_2025, delta.getId());
+        assertEquals(EAGLES, delta.getTeamId());
+        assertEquals(2025, delta.getSeason());
+        assertEquals(TeamLevelEnum.COLLEGE, delta.getTeamLevel());
+        assertEquals(1, delta.getPlayed());
+        assertEquals(1, delta.getWins());
+        assertEquals(3, delta.getPoints());
+        verify(teamStandingRepository).updateLatest(EAGLES_2025, "W1", LocalDate.of(2025, 6, 1));
+    }
+
+    @Test
+    void whenResultChanges_thenOnlyTheDifferenceIsApplied() {
+        Competition first = competition(EAGLES, LocalDate.of(2025, 5, 1),
+                CompetitionStatusEnum.COMPLETED, CompetitionResultEnum.LOSS);
+        Competition second = competition(EAGLES, LocalDate.of(2025, 6, 1),
+                CompetitionStatusEnum.COMPLETED, CompetitionResultEnum.DRAW);
+        Competition third = competition(EAGLES, LocalDate.of(2025, 7, 1),
+                CompetitionStatusEnum.COMPLETED, CompetitionResultEnum.DRAW);
+
+        Competition secondIsNowALoss = second.toBuilder().competitionResult(CompetitionResultEnum.LOSS).build();
+        givenSeasonResults(EAGLES, 2025, third, secondIsNowALoss, first);
+        standingsService.competitionChanged(second, secondIsNowALoss);
+
+        List<TeamStanding> deltas = incremented();
+        assertEquals(1, deltas.size());
+        assertEquals(0, deltas.get(0).getPlayed());
+        assertEquals(1, deltas.get(0).getLosses());
+        assertEquals(-1, deltas.get(0).getDraws());
+        assertEquals(-1, deltas.get(0).getPoints());
+        verify(teamStandingRepository).updateLatest(EAGLES_2025, "D1", LocalDate.of(2025, 7, 1));
+    }
+
+    @Test
+    void whenLatestResultsMatch_thenTheStreakCountsUntilTheResultChanges() {
+        Competition completed = competition(EAGLES, LocalDate.of(2025, 8, 1),
+                CompetitionStatusEnum.COMPLETED, CompetitionResultEnum.WIN);
+        givenSeasonResults(EAGLES, 2025,
+                completed,
+                competition(EAGLES, LocalDate.of(2025, 7, 1), CompetitionStatusEnum.COMPLETED, CompetitionResultEnum.WIN),
+                competition(EAGLES, LocalDate.of(2025, 6, 1), CompetitionStatusEnum.COMPLETED, CompetitionResultEnum.LOSS),
+                competition(EAGLES, LocalDate.of(2025, 5, 1), CompetitionStatusEnum.COMPLETED, CompetitionResultEnum.WIN));
+
+        standingsService.competitionChanged(null, completed);
+
+        verify(teamStandingRepository).updateLatest(EAGLES_2025, "W2", LocalDate.of(2025, 8, 1));
+    }
+
+    @Test
+    void whenLastCountedCompetitionIsCancelled_thenItsResultIsRemoved() {
+        Competition completed = competition(EAGLES, LocalDate.of(2025, 6, 1),
+                CompetitionStatusEnum.COMPLETED, CompetitionResultEnum.WIN);
+
+        standingsService.competitionChanged(completed,
+                completed.toBuilder().competitionStatus(CompetitionStatusEnum.CANCELLED).build());
+
+        TeamStanding delta = incremented().get(0);
+        assertEquals(-1, delta.getPlayed());
+        assertEquals(-1, delta.getWins());
+        assertEquals(-3, delta.getPoints());
+        assertNull(delta.getTeamName());
+        verify(teamStandingRepository, never()).updateLatest(any(), any(), any());
+        verify(teamStandingRepository, never()).save(any());
+    }
+
+    @Test
+    void whenCompetitionMovesToAnotherSeason_thenItLeavesTheOldStanding() {
+        Competition moved = competition(EAGLES, LocalDate.of(2024, 12, 20),
+                CompetitionStatusEnum.COMPLETED, CompetitionResultEnum.WIN);
+        Competition kept = competition(EAGLES, LocalDate.of(2024, 11, 1),
+                CompetitionStatusEnum.COMPLETED, CompetitionResultEnum.DRAW);
+        Competition movedToJanuary = moved.toBuilder().competitionDate(LocalDate.of(2025, 1, 5)).build();
+        givenSeasonResults(EAGLES, 2024, kept);
+        givenSeasonResults(EAGLES, 2025, movedToJanuary);
+
+        standingsService.competitionChanged(moved, movedToJanuary);
+
+        Map<Integer, TeamStanding> bySeason = incremented().stream()
+                .collect(Collectors.toMap(TeamStanding::getSeason, Function.identity()));
+        assertEquals(-3, bySeason.get(2024).getPoints());
+        assertEquals(3, bySeason.get(2025).getPoints());
+        verify(teamStandingRepository).updateLatest(EAGLES_2024, "D1", LocalDate.of(2024, 11, 1));
+        verify(teamStandingRepository).updateLatest(EAGLES_2025, "W1", LocalDate.of(2025, 1, 5));
+    }
+
+    @Test
+    void whenNeitherVersionIsCompleted_thenStandingsAreNotTouched() {
+        Competition scheduled = competition(EAGLES, LocalDate.of(2025, 6, 1),
+                CompetitionStatusEnum.SCHEDULED, CompetitionResultEnum.WIN);
+
+        standingsService.competitionChanged(scheduled,
+                scheduled.toBuilder().competitionStatus(CompetitionStatusEnum.CANCELLED).build());
+
+        verifyNoInteractions(teamStandingRepository);
+    }
+
+    @Test
+    void whenRebuilding_thenStandingsAreReplacedInPlaceAndStaleOnesDropped() {
+        when(competitionRepository.streamByCompetitionStatus(eq(CompetitionStatusEnum.COMPLETED), any(Sort.class)))
+                .thenReturn(Stream.of(
+                        competition(EAGLES, LocalDate.of(2024, 7, 1), CompetitionStatusEnum.COMPLETED, CompetitionResultEnum.LOSS),
+                        competition(EAGLES, LocalDate.of(2025, 5, 1), CompetitionStatusEnum.COMPLETED, CompetitionResultEnum.DRAW),
+                        competition(EAGLES, LocalDate.of(2025, 6, 1), CompetitionStatusEnum.COMPLETED, CompetitionResultEnum.WIN),
+                        competition(EAGLES, LocalDate.of(2025, 7, 1), CompetitionStatusEnum.COMPLETED, CompetitionResultEnum.WIN),
+                        competition(HAWKS, LocalDate.of(2025, 7, 1), CompetitionStatusEnum.COMPLETED, null)));
+
+        assertEquals(2, standingsService.rebuildStandings());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<TeamStanding>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(teamStandingRepository).saveAll(saved.capture());
+        Map<String, TeamStanding> byId = saved.getValue().stream()
+                .collect(Collectors.toMap(TeamStanding::getId, Function.identity()));
+        assertEquals(3, byId.get(EAGLES_2025).getPlayed());
+        assertEquals(7, byId.get(EAGLES_2025).getPoints());
+        assertEquals("W2", byId.get(EAGLES_2025).getStreak());
+        assertEquals(LocalDate.of(2025, 7, 1), byId.get(EAGLES_2025).getLastCompetitionDate());
+        assertEquals(1, byId.get(EAGLES_2024).getLosses());
+        verify(teamStandingRepository).deleteByIdNotIn(Set.of(EAGLES_2024, EAGLES_2025));
+        verify(teamStandingRepository, never()).deleteAll();
+    }
+
+    @Test
+    void whenLeaderboardRequested_thenRanksFollowTheQueryOrder() {
+        when(teamStandingRepository.findBySeasonAndTeamLevel(
+                eq(2025), eq(TeamLevelEnum.COLLEGE), any(), eq(Limit.of(2))))
+                .thenReturn(List.of(
+                        TeamStanding.builder().teamId(EAGLES).season(2025).points(9).build(),
+                        TeamStanding.builder().teamId(HAWKS).season(2025).points(4).build()));
+
+        List<TeamStandingResponseModel> leaderboard = standingsService.getLeaderboard(2025, TeamLevelEnum.COLLEGE, 2);
+
+        assertEquals(List.of(1, 2), leaderboard.stream().map(TeamStandingResponseModel::getRank).toList());
+        assertEquals(EAGLES, leaderboard.get(0).getTeamId());
+        verify(teamStandingRepository, never()).findBySeason(anyInt(), any(), any());
+    }
+
+    @Test
+    void whenLeaderboardLimitIsOutOfRange_thenThrowInvalidInput() {
+        assertThrows(InvalidInputException.class, () -> standingsService.getLeaderboard(2025, null, 0));
+        assertThrows(InvalidInputException.class, () ->
+                standingsService.getLeaderboard(2025, null, TeamStandingsServiceImpl.MAX_LEADERBOARD_SIZE + 1));
+        verifyNoInteractions(teamStandingRepository);
+    }
+
+    private void givenSeasonResults(String teamId, int season, Competition... latestFirst) {
+        when(competitionRepository.streamSeasonResults(eq(teamId), eq(CompetitionStatusEnum.COMPLETED),
+                eq(LocalDate.of(season, 1, 1)), eq(LocalDate.of(season, 12, 31)), any(Sort.class)))
+                .thenAnswer(inv -> Stream.of(latestFirst));
+    }
+
+    private List<TeamStanding> incremented() {
+        ArgumentCaptor<TeamStanding> deltas = ArgumentCaptor.forClass(TeamStanding.class);
+        verify(teamStandingRepository, atLeastOnce()).incrementCounts(deltas.capture());
+        return deltas.getAllValues();
+    }
+
+    private static Competition competition(String teamId, LocalDate date,
+                                           CompetitionStatusEnum status, CompetitionResultEnum result) {
+        return Competition.builder()
+                .competitionIdentifier(new CompetitionIdentifier())
+                .competitionDate(date)
+                .competitionStatus(status)
+                .competitionResult(result)
+                .team(TeamModel.builder().teamId(teamId).teamName("Team " + teamId).teamLevel("COLLEGE").build())
+                .build();
+    }
+}
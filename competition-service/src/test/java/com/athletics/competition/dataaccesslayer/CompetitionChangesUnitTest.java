@@ -0,0 +1,125 @@
+package com.athletics.competition.dataaccesslayer;
+
+import com.athletics.competition.domainclientLayer.facility.FacilityModel;
+import com.athletics.competition.domainclientLayer.sponsor.SponsorModel;
+import com.athletics.competition.domainclientLayer.team.TeamModel;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CompetitionChangesUnitTest {
+
+    private static final String SPONSOR_ID = "e8f9a0b1-c2d3-e4f5-a6b7-c8d9e0f1a2b3";
+
+    private MongoTemplate mongoTemplate;
+    private CompetitionChangesImpl changes;
+    private Competition current;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        changes = new CompetitionChangesImpl(mongoTemplate);
+        current = Competition.builder()
+                .id("c1")
+                .competitionName("Spring Invitational")
+                .competitionDate(LocalDate.of(2025, 6, 1))
+                .competitionStatus(CompetitionStatusEnum.SCHEDULED)
+                .team(TeamModel.builder().teamId("t1").teamName("Falcons").build())
+                .sponsor(SponsorModel.builder().sponsorId(SPONSOR_ID).sponsorLevel("PLATINUM").build())
+                .facility(FacilityModel.builder().facilityId("f1").build())
+                .build();
+    }
+
+    @Test
+    void whenFieldsChange_thenOnlyThoseAreSet() {
+        Competition changed = current.toBuilder()
+                .competitionName("Summer Invitational")
+                .competitionStatus(CompetitionStatusEnum.COMPLETED)
+                .competitionResult(CompetitionResultEnum.WIN)
+                .build();
+
+        changes.applyChanges(current, changed, null);
+
+        Document set = setOf(appliedUpdate());
+        assertEquals("Summer Invitational", set.get("competitionName"));
+        assertEquals(CompetitionStatusEnum.COMPLETED, set.get("competitionStatus"));
+        assertEquals(CompetitionResultEnum.WIN, set.get("competitionResult"));
+        assertEquals(3, set.size());
+        verify(mongoTemplate, never()).save(any());
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(Competition.class));
+    }
+
+    @Test
+    void whenSponsorIsUnchanged_thenStoredSnapshotIsKept() {
+        Competition changed = current.toBuilder()
+                .competitionName("Summer Invitational")
+                .sponsor(SponsorModel.builder().sponsorId(SPONSOR_ID).sponsorLevel("NONE").build())
+                .build();
+
+        changes.applyChanges(current, changed, null);
+
+        assertFalse(setOf(appliedUpdate()).containsKey("sponsor"));
+    }
+
+    @Test
+    void whenSponsorChanges_thenSnapshotIsReplaced() {
+        SponsorModel other = SponsorModel.builder().sponsorId("other-sponsor").sponsorLevel("NONE").build();
+
+        changes.applyChanges(current, current.toBuilder().sponsor(other).build(), null);
+
+        assertEquals(other, setOf(appliedUpdate()).get("sponsor"));
+    }
+
+    @Test
+    void whenChangeIsQueued_thenSameSponsorsOlderEntryIsPulledBeforeItIsPushed() {
+        SponsorLevelOutboxEntry queued = SponsorLevelOutboxEntry.pending(SPONSOR_ID, "PLATINUM");
+
+        changes.applyChanges(current, current.toBuilder().competitionStatus(CompetitionStatusEnum.COMPLETED).build(),
+                queued);
+
+        InOrder order = inOrder(mongoTemplate);
+        ArgumentCaptor<Update> pull = ArgumentCaptor.forClass(Update.class);
+        order.verify(mongoTemplate).updateFirst(any(Query.class), pull.capture(), eq(Competition.class));
+        Document pulled = pull.getValue().getUpdateObject().get("$pull", Document.class)
+                .get("sponsorOutbox", Document.class);
+        assertEquals(SPONSOR_ID, pulled.get("sponsorId"));
+        assertEquals(new Document("$lt", queued.getCreatedAt()), pulled.get("createdAt"));
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        order.verify(mongoTemplate).findAndModify(any(Query.class), update.capture(),
+                any(FindAndModifyOptions.class), eq(Competition.class));
+        assertSame(queued, update.getValue().getUpdateObject().get("$push", Document.class).get("sponsorOutbox"));
+    }
+
+    @Test
+    void whenNothingChanges_thenStoredCompetitionIsReturnedUnmodified() {
+        when(mongoTemplate.findOne(any(Query.class), eq(Competition.class))).thenReturn(current);
+
+        assertSame(current, changes.applyChanges(current, current.toBuilder().build(), null));
+        verify(mongoTemplate, never()).findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(Competition.class));
+    }
+
+    private Update appliedUpdate() {
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(any(Query.class), update.capture(),
+                any(FindAndModifyOptions.class), eq(Competition.class));
+        return update.getValue();
+    }
+
+    private static Document setOf(Update update) {
+        return update.getUpdateObject().get("$set", Document.class);
+    }
+}
@@ -0,0 +1,57 @@
+package com.athletics.competition.domainclientLayer;
+
+import io.micrometer.common.KeyValues;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+import java.net.URI;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DownstreamClientTagsUnitTest {
+
+    private static final String TEAM_ID = "c3540a89-cb47-4c96-888e-ff96708db4d8";
+
+    private final DownstreamClientTags tags = new DownstreamClientTags(Map.of("localhost:7001", "team-service"));
+
+    @Test
+    void whenUrlCarriesAnId_thenUriTagUsesPlaceholder() {
+        KeyValues keyValues = keyValuesFor("http://localhost:7001/api/v1/teams/" + TEAM_ID);
+
+        assertEquals("/api/v1/teams/{id}", value(keyValues, "uri"));
+        assertEquals("team-service", value(keyValues, "service"));
+    }
+
+    @Test
+    void whenUrlCarriesAQueryString_thenUriTagDropsIt() {
+        KeyValues keyValues = keyValuesFor("http://localhost:7001/api/v1/teams/batch?ids=" + TEAM_ID);
+
+        assertEquals("/api/v1/teams/batch", value(keyValues, "uri"));
+    }
+
+    @Test
+    void whenHostIsUnknown_thenServiceTagIsNone() {
+        KeyValues keyValues = keyValuesFor("http://elsewhere:9000/api/v1/teams/" + TEAM_ID + "?page=2");
+
+        assertEquals("/api/v1/teams/{id}", value(keyValues, "uri"));
+        assertEquals("none", value(keyValues, "service"));
+    }
+
+    private KeyValues keyValuesFor(String url) {
+        ClientRequestObservationContext context =
+                new ClientRequestObservationContext(new MockClientHttpRequest(HttpMethod.GET, URI.create(url)));
+        context.setUriTemplate(url);
+        return tags.restTemplateConvention().getLowCardinalityKeyValues(context);
+    }
+
+    private static String value(KeyValues keyValues, String key) {
+        return keyValues.stream()
+                .filter(keyValue -> keyValue.getKey().equals(key))
+                .findFirst()
+                .orElseThrow()
+                .getValue();
+    }
+}
@@ -0,0 +1,116 @@
+package com.athletics.competition.domainclientLayer;
+
+import com.athletics.competition.utils.exceptions.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferenceDataCacheUnitTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ReferenceDataCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ReferenceDataCache<>("test", 2, Duration.ofMinutes(10), Duration.ofSeconds(30), nanos::get);
+    }
+
+    @Test
+    void whenLoadedTwice_thenSecondCallIsHit() {
+        assertEquals("value-a", cache.get("a", this::load));
+        assertEquals("value-a", cache.get("a", this::load));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    void whenTtlElapsed_thenReload() {
+        cache.get("a", this::load);
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+        cache.get("a", this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.stats().evictionCount());
+    }
+
+    @Test
+    void whenNotFound_thenNegativeResultIsCachedBriefly() {
+        assertThrows(NotFoundException.class, () -> cache.get("missing", this::notFound));
+        assertThrows(NotFoundException.class, () -> cache.get("missing", this::notFound));
+        assertEquals(1, loads.get());
+
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertThrows(NotFoundException.class, () -> cache.get("missing", this::notFound));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void whenLoaderFailsOtherwise_thenNothingIsCached() {
+        assertThrows(IllegalStateException.class, () -> cache.get("a", id -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("down");
+        }));
+        assertEquals("value-a", cache.get("a", this::load));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void whenMaxSizeExceeded_thenEvict() {
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+        cache.get("c", this::load);
+        cache.get("d", this::load);
+
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.stats().evictionCount());
+    }
+
+    @Test
+    void whenPut_thenServedWithoutLoading() {
+        cache.put("a", "patched");
+
+        assertEquals("patched", cache.get("a", this::load));
+        assertEquals(0, loads.get());
+    }
+
+    private String load(String id) {
+        loads.incrementAndGet();
+        return "value-" + id;
+    }
+
+    private String notFound(String id) {
+        loads.incrementAndGet();
+        throw new NotFoundException("no " + id);
+    }
+
+    @Test
+    void whenGetAll_thenOnlyMissesAreLoadedInOneCallAndAbsentIdsAreNegative() {
+        ReferenceDataCache<String> batchCache =
+                new ReferenceDataCache<>("test", 10, Duration.ofMinutes(10), Duration.ofSeconds(30), nanos::get);
+        batchCache.get("a", this::load);
+        AtomicReference<Set<String>> requested = new AtomicReference<>();
+
+        Map<String, String> found = batchCache.getAll(List.of("a", "b", "missing"), ids -> {
+            requested.set(ids);
+            return Map.of("b", "value-b");
+        });
+
+        assertEquals(Set.of("b", "missing"), requested.get());
+        assertEquals(Map.of("a", "value-a", "b", "value-b"), found);
+        assertThrows(NotFoundException.class, () -> batchCache.get("missing", this::load));
+        assertEquals(1, loads.get());
+    }
+}
@@ -0,0 +1,59 @@
+package com.athletics.competition.domainclientLayer.sponsor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SponsorServiceClientUnitTest {
+
+    private static final String SPONSOR_ID = "e8f9a0b1-c2d3-e4f5-a6b7-c8d9e0f1a2b3";
+
+    private final SponsorServiceClient client =
+            new SponsorServiceClient(null, new ObjectMapper(), null, "localhost", "7002");
+
+    @Test
+    void whenResponseHasUnknownFields_thenTheyAreSkipped() throws IOException {
+        SponsorModel sponsor = client.ACLSponsorModelFromJson(body("{\"version\":7,\"sponsorId\":\"" + SPONSOR_ID
+                + "\",\"_links\":{\"self\":{\"href\":\"http://x\"}},\"sponsorName\":\"Acme\","
+                + "\"sponsorLevel\":\"GOLD\",\"sponsorAmount\":25000.5}"));
+
+        assertEquals(new SponsorModel(SPONSOR_ID, "Acme", "GOLD", 25000.5), sponsor);
+    }
+
+    @Test
+    void whenSponsorLevelIsLowerCaseAndAmountIsText_thenBothAreNormalised() throws IOException {
+        SponsorModel sponsor = client.ACLSponsorModelFromJson(body("{\"sponsorId\":\"" + SPONSOR_ID + "\","
+                + "\"sponsorName\":\"Acme\",\"sponsorLevel\":\"platinum\",\"sponsorAmount\":\"1000\"}"));
+
+        assertEquals("PLATINUM", sponsor.getSponsorLevel());
+        assertEquals(1000.0, sponsor.getSponsorAmount());
+    }
+
+    @Test
+    void whenBatchResponse_thenEverySponsorIsParsed() throws IOException {
+        List<SponsorModel> sponsors = client.ACLSponsorModelListFromJson(body("[{\"sponsorId\":\"s1\","
+                + "\"sponsorName\":\"A\",\"sponsorLevel\":\"NONE\",\"sponsorAmount\":0},{\"sponsorId\":\"s2\","
+                + "\"sponsorName\":\"B\",\"sponsorLevel\":\"bronze\",\"sponsorAmount\":10}]"));
+
+        assertEquals(List.of(new SponsorModel("s1", "A", "NONE", 0.0),
+                new SponsorModel("s2", "B", "BRONZE", 10.0)), sponsors);
+    }
+
+    @Test
+    void whenResponseHasWrongShape_thenThrowMismatchedInput() {
+        assertThrows(MismatchedInputException.class, () -> client.ACLSponsorModelFromJson(body("\"GOLD\"")));
+        assertThrows(MismatchedInputException.class, () -> client.ACLSponsorModelListFromJson(body("{}")));
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,66 @@
+package com.athletics.competition.domainclientLayer.team;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TeamServiceClientUnitTest {
+
+    private static final String TEAM_ID = "a1b2c3d4-e5f6-7a8b-9c0d-1e2f3a4b5c6d";
+
+    private final TeamServiceClient client =
+            new TeamServiceClient(null, new ObjectMapper(), null, "localhost", "7001");
+
+    @Test
+    void whenResponseHasUnknownFields_thenTheyAreSkipped() throws IOException {
+        TeamModel team = client.ACLTeamModelFromJson(body("{\"version\":3,\"teamId\":\"" + TEAM_ID + "\","
+                + "\"_links\":{\"self\":{\"href\":\"http://x/api/v1/teams/1\"}},\"teamName\":\"Eagles\","
+                + "\"tags\":[\"a\",{\"b\":[1,2]}],\"coachName\":\"Coach Carter\",\"teamLevel\":\"COLLEGE\"}"));
+
+        assertEquals(new TeamModel(TEAM_ID, "Eagles", "Coach Carter", "COLLEGE"), team);
+    }
+
+    @Test
+    void whenTeamLevelIsLowerCase_thenItIsNormalised() throws IOException {
+        TeamModel team = client.ACLTeamModelFromJson(body("{\"teamId\":\"" + TEAM_ID + "\","
+                + "\"teamName\":\"Eagles\",\"coachName\":\"Coach Carter\",\"teamLevel\":\"high_school\"}"));
+
+        assertEquals("HIGH_SCHOOL", team.getTeamLevel());
+    }
+
+    @Test
+    void whenTeamLevelIsUnknown_thenThrowIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> client.ACLTeamModelFromJson(body(
+                "{\"teamId\":\"" + TEAM_ID + "\",\"teamLevel\":\"AMATEUR\"}")));
+    }
+
+    @Test
+    void whenBatchResponse_thenEveryTeamIsParsed() throws IOException {
+        List<TeamModel> teams = client.ACLTeamModelListFromJson(body("[{\"teamId\":\"t1\",\"teamName\":\"A\","
+                + "\"coachName\":\"C1\",\"teamLevel\":\"NATIONAL\"},{\"teamId\":\"t2\",\"teamName\":\"B\","
+                + "\"coachName\":\"C2\",\"teamLevel\":\"professional\",\"extra\":null}]"));
+
+        assertEquals(List.of(new TeamModel("t1", "A", "C1", "NATIONAL"),
+                new TeamModel("t2", "B", "C2", "PROFESSIONAL")), teams);
+        assertTrue(client.ACLTeamModelListFromJson(body("[]")).isEmpty());
+    }
+
+    @Test
+    void whenResponseHasWrongShape_thenThrowMismatchedInput() {
+        assertThrows(MismatchedInputException.class, () -> client.ACLTeamModelFromJson(body("[]")));
+        assertThrows(MismatchedInputException.class, () -> client.ACLTeamModelListFromJson(body("{}")));
+        assertThrows(MismatchedInputException.class, () -> client.ACLTeamModelFromJson(body("")));
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,6 +1,7 @@
 package com.athletics.competition.presentationlayer;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.ExpectedCount.manyTimes;
 import static org.springframework.test.web.client.ExpectedCount.once;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
@@ -8,6 +9,7 @@ import static org.springframework.test.web.client.response.MockRestResponseCreat
 
 import com.athletics.competition.dataaccesslayer.Competition;
 import com.athletics.competition.dataaccesslayer.CompetitionRepository;
+import com.athletics.competition.domainclientLayer.ReferenceDataCache;
 import com.athletics.competition.domainclientLayer.facility.FacilityModel;
 import com.athletics.competition.domainclientLayer.facility.FacilityServiceClient;
 import com.athletics.competition.domainclientLayer.sponsor.SponsorModel;
@@ -29,6 +31,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -40,6 +43,7 @@ import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.client.RestTemplate;
 
 import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -56,6 +60,9 @@ class CompetitionControllerIntegrationTest {
     @Autowired
     private CompetitionRepository competitionRepository;
 
+    @Autowired
+    private List<ReferenceDataCache<?>> referenceCaches;
+
     private MockRestServiceServer mockServer;
     private ObjectMapper mapper;
 
@@ -83,6 +90,7 @@ class CompetitionControllerIntegrationTest {
         }
 
         mockServer = MockRestServiceServer.createServer(restTemplate);
+        referenceCaches.forEach(ReferenceDataCache::invalidateAll);
 
         assertTrue(competitionRepository.count() > 0);
 
@@ -179,6 +187,42 @@ class CompetitionControllerIntegrationTest {
         mockServer.verify();
     }
 
+    @Test
+    void whenGetCompetitionWithMatchingIfNoneMatch_thenReturnNotModified() throws Exception {
+        TeamModel teamModel = TeamModel.builder()
+                .teamId(VALID_TEAM_ID)
+                .teamName("Montreal Eagles")
+                .coachName("John Smith")
+                .teamLevel("COLLEGE")
+                .build();
+
+        mockServer.expect(manyTimes(),
+                        requestTo(new URI(TEAM_SERVICE_BASE_URI + "/" + VALID_TEAM_ID)))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(
+                        mapper.writeValueAsString(teamModel),
+                        MediaType.APPLICATION_JSON
+                ));
+
+        String etag = webClient.get()
+                .uri(BASE_URI + "/" + VALID_TEAM_ID + "/competitions/" + VALID_COMPETITION_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        webClient.get()
+                .uri(BASE_URI + "/" + VALID_TEAM_ID + "/competitions/" + VALID_COMPETITION_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
     @Test
     void whenGetCompetitionByIdWithInvalidTeamId_thenReturnUnprocessableEntity() {
         webClient.get()
@@ -732,26 +776,18 @@ class CompetitionControllerIntegrationTest {
                 .findByTeam_TeamIdAndCompetitionIdentifier_CompetitionId(VALID_TEAM_ID, VALID_COMPETITION_ID)
                 .getSponsor().getSponsorId();
 
-        SponsorModel noneSponsor = SponsorModel.builder()
-                .sponsorId(sponsorId)
-                .sponsorName("Nike")
-                .sponsorLevel("NONE")
-                .sponsorAmount(0.0)
-                .build();
-
-        mockServer.expect(once(),
-                        requestTo(new URI(SPONSOR_SERVICE_BASE_URI + "/" + sponsorId + "/level")))
-                .andExpect(method(HttpMethod.PATCH))
-                .andRespond(withSuccess(
-                        mapper.writeValueAsString(noneSponsor),
-                        MediaType.APPLICATION_JSON
-                ));
-
         webClient.delete()
                 .uri(BASE_URI + "/" + VALID_TEAM_ID + "/competitions/" + VALID_COMPETITION_ID)
                 .exchange()
                 .expectStatus().isNoContent();
 
+        Competition cancelled = competitionRepository
+                .findByTeam_TeamIdAndCompetitionIdentifier_CompetitionId(VALID_TEAM_ID, VALID_COMPETITION_ID);
+        assertEquals(CompetitionStatusEnum.CANCELLED, cancelled.getCompetitionStatus());
+        assertEquals(1, cancelled.getSponsorOutbox().size());
+        assertEquals(sponsorId, cancelled.getSponsorOutbox().get(0).getSponsorId());
+        assertEquals("NONE", cancelled.getSponsorOutbox().get(0).getSponsorLevel());
+
         mockServer.verify();
     }
 
@@ -800,7 +836,7 @@ class CompetitionControllerIntegrationTest {
                 .andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
 
         SponsorServiceClient client =
-                new SponsorServiceClient(restTemplate, mapper, "localhost", "7002");
+                new SponsorServiceClient(restTemplate, mapper, freshCache(), "localhost", "7002");
 
         List<SponsorModel> result = client.getAllSponsors();
         assertEquals(1, result.size());
@@ -828,7 +864,7 @@ class CompetitionControllerIntegrationTest {
                 .andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
 
         TeamServiceClient client =
-                new TeamServiceClient(restTemplate, mapper, "localhost", "7001");
+                new TeamServiceClient(restTemplate, mapper, freshCache(), "localhost", "7001");
 
         List<TeamModel> result = client.getAllTeams();
         assertEquals(1, result.size());
@@ -856,7 +892,7 @@ class CompetitionControllerIntegrationTest {
                 .andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
 
         FacilityServiceClient client =
-                new FacilityServiceClient(restTemplate, mapper, "localhost", "7003");
+                new FacilityServiceClient(restTemplate, mapper, freshCache(), "localhost", "7003");
 
         List<FacilityModel> result = client.getAllFacilities();
         assertEquals(1, result.size());
@@ -883,7 +919,7 @@ class CompetitionControllerIntegrationTest {
                         .body(body)
                 );
 
-        SponsorServiceClient client = new SponsorServiceClient(restTemplate, mapper, "localhost", "7002");
+        SponsorServiceClient client = new SponsorServiceClient(restTemplate, mapper, freshCache(), "localhost", "7002");
 
         assertThrows(NotFoundException.class,
                 () -> client.patchSponsorLevelBySponsorId(sponsorId, "GOLD"));
@@ -908,7 +944,7 @@ class CompetitionControllerIntegrationTest {
                         .body(body)
                 );
 
-        SponsorServiceClient client = new SponsorServiceClient(restTemplate, mapper, "localhost", "7002");
+        SponsorServiceClient client = new SponsorServiceClient(restTemplate, mapper, freshCache(), "localhost", "7002");
 
         assertThrows(InvalidInputException.class,
                 () -> client.patchSponsorLevelBySponsorId(sponsorId, "INVALID"));
@@ -923,11 +959,14 @@ class CompetitionControllerIntegrationTest {
                 .andExpect(method(HttpMethod.PATCH))
                 .andRespond(withSuccess("this-is-not-json", MediaType.APPLICATION_JSON));
 
-        SponsorServiceClient client = new SponsorServiceClient(restTemplate, mapper, "localhost", "7002");
+        SponsorServiceClient client = new SponsorServiceClient(restTemplate, mapper, freshCache(), "localhost", "7002");
 
         assertThrows(RuntimeException.class,
                 () -> client.patchSponsorLevelBySponsorId(sponsorId, "GOLD"));
         mockServer.verify();
     }
 
+    private static <T> ReferenceDataCache<T> freshCache() {
+        return new ReferenceDataCache<>("test", 100, Duration.ofMinutes(1), Duration.ofSeconds(30));
+    }
 }
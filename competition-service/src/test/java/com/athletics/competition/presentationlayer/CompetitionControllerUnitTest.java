@@ -9,13 +9,22 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
 
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -40,18 +49,76 @@ class CompetitionControllerUnitTest {
         when(service.getAllCompetitions(VALID_TEAM_ID)).thenReturn(Collections.emptyList());
 
         ResponseEntity<List<CompetitionResponseModel>> response =
-                controller.getAllCompetitions(VALID_TEAM_ID);
+                controller.getAllCompetitions(VALID_TEAM_ID, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertTrue(response.getBody().isEmpty());
         verify(service).getAllCompetitions(VALID_TEAM_ID);
     }
 
+    @Test
+    public void whenGetCompetitionPage_thenReturnNextPageTokenHeader() {
+        when(service.getCompetitionPage(VALID_TEAM_ID, 5, null))
+                .thenReturn(new CompetitionPage(Collections.emptyList(), "next"));
+
+        ResponseEntity<List<CompetitionResponseModel>> response =
+                controller.getAllCompetitions(VALID_TEAM_ID, 5, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("next", response.getHeaders().getFirst("X-Next-Page-Token"));
+        verify(service, never()).getAllCompetitions(any());
+    }
+
+    @Test
+    public void whenGetCompetitionPageWithOversizedPage_thenThrowInvalidInputException() {
+        assertThrows(
+                InvalidInputException.class,
+                () -> controller.getAllCompetitions(VALID_TEAM_ID, 1000, null)
+        );
+        verify(service, never()).getCompetitionPage(any(), anyInt(), any());
+    }
+
+    @Test
+    public void whenExportCompetitions_thenWriteOneJsonObjectPerLine() throws Exception {
+        CompetitionResponseModel first = new CompetitionResponseModel();
+        first.setCompetitionId(VALID_COMPETITION_ID);
+        CompetitionResponseModel second = new CompetitionResponseModel();
+        second.setCompetitionId(NOT_FOUND_COMPETITION_ID);
+        when(service.streamCompetitions(VALID_TEAM_ID)).thenReturn(Stream.of(first, second));
+
+        ResponseEntity<StreamingResponseBody> response =
+                controller.exportCompetitions(VALID_TEAM_ID, new ServletWebRequest(new MockHttpServletRequest()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        String[] lines = out.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains(VALID_COMPETITION_ID));
+        assertTrue(lines[1].contains(NOT_FOUND_COMPETITION_ID));
+    }
+
+    @Test
+    public void whenExportBodyNeverRuns_thenAsyncCompletionClosesTheStream() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<CompetitionResponseModel> competitions =
+                Stream.of(new CompetitionResponseModel()).onClose(() -> closed.set(true));
+        when(service.streamCompetitions(VALID_TEAM_ID)).thenReturn(competitions);
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+
+        controller.exportCompetitions(VALID_TEAM_ID, request);
+        assertFalse(closed.get());
+        WebAsyncUtils.getAsyncManager(request).getCallableInterceptor(competitions)
+                .afterCompletion(request, () -> null);
+
+        assertTrue(closed.get());
+    }
+
     @Test
     public void whenGetAllCompetitionsWithInvalidTeamId_thenThrowInvalidInputException() {
         InvalidInputException ex = assertThrows(
                 InvalidInputException.class,
-                () -> controller.getAllCompetitions(INVALID_TEAM_ID)
+                () -> controller.getAllCompetitions(INVALID_TEAM_ID, null, null)
         );
         assertEquals("Invalid teamId provided: " + INVALID_TEAM_ID, ex.getMessage());
         verify(service, never()).getAllCompetitions(any());
@@ -0,0 +1,137 @@
+package com.athletics.competition.presentationlayer;
+
+import com.athletics.competition.dataaccesslayer.Competition;
+import com.athletics.competition.dataaccesslayer.CompetitionRepository;
+import com.athletics.competition.dataaccesslayer.CompetitionResultEnum;
+import com.athletics.competition.dataaccesslayer.CompetitionStatisticsDimension;
+import com.athletics.competition.dataaccesslayer.CompetitionStatusEnum;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class CompetitionStatisticsControllerIntegrationTest {
+
+    private static final String BASE_URI = "/api/v1/competition-statistics";
+    private static final LocalDate FROM = LocalDate.of(2025, 7, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 9, 30);
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @Autowired
+    private CompetitionRepository competitionRepository;
+
+    @Test
+    void whenGroupedByTeam_thenCountsMatchTheStoredCompetitions() {
+        List<Competition> all = competitionRepository.findAll();
+
+        CompetitionStatisticsResponseModel statistics = getStatistics(BASE_URI + "?groupBy=team");
+
+        assertEquals(CompetitionStatisticsDimension.TEAM, statistics.getGroupBy());
+        assertEquals(all.size(), statistics.getOverall().getTotal());
+        assertGroupsMatch(all, competition -> competition.getTeam().getTeamId(), statistics);
+    }
+
+    @Test
+    void whenGroupedBySponsorWithinDateRange_thenOnlyThatRangeIsCounted() {
+        List<Competition> inRange = competitionRepository.findAll().stream()
+                .filter(c -> c.getCompetitionDate() != null
+                        && !c.getCompetitionDate().isBefore(FROM) && !c.getCompetitionDate().isAfter(TO))
+                .toList();
+
+        CompetitionStatisticsResponseModel statistics =
+                getStatistics(BASE_URI + "?groupBy=sponsor&from=" + FROM + "&to=" + TO);
+
+        assertEquals(FROM, statistics.getFrom());
+        assertEquals(TO, statistics.getTo());
+        assertEquals(inRange.size(), statistics.getOverall().getTotal());
+        assertGroupsMatch(inRange, competition -> competition.getSponsor().getSponsorId(), statistics);
+    }
+
+    @Test
+    void whenBucketedByMonth_thenEachGroupHasItsMonthlyCounts() {
+        List<Competition> all = competitionRepository.findAll();
+        DateTimeFormatter month = DateTimeFormatter.ofPattern("yyyy-MM");
+
+        CompetitionStatisticsResponseModel statistics = getStatistics(BASE_URI + "?groupBy=facility&bucket=month");
+
+        for (CompetitionStatisticsGroupResponseModel group : statistics.getGroups()) {
+            Map<String, Long> expected = all.stream()
+                    .filter(c -> group.getKey().equals(c.getFacility().getFacilityId()))
+                    .collect(Collectors.groupingBy(c -> c.getCompetitionDate().format(month), Collectors.counting()));
+            Map<String, Long> actual = group.getPeriods().stream()
+                    .collect(Collectors.toMap(CompetitionCountsResponseModel::getPeriod,
+                            CompetitionCountsResponseModel::getTotal));
+            assertEquals(expected, actual, group.getKey());
+
+            List<String> periods = group.getPeriods().stream().map(CompetitionCountsResponseModel::getPeriod).toList();
+            assertEquals(periods.stream().sorted().toList(), periods);
+        }
+    }
+
+    @Test
+    void whenGroupByIsUnknown_thenReturnUnprocessableEntity() {
+        webClient.get()
+                .uri(BASE_URI + "?groupBy=coach")
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("$.message").value(message -> assertTrue(message.toString().contains("groupBy")));
+    }
+
+    @Test
+    void whenFromIsAfterTo_thenReturnUnprocessableEntity() {
+        webClient.get()
+                .uri(BASE_URI + "?from=" + TO + "&to=" + FROM)
+                .exchange()
+                .expectStatus().isEqualTo(422);
+    }
+
+    private CompetitionStatisticsResponseModel getStatistics(String uri) {
+        CompetitionStatisticsResponseModel statistics = webClient.get()
+                .uri(uri)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CompetitionStatisticsResponseModel.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(statistics);
+        return statistics;
+    }
+
+    private static void assertGroupsMatch(List<Competition> competitions,
+                                          Function<Competition, String> key,
+                                          CompetitionStatisticsResponseModel statistics) {
+        Map<String, List<Competition>> expected = competitions.stream().collect(Collectors.groupingBy(key));
+        assertEquals(expected.keySet(), statistics.getGroups().stream()
+                .map(CompetitionStatisticsGroupResponseModel::getKey)
+                .collect(Collectors.toSet()));
+
+        for (CompetitionStatisticsGroupResponseModel group : statistics.getGroups()) {
+            List<Competition> rows = expected.get(group.getKey());
+            CompetitionCountsResponseModel totals = group.getTotals();
+            assertEquals(rows.size(), totals.getTotal(), group.getKey());
+            for (CompetitionStatusEnum status : CompetitionStatusEnum.values()) {
+                assertEquals(rows.stream().filter(c -> c.getCompetitionStatus() == status).count(),
+                        totals.getByStatus().get(status), group.getKey() + " " + status);
+            }
+            long wins = rows.stream().filter(c -> c.getCompetitionResult() == CompetitionResultEnum.WIN).count();
+            long decided = rows.stream().filter(c -> c.getCompetitionResult() != null).count();
+            assertEquals(wins, totals.getByResult().get(CompetitionResultEnum.WIN), group.getKey());
+            assertEquals(decided == 0 ? 0.0 : (double) wins / decided, totals.getWinRatio(), 1e-9, group.getKey());
+        }
+    }
+}
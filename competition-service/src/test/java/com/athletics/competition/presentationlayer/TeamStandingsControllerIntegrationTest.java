@@ -0,0 +1,92 @@
+package com.athletics.competition.presentationlayer;
+
+import com.athletics.competition.dataaccesslayer.Competition;
+import com.athletics.competition.dataaccesslayer.CompetitionRepository;
+import com.athletics.competition.dataaccesslayer.CompetitionResultEnum;
+import com.athletics.competition.dataaccesslayer.CompetitionStatusEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class TeamStandingsControllerIntegrationTest {
+
+    private static final String BASE_URI = "/api/v1/standings";
+    private static final int SEASON = 2025;
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @Autowired
+    private CompetitionRepository competitionRepository;
+
+    @BeforeEach
+    void rebuild() {
+        webClient.post()
+                .uri(BASE_URI + "/rebuild")
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void whenLeaderboardRequested_thenPointsMatchTheCompletedCompetitions() {
+        Map<String, List<Competition>> completed = competitionRepository.findAll().stream()
+                .filter(c -> c.getCompetitionStatus() == CompetitionStatusEnum.COMPLETED
+                        && c.getCompetitionResult() != null
+                        && c.getCompetitionDate() != null
+                        && c.getCompetitionDate().getYear() == SEASON)
+                .collect(Collectors.groupingBy(c -> c.getTeam().getTeamId()));
+
+        List<TeamStandingResponseModel> leaderboard = webClient.get()
+                .uri(BASE_URI + "?season=" + SEASON + "&limit=100")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TeamStandingResponseModel.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(leaderboard);
+        assertEquals(completed.size(), leaderboard.size());
+        for (int i = 0; i < leaderboard.size(); i++) {
+            TeamStandingResponseModel standing = leaderboard.get(i);
+            List<Competition> rows = completed.get(standing.getTeamId());
+            long wins = rows.stream().filter(c -> c.getCompetitionResult() == CompetitionResultEnum.WIN).count();
+            long draws = rows.stream().filter(c -> c.getCompetitionResult() == CompetitionResultEnum.DRAW).count();
+
+            assertEquals(i + 1, standing.getRank());
+            assertEquals(rows.size(), standing.getPlayed(), standing.getTeamId());
+            assertEquals(3 * wins + draws, standing.getPoints(), standing.getTeamId());
+            if (i > 0) {
+                assertTrue(leaderboard.get(i - 1).getPoints() >= standing.getPoints());
+            }
+        }
+    }
+
+    @Test
+    void whenTeamLevelIsUnknown_thenReturnUnprocessableEntity() {
+        webClient.get()
+                .uri(BASE_URI + "?teamLevel=amateur")
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("$.message").value(message -> assertTrue(message.toString().contains("teamLevel")));
+    }
+
+    @Test
+    void whenLimitIsOutOfRange_thenReturnUnprocessableEntity() {
+        webClient.get()
+                .uri(BASE_URI + "?season=" + SEASON + "&limit=0")
+                .exchange()
+                .expectStatus().isEqualTo(422);
+    }
+}
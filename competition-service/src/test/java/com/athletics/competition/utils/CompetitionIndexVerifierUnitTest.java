@@ -0,0 +1,97 @@
+package com.athletics.competition.utils;
+
+import com.athletics.competition.dataaccesslayer.CompetitionRepository;
+import com.mongodb.client.MongoDatabase;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CompetitionIndexVerifierUnitTest {
+
+    private static final String SCANNING_METHOD = "findAllByTeam_TeamId";
+
+    private RepositoryQueryRecorder recorder;
+    private CompetitionRepository competitionRepository;
+    private CompetitionIndexVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new RepositoryQueryRecorder();
+        // every repository call "sends" a find whose filter names the method, as the driver listener would see it
+        competitionRepository = mock(CompetitionRepository.class, invocation -> {
+            recorder.recorded(new BsonDocument("find", new BsonString("competitions"))
+                    .append("filter", new BsonDocument("method", new BsonString(invocation.getMethod().getName())))
+                    .append("$db", new BsonString("competitions-db")));
+            return Answers.RETURNS_DEFAULTS.answer(invocation);
+        });
+
+        MongoDatabase db = mock(MongoDatabase.class);
+        when(db.runCommand(any(Bson.class))).thenAnswer(invocation -> {
+            BsonDocument explain = invocation.getArgument(0);
+            BsonDocument find = explain.getDocument("explain");
+            assertFalse(find.containsKey("$db"));
+            String method = find.getDocument("filter").getString("method").getValue();
+            Document plan = SCANNING_METHOD.equals(method)
+                    ? new Document("stage", "COLLSCAN")
+                    : new Document("stage", "FETCH").append("inputStage",
+                            new Document("stage", "IXSCAN").append("indexName", method + "_idx"));
+            return new Document("queryPlanner", new Document("winningPlan", plan));
+        });
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.getDb()).thenReturn(db);
+
+        verifier = new CompetitionIndexVerifier(mongoTemplate, competitionRepository, recorder);
+    }
+
+    @Test
+    void whenVerifying_thenEveryRepositoryQueryMethodIsExplained() {
+        List<CompetitionIndexVerifier.QueryPlan> plans = verifier.explainQueryMethods();
+
+        List<String> queryMethods = CompetitionIndexVerifier.queryMethods().stream().map(Method::getName).toList();
+        assertFalse(queryMethods.isEmpty());
+        assertEquals(queryMethods, plans.stream().map(CompetitionIndexVerifier.QueryPlan::method).toList());
+        for (CompetitionIndexVerifier.QueryPlan plan : plans) {
+            if (SCANNING_METHOD.equals(plan.method())) {
+                assertEquals(List.of("COLLSCAN"), plan.stages());
+                assertTrue(plan.indexes().isEmpty());
+            } else {
+                assertEquals(List.of(plan.method() + "_idx"), plan.indexes());
+            }
+        }
+    }
+
+    @Test
+    void whenVerifying_thenQueryMethodsAreCalledWithProbeArguments() {
+        verifier.explainQueryMethods();
+
+        verify(competitionRepository).findByTeam_TeamIdAfter(
+                eq(CompetitionIndexVerifier.PROBE_ID), eq(CompetitionIndexVerifier.PROBE_DATE),
+                eq(CompetitionIndexVerifier.PROBE_ID), eq(CompetitionIndexVerifier.PROBE_SORT), eq(Limit.of(1)));
+        verify(competitionRepository).findByTeam_TeamIdAndCompetitionIdentifier_CompetitionId(
+                CompetitionIndexVerifier.PROBE_ID, CompetitionIndexVerifier.PROBE_ID);
+        verify(competitionRepository, never()).deleteAll();
+    }
+
+    @Test
+    void whenOutsideARecording_thenCommandsAreIgnored() {
+        recorder.recorded(new BsonDocument("find", new BsonString("competitions")));
+
+        List<BsonDocument> commands = recorder.record(() -> { });
+
+        assertTrue(commands.isEmpty());
+    }
+}
@@ -10,7 +10,9 @@ import java.util.List;
 public interface FacilityService {
     List<FacilityResponseModel> getAllFacilities();
     FacilityResponseModel getFacilityById(String facilityId);
+    List<FacilityResponseModel> getFacilitiesByIds(List<String> facilityIds);
     FacilityResponseModel createFacility(FacilityRequestModel facilityRequestModel);
-    FacilityResponseModel updateFacility(FacilityRequestModel facilityRequestModel, String facilityId);
+    List<FacilityResponseModel> createFacilities(List<FacilityRequestModel> facilityRequestModels);
+    FacilityResponseModel updateFacility(FacilityRequestModel facilityRequestModel, String facilityId, Long expectedVersion);
     void deleteFacility(String facilityId);
 }
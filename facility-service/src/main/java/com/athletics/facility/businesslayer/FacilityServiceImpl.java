@@ -13,10 +13,21 @@ import com.athletics.facility.presentationlayer.FacilityResponseModel;
 import com.athletics.facility.utils.exceptions.InsufficientFacilityCapacityException;
 import com.athletics.facility.utils.exceptions.InvalidInputException;
 import com.athletics.facility.utils.exceptions.NotFoundException;
-
+import com.athletics.facility.utils.exceptions.PreconditionFailedException;
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
+@Observed(name = "business.service")
 public class FacilityServiceImpl implements FacilityService {
 
     private final FacilityRepository facilityRepository;
@@ -45,18 +56,32 @@ public class FacilityServiceImpl implements FacilityService {
         return facilityResponseMapper.entityToResponseModel(facility);
     }
 
+    @Override
+    public List<FacilityResponseModel> getFacilitiesByIds(List<String> facilityIds) {
+        Set<String> requested = new LinkedHashSet<>(facilityIds);
+        if (requested.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Facility> found = new HashMap<>();
+        for (Facility facility : facilityRepository.findAllByFacilityIdentifier_FacilityIdIn(requested)) {
+            found.put(facility.getFacilityIdentifier().getFacilityId(), facility);
+        }
+
+        List<Facility> ordered = requested.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return facilityResponseMapper.entityListToResponseModelList(ordered);
+    }
+
     @Override
     public FacilityResponseModel createFacility(FacilityRequestModel facilityRequestModel) {
         if (facilityRepository.findByFacilityIdentifier_FacilityId(facilityRequestModel.getFacilityId()) != null) {
             throw new InvalidInputException("Facility with ID already exists: " + facilityRequestModel.getFacilityId());
         }
 
-        int minimumCapacity = 50;
-        if (facilityRequestModel.getCapacity() != null && facilityRequestModel.getCapacity() < minimumCapacity) {
-            throw new InsufficientFacilityCapacityException(
-                    "The facility capacity is too low. A minimum capacity of " + minimumCapacity + " is required."
-            );
-        }
+        validateCapacity(facilityRequestModel);
 
         Facility newFacility = facilityRequestMapper.requestModelToEntity(
                 facilityRequestModel,
@@ -69,14 +94,48 @@ public class FacilityServiceImpl implements FacilityService {
         return facilityResponseMapper.entityToResponseModel(savedFacility);
     }
 
-
     @Override
-    public FacilityResponseModel updateFacility(FacilityRequestModel facilityRequestModel, String facilityId) {
-        Facility existingFacility = facilityRepository.findByFacilityIdentifier_FacilityId(facilityId);
-        if (existingFacility == null) {
-            throw new NotFoundException("The provided ID [" + facilityId + "] does not match any facility.");
+    @Transactional
+    public List<FacilityResponseModel> createFacilities(List<FacilityRequestModel> facilityRequestModels) {
+        if (facilityRequestModels.isEmpty()) {
+            return List.of();
+        }
+        Set<String> facilityIds = new LinkedHashSet<>();
+        for (FacilityRequestModel facilityRequestModel : facilityRequestModels) {
+            if (!facilityIds.add(facilityRequestModel.getFacilityId())) {
+                throw new InvalidInputException("Facility with ID already exists: " + facilityRequestModel.getFacilityId());
+            }
+            validateCapacity(facilityRequestModel);
+        }
+        List<Facility> existing = facilityRepository.findAllByFacilityIdentifier_FacilityIdIn(facilityIds);
+        if (!existing.isEmpty()) {
+            throw new InvalidInputException(
+                    "Facility with ID already exists: " + existing.get(0).getFacilityIdentifier().getFacilityId());
         }
 
+        List<Facility> newFacilities = new ArrayList<>(facilityRequestModels.size());
+        for (FacilityRequestModel facilityRequestModel : facilityRequestModels) {
+            newFacilities.add(facilityRequestMapper.requestModelToEntity(
+                    facilityRequestModel,
+                    new FacilityIdentifier(facilityRequestModel.getFacilityId())
+            ));
+        }
+        List<Facility> savedFacilities = facilityRepository.saveAll(newFacilities);
+        return facilityResponseMapper.entityListToResponseModelList(savedFacilities);
+    }
+
+    private void validateCapacity(FacilityRequestModel facilityRequestModel) {
+        int minimumCapacity = 50;
+        if (facilityRequestModel.getCapacity() != null && facilityRequestModel.getCapacity() < minimumCapacity) {
+            throw new InsufficientFacilityCapacityException(
+                    "The facility capacity is too low. A minimum capacity of " + minimumCapacity + " is required."
+            );
+        }
+    }
+
+    @Override
+    @Transactional
+    public FacilityResponseModel updateFacility(FacilityRequestModel facilityRequestModel, String facilityId, Long expectedVersion) {
         int minimumCapacity = 50;
         if (facilityRequestModel.getCapacity() != null
                 && facilityRequestModel.getCapacity() < minimumCapacity) {
@@ -85,15 +144,30 @@ public class FacilityServiceImpl implements FacilityService {
             );
         }
 
+        if (expectedVersion != null) {
+            // If-Match: one conditional UPDATE, no read unless it matched nothing
+            int updated = facilityRepository.updateIfVersionMatches(facilityId, expectedVersion,
+                    facilityRequestModel.getFacilityName(), facilityRequestModel.getCapacity(),
+                    facilityRequestModel.getLocation());
+            if (updated == 0) {
+                if (!facilityRepository.existsByFacilityIdentifier_FacilityId(facilityId)) {
+                    throw new NotFoundException("The provided ID [" + facilityId + "] does not match any facility.");
+                }
+                throw new PreconditionFailedException("Facility " + facilityId + " is no longer at version " + expectedVersion);
+            }
+            Facility updatedFacility = facilityRequestMapper.requestModelToEntity(
+                    facilityRequestModel, new FacilityIdentifier(facilityId));
+            updatedFacility.setVersion(expectedVersion + 1);
+            return facilityResponseMapper.entityToResponseModel(updatedFacility);
+        }
 
-        FacilityIdentifier identifier = existingFacility.getFacilityIdentifier();
-        Facility updatedFacility = facilityRequestMapper.requestModelToEntity(
-                facilityRequestModel,
-                identifier
-        );
-        updatedFacility.setId(existingFacility.getId());
-
-        Facility savedFacility = facilityRepository.save(updatedFacility);
+        Facility existingFacility = facilityRepository.findByFacilityIdentifier_FacilityId(facilityId);
+        if (existingFacility == null) {
+            throw new NotFoundException("The provided ID [" + facilityId + "] does not match any facility.");
+        }
+        // the managed entity is flushed with a version check, so a concurrent edit fails instead of being overwritten
+        facilityRequestMapper.updateEntityFromRequestModel(facilityRequestModel, existingFacility);
+        Facility savedFacility = facilityRepository.saveAndFlush(existingFacility);
         return facilityResponseMapper.entityToResponseModel(savedFacility);
     }
 
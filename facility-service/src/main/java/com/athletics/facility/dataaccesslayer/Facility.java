@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 @Entity
 @Table(name = "facilities")
 @Data
@@ -13,7 +14,8 @@ import lombok.NoArgsConstructor;
 public class Facility {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "facilities_seq")
+    @SequenceGenerator(name = "facilities_seq", sequenceName = "facilities_seq", initialValue = 1000, allocationSize = 50)
     private Integer id;
 
     @Embedded
@@ -23,4 +25,13 @@ public class Facility {
     private String facilityName;
     private Integer capacity;
     private String location;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    public Facility(Integer id, FacilityIdentifier facilityIdentifier, String facilityName, Integer capacity, String location) {
+        this(id, facilityIdentifier, facilityName, capacity, location, null);
+    }
 }
@@ -1,8 +1,27 @@
 package com.athletics.facility.dataaccesslayer;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 
 public interface FacilityRepository extends JpaRepository<Facility, Integer> {
     Facility findByFacilityIdentifier_FacilityId(String facilityId);
+
+    List<Facility> findAllByFacilityIdentifier_FacilityIdIn(Collection<String> facilityIds);
+
+    boolean existsByFacilityIdentifier_FacilityId(String facilityId);
+
+    @Modifying
+    @Query("update Facility f set f.facilityName = :facilityName, f.capacity = :capacity, f.location = :location, " +
+            "f.version = f.version + 1 where f.facilityIdentifier.facilityId = :facilityId and f.version = :version")
+    int updateIfVersionMatches(@Param("facilityId") String facilityId,
+                               @Param("version") long version,
+                               @Param("facilityName") String facilityName,
+                               @Param("capacity") Integer capacity,
+                               @Param("location") String location);
 }
@@ -5,6 +5,7 @@ import com.athletics.facility.dataaccesslayer.FacilityIdentifier;
 import com.athletics.facility.presentationlayer.FacilityRequestModel;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.mapstruct.Mappings;
 
 @Mapper(componentModel = "spring")
@@ -12,8 +13,16 @@ public interface FacilityRequestMapper {
 
     @Mappings({
             @Mapping(target = "id", ignore = true),
+            @Mapping(target = "version", ignore = true),
             @Mapping(expression = "java(facilityIdentifier)", target = "facilityIdentifier")
     })
     Facility requestModelToEntity(FacilityRequestModel facilityRequestModel,
                                   FacilityIdentifier facilityIdentifier);
+
+    @Mappings({
+            @Mapping(target = "id", ignore = true),
+            @Mapping(target = "version", ignore = true),
+            @Mapping(target = "facilityIdentifier", ignore = true)
+    })
+    void updateEntityFromRequestModel(FacilityRequestModel facilityRequestModel, @MappingTarget Facility facility);
 }
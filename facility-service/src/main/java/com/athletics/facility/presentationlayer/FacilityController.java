@@ -4,7 +4,9 @@ import com.athletics.facility.businesslayer.FacilityService;
 import com.athletics.facility.presentationlayer.FacilityRequestModel;
 import com.athletics.facility.presentationlayer.FacilityResponseModel;
 import com.athletics.facility.utils.exceptions.InvalidInputException;
+import com.athletics.facility.utils.exceptions.PreconditionFailedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,6 +20,8 @@ public class FacilityController {
 
     private final FacilityService facilityService;
     private static final int UUID_LENGTH = 36;
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final int MAX_BULK_CREATE_SIZE = 1000;
 
     public FacilityController(FacilityService facilityService) {
         this.facilityService = facilityService;
@@ -33,7 +37,21 @@ public class FacilityController {
         if (facilityId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid facilityId provided: " + facilityId);
         }
-        return ResponseEntity.ok().body(facilityService.getFacilityById(facilityId));
+        FacilityResponseModel facility = facilityService.getFacilityById(facilityId);
+        return ResponseEntity.ok().eTag(String.valueOf(facility.getVersion())).body(facility);
+    }
+
+    @PostMapping("/batch-get")
+    public ResponseEntity<List<FacilityResponseModel>> getFacilitiesByIds(@RequestBody List<String> facilityIds) {
+        if (facilityIds.size() > MAX_BATCH_SIZE) {
+            throw new InvalidInputException("At most " + MAX_BATCH_SIZE + " facilityIds can be requested at once");
+        }
+        for (String facilityId : facilityIds) {
+            if (facilityId == null || facilityId.length() != UUID_LENGTH) {
+                throw new InvalidInputException("Invalid facilityId provided: " + facilityId);
+            }
+        }
+        return ResponseEntity.ok().body(facilityService.getFacilitiesByIds(facilityIds));
     }
 
     @PostMapping
@@ -42,9 +60,18 @@ public class FacilityController {
         return ResponseEntity.status(HttpStatus.CREATED).body(newFacility);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<FacilityResponseModel>> createFacilities(@RequestBody List<FacilityRequestModel> facilityRequestModels) {
+        if (facilityRequestModels.size() > MAX_BULK_CREATE_SIZE) {
+            throw new InvalidInputException("At most " + MAX_BULK_CREATE_SIZE + " facilities can be created at once");
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(facilityService.createFacilities(facilityRequestModels));
+    }
+
     @PutMapping("/{facilityId}")
     public ResponseEntity<FacilityResponseModel> updateFacility(
             @PathVariable String facilityId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody FacilityRequestModel facilityRequestModel) {
 
         if (facilityId.length() != UUID_LENGTH) {
@@ -52,9 +79,9 @@ public class FacilityController {
         }
 
         FacilityResponseModel updatedFacility =
-                facilityService.updateFacility(facilityRequestModel, facilityId);
+                facilityService.updateFacility(facilityRequestModel, facilityId, expectedVersion(facilityId, ifMatch));
 
-        return ResponseEntity.ok(updatedFacility);
+        return ResponseEntity.ok().eTag(String.valueOf(updatedFacility.getVersion())).body(updatedFacility);
     }
 
     @DeleteMapping("/{facilityId}")
@@ -65,4 +92,20 @@ public class FacilityController {
         facilityService.deleteFacility(facilityId);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
+
+    // the ETag handed out by GET is the version; no header or "*" means an unconditional update
+    private static Long expectedVersion(String facilityId, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.parseLong(tag.replace("\"", ""));
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException("If-Match " + ifMatch + " does not match facility " + facilityId);
+        }
+    }
 }
@@ -12,4 +12,5 @@ public class FacilityResponseModel extends RepresentationModel<FacilityResponseM
     private String facilityName;
     private Integer capacity;
     private String location;
+    private Long version;
 }
@@ -1,29 +1,29 @@
-INSERT INTO facilities (facility_id, facility_name, capacity, location)
-VALUES ('fac11111-1111-1111-1111-111111111111', 'Olympic Stadium', 70000, 'Montreal, QC');
+INSERT INTO facilities (id, facility_id, facility_name, capacity, location)
+VALUES (1, 'fac11111-1111-1111-1111-111111111111', 'Olympic Stadium', 70000, 'Montreal, QC');
 
-INSERT INTO facilities (facility_id, facility_name, capacity, location)
-VALUES ('fac22222-2222-2222-2222-222222222222', 'Rogers Centre', 53000, 'Toronto, ON');
+INSERT INTO facilities (id, facility_id, facility_name, capacity, location)
+VALUES (2, 'fac22222-2222-2222-2222-222222222222', 'Rogers Centre', 53000, 'Toronto, ON');
 
-INSERT INTO facilities (facility_id, facility_name, capacity, location)
-VALUES ('fac33333-3333-3333-3333-333333333333', 'BC Place', 54000, 'Vancouver, BC');
+INSERT INTO facilities (id, facility_id, facility_name, capacity, location)
+VALUES (3, 'fac33333-3333-3333-3333-333333333333', 'BC Place', 54000, 'Vancouver, BC');
 
-INSERT INTO facilities (facility_id, facility_name, capacity, location)
-VALUES ('fac44444-4444-4444-4444-444444444444', 'TD Place Stadium', 24000, 'Ottawa, ON');
+INSERT INTO facilities (id, facility_id, facility_name, capacity, location)
+VALUES (4, 'fac44444-4444-4444-4444-444444444444', 'TD Place Stadium', 24000, 'Ottawa, ON');
 
-INSERT INTO facilities (facility_id, facility_name, capacity, location)
-VALUES ('fac55555-5555-5555-5555-555555555555', 'PEPS Stadium', 12000, 'Quebec City, QC');
+INSERT INTO facilities (id, facility_id, facility_name, capacity, location)
+VALUES (5, 'fac55555-5555-5555-5555-555555555555', 'PEPS Stadium', 12000, 'Quebec City, QC');
 
-INSERT INTO facilities (facility_id, facility_name, capacity, location)
-VALUES ('fac66666-6666-6666-6666-666666666666', 'Scotiabank Arena', 19000, 'Toronto, ON');
+INSERT INTO facilities (id, facility_id, facility_name, capacity, location)
+VALUES (6, 'fac66666-6666-6666-6666-666666666666', 'Scotiabank Arena', 19000, 'Toronto, ON');
 
-INSERT INTO facilities (facility_id, facility_name, capacity, location)
-VALUES ('fac77777-7777-7777-7777-777777777777', 'Bell Centre', 21000, 'Montreal, QC');
+INSERT INTO facilities (id, facility_id, facility_name, capacity, location)
+VALUES (7, 'fac77777-7777-7777-7777-777777777777', 'Bell Centre', 21000, 'Montreal, QC');
 
-INSERT INTO facilities (facility_id, facility_name, capacity, location)
-VALUES ('fac88888-8888-8888-8888-888888888888', 'Rogers Arena', 18000, 'Vancouver, BC');
+INSERT INTO facilities (id, facility_id, facility_name, capacity, location)
+VALUES (8, 'fac88888-8888-8888-8888-888888888888', 'Rogers Arena', 18000, 'Vancouver, BC');
 
-INSERT INTO facilities (facility_id, facility_name, capacity, location)
-VALUES ('fac99999-9999-9999-9999-999999999999', 'Ottawa Sportsplex', 15000, 'Ottawa, ON');
+INSERT INTO facilities (id, facility_id, facility_name, capacity, location)
+VALUES (9, 'fac99999-9999-9999-9999-999999999999', 'Ottawa Sportsplex', 15000, 'Ottawa, ON');
 
-INSERT INTO facilities (facility_id, facility_name, capacity, location)
-VALUES ('fac101010-1010-1010-1010-10101010101', 'Quebec Coliseum', 16000, 'Quebec City, QC');
\ No newline at end of file
+INSERT INTO facilities (id, facility_id, facility_name, capacity, location)
+VALUES (10, 'fac101010-1010-1010-1010-10101010101', 'Quebec Coliseum', 16000, 'Quebec City, QC');
\ No newline at end of file
@@ -1,7 +1,9 @@
 CREATE TABLE IF NOT EXISTS facilities (
-                                          id INT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                                          id INT NOT NULL PRIMARY KEY,
                                           facility_id VARCHAR(36) UNIQUE NOT NULL,
     facility_name VARCHAR(100) NOT NULL,
     capacity INT NOT NULL,
-    location VARCHAR(100) NOT NULL
-    );
\ No newline at end of file
+    location VARCHAR(100) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
+    );
+CREATE SEQUENCE IF NOT EXISTS facilities_seq START WITH 1000 INCREMENT BY 50;
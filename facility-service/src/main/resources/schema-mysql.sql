@@ -1,8 +1,12 @@
 USE `facility-db`;
 CREATE TABLE IF NOT EXISTS facilities (
-                                          id INT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                                          id INT NOT NULL PRIMARY KEY,
                                           facility_id VARCHAR(36) UNIQUE NOT NULL,
     facility_name VARCHAR(100) NOT NULL,
     capacity INT NOT NULL,
-    location VARCHAR(100) NOT NULL
-    );
\ No newline at end of file
+    location VARCHAR(100) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
+    );
+CREATE TABLE IF NOT EXISTS facilities_seq (next_val BIGINT NOT NULL);
+INSERT INTO facilities_seq (next_val)
+SELECT 1000 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM facilities_seq);
@@ -4,12 +4,15 @@ import com.athletics.facility.dataaccesslayer.FacilityRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.util.List;
+
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
@@ -177,6 +180,38 @@ class FacilityControllerIntegrationTest {
                 });
     }
 
+    @Test
+    public void whenUpdateWithStaleIfMatch_thenReturnPreconditionFailed() {
+        FacilityRequestModel update = new FacilityRequestModel(VALID_ID, "Updated Stadium", 80000, "Updated City");
+
+        webClient.put()
+                .uri(BASE_URI + "/" + VALID_ID)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
+                .expectBody(FacilityResponseModel.class)
+                .value(f -> assertEquals(1L, f.getVersion()));
+
+        webClient.put()
+                .uri(BASE_URI + "/" + VALID_ID)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new FacilityRequestModel(VALID_ID, "Lost Update", 100, "Nowhere"))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        webClient.get()
+                .uri(BASE_URI + "/" + VALID_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
+                .expectBody(FacilityResponseModel.class)
+                .value(f -> assertEquals("Updated Stadium", f.getFacilityName()));
+    }
+
     @Test
     public  void whenUpdateInvalidId_thenReturnUnprocessableEntity() {
         FacilityRequestModel any = new FacilityRequestModel(
@@ -269,4 +304,104 @@ class FacilityControllerIntegrationTest {
                 .jsonPath("$.message")
                 .isEqualTo("The facility capacity is too low. A minimum capacity of 50 is required.");
     }
-}
\ No newline at end of file
+
+    @Test
+    void whenBatchGet_thenReturnExistingInRequestOrder() {
+        webClient.post()
+                .uri(BASE_URI + "/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(ANOTHER_ID, NOT_FOUND_ID, VALID_ID))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(FacilityResponseModel.class)
+                .value(list -> {
+                    assertEquals(2, list.size());
+                    assertEquals(ANOTHER_ID, list.get(0).getFacilityId());
+                    assertEquals(VALID_ID, list.get(1).getFacilityId());
+                });
+    }
+
+    @Test
+    void whenBatchGetWithInvalidId_thenReturnUnprocessableEntity() {
+        webClient.post()
+                .uri(BASE_URI + "/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(VALID_ID, INVALID_ID))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("Invalid facilityId provided: " + INVALID_ID);
+    }
+
+    @Test
+    void whenCreateFacilitiesBatchValid_thenAllAreCreated() {
+        long before = facilityRepository.count();
+        List<FacilityRequestModel> facilities = List.of(
+                new FacilityRequestModel(NEW_ID, "Percival Molson Stadium", 23000, "Montreal, QC"),
+                new FacilityRequestModel("facabcde-0000-0000-0000-000000000001", "IG Field", 33000, "Winnipeg, MB"));
+
+        webClient.post()
+                .uri(BASE_URI + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(facilities)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBodyList(FacilityResponseModel.class)
+                .value(list -> {
+                    assertEquals(2, list.size());
+                    assertEquals("Percival Molson Stadium", list.get(0).getFacilityName());
+                });
+
+        assertEquals(before + 2, facilityRepository.count());
+    }
+
+    @Test
+    void whenCreateFacilitiesBatchWithExistingId_thenNothingIsCreated() {
+        long before = facilityRepository.count();
+        List<FacilityRequestModel> facilities = List.of(
+                new FacilityRequestModel(NEW_ID, "Percival Molson Stadium", 23000, "Montreal, QC"),
+                new FacilityRequestModel(VALID_ID, "Olympic Stadium", 70000, "Montreal, QC"));
+
+        webClient.post()
+                .uri(BASE_URI + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(facilities)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("Facility with ID already exists: " + VALID_ID);
+
+        assertEquals(before, facilityRepository.count());
+    }
+
+    @Test
+    public void whenGetFacilityWithMatchingIfNoneMatch_thenReturnNotModified() {
+        String etag = webClient.get()
+                .uri(BASE_URI + "/" + VALID_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        webClient.get()
+                .uri(BASE_URI + "/" + VALID_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        webClient.get()
+                .uri(BASE_URI)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG);
+    }
+}
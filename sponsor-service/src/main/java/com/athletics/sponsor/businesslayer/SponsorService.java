@@ -8,14 +8,18 @@ import com.athletics.sponsor.dataaccesslayer.SponsorLevelEnum;
 
 
 import java.util.List;
+import java.util.Map;
 
 public interface SponsorService {
     List<SponsorResponseModel> getAllSponsors();
     SponsorResponseModel getSponsorById(String sponsorId);
+    List<SponsorResponseModel> getSponsorsByIds(List<String> sponsorIds);
     SponsorResponseModel createSponsor(SponsorRequestModel sponsorRequestModel);
-    SponsorResponseModel updateSponsor(SponsorRequestModel sponsorRequestModel, String sponsorId);
+    List<SponsorResponseModel> createSponsors(List<SponsorRequestModel> sponsorRequestModels);
+    SponsorResponseModel updateSponsor(SponsorRequestModel sponsorRequestModel, String sponsorId, Long expectedVersion);
 
     SponsorResponseModel patchSponsorLevel(String sponsorId, SponsorLevelEnum newLevel);
+    List<SponsorResponseModel> patchSponsorLevels(Map<String, SponsorLevelEnum> newLevels);
 
     void deleteSponsor(String sponsorId);
 
@@ -14,11 +14,23 @@ import com.athletics.sponsor.presentationlayer.SponsorResponseModel;
 import com.athletics.sponsor.utils.exceptions.InsufficientSponsorAmountException;
 import com.athletics.sponsor.utils.exceptions.InvalidInputException;
 import com.athletics.sponsor.utils.exceptions.NotFoundException;
+import com.athletics.sponsor.utils.exceptions.PreconditionFailedException;
 import com.athletics.sponsor.utils.exceptions.SponsorIdentityClashException;
-
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
+@Observed(name = "business.service")
 public class SponsorServiceImpl implements SponsorService {
 
     private final SponsorRepository sponsorRepository;
@@ -48,6 +60,25 @@ public class SponsorServiceImpl implements SponsorService {
         return sponsorResponseMapper.entityToResponseModel(sponsor);
     }
 
+    @Override
+    public List<SponsorResponseModel> getSponsorsByIds(List<String> sponsorIds) {
+        Set<String> requested = new LinkedHashSet<>(sponsorIds);
+        if (requested.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Sponsor> found = new HashMap<>();
+        for (Sponsor sponsor : sponsorRepository.findAllBySponsorIdentifier_SponsorIdIn(requested)) {
+            found.put(sponsor.getSponsorIdentifier().getSponsorId(), sponsor);
+        }
+
+        List<Sponsor> ordered = requested.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return sponsorResponseMapper.entityListToResponseModelList(ordered);
+    }
+
     @Override
     public SponsorResponseModel createSponsor(SponsorRequestModel sponsorRequestModel) {
 
@@ -58,6 +89,50 @@ public class SponsorServiceImpl implements SponsorService {
             );
         }
 
+        validateNewSponsor(sponsorRequestModel);
+
+        Sponsor newSponsor = sponsorRequestMapper.requestModelToEntity(
+                sponsorRequestModel,
+                new SponsorIdentifier(sponsorRequestModel.getSponsorId())
+        );
+        Sponsor savedSponsor = sponsorRepository.save(newSponsor);
+        return sponsorResponseMapper.entityToResponseModel(savedSponsor);
+    }
+
+    @Override
+    @Transactional
+    public List<SponsorResponseModel> createSponsors(List<SponsorRequestModel> sponsorRequestModels) {
+        if (sponsorRequestModels.isEmpty()) {
+            return List.of();
+        }
+        Set<String> sponsorIds = new LinkedHashSet<>();
+        for (SponsorRequestModel sponsorRequestModel : sponsorRequestModels) {
+            if (!sponsorIds.add(sponsorRequestModel.getSponsorId())) {
+                throw new SponsorIdentityClashException(
+                        "A sponsor with the ID " + sponsorRequestModel.getSponsorId() + " already exists, causing an identity clash."
+                );
+            }
+            validateNewSponsor(sponsorRequestModel);
+        }
+        List<Sponsor> existing = sponsorRepository.findAllBySponsorIdentifier_SponsorIdIn(sponsorIds);
+        if (!existing.isEmpty()) {
+            throw new SponsorIdentityClashException(
+                    "A sponsor with the ID " + existing.get(0).getSponsorIdentifier().getSponsorId() + " already exists, causing an identity clash."
+            );
+        }
+
+        List<Sponsor> newSponsors = new ArrayList<>(sponsorRequestModels.size());
+        for (SponsorRequestModel sponsorRequestModel : sponsorRequestModels) {
+            newSponsors.add(sponsorRequestMapper.requestModelToEntity(
+                    sponsorRequestModel,
+                    new SponsorIdentifier(sponsorRequestModel.getSponsorId())
+            ));
+        }
+        List<Sponsor> savedSponsors = sponsorRepository.saveAll(newSponsors);
+        return sponsorResponseMapper.entityListToResponseModelList(savedSponsors);
+    }
+
+    private void validateNewSponsor(SponsorRequestModel sponsorRequestModel) {
         // New check for blank name -> throw InvalidInputException
         if (sponsorRequestModel.getSponsorName() == null || sponsorRequestModel.getSponsorName().trim().isEmpty()) {
             throw new InvalidInputException("Sponsor name cannot be empty.");
@@ -70,23 +145,11 @@ public class SponsorServiceImpl implements SponsorService {
                     "The sponsor amount is too low. Minimum required amount is " + minimumRequiredAmount
             );
         }
-
-
-        Sponsor newSponsor = sponsorRequestMapper.requestModelToEntity(
-                sponsorRequestModel,
-                new SponsorIdentifier(sponsorRequestModel.getSponsorId())
-        );
-        Sponsor savedSponsor = sponsorRepository.save(newSponsor);
-        return sponsorResponseMapper.entityToResponseModel(savedSponsor);
     }
 
     @Override
-    public SponsorResponseModel updateSponsor(SponsorRequestModel sponsorRequestModel, String sponsorId) {
-        Sponsor existingSponsor = sponsorRepository.findBySponsorIdentifier_SponsorId(sponsorId);
-        if (existingSponsor == null) {
-            throw new NotFoundException("Sponsor not found with ID: " + sponsorId);
-        }
-
+    @Transactional
+    public SponsorResponseModel updateSponsor(SponsorRequestModel sponsorRequestModel, String sponsorId, Long expectedVersion) {
         // — NEW: enforce minimum amount on update —
         double minimumRequiredAmount = 1000.00;
         if (sponsorRequestModel.getSponsorAmount() < minimumRequiredAmount) {
@@ -95,24 +158,66 @@ public class SponsorServiceImpl implements SponsorService {
             );
         }
 
-        SponsorIdentifier sponsorIdentifier = existingSponsor.getSponsorIdentifier();
-        Sponsor updatedSponsor = sponsorRequestMapper.requestModelToEntity(sponsorRequestModel, sponsorIdentifier);
-        updatedSponsor.setId(existingSponsor.getId());
+        if (expectedVersion != null) {
+            // If-Match: one conditional UPDATE, no read unless it matched nothing
+            int updated = sponsorRepository.updateIfVersionMatches(sponsorId, expectedVersion,
+                    sponsorRequestModel.getSponsorName(), sponsorRequestModel.getSponsorLevel(),
+                    sponsorRequestModel.getSponsorAmount());
+            if (updated == 0) {
+                if (!sponsorRepository.existsBySponsorIdentifier_SponsorId(sponsorId)) {
+                    throw new NotFoundException("Sponsor not found with ID: " + sponsorId);
+                }
+                throw new PreconditionFailedException("Sponsor " + sponsorId + " is no longer at version " + expectedVersion);
+            }
+            Sponsor updatedSponsor = sponsorRequestMapper.requestModelToEntity(
+                    sponsorRequestModel, new SponsorIdentifier(sponsorId));
+            updatedSponsor.setVersion(expectedVersion + 1);
+            return sponsorResponseMapper.entityToResponseModel(updatedSponsor);
+        }
 
-        Sponsor savedSponsor = sponsorRepository.save(updatedSponsor);
+        Sponsor existingSponsor = sponsorRepository.findBySponsorIdentifier_SponsorId(sponsorId);
+        if (existingSponsor == null) {
+            throw new NotFoundException("Sponsor not found with ID: " + sponsorId);
+        }
+        // the managed entity is flushed with a version check, so a concurrent edit fails instead of being overwritten
+        sponsorRequestMapper.updateEntityFromRequestModel(sponsorRequestModel, existingSponsor);
+        Sponsor savedSponsor = sponsorRepository.saveAndFlush(existingSponsor);
         return sponsorResponseMapper.entityToResponseModel(savedSponsor);
     }
 
 
     @Override
     public SponsorResponseModel patchSponsorLevel(String sponsorId, SponsorLevelEnum newLevel) {
-        Sponsor sponsor = sponsorRepository.findBySponsorIdentifier_SponsorId(sponsorId);
-        if (sponsor == null) {
+        Sponsor patched = sponsorRepository.patchSponsorLevel(sponsorId, newLevel);
+        if (patched == null) {
             throw new NotFoundException("Sponsor not found with ID: " + sponsorId);
         }
-        sponsor.setSponsorLevel(newLevel);
-        Sponsor saved = sponsorRepository.save(sponsor);
-        return sponsorResponseMapper.entityToResponseModel(saved);
+        return sponsorResponseMapper.entityToResponseModel(patched);
+    }
+
+    @Override
+    @Transactional
+    public List<SponsorResponseModel> patchSponsorLevels(Map<String, SponsorLevelEnum> newLevels) {
+        if (newLevels.isEmpty()) {
+            return List.of();
+        }
+        // one statement per distinct level rather than one per sponsor
+        Map<SponsorLevelEnum, List<String>> idsByLevel = new EnumMap<>(SponsorLevelEnum.class);
+        newLevels.forEach((sponsorId, level) ->
+                idsByLevel.computeIfAbsent(level, l -> new ArrayList<>()).add(sponsorId));
+
+        Map<String, Sponsor> patched = new HashMap<>();
+        idsByLevel.forEach((level, sponsorIds) -> {
+            for (Sponsor sponsor : sponsorRepository.patchSponsorLevels(sponsorIds, level)) {
+                patched.put(sponsor.getSponsorIdentifier().getSponsorId(), sponsor);
+            }
+        });
+
+        List<Sponsor> ordered = newLevels.keySet().stream()
+                .map(patched::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return sponsorResponseMapper.entityListToResponseModelList(ordered);
     }
 
     @Override
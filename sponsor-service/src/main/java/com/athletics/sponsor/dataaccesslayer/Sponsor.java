@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 @Entity
 @Table(name = "sponsors")
 @Data
@@ -12,7 +13,8 @@ import lombok.NoArgsConstructor;
 public class Sponsor {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sponsors_seq")
+    @SequenceGenerator(name = "sponsors_seq", sequenceName = "sponsors_seq", initialValue = 1000, allocationSize = 50)
     private Integer id;
 
     @Embedded
@@ -27,4 +29,13 @@ public class Sponsor {
     private SponsorLevelEnum sponsorLevel;
 
     private Double sponsorAmount;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    public Sponsor(Integer id, SponsorIdentifier sponsorIdentifier, String sponsorName, SponsorLevelEnum sponsorLevel, Double sponsorAmount) {
+        this(id, sponsorIdentifier, sponsorName, sponsorLevel, sponsorAmount, null);
+    }
 }
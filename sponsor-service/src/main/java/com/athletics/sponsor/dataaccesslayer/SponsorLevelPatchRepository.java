@@ -0,0 +1,12 @@
+package com.athletics.sponsor.dataaccesslayer;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SponsorLevelPatchRepository {
+
+    // sets the level and bumps the version, returning the updated row or null when the id is unknown
+    Sponsor patchSponsorLevel(String sponsorId, SponsorLevelEnum sponsorLevel);
+
+    List<Sponsor> patchSponsorLevels(Collection<String> sponsorIds, SponsorLevelEnum sponsorLevel);
+}
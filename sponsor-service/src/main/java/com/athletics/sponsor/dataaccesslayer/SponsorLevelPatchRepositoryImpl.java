@@ -0,0 +1,88 @@
+package com.athletics.sponsor.dataaccesslayer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+// patches sponsor levels with a single statement that also hands back the updated rows
+@Slf4j
+class SponsorLevelPatchRepositoryImpl implements SponsorLevelPatchRepository {
+
+    private static final String COLUMNS = "id, sponsor_id, sponsor_name, sponsor_level, sponsor_amount, version";
+    private static final String UPDATE =
+            "UPDATE sponsors SET sponsor_level = :sponsorLevel, version = version + 1 WHERE sponsor_id IN (:sponsorIds)";
+
+    private static final RowMapper<Sponsor> SPONSOR_ROW = (rs, rowNum) -> new Sponsor(
+            rs.getInt("id"),
+            new SponsorIdentifier(rs.getString("sponsor_id")),
+            rs.getString("sponsor_name"),
+            SponsorLevelEnum.valueOf(rs.getString("sponsor_level")),
+            rs.getDouble("sponsor_amount"),
+            rs.getLong("version"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private volatile ReturningStyle returningStyle;
+
+    SponsorLevelPatchRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Sponsor patchSponsorLevel(String sponsorId, SponsorLevelEnum sponsorLevel) {
+        List<Sponsor> patched = patchSponsorLevels(List.of(sponsorId), sponsorLevel);
+        return patched.isEmpty() ? null : patched.get(0);
+    }
+
+    @Override
+    public List<Sponsor> patchSponsorLevels(Collection<String> sponsorIds, SponsorLevelEnum sponsorLevel) {
+        if (sponsorIds.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("sponsorLevel", sponsorLevel.name())
+                .addValue("sponsorIds", sponsorIds);
+
+        return switch (returningStyle()) {
+            case RETURNING -> jdbcTemplate.query(UPDATE + " RETURNING " + COLUMNS, params, SPONSOR_ROW);
+            case FINAL_TABLE -> jdbcTemplate.query(
+                    "SELECT " + COLUMNS + " FROM FINAL TABLE (" + UPDATE + ")", params, SPONSOR_ROW);
+            case NONE -> {
+                jdbcTemplate.update(UPDATE, params);
+                yield jdbcTemplate.query(
+                        "SELECT " + COLUMNS + " FROM sponsors WHERE sponsor_id IN (:sponsorIds)", params, SPONSOR_ROW);
+            }
+        };
+    }
+
+    private ReturningStyle returningStyle() {
+        ReturningStyle style = returningStyle;
+        if (style == null) {
+            String product = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            if ("PostgreSQL".equalsIgnoreCase(product)) {
+                style = ReturningStyle.RETURNING;
+            } else if ("H2".equalsIgnoreCase(product)) {
+                style = ReturningStyle.FINAL_TABLE;
+            } else {
+                style = ReturningStyle.NONE;
+            }
+            log.debug("Sponsor level patches on {} use {}", product, style);
+            returningStyle = style;
+        }
+        return style;
+    }
+
+    private enum ReturningStyle {
+        // PostgreSQL: UPDATE ... RETURNING
+        RETURNING,
+        // H2: SELECT ... FROM FINAL TABLE (UPDATE ...)
+        FINAL_TABLE,
+        // anything else: UPDATE, then read the rows back
+        NONE
+    }
+}
@@ -1,7 +1,26 @@
 package com.athletics.sponsor.dataaccesslayer;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface SponsorRepository extends JpaRepository<Sponsor, Integer> {
+import java.util.Collection;
+import java.util.List;
+
+public interface SponsorRepository extends JpaRepository<Sponsor, Integer>, SponsorLevelPatchRepository {
     Sponsor findBySponsorIdentifier_SponsorId(String sponsorId);
+
+    List<Sponsor> findAllBySponsorIdentifier_SponsorIdIn(Collection<String> sponsorIds);
+
+    boolean existsBySponsorIdentifier_SponsorId(String sponsorId);
+
+    @Modifying
+    @Query("update Sponsor s set s.sponsorName = :sponsorName, s.sponsorLevel = :sponsorLevel, s.sponsorAmount = :sponsorAmount, " +
+            "s.version = s.version + 1 where s.sponsorIdentifier.sponsorId = :sponsorId and s.version = :version")
+    int updateIfVersionMatches(@Param("sponsorId") String sponsorId,
+                               @Param("version") long version,
+                               @Param("sponsorName") String sponsorName,
+                               @Param("sponsorLevel") SponsorLevelEnum sponsorLevel,
+                               @Param("sponsorAmount") Double sponsorAmount);
 }
@@ -3,6 +3,10 @@ package com.athletics.sponsor.mappinglayer;
 import com.athletics.sponsor.dataaccesslayer.Sponsor;
 import com.athletics.sponsor.dataaccesslayer.SponsorIdentifier;
 import com.athletics.sponsor.presentationlayer.SponsorRequestModel;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.Mappings;
 
 
 @Mapper(componentModel = "spring")
@@ -10,8 +14,16 @@ public interface SponsorRequestMapper {
 
     @Mappings({
             @Mapping(target = "id", ignore = true),
+            @Mapping(target = "version", ignore = true),
             @Mapping(expression = "java(sponsorIdentifier)", target = "sponsorIdentifier")
     })
     Sponsor requestModelToEntity(SponsorRequestModel sponsorRequestModel,
                                  SponsorIdentifier sponsorIdentifier);
+
+    @Mappings({
+            @Mapping(target = "id", ignore = true),
+            @Mapping(target = "version", ignore = true),
+            @Mapping(target = "sponsorIdentifier", ignore = true)
+    })
+    void updateEntityFromRequestModel(SponsorRequestModel sponsorRequestModel, @MappingTarget Sponsor sponsor);
 }
@@ -5,12 +5,16 @@ import com.athletics.sponsor.dataaccesslayer.SponsorLevelEnum;
 import com.athletics.sponsor.presentationlayer.SponsorRequestModel;
 import com.athletics.sponsor.presentationlayer.SponsorResponseModel;
 import com.athletics.sponsor.utils.exceptions.InvalidInputException;
+import com.athletics.sponsor.utils.exceptions.PreconditionFailedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -19,6 +23,9 @@ public class SponsorController {
 
     private final SponsorService sponsorService;
     private static final int UUID_LENGTH = 36;
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final int MAX_BULK_CREATE_SIZE = 1000;
+    private static final int MAX_BULK_PATCH_SIZE = 1000;
 
     public SponsorController(SponsorService sponsorService) {
         this.sponsorService = sponsorService;
@@ -34,7 +41,21 @@ public class SponsorController {
         if (sponsorId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid sponsorId provided: " + sponsorId);
         }
-        return ResponseEntity.ok().body(sponsorService.getSponsorById(sponsorId));
+        SponsorResponseModel sponsor = sponsorService.getSponsorById(sponsorId);
+        return ResponseEntity.ok().eTag(String.valueOf(sponsor.getVersion())).body(sponsor);
+    }
+
+    @PostMapping("/batch-get")
+    public ResponseEntity<List<SponsorResponseModel>> getSponsorsByIds(@RequestBody List<String> sponsorIds) {
+        if (sponsorIds.size() > MAX_BATCH_SIZE) {
+            throw new InvalidInputException("At most " + MAX_BATCH_SIZE + " sponsorIds can be requested at once");
+        }
+        for (String sponsorId : sponsorIds) {
+            if (sponsorId == null || sponsorId.length() != UUID_LENGTH) {
+                throw new InvalidInputException("Invalid sponsorId provided: " + sponsorId);
+            }
+        }
+        return ResponseEntity.ok().body(sponsorService.getSponsorsByIds(sponsorIds));
     }
 
     @PostMapping
@@ -43,16 +64,25 @@ public class SponsorController {
         return ResponseEntity.status(HttpStatus.CREATED).body(newSponsor);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<SponsorResponseModel>> createSponsors(@RequestBody List<SponsorRequestModel> sponsorRequestModels) {
+        if (sponsorRequestModels.size() > MAX_BULK_CREATE_SIZE) {
+            throw new InvalidInputException("At most " + MAX_BULK_CREATE_SIZE + " sponsors can be created at once");
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(sponsorService.createSponsors(sponsorRequestModels));
+    }
+
     @PutMapping("/{sponsorId}")
     public ResponseEntity<SponsorResponseModel> updateSponsor(
             @PathVariable String sponsorId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody SponsorRequestModel sponsorRequestModel) {
         if (sponsorId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid sponsorId provided: " + sponsorId);
         }
         SponsorResponseModel updatedSponsor =
-                sponsorService.updateSponsor(sponsorRequestModel, sponsorId);
-        return ResponseEntity.ok(updatedSponsor);
+                sponsorService.updateSponsor(sponsorRequestModel, sponsorId, expectedVersion(sponsorId, ifMatch));
+        return ResponseEntity.ok().eTag(String.valueOf(updatedSponsor.getVersion())).body(updatedSponsor);
     }
 
     @DeleteMapping("/{sponsorId}")
@@ -83,6 +113,47 @@ public class SponsorController {
         SponsorResponseModel updated =
                 sponsorService.patchSponsorLevel(sponsorId, levelEnum);
 
-        return ResponseEntity.ok(updated);
+        return ResponseEntity.ok().eTag(String.valueOf(updated.getVersion())).body(updated);
+    }
+
+    @PatchMapping("/levels")
+    public ResponseEntity<List<SponsorResponseModel>> updateSponsorLevels(
+            @RequestBody List<SponsorLevelPatchRequestModel> levelPatches) {
+        if (levelPatches.size() > MAX_BULK_PATCH_SIZE) {
+            throw new InvalidInputException("At most " + MAX_BULK_PATCH_SIZE + " sponsor levels can be patched at once");
+        }
+        Map<String, SponsorLevelEnum> newLevels = new LinkedHashMap<>();
+        for (SponsorLevelPatchRequestModel levelPatch : levelPatches) {
+            String sponsorId = levelPatch.getSponsorId();
+            if (sponsorId == null || sponsorId.length() != UUID_LENGTH) {
+                throw new InvalidInputException("Invalid sponsorId provided: " + sponsorId);
+            }
+            SponsorLevelEnum levelEnum;
+            try {
+                levelEnum = SponsorLevelEnum.valueOf(String.valueOf(levelPatch.getSponsorLevel()).trim().toUpperCase());
+            } catch (IllegalArgumentException ex) {
+                throw new InvalidInputException("Invalid sponsor level: " + levelPatch.getSponsorLevel());
+            }
+            if (newLevels.put(sponsorId, levelEnum) != null) {
+                throw new InvalidInputException("Sponsor " + sponsorId + " appears more than once");
+            }
+        }
+        return ResponseEntity.ok(sponsorService.patchSponsorLevels(newLevels));
+    }
+
+    // the ETag handed out by GET is the version; no header or "*" means an unconditional update
+    private static Long expectedVersion(String sponsorId, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.parseLong(tag.replace("\"", ""));
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException("If-Match " + ifMatch + " does not match sponsor " + sponsorId);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,13 @@
+package com.athletics.sponsor.presentationlayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SponsorLevelPatchRequestModel {
+    private String sponsorId;
+    private String sponsorLevel;
+}
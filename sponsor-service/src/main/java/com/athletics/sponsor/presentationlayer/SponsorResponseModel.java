@@ -14,4 +14,5 @@ public class SponsorResponseModel extends RepresentationModel<SponsorResponseMod
     private String sponsorName;
     private SponsorLevelEnum sponsorLevel;
     private Double sponsorAmount;
+    private Long version;
 }
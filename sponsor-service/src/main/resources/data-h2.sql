@@ -1,29 +1,29 @@
-INSERT INTO sponsors (sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
-VALUES ('aaaaaaa1-1aaa-1aaa-1aaa-aaaaaaaaaaa1', 'Nike', 'PLATINUM', 200000.00);
+INSERT INTO sponsors (id, sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
+VALUES (1, 'aaaaaaa1-1aaa-1aaa-1aaa-aaaaaaaaaaa1', 'Nike', 'PLATINUM', 200000.00);
 
-INSERT INTO sponsors (sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
-VALUES ('aaaaaaa2-2aaa-2aaa-2aaa-aaaaaaaaaaa2', 'Adidas', 'GOLD', 150000.00);
+INSERT INTO sponsors (id, sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
+VALUES (2, 'aaaaaaa2-2aaa-2aaa-2aaa-aaaaaaaaaaa2', 'Adidas', 'GOLD', 150000.00);
 
-INSERT INTO sponsors (sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
-VALUES ('aaaaaaa3-3aaa-3aaa-3aaa-aaaaaaaaaaa3', 'Puma', 'SILVER', 100000.00);
+INSERT INTO sponsors (id, sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
+VALUES (3, 'aaaaaaa3-3aaa-3aaa-3aaa-aaaaaaaaaaa3', 'Puma', 'SILVER', 100000.00);
 
-INSERT INTO sponsors (sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
-VALUES ('aaaaaaa4-4aaa-4aaa-4aaa-aaaaaaaaaaa4', 'Gatorade', 'BRONZE', 50000.00);
+INSERT INTO sponsors (id, sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
+VALUES (4, 'aaaaaaa4-4aaa-4aaa-4aaa-aaaaaaaaaaa4', 'Gatorade', 'BRONZE', 50000.00);
 
-INSERT INTO sponsors (sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
-VALUES ('aaaaaaa5-5aaa-5aaa-5aaa-aaaaaaaaaaa5', 'Under Armour', 'PLATINUM', 250000.00);
+INSERT INTO sponsors (id, sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
+VALUES (5, 'aaaaaaa5-5aaa-5aaa-5aaa-aaaaaaaaaaa5', 'Under Armour', 'PLATINUM', 250000.00);
 
-INSERT INTO sponsors (sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
-VALUES ('aaaaaaa6-6aaa-6aaa-6aaa-aaaaaaaaaaa6', 'Reebok', 'PLATINUM', 300000.00);
+INSERT INTO sponsors (id, sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
+VALUES (6, 'aaaaaaa6-6aaa-6aaa-6aaa-aaaaaaaaaaa6', 'Reebok', 'PLATINUM', 300000.00);
 
-INSERT INTO sponsors (sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
-VALUES ('aaaaaaa7-7aaa-7aaa-7aaa-aaaaaaaaaaa7', 'New Balance', 'GOLD', 40000.00);
+INSERT INTO sponsors (id, sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
+VALUES (7, 'aaaaaaa7-7aaa-7aaa-7aaa-aaaaaaaaaaa7', 'New Balance', 'GOLD', 40000.00);
 
-INSERT INTO sponsors (sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
-VALUES ('aaaaaaa8-8aaa-8aaa-8aaa-aaaaaaaaaaa8', 'Asics', 'SILVER', 130000.00);
+INSERT INTO sponsors (id, sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
+VALUES (8, 'aaaaaaa8-8aaa-8aaa-8aaa-aaaaaaaaaaa8', 'Asics', 'SILVER', 130000.00);
 
-INSERT INTO sponsors (sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
-VALUES ('aaaaaaa9-9aaa-9aaa-9aaa-aaaaaaaaaaa9', 'Mizuno', 'BRONZE', 90000.00);
+INSERT INTO sponsors (id, sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
+VALUES (9, 'aaaaaaa9-9aaa-9aaa-9aaa-aaaaaaaaaaa9', 'Mizuno', 'BRONZE', 90000.00);
 
-INSERT INTO sponsors (sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
-VALUES ('aaaaaaa0-0aaa-0aaa-0aaa-aaaaaaaaaaa0', 'Champion', 'PLATINUM', 120000.00);
+INSERT INTO sponsors (id, sponsor_id, sponsor_name, sponsor_level, sponsor_amount)
+VALUES (10, 'aaaaaaa0-0aaa-0aaa-0aaa-aaaaaaaaaaa0', 'Champion', 'PLATINUM', 120000.00);
@@ -1,8 +1,10 @@
 
 CREATE TABLE IF NOT EXISTS sponsors (
-                                        id SERIAL PRIMARY KEY,
+                                        id INTEGER PRIMARY KEY,
                                         sponsor_id VARCHAR(36) UNIQUE NOT NULL,
     sponsor_name VARCHAR(100) NOT NULL,
     sponsor_level VARCHAR(50) NOT NULL,
-    sponsor_amount DECIMAL(19,2) NOT NULL
+    sponsor_amount DECIMAL(19,2) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
     );
+CREATE SEQUENCE IF NOT EXISTS sponsors_seq START WITH 1000 INCREMENT BY 50;
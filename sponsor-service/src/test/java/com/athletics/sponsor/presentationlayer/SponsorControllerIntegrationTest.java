@@ -9,12 +9,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.util.List;
+
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
@@ -202,6 +205,38 @@ class SponsorControllerIntegrationTest {
                 });
     }
 
+    @Test
+    void whenUpdateWithStaleIfMatch_thenReturnPreconditionFailed() {
+        SponsorRequestModel update = new SponsorRequestModel(VALID_ID, "NikeUpdated", SponsorLevelEnum.GOLD, 300000.00);
+
+        webClient.put()
+                .uri(BASE_URI + "/" + VALID_ID)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
+                .expectBody(SponsorResponseModel.class)
+                .value(s -> assertEquals(1L, s.getVersion()));
+
+        webClient.put()
+                .uri(BASE_URI + "/" + VALID_ID)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new SponsorRequestModel(VALID_ID, "Lost Update", SponsorLevelEnum.BRONZE, 2000.00))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        webClient.get()
+                .uri(BASE_URI + "/" + VALID_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
+                .expectBody(SponsorResponseModel.class)
+                .value(s -> assertEquals("NikeUpdated", s.getSponsorName()));
+    }
+
     @Test
     void whenUpdateInvalid_thenReturnUnprocessableEntity() {
         SponsorRequestModel req = new SponsorRequestModel(
@@ -291,12 +326,58 @@ class SponsorControllerIntegrationTest {
                 .value(s -> {
                     assertEquals(ANOTHER_VALID_ID, s.getSponsorId());
                     assertEquals(SponsorLevelEnum.SILVER, s.getSponsorLevel());
+                    assertEquals(1L, s.getVersion());
                 });
 
         Sponsor after = sponsorRepository.findBySponsorIdentifier_SponsorId(ANOTHER_VALID_ID);
         assertEquals(SponsorLevelEnum.SILVER, after.getSponsorLevel());
     }
 
+    @Test
+    void whenBulkPatchLevels_thenEachSponsorPatchedInRequestOrder() {
+        List<SponsorLevelPatchRequestModel> patches = List.of(
+                new SponsorLevelPatchRequestModel(ANOTHER_VALID_ID, "silver"),
+                new SponsorLevelPatchRequestModel(NON_EXISTENT_ID, "GOLD"),
+                new SponsorLevelPatchRequestModel(VALID_ID, "NONE"));
+
+        webClient.patch()
+                .uri(BASE_URI + "/levels")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(patches)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(SponsorResponseModel.class)
+                .value(list -> {
+                    assertEquals(2, list.size());
+                    assertEquals(ANOTHER_VALID_ID, list.get(0).getSponsorId());
+                    assertEquals(SponsorLevelEnum.SILVER, list.get(0).getSponsorLevel());
+                    assertEquals("Adidas", list.get(0).getSponsorName());
+                    assertEquals(1L, list.get(0).getVersion());
+                    assertEquals(VALID_ID, list.get(1).getSponsorId());
+                    assertEquals(SponsorLevelEnum.NONE, list.get(1).getSponsorLevel());
+                });
+
+        assertEquals(SponsorLevelEnum.SILVER,
+                sponsorRepository.findBySponsorIdentifier_SponsorId(ANOTHER_VALID_ID).getSponsorLevel());
+        assertEquals(SponsorLevelEnum.NONE,
+                sponsorRepository.findBySponsorIdentifier_SponsorId(VALID_ID).getSponsorLevel());
+    }
+
+    @Test
+    void whenBulkPatchInvalidLevel_thenReturnUnprocessableEntity() {
+        webClient.patch()
+                .uri(BASE_URI + "/levels")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(new SponsorLevelPatchRequestModel(VALID_ID, "DIAMOND")))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid sponsor level: DIAMOND");
+
+        assertEquals(SponsorLevelEnum.PLATINUM,
+                sponsorRepository.findBySponsorIdentifier_SponsorId(VALID_ID).getSponsorLevel());
+    }
+
     @Test
     void whenPatchInvalidId_thenReturnUnprocessableEntity() {
         webClient.patch()
@@ -355,5 +436,100 @@ class SponsorControllerIntegrationTest {
                 .isEqualTo("The sponsor amount is too low. Minimum required amount is 1000.0");
     }
 
+    @Test
+    void whenBatchGet_thenReturnExistingInRequestOrder() {
+        webClient.post()
+                .uri(BASE_URI + "/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(ANOTHER_VALID_ID, NON_EXISTENT_ID, VALID_ID))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(SponsorResponseModel.class)
+                .value(list -> {
+                    assertEquals(2, list.size());
+                    assertEquals(ANOTHER_VALID_ID, list.get(0).getSponsorId());
+                    assertEquals(VALID_ID, list.get(1).getSponsorId());
+                });
+    }
+
+    @Test
+    void whenBatchGetWithInvalidId_thenReturnUnprocessableEntity() {
+        webClient.post()
+                .uri(BASE_URI + "/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(VALID_ID, INVALID_ID))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("Invalid sponsorId provided: " + INVALID_ID);
+    }
+
+    @Test
+    void whenCreateSponsorsBatchValid_thenAllAreCreated() {
+        long before = sponsorRepository.count();
+        List<SponsorRequestModel> sponsors = List.of(
+                new SponsorRequestModel("bbbbbbb1-1bbb-1bbb-1bbb-bbbbbbbbbbb1", "Asics", SponsorLevelEnum.SILVER, 5000.0),
+                new SponsorRequestModel("bbbbbbb2-2bbb-2bbb-2bbb-bbbbbbbbbbb2", "Brooks", SponsorLevelEnum.BRONZE, 2500.0));
+
+        webClient.post()
+                .uri(BASE_URI + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(sponsors)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBodyList(SponsorResponseModel.class)
+                .value(list -> {
+                    assertEquals(2, list.size());
+                    assertEquals("Asics", list.get(0).getSponsorName());
+                });
+
+        assertEquals(before + 2, sponsorRepository.count());
+    }
+
+    @Test
+    void whenCreateSponsorsBatchWithExistingId_thenNothingIsCreated() {
+        long before = sponsorRepository.count();
+        List<SponsorRequestModel> sponsors = List.of(
+                new SponsorRequestModel("bbbbbbb1-1bbb-1bbb-1bbb-bbbbbbbbbbb1", "Asics", SponsorLevelEnum.SILVER, 5000.0),
+                new SponsorRequestModel(VALID_ID, "NikeDup", SponsorLevelEnum.GOLD, 5000.0));
+
+        webClient.post()
+                .uri(BASE_URI + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(sponsors)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+
+        assertEquals(before, sponsorRepository.count());
+    }
+
+    @Test
+    public void whenGetSponsorWithMatchingIfNoneMatch_thenReturnNotModified() {
+        String etag = webClient.get()
+                .uri(BASE_URI + "/" + VALID_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        webClient.get()
+                .uri(BASE_URI + "/" + VALID_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
 
-}
\ No newline at end of file
+        webClient.get()
+                .uri(BASE_URI)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG);
+    }
+}
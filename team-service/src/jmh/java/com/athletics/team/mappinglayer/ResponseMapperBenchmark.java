@@ -0,0 +1,88 @@
+package com.athletics.team.mappinglayer;
+
+import com.athletics.team.dataaccesslayer.Athlete.Athlete;
+import com.athletics.team.dataaccesslayer.Athlete.AthleteCategoryEnum;
+import com.athletics.team.dataaccesslayer.Athlete.AthleteIdentifier;
+import com.athletics.team.dataaccesslayer.Team.Team;
+import com.athletics.team.dataaccesslayer.Team.TeamIdentifier;
+import com.athletics.team.dataaccesslayer.Team.TeamLevelEnum;
+import com.athletics.team.mappinglayer.Athlete.AthleteResponseMapper;
+import com.athletics.team.mappinglayer.Athlete.AthleteResponseMapperImpl;
+import com.athletics.team.mappinglayer.team.TeamResponseMapper;
+import com.athletics.team.mappinglayer.team.TeamResponseMapperImpl;
+import com.athletics.team.presentationlayer.Athlete.AthleteResponseModel;
+import com.athletics.team.presentationlayer.Team.TeamResponseModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseMapperBenchmark {
+
+    @Param({"1", "100"})
+    private int size;
+
+    private final TeamResponseMapper teamResponseMapper = new TeamResponseMapperImpl();
+    private final AthleteResponseMapper athleteResponseMapper = new AthleteResponseMapperImpl();
+    private List<Team> teams;
+    private List<Athlete> athletes;
+
+    @Setup
+    public void setUp() {
+        String teamId = UUID.randomUUID().toString();
+        teams = new ArrayList<>(size);
+        athletes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            teams.add(new Team(i, new TeamIdentifier(UUID.randomUUID().toString()),
+                    "Eagles " + i, "Coach Carter", TeamLevelEnum.COLLEGE));
+
+            Athlete athlete = new Athlete();
+            athlete.setAthleteIdentifier(new AthleteIdentifier());
+            athlete.setFirstName("Jordan");
+            athlete.setLastName("Lee " + i);
+            athlete.setDateOfBirth(LocalDate.of(2001, 4, 12));
+            athlete.setAthleteCategory(AthleteCategoryEnum.SENIOR);
+            athlete.setTeamId(teamId);
+            athletes.add(athlete);
+        }
+    }
+
+    @Benchmark
+    public TeamResponseModel mapTeam() {
+        return teamResponseMapper.entityToResponseModel(teams.get(0));
+    }
+
+    @Benchmark
+    public List<TeamResponseModel> mapTeamList() {
+        return teamResponseMapper.entityListToResponseModelList(teams);
+    }
+
+    @Benchmark
+    public AthleteResponseModel mapAthlete() {
+        return athleteResponseMapper.entityToResponseModel(athletes.get(0));
+    }
+
+    @Benchmark
+    public List<AthleteResponseModel> mapAthleteList() {
+        return athleteResponseMapper.entityListToResponseModelList(athletes);
+    }
+}
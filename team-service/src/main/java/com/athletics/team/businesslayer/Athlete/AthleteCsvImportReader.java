@@ -0,0 +1,133 @@
+package com.athletics.team.businesslayer.Athlete;
+
+import com.athletics.team.dataaccesslayer.Athlete.AthleteCategoryEnum;
+import com.athletics.team.presentationlayer.Athlete.AthleteRequestModel;
+import com.athletics.team.utils.exceptions.InvalidInputException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+class AthleteCsvImportReader implements AthleteImportReader {
+
+    private static final List<String> COLUMNS = List.of("firstName", "lastName", "dateOfBirth", "athleteCategory");
+
+    private final BufferedReader reader;
+    private final int[] positions = new int[COLUMNS.size()];
+    private int rowNumber;
+
+    AthleteCsvImportReader(InputStream input) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String header = reader.readLine();
+        if (header == null) {
+            throw new InvalidInputException("CSV body must start with a header row: " + String.join(",", COLUMNS));
+        }
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        List<String> names = split(header);
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            positions[i] = indexOfIgnoreCase(names, COLUMNS.get(i));
+            if (positions[i] < 0) {
+                throw new InvalidInputException("CSV header is missing column: " + COLUMNS.get(i));
+            }
+        }
+    }
+
+    @Override
+    public AthleteImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+        rowNumber++;
+
+        List<String> fields = split(line);
+        for (int position : positions) {
+            if (position >= fields.size()) {
+                return AthleteImportRow.rejected(rowNumber,
+                        "Expected " + COLUMNS.size() + " columns but found " + fields.size());
+            }
+        }
+
+        AthleteRequestModel athlete = new AthleteRequestModel();
+        athlete.setFirstName(blankToNull(fields.get(positions[0])));
+        athlete.setLastName(blankToNull(fields.get(positions[1])));
+
+        String dateOfBirth = blankToNull(fields.get(positions[2]));
+        if (dateOfBirth != null) {
+            try {
+                athlete.setDateOfBirth(LocalDate.parse(dateOfBirth));
+            } catch (DateTimeParseException ex) {
+                return AthleteImportRow.rejected(rowNumber, "Invalid dateOfBirth: " + dateOfBirth);
+            }
+        }
+
+        String category = blankToNull(fields.get(positions[3]));
+        if (category != null) {
+            try {
+                athlete.setAthleteCategory(AthleteCategoryEnum.valueOf(category.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException ex) {
+                return AthleteImportRow.rejected(rowNumber, "Unknown athleteCategory: " + category);
+            }
+        }
+        return AthleteImportRow.of(rowNumber, athlete);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // RFC 4180 style: commas inside double quotes are kept and "" is an escaped quote
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private static int indexOfIgnoreCase(List<String> names, String column) {
+        for (int i = 0; i < names.size(); i++) {
+            if (names.get(i).trim().equalsIgnoreCase(column)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,11 @@
+package com.athletics.team.businesslayer.Athlete;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// pulls one row at a time from the request body so an import never holds more than the current row
+interface AthleteImportReader extends Closeable {
+
+    // returns null once the input is exhausted
+    AthleteImportRow next() throws IOException;
+}
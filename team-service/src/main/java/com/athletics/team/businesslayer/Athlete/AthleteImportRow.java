@@ -0,0 +1,15 @@
+package com.athletics.team.businesslayer.Athlete;
+
+import com.athletics.team.presentationlayer.Athlete.AthleteRequestModel;
+
+// one parsed import row: either the athlete or the reason it could not be read
+record AthleteImportRow(int rowNumber, AthleteRequestModel athlete, String error) {
+
+    static AthleteImportRow of(int rowNumber, AthleteRequestModel athlete) {
+        return new AthleteImportRow(rowNumber, athlete, null);
+    }
+
+    static AthleteImportRow rejected(int rowNumber, String error) {
+        return new AthleteImportRow(rowNumber, null, error);
+    }
+}
@@ -0,0 +1,70 @@
+package com.athletics.team.businesslayer.Athlete;
+
+import com.athletics.team.presentationlayer.Athlete.AthleteRequestModel;
+import com.athletics.team.utils.exceptions.InvalidInputException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+class AthleteJsonImportReader implements AthleteImportReader {
+
+    private final ObjectMapper mapper;
+    private final JsonParser parser;
+    private int rowNumber;
+    private boolean finished;
+
+    AthleteJsonImportReader(ObjectMapper mapper, InputStream input) throws IOException {
+        this.mapper = mapper;
+        this.parser = mapper.getFactory().createParser(input);
+        JsonToken first;
+        try {
+            first = parser.nextToken();
+        } catch (JsonProcessingException ex) {
+            throw new InvalidInputException("JSON body must be an array of athletes");
+        }
+        if (first != JsonToken.START_ARRAY) {
+            throw new InvalidInputException("JSON body must be an array of athletes");
+        }
+    }
+
+    @Override
+    public AthleteImportRow next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        JsonNode node;
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                finished = true;
+                return null;
+            }
+            rowNumber++;
+            // read the element as a tree first so a bad value only rejects its own row
+            node = parser.readValueAsTree();
+        } catch (JsonProcessingException ex) {
+            // the rest of the stream cannot be trusted once the JSON itself is broken
+            finished = true;
+            return AthleteImportRow.rejected(rowNumber, "Malformed JSON: " + ex.getOriginalMessage());
+        }
+
+        if (node == null || !node.isObject()) {
+            return AthleteImportRow.rejected(rowNumber, "Row must be a JSON object");
+        }
+        try {
+            return AthleteImportRow.of(rowNumber, mapper.treeToValue(node, AthleteRequestModel.class));
+        } catch (JsonProcessingException ex) {
+            return AthleteImportRow.rejected(rowNumber, "Invalid athlete: " + ex.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -1,15 +1,21 @@
 package com.athletics.team.businesslayer.Athlete;
 
 
+import com.athletics.team.presentationlayer.Athlete.AthleteImportReportModel;
 import com.athletics.team.presentationlayer.Athlete.AthleteRequestModel;
 import com.athletics.team.presentationlayer.Athlete.AthleteResponseModel;
 
+import org.springframework.http.MediaType;
+
+import java.io.InputStream;
 import java.util.List;
 
 public interface AthleteService {
     List<AthleteResponseModel> getAllAthletesForTeam(String teamId);
     AthleteResponseModel getAthleteById(String teamId, String athleteId);
     AthleteResponseModel createAthleteForTeam(String teamId, AthleteRequestModel athleteRequestModel);
+    List<AthleteResponseModel> createAthletesForTeam(String teamId, List<AthleteRequestModel> athleteRequestModels);
+    AthleteImportReportModel importAthletesForTeam(String teamId, MediaType contentType, InputStream body);
     AthleteResponseModel updateAthleteForTeam(String teamId, String athleteId, AthleteRequestModel athleteRequestModel);
     void deleteAthleteForTeam(String teamId, String athleteId);
 }
@@ -4,28 +4,58 @@ package com.athletics.team.businesslayer.Athlete;
 import com.athletics.team.dataaccesslayer.Athlete.Athlete;
 import com.athletics.team.dataaccesslayer.Athlete.AthleteIdentifier;
 import com.athletics.team.dataaccesslayer.Athlete.AthleteRepository;
+import com.athletics.team.dataaccesslayer.Team.TeamRepository;
 import com.athletics.team.mappinglayer.Athlete.AthleteRequestMapper;
 import com.athletics.team.mappinglayer.Athlete.AthleteResponseMapper;
+import com.athletics.team.presentationlayer.Athlete.AthleteImportReportModel;
+import com.athletics.team.presentationlayer.Athlete.AthleteImportRowResultModel;
 import com.athletics.team.presentationlayer.Athlete.AthleteRequestModel;
 import com.athletics.team.presentationlayer.Athlete.AthleteResponseModel;
+import com.athletics.team.utils.exceptions.InvalidInputException;
 import com.athletics.team.utils.exceptions.NotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
+@Observed(name = "business.service")
 public class AthleteServiceImpl implements AthleteService {
 
     private final AthleteRepository athleteRepository;
+    private final TeamRepository teamRepository;
     private final AthleteRequestMapper athleteRequestMapper;
     private final AthleteResponseMapper athleteResponseMapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int importChunkSize;
+    private final int importMaxReportedRejections;
 
     public AthleteServiceImpl(AthleteRepository athleteRepository,
+                              TeamRepository teamRepository,
                               AthleteRequestMapper athleteRequestMapper,
-                              AthleteResponseMapper athleteResponseMapper) {
+                              AthleteResponseMapper athleteResponseMapper,
+                              EntityManager entityManager,
+                              ObjectMapper objectMapper,
+                              @Value("${app.athlete-import.chunk-size:500}") int importChunkSize,
+                              @Value("${app.athlete-import.max-reported-rejections:1000}") int importMaxReportedRejections) {
         this.athleteRepository = athleteRepository;
+        this.teamRepository = teamRepository;
         this.athleteRequestMapper = athleteRequestMapper;
         this.athleteResponseMapper = athleteResponseMapper;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.importChunkSize = importChunkSize;
+        this.importMaxReportedRejections = importMaxReportedRejections;
     }
 
     @Override
@@ -45,6 +75,7 @@ public class AthleteServiceImpl implements AthleteService {
 
     @Override
     public AthleteResponseModel createAthleteForTeam(String teamId, AthleteRequestModel athleteRequestModel) {
+        requireTeam(teamId);
         AthleteIdentifier athleteIdentifier = new AthleteIdentifier();
         Athlete athlete = athleteRequestMapper.requestModelToEntity(athleteRequestModel, athleteIdentifier);
         athlete.setTeamId(teamId);
@@ -52,6 +83,51 @@ public class AthleteServiceImpl implements AthleteService {
         return athleteResponseMapper.entityToResponseModel(saved);
     }
 
+    @Override
+    @Transactional
+    public List<AthleteResponseModel> createAthletesForTeam(String teamId, List<AthleteRequestModel> athleteRequestModels) {
+        requireTeam(teamId);
+        List<Athlete> athletes = new ArrayList<>(athleteRequestModels.size());
+        for (AthleteRequestModel athleteRequestModel : athleteRequestModels) {
+            Athlete athlete = athleteRequestMapper.requestModelToEntity(athleteRequestModel, new AthleteIdentifier());
+            athlete.setTeamId(teamId);
+            athletes.add(athlete);
+        }
+        // ids come from the pooled sequence, so the inserts are flushed as JDBC batches on commit
+        List<Athlete> saved = athleteRepository.saveAll(athletes);
+        return athleteResponseMapper.entityListToResponseModelList(saved);
+    }
+
+    @Override
+    public AthleteImportReportModel importAthletesForTeam(String teamId, MediaType contentType, InputStream body) {
+        requireTeam(teamId);
+        AthleteImportReportModel report = new AthleteImportReportModel(0, 0, 0, new ArrayList<>(), false);
+        List<Athlete> chunk = new ArrayList<>(importChunkSize);
+        try (AthleteImportReader reader = MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                ? new AthleteJsonImportReader(objectMapper, body)
+                : new AthleteCsvImportReader(body)) {
+            AthleteImportRow row;
+            while ((row = reader.next()) != null) {
+                report.setTotalRows(report.getTotalRows() + 1);
+                String error = row.error() != null ? row.error() : validateImportedAthlete(row.athlete());
+                if (error != null) {
+                    reject(report, row.rowNumber(), error);
+                    continue;
+                }
+                Athlete athlete = athleteRequestMapper.requestModelToEntity(row.athlete(), new AthleteIdentifier());
+                athlete.setTeamId(teamId);
+                chunk.add(athlete);
+                if (chunk.size() >= importChunkSize) {
+                    report.setImportedRows(report.getImportedRows() + writeImportChunk(chunk));
+                }
+            }
+            report.setImportedRows(report.getImportedRows() + writeImportChunk(chunk));
+        } catch (IOException ex) {
+            throw new InvalidInputException("Could not read import body: " + ex.getMessage());
+        }
+        return report;
+    }
+
     @Override
     public AthleteResponseModel updateAthleteForTeam(String teamId, String athleteId, AthleteRequestModel athleteRequestModel) {
         Athlete existing = athleteRepository.findByTeamIdAndAthleteIdentifier_AthleteId(teamId, athleteId);
@@ -74,4 +150,51 @@ public class AthleteServiceImpl implements AthleteService {
         }
         athleteRepository.delete(existing);
     }
+
+    // athletes.team_id is a foreign key, so an unknown team is reported instead of failing the insert
+    private void requireTeam(String teamId) {
+        if (!teamRepository.existsByTeamIdentifier_TeamId(teamId)) {
+            throw new NotFoundException("No team found with ID: " + teamId);
+        }
+    }
+
+    // each chunk commits on its own and is then detached, so a large import never grows the persistence context
+    private int writeImportChunk(List<Athlete> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        athleteRepository.saveAll(chunk);
+        entityManager.clear();
+        int written = chunk.size();
+        chunk.clear();
+        return written;
+    }
+
+    private void reject(AthleteImportReportModel report, int rowNumber, String message) {
+        report.setRejectedRows(report.getRejectedRows() + 1);
+        if (report.getRejections().size() < importMaxReportedRejections) {
+            report.getRejections().add(new AthleteImportRowResultModel(rowNumber, message));
+        } else {
+            report.setRejectionsTruncated(true);
+        }
+    }
+
+    private String validateImportedAthlete(AthleteRequestModel athlete) {
+        if (athlete.getFirstName() == null || athlete.getFirstName().isBlank()) {
+            return "firstName is required";
+        }
+        if (athlete.getLastName() == null || athlete.getLastName().isBlank()) {
+            return "lastName is required";
+        }
+        if (athlete.getDateOfBirth() == null) {
+            return "dateOfBirth is required";
+        }
+        if (!athlete.getDateOfBirth().isBefore(LocalDate.now())) {
+            return "dateOfBirth must be in the past";
+        }
+        if (athlete.getAthleteCategory() == null) {
+            return "athleteCategory is required";
+        }
+        return null;
+    }
 }
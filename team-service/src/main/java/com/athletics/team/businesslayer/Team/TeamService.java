@@ -9,8 +9,10 @@ import java.util.List;
 public interface TeamService {
     List<TeamResponseModel> getAllTeams();
     TeamResponseModel getTeamById(String teamId);
+    List<TeamResponseModel> getTeamsByIds(List<String> teamIds);
     TeamResponseModel createTeam(TeamRequestModel teamRequestModel);
-    TeamResponseModel updateTeam(TeamRequestModel teamRequestModel, String teamId);
+    List<TeamResponseModel> createTeams(List<TeamRequestModel> teamRequestModels);
+    TeamResponseModel updateTeam(TeamRequestModel teamRequestModel, String teamId, Long expectedVersion);
     void deleteTeam(String teamId);
 
 }
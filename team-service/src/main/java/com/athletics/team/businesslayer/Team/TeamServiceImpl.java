@@ -1,6 +1,7 @@
 package com.athletics.team.businesslayer.Team;
 
 
+import com.athletics.team.dataaccesslayer.Athlete.AthleteRepository;
 import com.athletics.team.dataaccesslayer.Team.Team;
 import com.athletics.team.dataaccesslayer.Team.TeamIdentifier;
 import com.athletics.team.dataaccesslayer.Team.TeamRepository;
@@ -10,24 +11,37 @@ import com.athletics.team.presentationlayer.Team.TeamRequestModel;
 import com.athletics.team.presentationlayer.Team.TeamResponseModel;
 import com.athletics.team.utils.exceptions.DuplicateTeamException;
 import com.athletics.team.utils.exceptions.NotFoundException;
+import com.athletics.team.utils.exceptions.PreconditionFailedException;
 import com.athletics.team.utils.exceptions.TeamNameLengthExceededException;
+import io.micrometer.observation.annotation.Observed;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
+@Observed(name = "business.service")
 public class TeamServiceImpl implements TeamService {
 
     private final TeamRepository teamRepository;
     private final TeamResponseMapper teamResponseMapper;
     private final TeamRequestMapper teamRequestMapper;
+    private final AthleteRepository athleteRepository;
 
     public TeamServiceImpl(TeamRepository teamRepository,
                            TeamResponseMapper teamResponseMapper,
-                           TeamRequestMapper teamRequestMapper) {
+                           TeamRequestMapper teamRequestMapper,
+                           AthleteRepository athleteRepository) {
         this.teamRepository = teamRepository;
         this.teamResponseMapper = teamResponseMapper;
         this.teamRequestMapper = teamRequestMapper;
+        this.athleteRepository = athleteRepository;
     }
 
     @Override
@@ -45,6 +59,25 @@ public class TeamServiceImpl implements TeamService {
         return teamResponseMapper.entityToResponseModel(foundTeam);
     }
 
+    @Override
+    public List<TeamResponseModel> getTeamsByIds(List<String> teamIds) {
+        Set<String> requested = new LinkedHashSet<>(teamIds);
+        if (requested.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Team> found = new HashMap<>();
+        for (Team team : teamRepository.findAllByTeamIdentifier_TeamIdIn(requested)) {
+            found.put(team.getTeamIdentifier().getTeamId(), team);
+        }
+
+        List<Team> ordered = requested.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return teamResponseMapper.entityListToResponseModelList(ordered);
+    }
+
     @Override
     public TeamResponseModel createTeam(TeamRequestModel teamRequestModel) {
 
@@ -64,33 +97,81 @@ public class TeamServiceImpl implements TeamService {
         return teamResponseMapper.entityToResponseModel(savedTeam);
     }
 
+    @Override
+    @Transactional
+    public List<TeamResponseModel> createTeams(List<TeamRequestModel> teamRequestModels) {
+        if (teamRequestModels.isEmpty()) {
+            return List.of();
+        }
+        Set<String> teamIds = new LinkedHashSet<>();
+        for (TeamRequestModel teamRequestModel : teamRequestModels) {
+            if (teamRequestModel.getTeamName() != null
+                    && teamRequestModel.getTeamName().length() > 30) {
+                throw new TeamNameLengthExceededException("Team name cannot exceed 30 characters");
+            }
+            if (!teamIds.add(teamRequestModel.getTeamId())) {
+                throw new DuplicateTeamException("Team with ID already exists: " + teamRequestModel.getTeamId());
+            }
+        }
+        List<Team> existing = teamRepository.findAllByTeamIdentifier_TeamIdIn(teamIds);
+        if (!existing.isEmpty()) {
+            throw new DuplicateTeamException(
+                    "Team with ID already exists: " + existing.get(0).getTeamIdentifier().getTeamId());
+        }
+
+        List<Team> newTeams = new ArrayList<>(teamRequestModels.size());
+        for (TeamRequestModel teamRequestModel : teamRequestModels) {
+            newTeams.add(teamRequestMapper.requestModelToEntity(
+                    teamRequestModel,
+                    new TeamIdentifier(teamRequestModel.getTeamId())
+            ));
+        }
+        List<Team> savedTeams = teamRepository.saveAll(newTeams);
+        return teamResponseMapper.entityListToResponseModelList(savedTeams);
+    }
 
     @Override
-    public TeamResponseModel updateTeam(TeamRequestModel teamRequestModel, String teamId) {
+    @Transactional
+    public TeamResponseModel updateTeam(TeamRequestModel teamRequestModel, String teamId, Long expectedVersion) {
         if (teamRequestModel.getTeamName() != null
                 && teamRequestModel.getTeamName().length() > 30) {
             throw new TeamNameLengthExceededException("Team name cannot exceed 30 characters");
         }
+
+        if (expectedVersion != null) {
+            // If-Match: one conditional UPDATE, no read unless it matched nothing
+            int updated = teamRepository.updateIfVersionMatches(teamId, expectedVersion,
+                    teamRequestModel.getTeamName(), teamRequestModel.getCoachName(), teamRequestModel.getTeamLevel());
+            if (updated == 0) {
+                if (!teamRepository.existsByTeamIdentifier_TeamId(teamId)) {
+                    throw new NotFoundException("No team found with ID: " + teamId);
+                }
+                throw new PreconditionFailedException("Team " + teamId + " is no longer at version " + expectedVersion);
+            }
+            Team updatedTeam = teamRequestMapper.requestModelToEntity(teamRequestModel, new TeamIdentifier(teamId));
+            updatedTeam.setVersion(expectedVersion + 1);
+            return teamResponseMapper.entityToResponseModel(updatedTeam);
+        }
+
         Team existingTeam = teamRepository.findByTeamIdentifier_TeamId(teamId);
         if (existingTeam == null) {
             throw new NotFoundException("No team found with ID: " + teamId);
         }
-
-        TeamIdentifier identifier = existingTeam.getTeamIdentifier();
-
-        Team updatedTeam = teamRequestMapper.requestModelToEntity(teamRequestModel, identifier);
-        updatedTeam.setId(existingTeam.getId());
-
-        Team savedTeam = teamRepository.save(updatedTeam);
+        // the managed entity is flushed with a version check, so a concurrent edit fails instead of being overwritten
+        teamRequestMapper.updateEntityFromRequestModel(teamRequestModel, existingTeam);
+        Team savedTeam = teamRepository.saveAndFlush(existingTeam);
         return teamResponseMapper.entityToResponseModel(savedTeam);
     }
 
     @Override
+    @Transactional
     public void deleteTeam(String teamId) {
         Team existingTeam = teamRepository.findByTeamIdentifier_TeamId(teamId);
         if (existingTeam == null) {
             throw new NotFoundException("No team found with ID: " + teamId);
         }
+        // athletes.team_id references the team, so the roster goes first
+        athleteRepository.deleteByTeamId(teamId);
         teamRepository.delete(existingTeam);
     }
 }
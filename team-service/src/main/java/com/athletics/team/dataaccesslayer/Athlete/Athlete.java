@@ -3,17 +3,22 @@ package com.athletics.team.dataaccesslayer.Athlete;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "athletes")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "athletes")
+@Table(name = "athletes", indexes = @Index(name = "idx_athletes_team_athlete", columnList = "team_id, athlete_id"))
 @Data
 @NoArgsConstructor
 public class Athlete {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "athletes_seq")
+    @SequenceGenerator(name = "athletes_seq", sequenceName = "athletes_seq", initialValue = 1000, allocationSize = 50)
     private Integer id;
 
     @Embedded
@@ -1,6 +1,7 @@
 package com.athletics.team.dataaccesslayer.Athlete;
 
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import lombok.Getter;
 
@@ -9,6 +10,7 @@ import java.util.UUID;
 @Embeddable
 @Getter
 public class AthleteIdentifier {
+    @Column(unique = true)
     private String athleteId;
 
     public AthleteIdentifier() {
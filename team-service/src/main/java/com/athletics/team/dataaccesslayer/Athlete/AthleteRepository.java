@@ -1,10 +1,22 @@
 package com.athletics.team.dataaccesslayer.Athlete;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface AthleteRepository extends JpaRepository<Athlete, Integer> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Athlete> findByTeamId(String teamId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Athlete findByTeamIdAndAthleteIdentifier_AthleteId(String teamId, String athleteId);
+
+    @Modifying
+    @Query("delete from Athlete a where a.teamId = :teamId")
+    int deleteByTeamId(@Param("teamId") String teamId);
 }
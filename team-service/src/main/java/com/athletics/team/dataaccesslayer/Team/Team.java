@@ -4,7 +4,12 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "teams")
 @Table(name = "teams")
 @Data
 @NoArgsConstructor
@@ -12,12 +17,13 @@ import lombok.NoArgsConstructor;
 public class Team {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "teams_seq")
+    @SequenceGenerator(name = "teams_seq", sequenceName = "teams_seq", initialValue = 1000, allocationSize = 50)
     private Integer id;
 
     @Embedded
     @AttributeOverrides({
-            @AttributeOverride(name = "teamId", column = @Column(name = "team_id"))
+            @AttributeOverride(name = "teamId", column = @Column(name = "team_id", unique = true))
     })
     private TeamIdentifier teamIdentifier;
 
@@ -26,4 +32,13 @@ public class Team {
 
     @Enumerated(EnumType.STRING)
     private TeamLevelEnum teamLevel;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    public Team(Integer id, TeamIdentifier teamIdentifier, String teamName, String coachName, TeamLevelEnum teamLevel) {
+        this(id, teamIdentifier, teamName, coachName, teamLevel, null);
+    }
 }
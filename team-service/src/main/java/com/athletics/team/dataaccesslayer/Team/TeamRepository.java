@@ -1,7 +1,30 @@
 package com.athletics.team.dataaccesslayer.Team;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface TeamRepository extends JpaRepository<Team, Integer> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Team findByTeamIdentifier_TeamId(String teamId);
+
+    boolean existsByTeamIdentifier_TeamId(String teamId);
+
+    List<Team> findAllByTeamIdentifier_TeamIdIn(Collection<String> teamIds);
+
+    @Modifying
+    @Query("update Team t set t.teamName = :teamName, t.coachName = :coachName, t.teamLevel = :teamLevel, " +
+            "t.version = t.version + 1 where t.teamIdentifier.teamId = :teamId and t.version = :version")
+    int updateIfVersionMatches(@Param("teamId") String teamId,
+                               @Param("version") long version,
+                               @Param("teamName") String teamName,
+                               @Param("coachName") String coachName,
+                               @Param("teamLevel") TeamLevelEnum teamLevel);
 }
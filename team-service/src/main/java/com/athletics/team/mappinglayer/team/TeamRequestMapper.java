@@ -5,6 +5,7 @@ import com.athletics.team.dataaccesslayer.Team.TeamIdentifier;
 import com.athletics.team.presentationlayer.Team.TeamRequestModel;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.mapstruct.Mappings;
 
 @Mapper(componentModel = "spring")
@@ -12,8 +13,16 @@ public interface TeamRequestMapper {
 
     @Mappings({
             @Mapping(target = "id", ignore = true),
+            @Mapping(target = "version", ignore = true),
             @Mapping(expression = "java(teamIdentifier)", target = "teamIdentifier")
     })
     Team requestModelToEntity(TeamRequestModel teamRequestModel,
                               TeamIdentifier teamIdentifier);
+
+    @Mappings({
+            @Mapping(target = "id", ignore = true),
+            @Mapping(target = "version", ignore = true),
+            @Mapping(target = "teamIdentifier", ignore = true)
+    })
+    void updateEntityFromRequestModel(TeamRequestModel teamRequestModel, @MappingTarget Team team);
 }
@@ -5,10 +5,13 @@ import com.athletics.team.presentationlayer.Athlete.AthleteRequestModel;
 import com.athletics.team.presentationlayer.Athlete.AthleteResponseModel;
 import com.athletics.team.utils.exceptions.InvalidInputException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 
 @Slf4j
@@ -18,6 +21,8 @@ public class AthleteController {
 
     private final AthleteService athleteService;
     private static final int UUID_LENGTH = 36;
+    private static final int MAX_BULK_CREATE_SIZE = 1000;
+    private static final String TEXT_CSV_VALUE = "text/csv";
 
     public AthleteController(AthleteService athleteService) {
         this.athleteService = athleteService;
@@ -55,6 +60,30 @@ public class AthleteController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdAthlete);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<AthleteResponseModel>> createAthletes(@PathVariable String teamId,
+                                                                     @RequestBody List<AthleteRequestModel> athleteRequestModels) {
+        if (teamId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid teamId provided: " + teamId);
+        }
+        if (athleteRequestModels.size() > MAX_BULK_CREATE_SIZE) {
+            throw new InvalidInputException("At most " + MAX_BULK_CREATE_SIZE + " athletes can be created at once");
+        }
+        List<AthleteResponseModel> createdAthletes = athleteService.createAthletesForTeam(teamId, athleteRequestModels);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdAthletes);
+    }
+
+    @PostMapping(value = "/import", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<AthleteImportReportModel> importAthletes(@PathVariable String teamId,
+                                                                   @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                                   InputStream body) {
+        if (teamId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid teamId provided: " + teamId);
+        }
+        AthleteImportReportModel report = athleteService.importAthletesForTeam(teamId, contentType, body);
+        return ResponseEntity.ok(report);
+    }
+
     @PutMapping("/{athleteId}")
     public ResponseEntity<AthleteResponseModel> updateAthlete(@PathVariable String teamId,
                                                               @PathVariable String athleteId,
@@ -0,0 +1,18 @@
+package com.athletics.team.presentationlayer.Athlete;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AthleteImportReportModel {
+    private int totalRows;
+    private int importedRows;
+    private int rejectedRows;
+    private List<AthleteImportRowResultModel> rejections;
+    private boolean rejectionsTruncated;
+}
@@ -0,0 +1,13 @@
+package com.athletics.team.presentationlayer.Athlete;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AthleteImportRowResultModel {
+    private int rowNumber;
+    private String message;
+}
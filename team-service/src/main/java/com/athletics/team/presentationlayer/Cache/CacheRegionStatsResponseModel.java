@@ -0,0 +1,16 @@
+package com.athletics.team.presentationlayer.Cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheRegionStatsResponseModel {
+    private String regionName;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private Long elementCount;
+}
@@ -0,0 +1,48 @@
+package com.athletics.team.presentationlayer.Cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+@RequestMapping("api/v1/cache")
+public class CacheStatsController {
+
+    private final Statistics statistics;
+
+    public CacheStatsController(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheRegionStatsResponseModel>> getCacheStats() {
+        List<CacheRegionStatsResponseModel> stats = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> {
+                    CacheRegionStatistics s = statistics.getCacheRegionStatistics(region);
+                    if (s == null) {
+                        return null;
+                    }
+                    return new CacheRegionStatsResponseModel(
+                            region,
+                            s.getHitCount(),
+                            s.getMissCount(),
+                            s.getPutCount(),
+                            // JCache regions cannot report their size
+                            s.getElementCountInMemory() == CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN
+                                    ? null : s.getElementCountInMemory());
+                })
+                .filter(Objects::nonNull)
+                .toList();
+        return ResponseEntity.ok(stats);
+    }
+}
@@ -4,7 +4,9 @@ import com.athletics.team.businesslayer.Team.TeamService;
 import com.athletics.team.presentationlayer.Team.TeamRequestModel;
 import com.athletics.team.presentationlayer.Team.TeamResponseModel;
 import com.athletics.team.utils.exceptions.InvalidInputException;
+import com.athletics.team.utils.exceptions.PreconditionFailedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,6 +20,8 @@ public class TeamController {
 
     private final TeamService teamService;
     private static final int UUID_LENGTH = 36;
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final int MAX_BULK_CREATE_SIZE = 1000;
 
     public TeamController(TeamService teamService) {
         this.teamService = teamService;
@@ -33,7 +37,21 @@ public class TeamController {
         if (teamId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid teamId provided: " + teamId);
         }
-        return ResponseEntity.ok().body(teamService.getTeamById(teamId));
+        TeamResponseModel team = teamService.getTeamById(teamId);
+        return ResponseEntity.ok().eTag(String.valueOf(team.getVersion())).body(team);
+    }
+
+    @PostMapping("/batch-get")
+    public ResponseEntity<List<TeamResponseModel>> getTeamsByIds(@RequestBody List<String> teamIds) {
+        if (teamIds.size() > MAX_BATCH_SIZE) {
+            throw new InvalidInputException("At most " + MAX_BATCH_SIZE + " teamIds can be requested at once");
+        }
+        for (String teamId : teamIds) {
+            if (teamId == null || teamId.length() != UUID_LENGTH) {
+                throw new InvalidInputException("Invalid teamId provided: " + teamId);
+            }
+        }
+        return ResponseEntity.ok().body(teamService.getTeamsByIds(teamIds));
     }
 
     @PostMapping
@@ -41,14 +59,24 @@ public class TeamController {
         return ResponseEntity.status(HttpStatus.CREATED).body(teamService.createTeam(teamRequestModel));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<TeamResponseModel>> createTeams(@RequestBody List<TeamRequestModel> teamRequestModels) {
+        if (teamRequestModels.size() > MAX_BULK_CREATE_SIZE) {
+            throw new InvalidInputException("At most " + MAX_BULK_CREATE_SIZE + " teams can be created at once");
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(teamService.createTeams(teamRequestModels));
+    }
+
     @PutMapping("/{teamId}")
     public ResponseEntity<TeamResponseModel> updateTeam(@PathVariable String teamId,
+                                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                         @RequestBody TeamRequestModel teamRequestModel) {
         if (teamId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid teamId provided: " + teamId);
         }
-        return ResponseEntity
-                .ok(teamService.updateTeam(teamRequestModel, teamId));    }
+        TeamResponseModel team = teamService.updateTeam(teamRequestModel, teamId, expectedVersion(teamId, ifMatch));
+        return ResponseEntity.ok().eTag(String.valueOf(team.getVersion())).body(team);
+    }
 
     @DeleteMapping("/{teamId}")
     public ResponseEntity<Void> deleteTeam(@PathVariable String teamId) {
@@ -58,4 +86,20 @@ public class TeamController {
         teamService.deleteTeam(teamId);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
+
+    // the ETag handed out by GET is the version; no header or "*" means an unconditional update
+    private static Long expectedVersion(String teamId, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.parseLong(tag.replace("\"", ""));
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException("If-Match " + ifMatch + " does not match team " + teamId);
+        }
+    }
 }
@@ -15,4 +15,5 @@ public class TeamResponseModel extends RepresentationModel<TeamResponseModel> {
     private String teamName;
     private String coachName;
     private TeamLevelEnum teamLevel;
+    private Long version;
 }
@@ -0,0 +1,32 @@
+package com.athletics.team.utils;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// collects the SQL Hibernate prepares on the calling thread while a recording is open; every other thread is ignored
+public class RepositoryQueryRecorder implements StatementInspector {
+
+    private final ThreadLocal<List<String>> recording = new ThreadLocal<>();
+
+    public List<String> record(Runnable call) {
+        List<String> statements = new ArrayList<>();
+        recording.set(statements);
+        try {
+            call.run();
+        } finally {
+            recording.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = recording.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}
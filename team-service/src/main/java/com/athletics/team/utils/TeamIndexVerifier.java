@@ -0,0 +1,188 @@
+package com.athletics.team.utils;
+
+import com.athletics.team.dataaccesslayer.Athlete.AthleteRepository;
+import com.athletics.team.dataaccesslayer.Team.TeamRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// calls every query method declared on the team and athlete repositories with probe arguments once the app is up,
+// explains the SQL Hibernate actually issued for them and warns about any full table scan
+@Slf4j
+public class TeamIndexVerifier {
+
+    static final String PROBE_ID = "00000000-0000-0000-0000-000000000000";
+
+    private static final String TABLE_SCAN = ".tableScan";
+    // H2 annotates each table access with "/* PUBLIC.<index>: <condition> */" or "/* PUBLIC.<table>.tableScan */"
+    private static final Pattern H2_ACCESS = Pattern.compile("/\\* ([\\w.]+)[: ]");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Class<?>, Object> repositories = new LinkedHashMap<>();
+    private final RepositoryQueryRecorder recorder;
+
+    public TeamIndexVerifier(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             TeamRepository teamRepository,
+                             AthleteRepository athleteRepository,
+                             RepositoryQueryRecorder recorder) {
+        this.jdbcTemplate        = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.recorder            = recorder;
+        repositories.put(TeamRepository.class, teamRepository);
+        repositories.put(AthleteRepository.class, athleteRepository);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyIndexes() {
+        String product;
+        try {
+            product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+        } catch (DataAccessException ex) {
+            log.warn("Index check: could not reach the database: {}", ex.getMessage());
+            return;
+        }
+        boolean mysql = "MySQL".equalsIgnoreCase(product);
+        if (!mysql && !"H2".equalsIgnoreCase(product)) {
+            log.info("Index check: skipped, no EXPLAIN reader for {}", product);
+            return;
+        }
+
+        for (QueryPlan plan : explainQueryMethods(mysql)) {
+            if (!plan.scans().isEmpty()) {
+                log.warn("Index check: {} runs as a full scan of {}", plan.method(), plan.scans());
+            } else {
+                log.info("Index check: {} uses {}", plan.method(), plan.indexes());
+            }
+        }
+    }
+
+    List<QueryPlan> explainQueryMethods(boolean mysql) {
+        List<QueryPlan> plans = new ArrayList<>();
+        repositories.forEach((type, repository) -> {
+            for (Method method : queryMethods(type)) {
+                String name = type.getSimpleName() + "." + method.getName();
+                try {
+                    List<String> statements = record(repository, method);
+                    if (statements.isEmpty()) {
+                        log.warn("Index check: {} issued no SQL", name);
+                    }
+                    for (String sql : statements) {
+                        plans.add(mysql ? explainMySql(name, sql) : explainH2(name, sql));
+                    }
+                } catch (RuntimeException ex) {
+                    log.warn("Index check: could not explain {}: {}", name, ex.getMessage());
+                }
+            }
+        });
+        return plans;
+    }
+
+    static List<Method> queryMethods(Class<?> repository) {
+        return Arrays.stream(repository.getDeclaredMethods())
+                .filter(method -> !method.isDefault() && !method.isSynthetic()
+                        && !Modifier.isStatic(method.getModifiers()))
+                .sorted(Comparator.comparing(Method::getName).thenComparing(Method::getParameterCount))
+                .toList();
+    }
+
+    // modifying queries run too, so every probe is rolled back
+    private List<String> record(Object repository, Method method) {
+        Object[] args = Arrays.stream(method.getParameterTypes()).map(type -> probeValue(method, type)).toArray();
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return recorder.record(() -> {
+                try {
+                    method.invoke(repository, args);
+                } catch (InvocationTargetException ex) {
+                    throw ex.getCause() instanceof RuntimeException cause
+                            ? cause : new IllegalStateException(ex.getCause());
+                } catch (IllegalAccessException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            });
+        });
+    }
+
+    private static Object probeValue(Method method, Class<?> type) {
+        if (type == String.class) {
+            return PROBE_ID;
+        }
+        if (type == long.class || type == Long.class) {
+            return 0L;
+        }
+        if (type == Collection.class || type == List.class) {
+            return List.of(PROBE_ID, PROBE_ID);
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        throw new IllegalStateException("no probe value for a " + type.getSimpleName() + " parameter of "
+                + method.getName());
+    }
+
+    private QueryPlan explainMySql(String method, String sql) {
+        List<String> scans = new ArrayList<>();
+        List<String> indexes = new ArrayList<>();
+        jdbcTemplate.query("EXPLAIN " + sql, TeamIndexVerifier::bindProbes, rs -> {
+            String type = rs.getString("type");
+            // ALL reads every row and index reads every index entry; both grow linearly with the table
+            if ("ALL".equalsIgnoreCase(type) || "index".equalsIgnoreCase(type)) {
+                scans.add(rs.getString("table"));
+            } else if (rs.getString("key") != null) {
+                indexes.add(rs.getString("key"));
+            }
+        });
+        return new QueryPlan(method, sql, scans, indexes);
+    }
+
+    private QueryPlan explainH2(String method, String sql) {
+        List<String> scans = new ArrayList<>();
+        List<String> indexes = new ArrayList<>();
+        List<String> plan = jdbcTemplate.query("EXPLAIN " + sql, TeamIndexVerifier::bindProbes,
+                (rs, row) -> rs.getString(1));
+        Matcher access = H2_ACCESS.matcher(plan.isEmpty() || plan.get(0) == null ? "" : plan.get(0));
+        while (access.find()) {
+            String target = access.group(1);
+            if (target.endsWith(TABLE_SCAN)) {
+                scans.add(target.substring(0, target.length() - TABLE_SCAN.length()));
+            } else {
+                indexes.add(target);
+            }
+        }
+        return new QueryPlan(method, sql, scans, indexes);
+    }
+
+    // the plan does not depend on the bound values, the driver only insists that every parameter is set
+    private static void bindProbes(PreparedStatement statement) throws SQLException {
+        int parameters = statement.getParameterMetaData().getParameterCount();
+        for (int i = 1; i <= parameters; i++) {
+            statement.setString(i, PROBE_ID);
+        }
+    }
+
+    record QueryPlan(String method, String sql, List<String> scans, List<String> indexes) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.athletics.team.utils;
+
+import com.athletics.team.dataaccesslayer.Athlete.AthleteRepository;
+import com.athletics.team.dataaccesslayer.Team.TeamRepository;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@ConditionalOnProperty(name = "app.index-verifier.enabled", havingValue = "true", matchIfMissing = true)
+public class TeamIndexVerifierConfig {
+
+    @Bean
+    public RepositoryQueryRecorder repositoryQueryRecorder() {
+        return new RepositoryQueryRecorder();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer repositoryQueryRecorderCustomizer(RepositoryQueryRecorder recorder) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, recorder);
+    }
+
+    @Bean
+    public TeamIndexVerifier teamIndexVerifier(JdbcTemplate jdbcTemplate,
+                                               PlatformTransactionManager transactionManager,
+                                               TeamRepository teamRepository,
+                                               AthleteRepository athleteRepository,
+                                               RepositoryQueryRecorder recorder) {
+        return new TeamIndexVerifier(jdbcTemplate, transactionManager, teamRepository, athleteRepository, recorder);
+    }
+}
@@ -1,20 +1,26 @@
+DROP TABLE IF EXISTS athletes;
 DROP TABLE IF EXISTS teams;
 
 CREATE TABLE IF NOT EXISTS teams (
-                                     id INT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                                     id INT NOT NULL PRIMARY KEY,
                                      team_id VARCHAR(36) UNIQUE NOT NULL,
     team_name VARCHAR(100) NOT NULL,
     coach_name VARCHAR(100) NOT NULL,
-    team_level VARCHAR(50) NOT NULL
+    team_level VARCHAR(50) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
     );
-DROP TABLE IF EXISTS athletes;
-
+DROP SEQUENCE IF EXISTS teams_seq;
+CREATE SEQUENCE teams_seq START WITH 1000 INCREMENT BY 50;
 CREATE TABLE IF NOT EXISTS athletes (
-                                        id INT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                                        id INT NOT NULL PRIMARY KEY,
                                         athlete_id VARCHAR(36) UNIQUE NOT NULL,
     first_name VARCHAR(100) NOT NULL,
     last_name VARCHAR(100) NOT NULL,
     date_of_birth DATE NOT NULL,
     athlete_category VARCHAR(50) NOT NULL,
-    team_id VARCHAR(36)
+    team_id VARCHAR(36),
+    CONSTRAINT fk_athletes_team FOREIGN KEY (team_id) REFERENCES teams (team_id)
     );
+CREATE INDEX idx_athletes_team_athlete ON athletes (team_id, athlete_id);
+DROP SEQUENCE IF EXISTS athletes_seq;
+CREATE SEQUENCE athletes_seq START WITH 1000 INCREMENT BY 50;
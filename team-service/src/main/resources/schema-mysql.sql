@@ -1,24 +1,32 @@
 USE `team-db`;
 
+DROP TABLE IF EXISTS athletes;
 DROP TABLE IF EXISTS teams;
 
 
 
 CREATE TABLE IF NOT EXISTS teams (
-                                     id INT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                                     id INT NOT NULL PRIMARY KEY,
                                      team_id VARCHAR(36) UNIQUE NOT NULL,
     team_name VARCHAR(100) NOT NULL,
     coach_name VARCHAR(100) NOT NULL,
-    team_level VARCHAR(50) NOT NULL
+    team_level VARCHAR(50) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
     );
-DROP TABLE IF EXISTS athletes;
-
+DROP TABLE IF EXISTS teams_seq;
+CREATE TABLE teams_seq (next_val BIGINT NOT NULL);
+INSERT INTO teams_seq VALUES (1000);
 CREATE TABLE IF NOT EXISTS athletes (
-                                        id INT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                                        id INT NOT NULL PRIMARY KEY,
                                         athlete_id VARCHAR(36) UNIQUE NOT NULL,
     first_name VARCHAR(100) NOT NULL,
     last_name VARCHAR(100) NOT NULL,
     date_of_birth DATE NOT NULL,
     athlete_category VARCHAR(50) NOT NULL,
-    team_id VARCHAR(36)
+    team_id VARCHAR(36),
+    INDEX idx_athletes_team_athlete (team_id, athlete_id),
+    CONSTRAINT fk_athletes_team FOREIGN KEY (team_id) REFERENCES teams (team_id)
     );
+DROP TABLE IF EXISTS athletes_seq;
+CREATE TABLE athletes_seq (next_val BIGINT NOT NULL);
+INSERT INTO athletes_seq VALUES (1000);
@@ -1,11 +1,18 @@
 package com.athletics.team.dataaccesslayer.Athlete;
 
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -16,6 +23,12 @@ class AthleteRepositoryIntegrationTest {
     @Autowired
     private AthleteRepository athleteRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     public void setUp() {
         athleteRepository.deleteAll();
@@ -166,11 +179,42 @@ class AthleteRepositoryIntegrationTest {
                 .findByTeamIdAndAthleteIdentifier_AthleteId("TEAM600", athleteId);
         assertNull(afterDelete);
     }
-}
-
-
-
-
-
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void whenSavingManyAthletes_thenInsertsAreBatched() {
+        List<Athlete> roster = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            Athlete athlete = new Athlete();
+            athlete.setAthleteIdentifier(new AthleteIdentifier());
+            athlete.setFirstName("First" + i);
+            athlete.setLastName("Last" + i);
+            athlete.setDateOfBirth(LocalDate.of(2000, 1, 1));
+            athlete.setAthleteCategory(AthleteCategoryEnum.JUNIOR);
+            athlete.setTeamId("TEAM200");
+            roster.add(athlete);
+        }
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        athleteRepository.saveAll(roster);
+
+        assertEquals(120, stats.getEntityInsertCount());
+        // 3 sequence calls plus one batched insert statement instead of 120 single inserts
+        assertTrue(stats.getPrepareStatementCount() < 10,
+                "expected batched inserts but saw " + stats.getPrepareStatementCount() + " statements");
+        assertEquals(120, athleteRepository.findByTeamId("TEAM200").size());
+    }
 
+    @Test
+    public void whenExplainRosterQueries_thenTeamIndexIsUsed() {
+        String byTeam = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT * FROM athletes WHERE team_id = 'TEAM200'", String.class);
+        String byTeamAndAthlete = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT * FROM athletes WHERE team_id = 'TEAM200' AND athlete_id = 'ATH1'", String.class);
+
+        assertFalse(byTeam.contains("tableScan"), byTeam);
+        assertTrue(byTeam.toUpperCase().contains("IDX_ATHLETES_TEAM_ATHLETE"), byTeam);
+        assertFalse(byTeamAndAthlete.contains("tableScan"), byTeamAndAthlete);
+    }
+}
@@ -1,9 +1,14 @@
 package com.athletics.team.dataaccesslayer.Team;
 
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -15,6 +20,9 @@ class TeamRepositoryIntegrationTest {
     @Autowired
     private TeamRepository teamRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @BeforeEach
     void setupDb() {
         teamRepository.deleteAll();
@@ -89,4 +97,34 @@ class TeamRepositoryIntegrationTest {
         teamRepository.delete(saved);
         assertNull(teamRepository.findByTeamIdentifier_TeamId(id));
     }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void whenTeamLookedUpTwice_thenSecondLookupIsServedFromCache() {
+        teamRepository.save(new Team(null, new TeamIdentifier("teamCache"), "Owls", "Grant", TeamLevelEnum.COLLEGE));
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        teamRepository.findByTeamIdentifier_TeamId("teamCache");
+        Team found = teamRepository.findByTeamIdentifier_TeamId("teamCache");
+
+        assertEquals("Owls", found.getTeamName());
+        assertEquals(1, stats.getQueryCacheHitCount());
+        assertEquals(1, stats.getPrepareStatementCount());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void whenCachedTeamIsUpdatedOrDeleted_thenLookupSeesTheChange() {
+        Team saved = teamRepository.save(
+                new Team(null, new TeamIdentifier("teamStale"), "Lynx", "Moore", TeamLevelEnum.NATIONAL));
+        assertEquals("Lynx", teamRepository.findByTeamIdentifier_TeamId("teamStale").getTeamName());
+
+        saved.setTeamName("Lynx Updated");
+        saved = teamRepository.save(saved);
+        assertEquals("Lynx Updated", teamRepository.findByTeamIdentifier_TeamId("teamStale").getTeamName());
+
+        teamRepository.delete(saved);
+        assertNull(teamRepository.findByTeamIdentifier_TeamId("teamStale"));
+    }
 }
@@ -12,6 +12,8 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
@@ -33,6 +35,7 @@ class AthleteControllerIntegrationTest {
     private final String VALID_ATHLETE_ID         = "ath11111-1111-1111-1111-111111111111";
     private final String ANOTHER_ATHLETE_ID       = "ath22222-2222-2222-2222-222222222222";
     private final String NOT_FOUND_ATHLETE_ID     = "bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb";
+    private final String NOT_FOUND_TEAM_ID        = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa";
     private final String INVALID_TEAM_ID          = "short-team-id";
     private final String INVALID_ATHLETE_ID       = "bad-ath-id";
 
@@ -263,4 +266,148 @@ class AthleteControllerIntegrationTest {
                         + " and athleteId: "
                         + NOT_FOUND_ATHLETE_ID);
     }
+
+    @Test
+    public void whenCreateAthletesBatchValid_thenAllAreCreated() {
+        int before = athleteRepository.findByTeamId(VALID_TEAM_ID).size();
+        List<AthleteRequestModel> roster = IntStream.range(0, 120)
+                .mapToObj(i -> new AthleteRequestModel(
+                        "First" + i, "Last" + i, LocalDate.of(2000, 1, 1), AthleteCategoryEnum.JUNIOR, null))
+                .toList();
+
+        webClient.post()
+                .uri(BASE + "/" + VALID_TEAM_ID + "/athletes/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(roster)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBodyList(AthleteResponseModel.class)
+                .value(list -> {
+                    assertEquals(120, list.size());
+                    assertEquals("First0", list.get(0).getFirstName());
+                    assertEquals("First119", list.get(119).getFirstName());
+                });
+
+        assertEquals(before + 120, athleteRepository.findByTeamId(VALID_TEAM_ID).size());
+    }
+
+    @Test
+    public void whenCreateAthletesBatchInvalidTeam_then422() {
+        webClient.post()
+                .uri(BASE + "/" + INVALID_TEAM_ID + "/athletes/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of())
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("Invalid teamId provided: " + INVALID_TEAM_ID);
+    }
+
+    @Test
+    public void whenImportAthletesCsv_thenValidRowsAreImportedAndBadRowsReported() {
+        int before = athleteRepository.findByTeamId(VALID_TEAM_ID).size();
+        StringBuilder csv = new StringBuilder("firstName,lastName,dateOfBirth,athleteCategory\n");
+        for (int i = 0; i < 1200; i++) {
+            if (i == 700) {
+                csv.append("\"Doe, Jr.\",Bad,not-a-date,SENIOR\n");
+            } else {
+                csv.append("First").append(i).append(",Last").append(i).append(",2000-01-01,junior\n");
+            }
+        }
+
+        webClient.post()
+                .uri(BASE + "/" + VALID_TEAM_ID + "/athletes/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(csv.toString())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(AthleteImportReportModel.class)
+                .value(report -> {
+                    assertEquals(1200, report.getTotalRows());
+                    assertEquals(1199, report.getImportedRows());
+                    assertEquals(1, report.getRejectedRows());
+                    assertEquals(701, report.getRejections().get(0).getRowNumber());
+                    assertEquals("Invalid dateOfBirth: not-a-date", report.getRejections().get(0).getMessage());
+                    assertFalse(report.isRejectionsTruncated());
+                });
+
+        assertEquals(before + 1199, athleteRepository.findByTeamId(VALID_TEAM_ID).size());
+    }
+
+    @Test
+    public void whenImportAthletesJson_thenValidRowsAreImportedAndBadRowsReported() {
+        int before = athleteRepository.findByTeamId(VALID_TEAM_ID).size();
+        String json = """
+                [
+                  {"firstName": "Ada", "lastName": "Lovelace", "dateOfBirth": "2001-12-10", "athleteCategory": "SENIOR"},
+                  {"firstName": "", "lastName": "NoFirst", "dateOfBirth": "2001-12-10", "athleteCategory": "SENIOR"},
+                  {"firstName": "Bad", "lastName": "Category", "dateOfBirth": "2001-12-10", "athleteCategory": "VETERAN"},
+                  {"firstName": "Alan", "lastName": "Turing", "dateOfBirth": "2002-06-23", "athleteCategory": "JUNIOR"}
+                ]
+                """;
+
+        webClient.post()
+                .uri(BASE + "/" + VALID_TEAM_ID + "/athletes/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(json)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(AthleteImportReportModel.class)
+                .value(report -> {
+                    assertEquals(4, report.getTotalRows());
+                    assertEquals(2, report.getImportedRows());
+                    assertEquals(2, report.getRejectedRows());
+                    assertEquals(2, report.getRejections().get(0).getRowNumber());
+                    assertEquals("firstName is required", report.getRejections().get(0).getMessage());
+                    assertEquals(3, report.getRejections().get(1).getRowNumber());
+                });
+
+        assertEquals(before + 2, athleteRepository.findByTeamId(VALID_TEAM_ID).size());
+    }
+
+    @Test
+    public void whenImportAthletesCsvMissingColumn_then422() {
+        webClient.post()
+                .uri(BASE + "/" + VALID_TEAM_ID + "/athletes/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue("firstName,lastName,dateOfBirth\nAda,Lovelace,2001-12-10\n")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("CSV header is missing column: athleteCategory");
+    }
+
+    @Test
+    public void whenImportAthletesInvalidTeam_then422() {
+        webClient.post()
+                .uri(BASE + "/" + INVALID_TEAM_ID + "/athletes/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[]")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("Invalid teamId provided: " + INVALID_TEAM_ID);
+    }
+
+    @Test
+    public void whenCreateAthleteForUnknownTeam_then404() {
+        AthleteRequestModel req = new AthleteRequestModel(
+                "Orphan", "Athlete", LocalDate.of(2000, 1, 1), AthleteCategoryEnum.JUNIOR, null);
+
+        webClient.post()
+                .uri(BASE + "/" + NOT_FOUND_TEAM_ID + "/athletes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(req)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("No team found with ID: " + NOT_FOUND_TEAM_ID);
+    }
 }
@@ -5,6 +5,7 @@ import com.athletics.team.dataaccesslayer.Team.TeamLevelEnum;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
@@ -210,6 +211,80 @@ class TeamControllerIntegrationTest {
                 });
     }
 
+    @Test
+    public void whenUpdateTeamWithCurrentIfMatch_thenVersionAdvances() {
+        String etag = webClient.get()
+                .uri(BASE_URI + "/" + VALID_TEAM_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"0\"")
+                .returnResult(TeamResponseModel.class)
+                .getResponseHeaders().getETag();
+        TeamRequestModel update = new TeamRequestModel(
+                VALID_TEAM_ID,
+                "Montreal Eagles Updated",
+                "John Smith Jr.",
+                TeamLevelEnum.NATIONAL
+        );
+
+        webClient.put()
+                .uri(BASE_URI + "/" + VALID_TEAM_ID)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
+                .expectBody(TeamResponseModel.class)
+                .value(team -> {
+                    assertEquals(update.getTeamName(), team.getTeamName());
+                    assertEquals(1L, team.getVersion());
+                });
+
+        webClient.get()
+                .uri(BASE_URI + "/" + VALID_TEAM_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
+                .expectBody(TeamResponseModel.class)
+                .value(team -> assertEquals(update.getCoachName(), team.getCoachName()));
+    }
+
+    @Test
+    public void whenUpdateTeamWithStaleIfMatch_thenReturnPreconditionFailed() {
+        TeamRequestModel update = new TeamRequestModel(
+                VALID_TEAM_ID,
+                "Montreal Eagles Updated",
+                "John Smith Jr.",
+                TeamLevelEnum.NATIONAL
+        );
+        webClient.put()
+                .uri(BASE_URI + "/" + VALID_TEAM_ID)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isOk();
+
+        webClient.put()
+                .uri(BASE_URI + "/" + VALID_TEAM_ID)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new TeamRequestModel(VALID_TEAM_ID, "Lost Update", "Coach Y", TeamLevelEnum.COLLEGE))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Team " + VALID_TEAM_ID + " is no longer at version 0");
+
+        webClient.put()
+                .uri(BASE_URI + "/" + NOT_FOUND_ID)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
     @Test
     public  void whenUpdateWithInvalidId_thenReturnUnprocessableEntity() {
         TeamRequestModel update = new TeamRequestModel(
@@ -269,6 +344,22 @@ class TeamControllerIntegrationTest {
                 .expectStatus().isNotFound();
     }
 
+    @Test
+    public  void whenDeleteTeamWithAthletes_thenRosterIsDeletedToo() {
+        webClient.delete()
+                .uri(BASE_URI + "/" + VALID_TEAM_ID)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webClient.get()
+                .uri("/api/v1/" + VALID_TEAM_ID + "/athletes")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(0);
+    }
+
     @Test
     public  void whenDeleteWithInvalidId_thenReturnUnprocessableEntity() {
         webClient.delete()
@@ -292,4 +383,104 @@ class TeamControllerIntegrationTest {
                 .jsonPath("$.message")
                 .isEqualTo("No team found with ID: " + NOT_FOUND_ID);
     }
+
+    @Test
+    void whenBatchGet_thenReturnExistingInRequestOrder() {
+        webClient.post()
+                .uri(BASE_URI + "/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of("22222222-2222-2222-2222-222222222222", NOT_FOUND_ID, VALID_TEAM_ID))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TeamResponseModel.class)
+                .value(list -> {
+                    assertEquals(2, list.size());
+                    assertEquals("22222222-2222-2222-2222-222222222222", list.get(0).getTeamId());
+                    assertEquals(VALID_TEAM_ID, list.get(1).getTeamId());
+                });
+    }
+
+    @Test
+    void whenBatchGetWithInvalidId_thenReturnUnprocessableEntity() {
+        webClient.post()
+                .uri(BASE_URI + "/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(VALID_TEAM_ID, INVALID_TEAM_ID))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("Invalid teamId provided: " + INVALID_TEAM_ID);
+    }
+
+    @Test
+    void whenCreateTeamsBatchValid_thenAllAreCreated() {
+        long before = teamRepository.count();
+        List<TeamRequestModel> teams = List.of(
+                new TeamRequestModel("c0000001-0000-0000-0000-000000000001", "Regina Rams", "Ann Lee", TeamLevelEnum.COLLEGE),
+                new TeamRequestModel("c0000002-0000-0000-0000-000000000002", "Victoria Vipers", "Tom Ray", TeamLevelEnum.NATIONAL));
+
+        webClient.post()
+                .uri(BASE_URI + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(teams)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBodyList(TeamResponseModel.class)
+                .value(list -> {
+                    assertEquals(2, list.size());
+                    assertEquals("Regina Rams", list.get(0).getTeamName());
+                });
+
+        assertEquals(before + 2, teamRepository.count());
+    }
+
+    @Test
+    void whenCreateTeamsBatchWithExistingId_thenNothingIsCreated() {
+        long before = teamRepository.count();
+        List<TeamRequestModel> teams = List.of(
+                new TeamRequestModel("c0000001-0000-0000-0000-000000000001", "Regina Rams", "Ann Lee", TeamLevelEnum.COLLEGE),
+                new TeamRequestModel(VALID_TEAM_ID, "Montreal Eagles", "John Smith", TeamLevelEnum.COLLEGE));
+
+        webClient.post()
+                .uri(BASE_URI + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(teams)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("Team with ID already exists: " + VALID_TEAM_ID);
+
+        assertEquals(before, teamRepository.count());
+    }
+
+    @Test
+    public void whenGetTeamWithMatchingIfNoneMatch_thenReturnNotModified() {
+        String etag = webClient.get()
+                .uri(BASE_URI + "/" + VALID_TEAM_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        webClient.get()
+                .uri(BASE_URI + "/" + VALID_TEAM_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        webClient.get()
+                .uri(BASE_URI)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG);
+    }
 }
@@ -0,0 +1,98 @@
+package com.athletics.team.presentationlayer;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+@SpringBootTest(webEnvironment = RANDOM_PORT, properties = {
+        "app.tracing.file.enabled=true",
+        "app.tracing.file.path=build/test-traces/team-service-spans.jsonl"})
+@Sql({"/data-h2.sql"})
+@AutoConfigureObservability
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class TracingIntegrationTest {
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    private final String VALID_TEAM_ID = "11111111-1111-1111-1111-111111111111";
+    private final String TRACE_ID      = "0af7651916cd43dd8448eb211c80319c";
+    private final String CALLER_SPAN   = "b7ad6b7169203331";
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @Test
+    public void whenRequestCarriesTraceparent_thenControllerServiceAndRepositorySpansJoinIt() throws IOException, InterruptedException {
+        webClient.get()
+                .uri("/api/v1/teams/" + VALID_TEAM_ID)
+                .header("traceparent", "00-" + TRACE_ID + "-" + CALLER_SPAN + "-01")
+                .exchange()
+                .expectStatus().isOk();
+
+        List<SpanData> spans = finishedSpans(TRACE_ID);
+
+        SpanData server = spans.stream().filter(span -> span.getKind() == SpanKind.SERVER).findFirst()
+                .orElseThrow(() -> new AssertionError("no server span in " + spans));
+        SpanData service = spans.stream().filter(span -> span.getName().startsWith("team-service-impl#"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no service span in " + spans));
+        SpanData repository = spans.stream().filter(span -> span.getName().startsWith("team-repository#"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no repository span in " + spans));
+
+        assertEquals(CALLER_SPAN, server.getParentSpanId());
+        assertEquals(server.getSpanId(), service.getParentSpanId());
+        assertEquals(service.getSpanId(), repository.getParentSpanId());
+
+        List<String> lines = Files.readAllLines(Path.of("build/test-traces/team-service-spans.jsonl"));
+        assertTrue(lines.stream().anyMatch(line -> line.contains("\"spanId\":\"" + repository.getSpanId() + "\"")
+                && line.contains("\"service\":\"team-service\"")));
+    }
+
+    // the server span ends after the response is written, so it can trail the client by a moment
+    private List<SpanData> finishedSpans(String traceId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+            List<SpanData> spans = spanExporter.getFinishedSpanItems().stream()
+                    .filter(span -> span.getTraceId().equals(traceId))
+                    .toList();
+            if (spans.stream().anyMatch(span -> span.getKind() == SpanKind.SERVER)
+                    || System.currentTimeMillis() > deadline) {
+                return spans;
+            }
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.athletics.team.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSpanExporterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void whenSpansEnd_thenOneJsonLinePerSpanIsWritten() throws IOException {
+        Path path = dir.resolve("spans.jsonl");
+
+        endSpans(new FileSpanExporter(path, DataSize.ofMegabytes(1), 5, new ObjectMapper()), 3);
+
+        List<String> lines = Files.readAllLines(path);
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"traceId\":"), lines.get(0));
+        assertTrue(lines.get(0).contains("\"name\":\"span-0\""), lines.get(0));
+    }
+
+    @Test
+    void whenFileReachesMaxSize_thenItIsRolledAndOldestFilesAreDropped() throws IOException {
+        Path path = dir.resolve("spans.jsonl");
+
+        endSpans(new FileSpanExporter(path, DataSize.ofBytes(600), 3, new ObjectMapper()), 40);
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(List.of("spans.jsonl", "spans.jsonl.1", "spans.jsonl.2"),
+                    files.map(file -> file.getFileName().toString()).sorted().toList());
+        }
+        for (Path rolled : List.of(dir.resolve("spans.jsonl.1"), dir.resolve("spans.jsonl.2"))) {
+            List<String> lines = Files.readAllLines(rolled);
+            assertFalse(lines.isEmpty());
+            long lastLine = lines.get(lines.size() - 1).length() + System.lineSeparator().length();
+            assertTrue(Files.size(rolled) >= 600, rolled + " was rolled before reaching the cap");
+            assertTrue(Files.size(rolled) - lastLine < 600, rolled + " grew past the cap before rolling");
+        }
+        assertTrue(Files.size(path) < 600);
+        assertTrue(Files.readString(path).contains("\"name\":\"span-39\"")
+                || Files.readString(dir.resolve("spans.jsonl.1")).contains("\"name\":\"span-39\""));
+    }
+
+    @Test
+    void whenOnlyOneFileIsAllowed_thenFullFileIsDiscarded() throws IOException {
+        Path path = dir.resolve("spans.jsonl");
+
+        endSpans(new FileSpanExporter(path, DataSize.ofBytes(600), 1, new ObjectMapper()), 40);
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertTrue(files.allMatch(file -> file.equals(path)));
+        }
+        assertTrue(!Files.exists(path) || Files.size(path) < 600);
+    }
+
+    private static void endSpans(FileSpanExporter exporter, int count) {
+        try (SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build()) {
+            Tracer tracer = tracerProvider.get("test");
+            for (int i = 0; i < count; i++) {
+                tracer.spanBuilder("span-" + i).startSpan().end();
+            }
+        }
+    }
+}
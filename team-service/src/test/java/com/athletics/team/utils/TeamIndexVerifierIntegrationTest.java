@@ -0,0 +1,78 @@
+package com.athletics.team.utils;
+
+import com.athletics.team.dataaccesslayer.Athlete.AthleteRepository;
+import com.athletics.team.dataaccesslayer.Team.TeamRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(TeamIndexVerifierConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TeamIndexVerifierIntegrationTest {
+
+    @Autowired
+    private TeamIndexVerifier verifier;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void whenVerifierRuns_thenEveryRepositoryQueryMethodIsExplained() {
+        List<TeamIndexVerifier.QueryPlan> plans = verifier.explainQueryMethods(false);
+
+        List<String> explained = plans.stream().map(TeamIndexVerifier.QueryPlan::method).distinct().toList();
+        List<String> declared = Stream.of(TeamRepository.class, AthleteRepository.class)
+                .flatMap(type -> TeamIndexVerifier.queryMethods(type).stream()
+                        .map(Method::getName)
+                        .map(name -> type.getSimpleName() + "." + name))
+                .toList();
+        assertEquals(declared, explained);
+        assertTrue(declared.contains("TeamRepository.updateIfVersionMatches"));
+    }
+
+    @Test
+    void whenSchemaIsIndexed_thenNoRepositoryQueryScansATable() {
+        List<TeamIndexVerifier.QueryPlan> plans = verifier.explainQueryMethods(false);
+
+        assertFalse(plans.isEmpty());
+        plans.forEach(plan -> {
+            assertTrue(plan.scans().isEmpty(), plan.method() + " scans " + plan.scans() + ": " + plan.sql());
+            assertFalse(plan.indexes().isEmpty(), plan.method() + " uses no index: " + plan.sql());
+        });
+    }
+
+    @Test
+    void whenRosterIndexIsMissing_thenRosterLookupIsReportedAsScan() {
+        jdbcTemplate.execute("DROP INDEX idx_athletes_team_athlete");
+        try {
+            List<TeamIndexVerifier.QueryPlan> plans = verifier.explainQueryMethods(false);
+
+            TeamIndexVerifier.QueryPlan roster = plans.stream()
+                    .filter(plan -> plan.method().equals("AthleteRepository.findByTeamId"))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(List.of("PUBLIC.ATHLETES"), roster.scans());
+        } finally {
+            jdbcTemplate.execute("CREATE INDEX idx_athletes_team_athlete ON athletes (team_id, athlete_id)");
+        }
+    }
+
+    @Test
+    void whenProbesRun_thenNothingIsWritten() {
+        verifier.explainQueryMethods(false);
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM teams", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM athletes", Integer.class));
+    }
+}
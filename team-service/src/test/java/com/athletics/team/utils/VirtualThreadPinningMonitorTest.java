@@ -0,0 +1,46 @@
+package com.athletics.team.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(VirtualThreadPinningMonitor.class);
+
+    @Test
+    void whenVirtualThreadsAreDisabled_thenMonitorIsNotRegistered() {
+        contextRunner
+                .withPropertyValues("spring.threads.virtual.enabled=false")
+                .run(context -> assertTrue(context.getBeansOfType(VirtualThreadPinningMonitor.class).isEmpty()));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void whenVirtualThreadsAreEnabled_thenMonitorUsesTheConfiguredThreshold() {
+        contextRunner
+                .withPropertyValues("spring.threads.virtual.enabled=true",
+                        "app.virtual-threads.pinning-threshold=5ms")
+                .run(context -> {
+                    assertTrue(context.getBean(VirtualThreadPinningMonitor.class).isRunning());
+                });
+    }
+
+    @Test
+    void whenStartedAndStopped_thenRecordingStreamFollowsTheLifecycle() {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(20));
+        assertFalse(monitor.isRunning());
+
+        monitor.start();
+        assertTrue(monitor.isRunning());
+
+        monitor.stop();
+        assertFalse(monitor.isRunning());
+    }
+}
@@ -297,6 +297,10 @@ assertCurl 200 "curl -s -X PUT http://$HOST:$PORT/api/v1/teams/11111111-1111-111
 echo ">>> TEST: DELETE competition"
 assertCurl 204 "curl -s -X DELETE http://$HOST:$PORT/api/v1/teams/11111111-1111-1111-1111-111111111111/competitions/$competitionId"
 
+## Competition statistics
+echo; echo ">>> TEST: GET competition statistics by sponsor, bucketed by month"
+assertCurl 200 "curl -s 'http://$HOST:$PORT/api/v1/competition-statistics?groupBy=sponsor&from=2024-01-01&to=2025-12-31&bucket=month'"
+
 ## Clean up Team
 echo; echo ">>> TEST: DELETE team"
 assertCurl 204 "curl -s -X DELETE http://$HOST:$PORT/api/v1/teams/11111111-1111-1111-1111-111111111111"